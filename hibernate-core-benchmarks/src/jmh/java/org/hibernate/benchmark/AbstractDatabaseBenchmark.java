@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmark;
+
+import java.util.function.Consumer;
+
+import org.hibernate.benchmark.model.Customer;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base support for benchmarks needing a SessionFactory backed by an in-memory
+ * H2 database, pre-populated with {@link #rows} {@link Customer} rows.
+ *
+ * @author agent
+ */
+@State( Scope.Benchmark )
+public abstract class AbstractDatabaseBenchmark {
+
+	@Param( "1000" )
+	public int rows;
+
+	protected StandardServiceRegistry serviceRegistry;
+	protected SessionFactoryImplementor sessionFactory;
+
+	@Setup( Level.Trial )
+	public void setUpDatabase() {
+		final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, H2Dialect.class.getName() )
+				.applySetting( AvailableSettings.DRIVER, "org.h2.Driver" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:" + getClass().getSimpleName() + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, "false" );
+		applySettings( registryBuilder );
+		serviceRegistry = registryBuilder.build();
+
+		try {
+			final MetadataSources metadataSources = new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Customer.class );
+			applyMetadataSources( metadataSources );
+			sessionFactory = (SessionFactoryImplementor) metadataSources.buildMetadata().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+
+		inTransaction(
+				session -> {
+					for ( int i = 1; i <= rows; i++ ) {
+						session.save( new Customer( i, "Customer #" + i, "customer" + i + "@example.org" ) );
+					}
+				}
+		);
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDownDatabase() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+		if ( serviceRegistry != null ) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	/**
+	 * Hook for subclasses to apply additional settings
+	 */
+	protected void applySettings(StandardServiceRegistryBuilder registryBuilder) {
+	}
+
+	/**
+	 * Hook for subclasses to add additional mappings
+	 */
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+	}
+
+	protected void inTransaction(Consumer<SessionImplementor> action) {
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			try {
+				action.accept( session );
+				session.getTransaction().commit();
+			}
+			catch (RuntimeException e) {
+				if ( session.getTransaction().isActive() ) {
+					session.getTransaction().rollback();
+				}
+				throw e;
+			}
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.benchmark.model.Customer;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks inserting {@link #inserts} entities per transaction through JDBC
+ * batching ({@code BatchingBatch}) using a batch size of {@link #batchSize}
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class BatchInsertBenchmark extends AbstractDatabaseBenchmark {
+
+	@Param( "100" )
+	public int inserts;
+
+	@Param( { "1", "50" } )
+	public int batchSize;
+
+	private AtomicInteger nextId;
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder registryBuilder) {
+		registryBuilder.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString( batchSize ) );
+	}
+
+	@Setup( Level.Trial )
+	public void prepareIds() {
+		nextId = new AtomicInteger( rows );
+	}
+
+	@Benchmark
+	public void insert() {
+		inTransaction(
+				session -> {
+					for ( int i = 0; i < inserts; i++ ) {
+						final int id = nextId.incrementAndGet();
+						session.persist( new Customer( id, "Customer #" + id, "customer" + id + "@example.org" ) );
+					}
+				}
+		);
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmark.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks loading a single entity through an HQL query, both against a fresh
+ * Session and for an entity already associated with the Session (the second
+ * result is resolved from the persistence context).
+ * <p/>
+ * Uses HQL rather than {@code Session#find}, which is not yet implemented on 6.0.
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class EntityQueryBenchmark extends AbstractDatabaseBenchmark {
+	private static final String QUERY = "select c from Customer c where c.name = :name";
+
+	@Benchmark
+	public Customer query() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return load( session, randomName() );
+		}
+	}
+
+	@Benchmark
+	public void queryAlreadyManaged(Blackhole blackhole) {
+		try ( Session session = sessionFactory.openSession() ) {
+			final String name = randomName();
+			blackhole.consume( load( session, name ) );
+			blackhole.consume( load( session, name ) );
+		}
+	}
+
+	private static Customer load(Session session, String name) {
+		return session.createQuery( QUERY, Customer.class )
+				.setParameter( "name", name )
+				.uniqueResult();
+	}
+
+	private String randomName() {
+		return "Customer #" + ( ThreadLocalRandom.current().nextInt( rows ) + 1 );
+	}
+}
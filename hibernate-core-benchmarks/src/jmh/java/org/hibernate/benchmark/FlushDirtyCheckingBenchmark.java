@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.benchmark.model.Customer;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks flush-time dirty checking ({@code DefaultFlushEntityEventListener})
+ * of {@link #rows} managed entities, {@link #dirtyPercent} percent of which are
+ * modified before each flush.  A {@code dirtyPercent} of zero isolates the cost of
+ * the dirty check itself.
+ * <p/>
+ * The Session is opened, and the entities loaded, before each invocation, and the
+ * transaction rolled back after it.  Only the modifications and the flush are measured.
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class FlushDirtyCheckingBenchmark extends AbstractDatabaseBenchmark {
+
+	@Param( { "0", "10" } )
+	public int dirtyPercent;
+
+	private SessionImplementor session;
+	private Customer[] customers;
+
+	// per invocation, so every flush starts from the same clean persistence context
+	// and database state - the changes of the previous flush are rolled back
+	@Setup( Level.Invocation )
+	public void openSession() {
+		session = (SessionImplementor) sessionFactory.openSession();
+		session.getTransaction().begin();
+
+		final List<Customer> loaded = session.createQuery( "select c from Customer c", Customer.class ).list();
+		customers = loaded.toArray( new Customer[ loaded.size() ] );
+	}
+
+	@TearDown( Level.Invocation )
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		final int dirtyCount = customers.length * dirtyPercent / 100;
+		for ( int i = 0; i < dirtyCount; i++ ) {
+			final Customer customer = customers[ ThreadLocalRandom.current().nextInt( customers.length ) ];
+			customer.setVisits( customer.getVisits() + 1 );
+		}
+		session.flush();
+	}
+}
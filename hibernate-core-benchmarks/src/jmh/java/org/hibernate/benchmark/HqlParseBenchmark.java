@@ -0,0 +1,56 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.sqm.tree.SqmStatement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks parsing HQL into an SQM tree ({@code SemanticQueryBuilder}),
+ * bypassing the interpretation cache
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class HqlParseBenchmark extends AbstractDatabaseBenchmark {
+
+	@Param( {
+			"select c from Customer c",
+			"select c.id, c.name from Customer c where c.name = :name and c.visits > 10 order by c.name",
+			"select c from Customer c where c.id in (:ids) or upper(c.email) like :email"
+	} )
+	public String hql;
+
+	private HqlTranslator hqlTranslator;
+
+	@Setup( Level.Trial )
+	public void resolveTranslator() {
+		hqlTranslator = sessionFactory.getQueryEngine().getHqlTranslator();
+	}
+
+	@Benchmark
+	public SqmStatement parse() {
+		return hqlTranslator.interpret( hql );
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmark;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the throughput of the pooled identifier {@link Optimizer optimizers} with
+ * 1 to 64 threads generating identifiers concurrently.  The database sequence is simulated,
+ * taking {@link #sourceLatencyMicros} to return the next value.
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class IdentifierOptimizerBenchmark {
+
+	@Param( { "pooled", "pooled-lo", "pooled-lotl", "pooled-lo-striped" } )
+	public String optimizerName;
+
+	@Param( "50" )
+	public int incrementSize;
+
+	@Param( "100" )
+	public int sourceLatencyMicros;
+
+	private Optimizer optimizer;
+	private AccessCallback callback;
+
+	@Setup( Level.Iteration )
+	public void createOptimizer() {
+		optimizer = OptimizerFactory.buildOptimizer( optimizerName, Long.class, incrementSize, -1 );
+		callback = new SimulatedSequence( incrementSize, TimeUnit.MICROSECONDS.toNanos( sourceLatencyMicros ) );
+	}
+
+	@Benchmark
+	@Threads( 1 )
+	public Serializable threads01() {
+		return optimizer.generate( callback );
+	}
+
+	@Benchmark
+	@Threads( 2 )
+	public Serializable threads02() {
+		return optimizer.generate( callback );
+	}
+
+	@Benchmark
+	@Threads( 4 )
+	public Serializable threads04() {
+		return optimizer.generate( callback );
+	}
+
+	@Benchmark
+	@Threads( 8 )
+	public Serializable threads08() {
+		return optimizer.generate( callback );
+	}
+
+	@Benchmark
+	@Threads( 16 )
+	public Serializable threads16() {
+		return optimizer.generate( callback );
+	}
+
+	@Benchmark
+	@Threads( 32 )
+	public Serializable threads32() {
+		return optimizer.generate( callback );
+	}
+
+	@Benchmark
+	@Threads( 64 )
+	public Serializable threads64() {
+		return optimizer.generate( callback );
+	}
+
+	/**
+	 * Stand-in for a database sequence incremented by the increment size
+	 */
+	private static class SimulatedSequence implements AccessCallback {
+		private final AtomicLong value = new AtomicLong( 1 );
+		private final int incrementSize;
+		private final long latencyNanos;
+
+		private SimulatedSequence(int incrementSize, long latencyNanos) {
+			this.incrementSize = incrementSize;
+			this.latencyNanos = latencyNanos;
+		}
+
+		@Override
+		public IntegralDataTypeHolder getNextValue() {
+			if ( latencyNanos > 0 ) {
+				LockSupport.parkNanos( latencyNanos );
+			}
+			return IdentifierGeneratorHelper.getIntegralDataTypeHolder( Long.class )
+					.initialize( value.getAndAdd( incrementSize ) );
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.action.internal.EntityInsertAction;
+import org.hibernate.benchmark.model.Customer;
+import org.hibernate.benchmark.model.GraphNode;
+import org.hibernate.benchmark.model.OrderLine;
+import org.hibernate.benchmark.model.PurchaseOrder;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the ordering of {@link #inserts} queued insertions ({@code ActionQueue.InsertActionSorter}).
+ * The insert actions are queued before each invocation, which only sorts them; nothing is flushed.
+ * <p/>
+ * The {@link #model} is one of:<ul>
+ *     <li>{@code orders} - a mix of {@link Customer}, {@link PurchaseOrder} and {@link OrderLine} entities</li>
+ *     <li>{@code deepChain} - {@link #entityNames} entity names, each referencing the previous one</li>
+ *     <li>{@code wideFanOut} - {@link #entityNames} entity names, all referencing the first one</li>
+ * </ul>
+ * The last two map {@link GraphNode} under the given number of entity names.
+ * <p/>
+ * The actions are queued with explicit state, as {@code persist()} would queue them, since to-one
+ * attributes are not yet part of the 6.0 mapping model used to read the state of the entities.
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.SingleShotTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 10, batchSize = 1 )
+@Measurement( iterations = 20, batchSize = 1 )
+@Fork( 1 )
+public class InsertOrderingBenchmark extends AbstractDatabaseBenchmark {
+
+	private static final int LINES_PER_ORDER = 3;
+
+	@Param( "100000" )
+	public int inserts;
+
+	@Param( { "orders", "deepChain", "wideFanOut" } )
+	public String model;
+
+	@Param( "32" )
+	public int entityNames;
+
+	private SessionImplementor session;
+	private ActionQueue actionQueue;
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder registryBuilder) {
+		registryBuilder.applySetting( AvailableSettings.ORDER_INSERTS, "true" );
+	}
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		if ( "orders".equals( model ) ) {
+			metadataSources.addAnnotatedClass( PurchaseOrder.class ).addAnnotatedClass( OrderLine.class );
+		}
+		else {
+			metadataSources.addInputStream(
+					new ByteArrayInputStream( graphNodeMapping().getBytes( StandardCharsets.UTF_8 ) )
+			);
+		}
+	}
+
+	private String graphNodeMapping() {
+		final StringBuilder mapping = new StringBuilder()
+				.append( "<!DOCTYPE hibernate-mapping PUBLIC \"-//Hibernate/Hibernate Mapping DTD 3.0//EN\"" )
+				.append( " \"http://www.hibernate.org/dtd/hibernate-mapping-3.0.dtd\">" )
+				.append( "<hibernate-mapping package=\"org.hibernate.benchmark.model\">" );
+		for ( int i = 0; i < entityNames; i++ ) {
+			mapping.append( "<class name=\"GraphNode\" entity-name=\"" ).append( nodeEntityName( i ) )
+					.append( "\" table=\"bench_node_" ).append( i ).append( "\">" )
+					.append( "<id name=\"id\" type=\"integer\"/>" );
+			if ( i > 0 ) {
+				mapping.append( "<many-to-one name=\"parent\" entity-name=\"" )
+						.append( nodeEntityName( parentIndex( i ) ) )
+						.append( "\"/>" );
+			}
+			mapping.append( "</class>" );
+		}
+		return mapping.append( "</hibernate-mapping>" ).toString();
+	}
+
+	private int parentIndex(int index) {
+		return "deepChain".equals( model ) ? index - 1 : 0;
+	}
+
+	private static String nodeEntityName(int index) {
+		return "Node" + index;
+	}
+
+	@Setup( Level.Invocation )
+	public void queueInsertions() {
+		session = (SessionImplementor) sessionFactory.openSession();
+		actionQueue = new ActionQueue( session );
+
+		if ( "orders".equals( model ) ) {
+			queueOrders();
+		}
+		else {
+			queueGraphNodes();
+		}
+	}
+
+	private void queueOrders() {
+		final EntityPersister customerPersister = persister( Customer.class.getName() );
+		final EntityPersister orderPersister = persister( PurchaseOrder.class.getName() );
+		final EntityPersister linePersister = persister( OrderLine.class.getName() );
+
+		int id = rows;
+		int queued = 0;
+		while ( queued < inserts ) {
+			final Customer customer = new Customer( ++id, "Customer #" + id, "customer" + id + "@example.org" );
+			queueInsertion( customerPersister, customer, id, "name", customer.getName(), "email", customer.getEmail() );
+			queued++;
+
+			final PurchaseOrder order = new PurchaseOrder( ++id, customer );
+			queueInsertion( orderPersister, order, id, "customer", customer );
+			queued++;
+
+			for ( int i = 0; i < LINES_PER_ORDER && queued < inserts; i++ ) {
+				final OrderLine line = new OrderLine( ++id, order, "Product #" + i, i + 1 );
+				queueInsertion( linePersister, line, id, "order", order, "product", line.getProduct(), "quantity", line.getQuantity() );
+				queued++;
+			}
+		}
+	}
+
+	private void queueGraphNodes() {
+		final EntityPersister[] persisters = new EntityPersister[entityNames];
+		for ( int i = 0; i < entityNames; i++ ) {
+			persisters[i] = persister( nodeEntityName( i ) );
+		}
+
+		int id = 0;
+		int queued = 0;
+		while ( queued < inserts ) {
+			// one node per entity name, each queued after the node it references
+			final GraphNode[] nodes = new GraphNode[entityNames];
+			for ( int i = 0; i < entityNames && queued < inserts; i++ ) {
+				if ( i == 0 ) {
+					nodes[i] = new GraphNode( ++id, null );
+					queueInsertion( persisters[i], nodes[i], id );
+				}
+				else {
+					nodes[i] = new GraphNode( ++id, nodes[parentIndex( i )] );
+					queueInsertion( persisters[i], nodes[i], id, "parent", nodes[i].getParent() );
+				}
+				queued++;
+			}
+		}
+	}
+
+	private EntityPersister persister(String entityName) {
+		return sessionFactory.getMetamodel().entityPersister( entityName );
+	}
+
+	/**
+	 * Queue the insertion of the entity with the given state, as property name / value pairs
+	 */
+	private void queueInsertion(EntityPersister persister, Object entity, Integer id, Object... propertyValues) {
+		final Object[] state = new Object[persister.getPropertyNames().length];
+		for ( int i = 0; i < propertyValues.length; i += 2 ) {
+			state[persister.getEntityMetamodel().getPropertyIndex( (String) propertyValues[i] )] = propertyValues[i + 1];
+		}
+		actionQueue.addAction( new EntityInsertAction( id, state, entity, null, persister, false, session ) );
+	}
+
+	@TearDown( Level.Invocation )
+	public void discardInsertions() {
+		actionQueue = null;
+		session.close();
+	}
+
+	@Benchmark
+	public ActionQueue sort() {
+		actionQueue.sortActions();
+		return actionQueue;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.benchmark.model.Customer;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@code StatefulPersistenceContext} lookups performed for
+ * every entity reference resolution:  by {@link EntityKey} and by instance.
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class PersistenceContextBenchmark extends AbstractDatabaseBenchmark {
+	private SessionImplementor session;
+	private PersistenceContext persistenceContext;
+	private EntityKey[] keys;
+	private Customer[] entities;
+
+	@Setup( Level.Iteration )
+	public void openSession() {
+		session = (SessionImplementor) sessionFactory.openSession();
+		persistenceContext = session.getPersistenceContext();
+
+		final List<Customer> customers = session.createQuery( "select c from Customer c", Customer.class ).list();
+		final EntityPersister persister = sessionFactory.getMetamodel().entityPersister( Customer.class );
+
+		keys = new EntityKey[ customers.size() ];
+		entities = new Customer[ customers.size() ];
+		for ( int i = 0; i < customers.size(); i++ ) {
+			entities[i] = customers.get( i );
+			keys[i] = session.generateEntityKey( entities[i].getId(), persister );
+		}
+	}
+
+	@TearDown( Level.Iteration )
+	public void closeSession() {
+		session.close();
+	}
+
+	@Benchmark
+	public Object getEntityByKey() {
+		return persistenceContext.getEntity( keys[ randomIndex() ] );
+	}
+
+	@Benchmark
+	public boolean containsEntityByKey() {
+		return persistenceContext.containsEntity( keys[ randomIndex() ] );
+	}
+
+	@Benchmark
+	public EntityEntry getEntryByInstance() {
+		return persistenceContext.getEntry( entities[ randomIndex() ] );
+	}
+
+	private int randomIndex() {
+		return ThreadLocalRandom.current().nextInt( keys.length );
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.BoundedLfuCache;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the two eviction policies of the query interpretation cache - the default
+ * {@link BoundedConcurrentHashMap} (LIRS) and the {@link BoundedLfuCache} (TinyLFU) -
+ * under a Zipf-distributed stream of query strings, reporting throughput along with
+ * the hit / miss counts.
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@Threads( 4 )
+@State( Scope.Benchmark )
+public class QueryInterpretationCacheBenchmark {
+	private static final int SAMPLES = 1 << 16;
+
+	@Param( "2048" )
+	public int maximumSize;
+
+	@Param( "20000" )
+	public int distinctQueries;
+
+	@Param( "0.99" )
+	public double skew;
+
+	private String[] queries;
+
+	private BoundedLfuCache<String, Object> lfuCache;
+	private BoundedConcurrentHashMap<String, Object> lirsCache;
+
+	@Setup( Level.Trial )
+	public void generateWorkload() {
+		final String[] distinct = new String[ distinctQueries ];
+		for ( int i = 0; i < distinctQueries; i++ ) {
+			distinct[i] = "select e from Entity" + ( i % 50 ) + " e where e.attribute" + i + " = :param";
+		}
+
+		// cumulative Zipf distribution over the distinct query strings
+		final double[] cumulative = new double[ distinctQueries ];
+		double sum = 0;
+		for ( int i = 0; i < distinctQueries; i++ ) {
+			sum += 1 / Math.pow( i + 1, skew );
+			cumulative[i] = sum;
+		}
+
+		final Random random = new Random( 42 );
+		queries = new String[ SAMPLES ];
+		for ( int i = 0; i < SAMPLES; i++ ) {
+			final int position = Arrays.binarySearch( cumulative, random.nextDouble() * sum );
+			queries[i] = distinct[ Math.min( position < 0 ? -position - 1 : position, distinctQueries - 1 ) ];
+		}
+	}
+
+	@Setup( Level.Iteration )
+	public void createCaches() {
+		lfuCache = new BoundedLfuCache<>( maximumSize );
+		lirsCache = new BoundedConcurrentHashMap<>( maximumSize, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+	}
+
+	@Benchmark
+	public Object boundedLfuCache(Counters counters) {
+		final String query = counters.nextQuery( queries );
+		final Object cached = lfuCache.get( query );
+		if ( cached != null ) {
+			counters.hits++;
+			return cached;
+		}
+		counters.misses++;
+		final Object interpretation = Counters.interpret( query );
+		final Object existing = lfuCache.putIfAbsent( query, interpretation );
+		return existing == null ? interpretation : existing;
+	}
+
+	@Benchmark
+	public Object boundedConcurrentHashMap(Counters counters) {
+		final String query = counters.nextQuery( queries );
+		final Object cached = lirsCache.get( query );
+		if ( cached != null ) {
+			counters.hits++;
+			return cached;
+		}
+		counters.misses++;
+		final Object interpretation = Counters.interpret( query );
+		final Object existing = lirsCache.putIfAbsent( query, interpretation );
+		return existing == null ? interpretation : existing;
+	}
+
+	/**
+	 * Per-thread position in the workload, and the hit / miss counts reported
+	 * alongside the throughput
+	 */
+	@State( Scope.Thread )
+	@AuxCounters( AuxCounters.Type.EVENTS )
+	public static class Counters {
+		public long hits;
+		public long misses;
+
+		private int position = new Random().nextInt( SAMPLES );
+
+		@Setup( Level.Iteration )
+		public void reset() {
+			hits = 0;
+			misses = 0;
+		}
+
+		String nextQuery(String[] queries) {
+			return queries[ position++ & ( SAMPLES - 1 ) ];
+		}
+
+		static Object interpret(String query) {
+			// stand-in for the cost of actually interpreting the query
+			return query.toCharArray();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmark.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks result assembly ({@code StandardRowReader}) of {@link #rows} rows,
+ * both as managed entities and as scalar tuples.  The query plans are cached in
+ * the interpretation cache after the first execution, so translation is excluded
+ * once warmed up.
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class RowReadingBenchmark extends AbstractDatabaseBenchmark {
+
+	@Benchmark
+	public List<Customer> readEntities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery( "select c from Customer c", Customer.class ).list();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> readScalars() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery( "select c.id, c.name, c.email from Customer c", Object[].class ).list();
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.sql.SqmTranslatorFactory;
+import org.hibernate.query.sqm.sql.internal.SqmSelectInterpretation;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks translating an SQM tree into a SQL AST ({@code BaseSqmToSqlAstConverter})
+ * and from there into a {@link JdbcSelect}
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class SqmTranslationBenchmark extends AbstractDatabaseBenchmark {
+
+	@Param( {
+			"select c from Customer c",
+			"select c.id, c.name from Customer c where c.visits > 10 order by c.name"
+	} )
+	public String hql;
+
+	private SqmSelectStatement sqm;
+	private DomainParameterXref domainParameterXref;
+	private LoadQueryInfluencers loadQueryInfluencers;
+	private SqmTranslatorFactory sqmTranslatorFactory;
+	private SqlAstTranslatorFactory sqlAstTranslatorFactory;
+
+	@Setup( Level.Trial )
+	public void interpretHql() {
+		sqm = (SqmSelectStatement) sessionFactory.getQueryEngine().getHqlTranslator().interpret( hql );
+		domainParameterXref = DomainParameterXref.from( sqm );
+		loadQueryInfluencers = new LoadQueryInfluencers( sessionFactory );
+		sqmTranslatorFactory = sessionFactory.getQueryEngine().getSqmTranslatorFactory();
+		sqlAstTranslatorFactory = sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory();
+	}
+
+	@Benchmark
+	public SqmSelectInterpretation sqmToSqlAst() {
+		return sqmTranslatorFactory.createSelectConverter(
+				QueryOptions.NONE,
+				domainParameterXref,
+				QueryParameterBindings.NO_PARAM_BINDINGS,
+				loadQueryInfluencers,
+				sessionFactory
+		).interpret( sqm );
+	}
+
+	@Benchmark
+	public JdbcSelect sqmToJdbcSelect() {
+		return sqlAstTranslatorFactory.buildSelectConverter( sessionFactory ).interpret( sqmToSqlAst().getSqlAst() );
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmark.model;
+
+/**
+ * A node of an entity graph, mapped under a number of entity names (and tables) so that the
+ * shape of the graph of entity names can be varied.
+ *
+ * @author agent
+ */
+public class GraphNode {
+	private Integer id;
+	private GraphNode parent;
+
+	public GraphNode() {
+	}
+
+	public GraphNode(Integer id, GraphNode parent) {
+		this.id = id;
+		this.parent = parent;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	public GraphNode getParent() {
+		return parent;
+	}
+
+	public void setParent(GraphNode parent) {
+		this.parent = parent;
+	}
+}
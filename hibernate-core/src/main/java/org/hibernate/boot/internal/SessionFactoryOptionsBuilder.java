@@ -94,9 +94,11 @@ import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_ARRAY_BINDING;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
@@ -121,6 +123,7 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.USE_BINARY_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -230,6 +233,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean binaryCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -257,9 +261,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private boolean failOnPaginationOverCollectionFetchEnabled;
 	private boolean inClauseParameterPaddingEnabled;
+	private boolean inClauseArrayBindingEnabled;
 
 	private boolean nativeExceptionHandling51Compliance;
 	private int queryStatisticsMaxSize;
+	private int parallelDirtyCheckThreshold;
 
 
 	@SuppressWarnings({"WeakerAccess", "deprecation"})
@@ -431,6 +437,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = cfgService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.binaryCacheEntriesEnabled = cfgService.getSetting( USE_BINARY_CACHE_ENTRIES, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = cfgService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
@@ -445,6 +452,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.binaryCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
@@ -560,6 +568,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				false
 		);
 
+		this.inClauseArrayBindingEnabled = ConfigurationHelper.getBoolean(
+				IN_CLAUSE_ARRAY_BINDING,
+				configurationSettings,
+				false
+		);
+
 		this.nativeExceptionHandling51Compliance = ConfigurationHelper.getBoolean(
 				NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE,
 				configurationSettings,
@@ -572,6 +586,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
 
+		this.parallelDirtyCheckThreshold = ConfigurationHelper.getInt(
+				FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD,
+				configurationSettings,
+				0
+		);
+
 		if ( context.isJpaBootstrap() && nativeExceptionHandling51Compliance ) {
 			log.nativeExceptionHandling51ComplianceJpaBootstrapping();
 			this.nativeExceptionHandling51Compliance = false;
@@ -1032,6 +1052,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return binaryCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1157,6 +1182,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public boolean inClauseArrayBindingEnabled() {
+		return this.inClauseArrayBindingEnabled;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -1172,6 +1202,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return queryStatisticsMaxSize;
 	}
 
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return parallelDirtyCheckThreshold;
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return callbacksEnabled;
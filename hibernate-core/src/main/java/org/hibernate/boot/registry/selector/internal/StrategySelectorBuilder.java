@@ -20,9 +20,13 @@ import org.hibernate.boot.registry.selector.StrategyRegistration;
 import org.hibernate.boot.registry.selector.StrategyRegistrationProvider;
 import org.hibernate.boot.registry.selector.spi.StrategySelectionException;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.cache.internal.BatchedQueryCacheInvalidationStrategy;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.internal.NoQueryCacheInvalidationStrategy;
+import org.hibernate.cache.internal.PerSpaceQueryCacheInvalidationStrategy;
 import org.hibernate.cache.internal.SimpleCacheKeysFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.QueryCacheInvalidationStrategy;
 import org.hibernate.dialect.CUBRIDDialect;
 import org.hibernate.dialect.Cache71Dialect;
 import org.hibernate.dialect.DB2390Dialect;
@@ -165,6 +169,7 @@ public class StrategySelectorBuilder {
 		addSqmMultiTableMutationStrategies( strategySelector );
 		addImplicitNamingStrategies( strategySelector );
 		addCacheKeysFactories( strategySelector );
+		addQueryCacheInvalidationStrategies( strategySelector );
 
 		// apply auto-discovered registrations
 		for ( StrategyRegistrationProvider provider : classLoaderService.loadJavaServices( StrategyRegistrationProvider.class ) ) {
@@ -470,4 +475,22 @@ public class StrategySelectorBuilder {
 			SimpleCacheKeysFactory.class
 		);
 	}
+
+	private void addQueryCacheInvalidationStrategies(StrategySelectorImpl strategySelector) {
+		strategySelector.registerStrategyImplementor(
+			QueryCacheInvalidationStrategy.class,
+			PerSpaceQueryCacheInvalidationStrategy.SHORT_NAME,
+			PerSpaceQueryCacheInvalidationStrategy.class
+		);
+		strategySelector.registerStrategyImplementor(
+			QueryCacheInvalidationStrategy.class,
+			BatchedQueryCacheInvalidationStrategy.SHORT_NAME,
+			BatchedQueryCacheInvalidationStrategy.class
+		);
+		strategySelector.registerStrategyImplementor(
+			QueryCacheInvalidationStrategy.class,
+			NoQueryCacheInvalidationStrategy.SHORT_NAME,
+			NoQueryCacheInvalidationStrategy.class
+		);
+	}
 }
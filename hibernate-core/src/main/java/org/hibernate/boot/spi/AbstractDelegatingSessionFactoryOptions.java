@@ -288,6 +288,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return delegate.isBinaryCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -439,6 +444,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean inClauseArrayBindingEnabled() {
+		return delegate.inClauseArrayBindingEnabled();
+	}
+
 	@Override
 	public boolean nativeExceptionHandling51Compliance() {
 		return delegate.nativeExceptionHandling51Compliance();
@@ -449,6 +459,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return delegate.getParallelDirtyCheckThreshold();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
@@ -215,6 +215,15 @@ public interface SessionFactoryOptions {
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * Should second-level cache entries be stored in a compact binary form?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_BINARY_CACHE_ENTRIES
+	 */
+	default boolean isBinaryCacheEntriesEnabled() {
+		return false;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
 	boolean isAutoEvictCollectionCache();
@@ -298,6 +307,10 @@ public interface SessionFactoryOptions {
 		return false;
 	}
 
+	default boolean inClauseArrayBindingEnabled() {
+		return false;
+	}
+
 	default boolean nativeExceptionHandling51Compliance() {
 		return false;
 	}
@@ -306,6 +319,16 @@ public interface SessionFactoryOptions {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
 
+	/**
+	 * The number of entities in the persistence context from which they are dirty checked in
+	 * parallel during flush; {@code 0} or less disables parallel dirty checking.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD
+	 */
+	default int getParallelDirtyCheckThreshold() {
+		return 0;
+	}
+
 	/**
 	 * @deprecated Since 5.4.1, this is no longer used.
 	 */
@@ -22,6 +22,7 @@ import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.engine.spi.CompositeOwner;
 import org.hibernate.engine.spi.CompositeTracker;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.ExtendedSelfDirtinessTracker;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 
@@ -57,11 +58,15 @@ class CodeTemplates {
 		@Advice.OnMethodEnter
 		static void $$_hibernate_trackChange(
 				@Advice.Argument(0) String name,
-				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker,
+				@Advice.FieldValue(EnhancerConstants.ENTITY_ENTRY_FIELD_NAME) EntityEntry $$_hibernate_entityEntryHolder) {
 			if ( $$_hibernate_tracker == null ) {
 				$$_hibernate_tracker = new SimpleFieldTracker();
 			}
 			$$_hibernate_tracker.add( name );
+			if ( $$_hibernate_entityEntryHolder != null ) {
+				$$_hibernate_entityEntryHolder.registerChange();
+			}
 		}
 	}
 
@@ -140,10 +140,12 @@ public class EntityEnhancer extends PersistentAttributesEnhancer {
 					"public void %1$s(String name) {%n" +
 							"  if (%2$s == null) { %2$s = new %3$s(); }%n" +
 							"  %2$s.add(name);%n" +
+							"  if (%4$s != null) { %4$s.registerChange(); }%n" +
 							"}",
 					EnhancerConstants.TRACKER_CHANGER_NAME,
 					EnhancerConstants.TRACKER_FIELD_NAME,
-					DIRTY_TRACKER_IMPL
+					DIRTY_TRACKER_IMPL,
+					EnhancerConstants.ENTITY_ENTRY_FIELD_NAME
 			);
 
 			MethodWriter.write(
@@ -203,10 +205,12 @@ public class EntityEnhancer extends PersistentAttributesEnhancer {
 							"public void %1$s(String name) {%n" +
 							"  if (%2$s == null) { %2$s = new %3$s(); }%n" +
 							"  %2$s.add(name);%n" +
+							"  if (%4$s != null) { %4$s.registerChange(); }%n" +
 							"}",
 					EnhancerConstants.TRACKER_CHANGER_NAME,
 					EnhancerConstants.TRACKER_FIELD_NAME,
-					DIRTY_TRACKER_IMPL
+					DIRTY_TRACKER_IMPL,
+					EnhancerConstants.ENTITY_ENTRY_FIELD_NAME
 			);
 
 			createCollectionDirtyCheckMethod( managedCtClass );
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.internal.util.type.PrimitiveWrapperHelper;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.Setter;
+
+/**
+ * AccessOptimizer combining a generated accessor, which accesses the fields and methods it can
+ * access directly, with the {@link Getter}s and {@link Setter}s of the remaining properties.
+ *
+ * @author agent
+ */
+final class AccessOptimizerImpl implements ReflectionOptimizer.AccessOptimizer {
+	private final ReflectionOptimizer.AccessOptimizer generatedAccessor;
+	private final Getter[] getters;
+	private final int[] reflectiveGetterIndexes;
+	private final Setter[] setters;
+	private final Member[] setterMembers;
+	private final int[] reflectiveSetterIndexes;
+
+	AccessOptimizerImpl(
+			ReflectionOptimizer.AccessOptimizer generatedAccessor,
+			Getter[] getters,
+			int[] reflectiveGetterIndexes,
+			Setter[] setters,
+			Member[] setterMembers,
+			int[] reflectiveSetterIndexes) {
+		this.generatedAccessor = generatedAccessor;
+		this.getters = getters;
+		this.reflectiveGetterIndexes = reflectiveGetterIndexes;
+		this.setters = setters;
+		this.setterMembers = setterMembers;
+		this.reflectiveSetterIndexes = reflectiveSetterIndexes;
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return generatedAccessor.getPropertyNames();
+	}
+
+	@Override
+	public Object[] getPropertyValues(Object object) {
+		final Object[] values = generatedAccessor.getPropertyValues( object );
+		for ( int index : reflectiveGetterIndexes ) {
+			values[index] = getters[index].get( object );
+		}
+		return values;
+	}
+
+	@Override
+	public void setPropertyValues(Object object, Object[] values) {
+		try {
+			generatedAccessor.setPropertyValues( object, values );
+		}
+		catch (NullPointerException | ClassCastException e) {
+			// a null or mistyped value: the generated accessor cannot tell which property it
+			// was assigned to, so find it from the values (the setters must not be invoked again)
+			final int index = findInvalidValueIndex( values );
+			throw new PropertyAccessException(
+					e,
+					"Null value was assigned to a property of primitive type or value of wrong type was assigned",
+					true,
+					object.getClass(),
+					index < 0 ? "?" : getPropertyNames()[index]
+			);
+		}
+		for ( int index : reflectiveSetterIndexes ) {
+			setters[index].set( object, values[index], null );
+		}
+	}
+
+	private int findInvalidValueIndex(Object[] values) {
+		for ( int i = 0; i < setterMembers.length; i++ ) {
+			if ( setterMembers[i] == null ) {
+				// set through the Setter, not by the generated accessor
+				continue;
+			}
+			final Class<?> type = setterMembers[i] instanceof Method
+					? ( (Method) setterMembers[i] ).getParameterTypes()[0]
+					: ( (Field) setterMembers[i] ).getType();
+			if ( values[i] == null ) {
+				if ( type.isPrimitive() ) {
+					return i;
+				}
+			}
+			else if ( type.isPrimitive() ) {
+				if ( !PrimitiveWrapperHelper.getDescriptorByPrimitiveType( type ).getWrapperClass().isInstance( values[i] ) ) {
+					return i;
+				}
+			}
+			else if ( !type.isInstance( values[i] ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
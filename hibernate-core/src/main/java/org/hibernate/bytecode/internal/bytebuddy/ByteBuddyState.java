@@ -18,12 +18,14 @@ import static org.hibernate.internal.CoreLogging.messageLogger;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.function.Function;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Version;
 import org.hibernate.bytecode.spi.BasicProxyFactory;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.proxy.ProxyConfiguration;
@@ -34,6 +36,9 @@ import net.bytebuddy.TypeCache;
 import net.bytebuddy.asm.AsmVisitorWrapper.ForDeclaredMethods;
 import net.bytebuddy.asm.MemberSubstitution;
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.DynamicType.Unloaded;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
@@ -55,6 +60,11 @@ public final class ByteBuddyState {
 
 	private static final boolean DEBUG = false;
 
+	/**
+	 * The name of the static field holding the Hibernate version a pre-generated class was generated with
+	 */
+	private static final String PREGENERATED_VERSION_FIELD_NAME = "$$_hibernate_pregenerated_version";
+
 	private final ByteBuddy byteBuddy;
 
 	private final ProxyDefinitionHelpers proxyDefinitionHelpers;
@@ -125,6 +135,60 @@ public final class ByteBuddyState {
 				.getLoaded();
 	}
 
+	/**
+	 * Generate a class ahead of time (e.g. at build time), to be loaded at runtime by
+	 * {@link #loadPregenerated}.  The class is marked with the current Hibernate version.
+	 *
+	 * @param className The name of the generated class.
+	 * @param makeClassFunction A function building the class.
+	 * @return The bytecode of the generated class.
+	 */
+	public byte[] pregenerate(String className, Function<ByteBuddy, DynamicType.Builder<?>> makeClassFunction) {
+		return make(
+				makeClassFunction.apply( byteBuddy )
+						.name( className )
+						.defineField(
+								PREGENERATED_VERSION_FIELD_NAME,
+								String.class,
+								Visibility.PUBLIC,
+								Ownership.STATIC,
+								FieldManifestation.FINAL
+						)
+						.value( Version.getVersionString() )
+		).getBytes();
+	}
+
+	/**
+	 * Load a class generated ahead of time by {@link #pregenerate}, provided it was generated
+	 * by the current Hibernate version.
+	 *
+	 * @param referenceClass The class whose class loader should load the generated class.
+	 * @param className The name of the generated class.
+	 * @return The pre-generated class, or {@code null} if there is none (which can be used).
+	 */
+	public Class<?> loadPregenerated(Class<?> referenceClass, String className) {
+		if ( System.getSecurityManager() != null ) {
+			// pre-generated classes are not rewritten for running with a security manager
+			return null;
+		}
+
+		try {
+			final Class<?> pregeneratedClass = Class.forName( className, false, referenceClass.getClassLoader() );
+			final Field versionField = pregeneratedClass.getDeclaredField( PREGENERATED_VERSION_FIELD_NAME );
+			if ( Version.getVersionString().equals( versionField.get( null ) ) ) {
+				return pregeneratedClass;
+			}
+			LOG.debugf( "Ignoring pre-generated class [%s], generated by another version of Hibernate", className );
+		}
+		catch (ClassNotFoundException e) {
+			// nothing was pre-generated
+		}
+		catch (ReflectiveOperationException | LinkageError e) {
+			LOG.debugf( e, "Unable to use pre-generated class [%s]", className );
+		}
+		return null;
+	}
+
 	/**
 	 * Rewrite a class, used by the enhancer.
 	 * <p>
@@ -7,8 +7,12 @@
 package org.hibernate.bytecode.internal.bytebuddy;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 import org.hibernate.HibernateException;
@@ -18,11 +22,20 @@ import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
@@ -40,6 +53,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
+	private static final String PREGENERATED_INSTANTIATOR_SUFFIX = "$HibernatePregeneratedInstantiator";
 	private static final ElementMatcher.Junction newInstanceMethodName = ElementMatchers.named( "newInstance" );
 	private static final ElementMatcher.Junction getPropertyValuesMethodName = ElementMatchers.named( "getPropertyValues" );
 	private static final ElementMatcher.Junction setPropertyValuesMethodName = ElementMatchers.named( "setPropertyValues" );
@@ -65,42 +79,15 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			final String[] getterNames,
 			final String[] setterNames,
 			final Class[] types) {
-		final Class fastClass;
-		if ( !clazz.isInterface() && !Modifier.isAbstract( clazz.getModifiers() ) ) {
-			// we only provide a fast class instantiator if the class can be instantiated
-			final Constructor<?> constructor = findConstructor( clazz );
-
-			fastClass = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
-					.with( new NamingStrategy.SuffixingRandom( INSTANTIATOR_PROXY_NAMING_SUFFIX,
-							new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
-					.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
-					.method( newInstanceMethodName )
-							.intercept( MethodCall.construct( constructor ) )
-			);
-		}
-		else {
-			fastClass = null;
-		}
-
 		final Method[] getters = new Method[getterNames.length];
 		final Method[] setters = new Method[setterNames.length];
 		findAccessors( clazz, getterNames, setterNames, types, getters, setters );
 
-		final Class bulkAccessor = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
-				.with( new NamingStrategy.SuffixingRandom( OPTIMIZER_PROXY_NAMING_SUFFIX,
-						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
-				.subclass( ReflectionOptimizer.AccessOptimizer.class )
-				.method( getPropertyValuesMethodName )
-						.intercept( new Implementation.Simple( new GetPropertyValues( clazz, getters ) ) )
-				.method( setPropertyValuesMethodName )
-						.intercept( new Implementation.Simple( new SetPropertyValues( clazz, setters ) ) )
-				.method( getPropertyNamesMethodName )
-						.intercept( MethodCall.call( new CloningPropertyCall( getterNames ) ) )
-		);
+		final Class bulkAccessor = buildAccessOptimizerClass( clazz, getters, setters, getterNames );
 
 		try {
 			return new ReflectionOptimizerImpl(
-					fastClass != null ? (ReflectionOptimizer.InstantiationOptimizer) fastClass.newInstance() : null,
+					buildInstantiationOptimizer( clazz ),
 					(ReflectionOptimizer.AccessOptimizer) bulkAccessor.newInstance()
 			);
 		}
@@ -109,18 +96,183 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p/>
+	 * Getters and setters reading and writing a field or calling a method are supported.  The generated
+	 * accessor is defined in the package of the given class, and accesses every such field or method
+	 * directly, unless it is private (or otherwise not accessible from that package), in which case the
+	 * {@link Getter} or {@link Setter} is used.  Any other kind of getter or setter (back-references,
+	 * enhanced attributes, ...) cannot be optimized.
+	 */
+	@Override
+	public ReflectionOptimizer getReflectionOptimizer(Class clazz, Map<String, PropertyAccess> propertyAccessMap) {
+		final int length = propertyAccessMap.size();
+		final String[] propertyNames = new String[length];
+		final Getter[] getters = new Getter[length];
+		final Setter[] setters = new Setter[length];
+		final Member[] getterMembers = new Member[length];
+		final Member[] setterMembers = new Member[length];
+
+		int reflectiveGetterCount = 0;
+		int reflectiveSetterCount = 0;
+		int i = 0;
+		for ( Map.Entry<String, PropertyAccess> entry : propertyAccessMap.entrySet() ) {
+			propertyNames[i] = entry.getKey();
+			getters[i] = entry.getValue().getGetter();
+			setters[i] = entry.getValue().getSetter();
+
+			final Member getterMember = findGetterMember( getters[i] );
+			final Member setterMember = findSetterMember( setters[i] );
+			if ( getterMember == null || setterMember == null ) {
+				return null;
+			}
+
+			if ( isDirectlyAccessible( clazz, getterMember, false ) ) {
+				getterMembers[i] = getterMember;
+			}
+			else {
+				reflectiveGetterCount++;
+			}
+			if ( isDirectlyAccessible( clazz, setterMember, true ) ) {
+				setterMembers[i] = setterMember;
+			}
+			else {
+				reflectiveSetterCount++;
+			}
+			i++;
+		}
+
+		final ReflectionOptimizer.AccessOptimizer accessOptimizer;
+		if ( reflectiveGetterCount == length && reflectiveSetterCount == length ) {
+			// nothing to gain
+			accessOptimizer = null;
+		}
+		else {
+			final Class bulkAccessor = buildAccessOptimizerClass( clazz, getterMembers, setterMembers, propertyNames );
+			try {
+				accessOptimizer = new AccessOptimizerImpl(
+						(ReflectionOptimizer.AccessOptimizer) bulkAccessor.newInstance(),
+						getters,
+						reflectiveIndexes( getterMembers, reflectiveGetterCount ),
+						setters,
+						setterMembers,
+						reflectiveIndexes( setterMembers, reflectiveSetterCount )
+				);
+			}
+			catch (Exception exception) {
+				throw new HibernateException( exception );
+			}
+		}
+
+		return new ReflectionOptimizerImpl( buildInstantiationOptimizer( clazz ), accessOptimizer );
+	}
+
+	private ReflectionOptimizer.InstantiationOptimizer buildInstantiationOptimizer(Class clazz) {
+		if ( clazz.isInterface() || Modifier.isAbstract( clazz.getModifiers() ) ) {
+			// we only provide a fast class instantiator if the class can be instantiated
+			return null;
+		}
+
+		final Constructor<?> constructor = findConstructor( clazz );
+		if ( Modifier.isPrivate( constructor.getModifiers() ) ) {
+			// not accessible from the generated class
+			return null;
+		}
+
+		Class fastClass = byteBuddyState.loadPregenerated( clazz, pregeneratedInstantiatorClassName( clazz ) );
+		if ( fastClass == null || !ReflectionOptimizer.InstantiationOptimizer.class.isAssignableFrom( fastClass ) ) {
+			fastClass = byteBuddyState.load( clazz, byteBuddy -> instantiatorBuilder(
+					byteBuddy.with( new NamingStrategy.SuffixingRandom( INSTANTIATOR_PROXY_NAMING_SUFFIX,
+							new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) ),
+					constructor
+			) );
+		}
+
+		try {
+			return (ReflectionOptimizer.InstantiationOptimizer) fastClass.newInstance();
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
+	private static DynamicType.Builder<?> instantiatorBuilder(ByteBuddy byteBuddy, Constructor<?> constructor) {
+		return byteBuddy
+				.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
+				.method( newInstanceMethodName )
+						.intercept( MethodCall.construct( constructor ) );
+	}
+
+	private static String pregeneratedInstantiatorClassName(Class<?> clazz) {
+		return clazz.getName() + PREGENERATED_INSTANTIATOR_SUFFIX;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p/>
+	 * Generates the proxy class of the entity, provided it is mapped without a proxy interface,
+	 * and the instantiator of the entity class.  The access optimizer depends on the runtime
+	 * mapping of the entity, and is still generated at runtime.  Pre-generated classes are
+	 * not used when running with a security manager.
+	 */
+	@Override
+	public Map<String, byte[]> pregenerateClasses(Class<?> persistentClass) {
+		final Map<String, byte[]> classes = new LinkedHashMap<>();
+		if ( persistentClass.isInterface() || Modifier.isPrivate( persistentClass.getModifiers() ) ) {
+			return classes;
+		}
+
+		final Constructor<?> constructor = findConstructorIfAny( persistentClass );
+		if ( !Modifier.isFinal( persistentClass.getModifiers() )
+				&& constructor != null
+				&& !Modifier.isPrivate( constructor.getModifiers() ) ) {
+			classes.put(
+					ByteBuddyProxyHelper.pregeneratedProxyClassName( persistentClass ),
+					byteBuddyProxyHelper.pregenerateProxy( persistentClass )
+			);
+		}
+		if ( !Modifier.isAbstract( persistentClass.getModifiers() )
+				&& constructor != null
+				&& !Modifier.isPrivate( constructor.getModifiers() ) ) {
+			classes.put(
+					pregeneratedInstantiatorClassName( persistentClass ),
+					byteBuddyState.pregenerate(
+							pregeneratedInstantiatorClassName( persistentClass ),
+							byteBuddy -> instantiatorBuilder( byteBuddy, constructor )
+					)
+			);
+		}
+		return classes;
+	}
+
+	private Class buildAccessOptimizerClass(Class clazz, Member[] getters, Member[] setters, String[] propertyNames) {
+		return byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( OPTIMIZER_PROXY_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( ReflectionOptimizer.AccessOptimizer.class )
+				.method( getPropertyValuesMethodName )
+						.intercept( new Implementation.Simple( new GetPropertyValues( getters ) ) )
+				.method( setPropertyValuesMethodName )
+						.intercept( new Implementation.Simple( new SetPropertyValues( setters ) ) )
+				.method( getPropertyNamesMethodName )
+						.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) )
+		);
+	}
+
 	public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
 
+	/**
+	 * Reads the values of the given members (getter methods or fields), leaving the values of
+	 * {@code null} members to be read otherwise
+	 */
 	private static class GetPropertyValues implements ByteCodeAppender {
 
-		private final Class clazz;
+		private final Member[] getters;
 
-		private final Method[] getters;
-
-		public GetPropertyValues(Class clazz, Method[] getters) {
-			this.clazz = clazz;
+		public GetPropertyValues(Member[] getters) {
 			this.getters = getters;
 		}
 
@@ -132,20 +284,40 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			methodVisitor.visitLdcInsn( getters.length );
 			methodVisitor.visitTypeInsn( Opcodes.ANEWARRAY, Type.getInternalName( Object.class ) );
 			int index = 0;
-			for ( Method getter : getters ) {
+			for ( Member getter : getters ) {
+				if ( getter == null ) {
+					index++;
+					continue;
+				}
+				final String owner = Type.getInternalName( getter.getDeclaringClass() );
 				methodVisitor.visitInsn( Opcodes.DUP );
 				methodVisitor.visitLdcInsn( index++ );
 				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
-				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( clazz ) );
-				methodVisitor.visitMethodInsn(
-						Opcodes.INVOKEVIRTUAL,
-						Type.getInternalName( clazz ),
-						getter.getName(),
-						Type.getMethodDescriptor( getter ),
-						false
-				);
-				if ( getter.getReturnType().isPrimitive() ) {
-					PrimitiveBoxingDelegate.forPrimitive( new TypeDescription.ForLoadedType( getter.getReturnType() ) )
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, owner );
+				final Class<?> type;
+				if ( getter instanceof Method ) {
+					final Method method = (Method) getter;
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							owner,
+							method.getName(),
+							Type.getMethodDescriptor( method ),
+							false
+					);
+					type = method.getReturnType();
+				}
+				else {
+					final Field field = (Field) getter;
+					methodVisitor.visitFieldInsn(
+							Opcodes.GETFIELD,
+							owner,
+							field.getName(),
+							Type.getDescriptor( field.getType() )
+					);
+					type = field.getType();
+				}
+				if ( type.isPrimitive() ) {
+					PrimitiveBoxingDelegate.forPrimitive( new TypeDescription.ForLoadedType( type ) )
 							.assignBoxedTo(
 									TypeDescription.Generic.OBJECT,
 									ReferenceTypeAwareAssigner.INSTANCE,
@@ -160,14 +332,15 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	/**
+	 * Writes the values of the given members (setter methods or fields), skipping the values of
+	 * {@code null} members
+	 */
 	private static class SetPropertyValues implements ByteCodeAppender {
 
-		private final Class clazz;
-
-		private final Method[] setters;
+		private final Member[] setters;
 
-		public SetPropertyValues(Class clazz, Method[] setters) {
-			this.clazz = clazz;
+		public SetPropertyValues(Member[] setters) {
 			this.setters = setters;
 		}
 
@@ -177,37 +350,128 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 				Implementation.Context implementationContext,
 				MethodDescription instrumentedMethod) {
 			int index = 0;
-			for ( Method setter : setters ) {
+			for ( Member setter : setters ) {
+				if ( setter == null ) {
+					index++;
+					continue;
+				}
+				final String owner = Type.getInternalName( setter.getDeclaringClass() );
+				final Class<?> type = setter instanceof Method
+						? ( (Method) setter ).getParameterTypes()[0]
+						: ( (Field) setter ).getType();
 				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
-				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( clazz ) );
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, owner );
 				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
 				methodVisitor.visitLdcInsn( index++ );
 				methodVisitor.visitInsn( Opcodes.AALOAD );
-				if ( setter.getParameterTypes()[0].isPrimitive() ) {
+				if ( type.isPrimitive() ) {
 					PrimitiveUnboxingDelegate.forReferenceType( TypeDescription.Generic.OBJECT )
 							.assignUnboxedTo(
-									new TypeDescription.Generic.OfNonGenericType.ForLoadedType( setter.getParameterTypes()[0] ),
+									new TypeDescription.Generic.OfNonGenericType.ForLoadedType( type ),
 									ReferenceTypeAwareAssigner.INSTANCE,
 									Assigner.Typing.DYNAMIC
 							)
 							.apply( methodVisitor, implementationContext );
 				}
 				else {
-					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( setter.getParameterTypes()[0] ) );
+					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( type ) );
+				}
+				if ( setter instanceof Method ) {
+					final Method method = (Method) setter;
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							owner,
+							method.getName(),
+							Type.getMethodDescriptor( method ),
+							false
+					);
+					if ( method.getReturnType() != void.class ) {
+						// fluent setter
+						methodVisitor.visitInsn(
+								method.getReturnType() == long.class || method.getReturnType() == double.class
+										? Opcodes.POP2
+										: Opcodes.POP
+						);
+					}
+				}
+				else {
+					final Field field = (Field) setter;
+					methodVisitor.visitFieldInsn(
+							Opcodes.PUTFIELD,
+							owner,
+							field.getName(),
+							Type.getDescriptor( field.getType() )
+					);
 				}
-				methodVisitor.visitMethodInsn(
-						Opcodes.INVOKEVIRTUAL,
-						Type.getInternalName( clazz ),
-						setter.getName(),
-						Type.getMethodDescriptor( setter ),
-						false
-				);
 			}
 			methodVisitor.visitInsn( Opcodes.RETURN );
 			return new Size( 4, instrumentedMethod.getStackSize() );
 		}
 	}
 
+	/**
+	 * The field or method accessed by the given getter, or {@code null} if the getter
+	 * is not a plain field or method getter
+	 */
+	private static Member findGetterMember(Getter getter) {
+		if ( getter.getClass() == GetterMethodImpl.class || getter.getClass() == GetterFieldImpl.class ) {
+			return getter.getMember();
+		}
+		return null;
+	}
+
+	/**
+	 * The field or method accessed by the given setter, or {@code null} if the setter
+	 * is not a plain field or method setter
+	 */
+	private static Member findSetterMember(Setter setter) {
+		if ( setter.getClass() == SetterMethodImpl.class ) {
+			return setter.getMethod();
+		}
+		else if ( setter.getClass() == SetterFieldImpl.class ) {
+			return ( (SetterFieldImpl) setter ).getField();
+		}
+		return null;
+	}
+
+	/**
+	 * Can the generated accessor, defined in the package of the given class, access the given
+	 * member without reflection?
+	 */
+	private static boolean isDirectlyAccessible(Class clazz, Member member, boolean write) {
+		final int modifiers = member.getModifiers();
+		final Class<?> declaringClass = member.getDeclaringClass();
+		if ( Modifier.isPrivate( modifiers ) || Modifier.isStatic( modifiers ) || declaringClass.isInterface() ) {
+			return false;
+		}
+		if ( write && member instanceof Field && Modifier.isFinal( modifiers ) ) {
+			return false;
+		}
+		if ( Modifier.isPublic( modifiers ) && Modifier.isPublic( declaringClass.getModifiers() ) ) {
+			return true;
+		}
+		// package-private or protected, which requires the same runtime package
+		return declaringClass.getClassLoader() == clazz.getClassLoader()
+				&& packageName( declaringClass ).equals( packageName( clazz ) );
+	}
+
+	private static String packageName(Class<?> clazz) {
+		final String name = clazz.getName();
+		final int lastDot = name.lastIndexOf( '.' );
+		return lastDot < 0 ? "" : name.substring( 0, lastDot );
+	}
+
+	private static int[] reflectiveIndexes(Member[] members, int count) {
+		final int[] indexes = new int[count];
+		int i = 0;
+		for ( int index = 0; index < members.length; index++ ) {
+			if ( members[index] == null ) {
+				indexes[i++] = index;
+			}
+		}
+		return indexes;
+	}
+
 	private static void findAccessors(
 			Class clazz,
 			String[] getterNames,
@@ -264,6 +528,15 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	private static Constructor<?> findConstructorIfAny(Class<?> clazz) {
+		try {
+			return clazz.getDeclaredConstructor();
+		}
+		catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
 	public static class CloningPropertyCall implements Callable<String[]> {
 
 		private final String[] propertyNames;
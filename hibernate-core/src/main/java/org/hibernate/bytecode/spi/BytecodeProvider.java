@@ -6,8 +6,16 @@
  */
 package org.hibernate.bytecode.spi;
 
+import java.util.Collections;
+import java.util.Map;
+
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterMethodImpl;
 
 /**
  * Contract for providers of bytecode services to Hibernate.
@@ -40,6 +48,37 @@ public interface BytecodeProvider {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class clazz, String[] getterNames, String[] setterNames, Class[] types);
 
+	/**
+	 * Retrieve the ReflectionOptimizer delegate for this provider
+	 * capable of generating reflection optimization components.
+	 * <p/>
+	 * The default implementation is only able to optimize access through
+	 * getter and setter methods, and otherwise returns {@code null}.
+	 *
+	 * @param clazz The class to be reflected upon.
+	 * @param propertyAccessMap The access to all properties to be optimized, keyed by property
+	 * name, in the order of the property values.
+	 * @return The reflection optimization delegate, or {@code null} if the access cannot be optimized.
+	 */
+	default ReflectionOptimizer getReflectionOptimizer(Class clazz, Map<String, PropertyAccess> propertyAccessMap) {
+		final String[] getterNames = new String[propertyAccessMap.size()];
+		final String[] setterNames = new String[propertyAccessMap.size()];
+		final Class[] types = new Class[propertyAccessMap.size()];
+		int i = 0;
+		for ( PropertyAccess propertyAccess : propertyAccessMap.values() ) {
+			final Getter getter = propertyAccess.getGetter();
+			final Setter setter = propertyAccess.getSetter();
+			if ( !( getter instanceof GetterMethodImpl ) || !( setter instanceof SetterMethodImpl ) ) {
+				return null;
+			}
+			getterNames[i] = getter.getMethodName();
+			setterNames[i] = setter.getMethodName();
+			types[i] = getter.getReturnType();
+			i++;
+		}
+		return getReflectionOptimizer( clazz, getterNames, setterNames, types );
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
@@ -49,6 +88,21 @@ public interface BytecodeProvider {
 	 */
 	Enhancer getEnhancer(EnhancementContext enhancementContext);
 
+	/**
+	 * Generate, ahead of time (typically at build time), the classes this provider would otherwise
+	 * generate at runtime for the given entity class.  Written out next to the entity class, the
+	 * generated classes are picked up at runtime instead of being generated again.
+	 * <p/>
+	 * The default implementation does not generate anything.
+	 *
+	 * @param persistentClass The entity class.
+	 *
+	 * @return The bytecode of the generated classes, keyed by class name.
+	 */
+	default Map<String, byte[]> pregenerateClasses(Class<?> persistentClass) {
+		return Collections.emptyMap();
+	}
+
 	/**
 	 * Some BytecodeProvider implementations will have classloader specific caching.
 	 * These caches are useful at runtime but need to be reset at least on SessionFactory shutdown
@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Collection;
+
+import org.hibernate.cache.spi.QueryCacheInvalidationStrategy;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * QueryCacheInvalidationStrategy treating the last update timestamps of all
+ * query spaces as a single "version vector", resolved through one
+ * {@link TimestampsCache#getLastUpdateTimestamp} call which reads the
+ * timestamps of all the spaces from the region in bulk rather than one
+ * lookup per space.  The cached results are considered up-to-date if none
+ * of the spaces was updated at or after the time the results were cached.
+ *
+ * @author agent
+ */
+public class BatchedQueryCacheInvalidationStrategy implements QueryCacheInvalidationStrategy {
+	public static final String SHORT_NAME = "batched";
+
+	/**
+	 * Singleton access
+	 */
+	public static final BatchedQueryCacheInvalidationStrategy INSTANCE = new BatchedQueryCacheInvalidationStrategy();
+
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			Long resultsTimestamp,
+			TimestampsCache timestampsCache,
+			SharedSessionContractImplementor session) {
+		if ( spaces.isEmpty() ) {
+			return true;
+		}
+
+		final Long lastUpdate = timestampsCache.getLastUpdateTimestamp( spaces, session );
+		return lastUpdate == null || lastUpdate < resultsTimestamp;
+	}
+}
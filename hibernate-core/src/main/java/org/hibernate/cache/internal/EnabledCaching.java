@@ -18,6 +18,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import javax.persistence.PersistenceException;
 
 import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.cache.cfg.spi.CollectionDataCachingConfig;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
@@ -26,6 +27,7 @@ import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
 import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.QueryCacheInvalidationStrategy;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
@@ -35,11 +37,13 @@ import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -98,7 +102,10 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 			regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
 			defaultQueryResultsCache = new QueryResultsCacheImpl(
 					queryResultsRegion,
-					timestampsCache
+					timestampsCache,
+					resolveQueryCacheInvalidationStrategy( RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME ),
+					isQueryCacheSingleFlightEnabled(),
+					getQueryCacheSingleFlightTimeout()
 			);
 		}
 		else {
@@ -512,13 +519,52 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		}
 		final QueryResultsCacheImpl regionAccess = new QueryResultsCacheImpl(
 				queryResultsRegion,
-				timestampsCache
+				timestampsCache,
+				resolveQueryCacheInvalidationStrategy( regionName ),
+				isQueryCacheSingleFlightEnabled(),
+				getQueryCacheSingleFlightTimeout()
 		);
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
 		return regionAccess;
 	}
 
+	/**
+	 * Resolve the QueryCacheInvalidationStrategy for the named query results region.  A
+	 * region-specific setting ({@value AvailableSettings#QUERY_CACHE_INVALIDATION_STRATEGY}
+	 * suffixed with {@code .} and the region name) takes precedence over the general setting.
+	 */
+	protected QueryCacheInvalidationStrategy resolveQueryCacheInvalidationStrategy(String regionName) {
+		final Map<String, Object> settings = getSessionFactory().getProperties();
+
+		Object strategyReference = settings.get( AvailableSettings.QUERY_CACHE_INVALIDATION_STRATEGY + '.' + regionName );
+		if ( strategyReference == null ) {
+			strategyReference = settings.get( AvailableSettings.QUERY_CACHE_INVALIDATION_STRATEGY );
+		}
+
+		return getSessionFactory().getServiceRegistry().getService( StrategySelector.class ).resolveDefaultableStrategy(
+				QueryCacheInvalidationStrategy.class,
+				strategyReference,
+				PerSpaceQueryCacheInvalidationStrategy.INSTANCE
+		);
+	}
+
+	protected boolean isQueryCacheSingleFlightEnabled() {
+		return ConfigurationHelper.getBoolean(
+				AvailableSettings.QUERY_CACHE_SINGLE_FLIGHT,
+				getSessionFactory().getProperties(),
+				false
+		);
+	}
+
+	protected long getQueryCacheSingleFlightTimeout() {
+		return ConfigurationHelper.getLong(
+				AvailableSettings.QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT,
+				getSessionFactory().getProperties(),
+				5000
+		);
+	}
+
 	protected QueryResultsRegion makeQueryResultsRegion(String regionName) {
 		return regionFactory.buildQueryResultsRegion( regionName, getSessionFactory() );
 	}
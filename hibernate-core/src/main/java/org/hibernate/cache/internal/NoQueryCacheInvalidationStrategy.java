@@ -0,0 +1,38 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Collection;
+
+import org.hibernate.cache.spi.QueryCacheInvalidationStrategy;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * QueryCacheInvalidationStrategy which performs no up-to-date checks at all.
+ * Only appropriate for query results regions whose underlying tables are
+ * never (or externally) modified, i.e. read-only data.
+ *
+ * @author agent
+ */
+public class NoQueryCacheInvalidationStrategy implements QueryCacheInvalidationStrategy {
+	public static final String SHORT_NAME = "none";
+
+	/**
+	 * Singleton access
+	 */
+	public static final NoQueryCacheInvalidationStrategy INSTANCE = new NoQueryCacheInvalidationStrategy();
+
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			Long resultsTimestamp,
+			TimestampsCache timestampsCache,
+			SharedSessionContractImplementor session) {
+		return true;
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Collection;
+
+import org.hibernate.cache.spi.QueryCacheInvalidationStrategy;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * The standard QueryCacheInvalidationStrategy - checks the last update timestamp
+ * of each query space individually via {@link TimestampsCache#isUpToDate}
+ *
+ * @author agent
+ */
+public class PerSpaceQueryCacheInvalidationStrategy implements QueryCacheInvalidationStrategy {
+	public static final String SHORT_NAME = "per-space";
+
+	/**
+	 * Singleton access
+	 */
+	public static final PerSpaceQueryCacheInvalidationStrategy INSTANCE = new PerSpaceQueryCacheInvalidationStrategy();
+
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			Long resultsTimestamp,
+			TimestampsCache timestampsCache,
+			SharedSessionContractImplementor session) {
+		return timestampsCache.isUpToDate( spaces, resultsTimestamp, session );
+	}
+}
@@ -8,10 +8,18 @@ package org.hibernate.cache.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.transaction.Synchronization;
 
 import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.QueryCacheInvalidationStrategy;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
@@ -24,7 +32,11 @@ import org.hibernate.internal.CoreMessageLogger;
 /**
  * The standard implementation of the Hibernate QueryCache interface.  Works
  * hind-in-hand with {@link TimestampsCache} to help in recognizing
- * stale query results.
+ * stale query results, as decided by the {@link QueryCacheInvalidationStrategy}.
+ * <p/>
+ * Optionally supports "single-flight" loading: when multiple callers miss the
+ * results for the same {@link QueryKey} at once, only the first executes the
+ * query while the others wait (up to a timeout) for it to put the results.
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -34,12 +46,36 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
+	private final QueryCacheInvalidationStrategy invalidationStrategy;
 
+	private final boolean singleFlightEnabled;
+	private final long singleFlightTimeout;
+	private final ConcurrentMap<QueryKey, PendingLoad> pendingLoads;
+
+	QueryResultsCacheImpl(
+			QueryResultsRegion cacheRegion,
+			TimestampsCache timestampsCache,
+			QueryCacheInvalidationStrategy invalidationStrategy) {
+		this( cacheRegion, timestampsCache, invalidationStrategy, false, 0 );
+	}
+
+	/**
+	 * @param singleFlightEnabled Whether concurrent misses for the same key should wait for a
+	 * single caller to load and put the results, rather than each executing the query
+	 * @param singleFlightTimeout The maximum time, in milliseconds, to wait for such a load
+	 */
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
-			TimestampsCache timestampsCache) {
+			TimestampsCache timestampsCache,
+			QueryCacheInvalidationStrategy invalidationStrategy,
+			boolean singleFlightEnabled,
+			long singleFlightTimeout) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.invalidationStrategy = invalidationStrategy;
+		this.singleFlightEnabled = singleFlightEnabled;
+		this.singleFlightTimeout = singleFlightTimeout;
+		this.pendingLoads = singleFlightEnabled ? new ConcurrentHashMap<>() : null;
 	}
 
 	@Override
@@ -68,6 +104,9 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		}
 		finally {
 			session.getEventListenerManager().cachePutEnd();
+			// a put by another caller than the loading one (e.g. of results it executed the
+			// query for without having missed them first) leaves the pending load in place
+			releaseLoad( key );
 		}
 
 		return true;
@@ -78,47 +117,116 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	}
 
 	@Override
-	@SuppressWarnings({ "unchecked" })
 	public List get(
 			final QueryKey key,
 			final Set<String> spaces,
 			final SharedSessionContractImplementor session) throws HibernateException {
+		return get( key, (Collection<String>) spaces, session );
+	}
+
+	@Override
+	public List get(
+			final QueryKey key,
+			final String[] spaces,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		return get( key, Arrays.asList( spaces ), session );
+	}
+
+	private List get(
+			final QueryKey key,
+			final Collection<String> spaces,
+			final SharedSessionContractImplementor session) throws HibernateException {
 		if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
 			SecondLevelCacheLogger.INSTANCE.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
 		}
 
-		final CacheItem cacheItem = getCachedData( key, session );
-		if ( cacheItem == null ) {
-			if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
-				SecondLevelCacheLogger.INSTANCE.debug( "Query results were not found in cache" );
-			}
-			return null;
+		final List results = getUpToDateResults( key, spaces, session );
+		if ( results != null || !singleFlightEnabled ) {
+			return results;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
-			if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
-				SecondLevelCacheLogger.INSTANCE.debug( "Cached query results were not up-to-date" );
-			}
+		// a miss - unless another caller is already loading the results for this key, the caller
+		// becomes the one loading them.  Otherwise wait for that load to put its results
+		final PendingLoad pendingLoad = new PendingLoad();
+		final PendingLoad existingLoad = pendingLoads.putIfAbsent( key, pendingLoad );
+		if ( existingLoad == null ) {
+			releaseOnTransactionCompletion( key, pendingLoad, session );
+			return null;
+		}
+		if ( existingLoad.isOwnedByCurrentThread() ) {
 			return null;
 		}
 
 		if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
-			SecondLevelCacheLogger.INSTANCE.debug( "Returning cached query results" );
+			SecondLevelCacheLogger.INSTANCE.debugf( "Waiting for concurrent load of query results in region: %s", cacheRegion.getName() );
 		}
 
-		return deepCopy( cacheItem.results );
+		if ( existingLoad.await( singleFlightTimeout ) ) {
+			return getUpToDateResults( key, spaces, session );
+		}
+
+		// the load did not finish in time - take it over
+		if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
+			SecondLevelCacheLogger.INSTANCE.debugf(
+					"Timed out after %s ms waiting for concurrent load of query results in region: %s",
+					singleFlightTimeout,
+					cacheRegion.getName()
+			);
+		}
+		if ( pendingLoads.remove( key, existingLoad ) ) {
+			existingLoad.complete();
+		}
+		if ( pendingLoads.putIfAbsent( key, pendingLoad ) == null ) {
+			releaseOnTransactionCompletion( key, pendingLoad, session );
+		}
+		return null;
+	}
+
+	/**
+	 * The loading caller normally puts the results, or releases the load when done with
+	 * the results.  As a safety net, the load is also released when the transaction it
+	 * was started in completes - e.g. a rollback with an unclosed ScrollableResults
+	 */
+	private void releaseOnTransactionCompletion(
+			QueryKey key,
+			PendingLoad pendingLoad,
+			SharedSessionContractImplementor session) {
+		if ( !session.isTransactionInProgress() ) {
+			return;
+		}
+
+		session.getTransactionCoordinator().getLocalSynchronizations().registerSynchronization(
+				new Synchronization() {
+					@Override
+					public void beforeCompletion() {
+					}
+
+					@Override
+					public void afterCompletion(int status) {
+						if ( pendingLoads.remove( key, pendingLoad ) ) {
+							pendingLoad.complete();
+						}
+					}
+				}
+		);
 	}
 
 	@Override
-	@SuppressWarnings({ "unchecked" })
-	public List get(
-			final QueryKey key,
-			final String[] spaces,
-			final SharedSessionContractImplementor session) throws HibernateException {
-		if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
-			SecondLevelCacheLogger.INSTANCE.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
+	public void releaseLoad(QueryKey key) {
+		if ( !singleFlightEnabled ) {
+			return;
+		}
+
+		// only a load started by this thread - the key may meanwhile have been put and
+		// be loaded again by another caller
+		final PendingLoad pendingLoad = pendingLoads.get( key );
+		if ( pendingLoad != null && pendingLoad.isOwnedByCurrentThread() && pendingLoads.remove( key, pendingLoad ) ) {
+			pendingLoad.complete();
 		}
+	}
 
+	@SuppressWarnings({ "unchecked" })
+	private List getUpToDateResults(QueryKey key, Collection<String> spaces, SharedSessionContractImplementor session) {
 		final CacheItem cacheItem = getCachedData( key, session );
 		if ( cacheItem == null ) {
 			if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
@@ -127,7 +235,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !invalidationStrategy.isUpToDate( spaces, cacheItem.timestamp, timestampsCache, session ) ) {
 			if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
 				SecondLevelCacheLogger.INSTANCE.debug( "Cached query results were not up-to-date" );
 			}
@@ -158,6 +266,33 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return "QueryResultsCache(" + cacheRegion.getName() + ')';
 	}
 
+	/**
+	 * A load of query results, by the thread which first missed them, which other
+	 * threads missing the same results can wait for
+	 */
+	private static class PendingLoad {
+		private final Thread owner = Thread.currentThread();
+		private final CountDownLatch latch = new CountDownLatch( 1 );
+
+		boolean isOwnedByCurrentThread() {
+			return owner == Thread.currentThread();
+		}
+
+		boolean await(long timeout) {
+			try {
+				return latch.await( timeout, TimeUnit.MILLISECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		void complete() {
+			latch.countDown();
+		}
+	}
+
 	public static class CacheItem implements Serializable {
 		private final long timestamp;
 		private final List results;
@@ -10,6 +10,8 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 
 /**
  * Standard Hibernate implementation of the QueryCacheFactory interface.  Returns instances of
@@ -25,6 +27,13 @@ public class StandardTimestampsCacheFactory implements TimestampsCacheFactory {
 	public TimestampsCache buildTimestampsCache(
 			CacheImplementor cacheManager,
 			TimestampsRegion timestampsRegion) {
-		return new TimestampsCacheEnabledImpl( timestampsRegion );
+		return new TimestampsCacheEnabledImpl(
+				timestampsRegion,
+				ConfigurationHelper.getBoolean(
+						AvailableSettings.QUERY_CACHE_TIMESTAMPS_MEMO,
+						cacheManager.getSessionFactory().getProperties(),
+						false
+				)
+		);
 	}
 }
@@ -55,4 +55,13 @@ public class TimestampsCacheDisabledImpl implements TimestampsCache {
 		log.trace( "TimestampsRegionAccess#isUpToDate - disabled" );
 		return false;
 	}
+
+	@Override
+	public Long getLastUpdateTimestamp(
+			Collection<String> spaces,
+			SharedSessionContractImplementor session) {
+		log.trace( "TimestampsRegionAccess#getLastUpdateTimestamp - disabled" );
+		// consistent with `#isUpToDate` - cached results are never considered up-to-date
+		return Long.MAX_VALUE;
+	}
 }
@@ -7,7 +7,11 @@
 package org.hibernate.cache.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
@@ -30,9 +34,20 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public static final boolean DEBUG_ENABLED = log.isDebugEnabled();
 
 	private final TimestampsRegion timestampsRegion;
+	private final boolean memoize;
 
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
+		this( timestampsRegion, false );
+	}
+
+	/**
+	 * @param memoize Whether to memoize the timestamps read during a transaction
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TIMESTAMPS_MEMO
+	 */
+	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion, boolean memoize) {
 		this.timestampsRegion = timestampsRegion;
+		this.memoize = memoize;
 	}
 
 	@Override
@@ -55,6 +70,8 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		final boolean debugEnabled = log.isDebugEnabled();
 
+		forgetMemoized( spaces, session );
+
 		for ( Serializable space : spaces ) {
 			if ( debugEnabled ) {
 				log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
@@ -87,6 +104,8 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
 		final boolean debugEnabled = log.isDebugEnabled();
 
+		forgetMemoized( spaces, session );
+
 		for ( Serializable space : spaces ) {
 			if ( debugEnabled ) {
 				log.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
@@ -112,78 +131,127 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			String[] spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		return isUpToDate( Arrays.asList( spaces ), timestamp, session );
+	}
 
-		for ( Serializable space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		final Map<String, Long> lastUpdates = getLastUpdateTimestamps( spaces, session );
+
+		for ( String space : spaces ) {
+			final Long lastUpdate = lastUpdates.get( space );
+			if ( lastUpdate != null ) {
+				if ( DEBUG_ENABLED ) {
+					log.debugf(
+							"[%s] last update timestamp: %s",
+							space,
+							lastUpdate + ", result set timestamp: " + timestamp
+					);
+				}
+
+				if ( lastUpdate >= timestamp ) {
+					return false;
+				}
 			}
 		}
 
 		return true;
 	}
 
-	private boolean isSpaceOutOfDate(
-			Serializable space,
-			Long timestamp,
-			SharedSessionContractImplementor session,
-			StatisticsImplementor statistics) {
-		final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
-		if ( lastUpdate == null ) {
-			// the last update timestamp for the given space was evicted from the
-			// cache or there have been no writes to it since startup
-			if ( statistics.isStatisticsEnabled() ) {
-				statistics.updateTimestampsCacheMiss();
+	@Override
+	public Long getLastUpdateTimestamp(
+			Collection<String> spaces,
+			SharedSessionContractImplementor session) {
+		Long lastUpdate = null;
+		for ( Long spaceLastUpdate : getLastUpdateTimestamps( spaces, session ).values() ) {
+			if ( spaceLastUpdate != null && ( lastUpdate == null || spaceLastUpdate > lastUpdate ) ) {
+				lastUpdate = spaceLastUpdate;
 			}
 		}
-		else {
-			if ( DEBUG_ENABLED ) {
-				log.debugf(
-						"[%s] last update timestamp: %s",
-						space,
-						lastUpdate + ", result set timestamp: " + timestamp
-				);
-			}
-
-			if ( statistics.isStatisticsEnabled() ) {
-				statistics.updateTimestampsCacheHit();
-			}
 
-			//noinspection RedundantIfStatement
-			if ( lastUpdate >= timestamp ) {
-				return true;
-			}
+		if ( DEBUG_ENABLED ) {
+			log.debugf( "%s last update timestamp: %s", spaces, lastUpdate );
 		}
 
-		return false;
+		return lastUpdate;
 	}
 
-	@Override
-	public boolean isUpToDate(
+	/**
+	 * Resolve the last update timestamps of the given spaces, using the memo of the current
+	 * transaction if enabled, and otherwise reading them from the region in a single bulk
+	 * operation.
+	 *
+	 * @return The last update timestamp of each space; {@code null} if the space has no
+	 * timestamp in the region (it was evicted, or there have been no writes to it since startup)
+	 */
+	private Map<String, Long> getLastUpdateTimestamps(
 			Collection<String> spaces,
-			Long timestamp,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-
-		for ( Serializable space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
+		final Map<String, Long> memo = memoize
+				? session.getCacheTransactionSynchronization().getUpdateTimestampsMemo()
+				: null;
+
+		final Map<String, Long> lastUpdates = new HashMap<>();
+		Collection<String> spacesToRead = spaces;
+		if ( memo != null && !memo.isEmpty() ) {
+			spacesToRead = new ArrayList<>( spaces.size() );
+			for ( String space : spaces ) {
+				if ( memo.containsKey( space ) ) {
+					lastUpdates.put( space, memo.get( space ) );
+				}
+				else {
+					spacesToRead.add( space );
+				}
 			}
 		}
 
-		return true;
-	}
+		if ( spacesToRead.isEmpty() ) {
+			return lastUpdates;
+		}
 
-	private Long getLastUpdateTimestampForSpace(Serializable space, SharedSessionContractImplementor session) {
-		Long ts = null;
+		Map<Object, Object> cached = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
-			ts = (Long) timestampsRegion.getFromCache( space, session );
+			cached = timestampsRegion.getAllFromCache( spacesToRead, session );
 		}
 		finally {
-			session.getEventListenerManager().cacheGetEnd( ts != null );
+			session.getEventListenerManager().cacheGetEnd( cached != null && !cached.isEmpty() );
 		}
-		return ts;
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		for ( String space : spacesToRead ) {
+			final Long lastUpdate = (Long) cached.get( space );
+			if ( stats ) {
+				if ( lastUpdate == null ) {
+					statistics.updateTimestampsCacheMiss();
+				}
+				else {
+					statistics.updateTimestampsCacheHit();
+				}
+			}
+			lastUpdates.put( space, lastUpdate );
+			if ( memo != null ) {
+				memo.put( space, lastUpdate );
+			}
+		}
+		return lastUpdates;
 	}
 
+	/**
+	 * Forget the memoized timestamps of spaces the session is modifying
+	 */
+	private void forgetMemoized(String[] spaces, SharedSessionContractImplementor session) {
+		if ( memoize ) {
+			final Map<String, Long> memo = session.getCacheTransactionSynchronization().getUpdateTimestampsMemo();
+			if ( memo != null ) {
+				for ( String space : spaces ) {
+					memo.remove( space );
+				}
+			}
+		}
+	}
 }
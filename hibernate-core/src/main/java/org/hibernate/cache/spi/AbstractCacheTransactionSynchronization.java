@@ -6,6 +6,9 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author Steve Ebersole
  */
@@ -13,6 +16,9 @@ public abstract class AbstractCacheTransactionSynchronization implements CacheTr
 	private long lastTransactionCompletionTimestamp;
 	private final RegionFactory regionFactory;
 
+	private boolean joined;
+	private Map<String, Long> updateTimestampsMemo;
+
 	public AbstractCacheTransactionSynchronization(RegionFactory regionFactory) {
 		// prime the timestamp for any non-transactional access - until (if) we
 		// 		later join a new txn
@@ -29,6 +35,8 @@ public abstract class AbstractCacheTransactionSynchronization implements CacheTr
 	public final void transactionJoined() {
 		// reset the timestamp
 		this.lastTransactionCompletionTimestamp = regionFactory.nextTimestamp();
+		this.joined = true;
+		this.updateTimestampsMemo = null;
 	}
 
 	@Override
@@ -37,9 +45,22 @@ public abstract class AbstractCacheTransactionSynchronization implements CacheTr
 
 	@Override
 	public void transactionCompleted(boolean successful) {
+		this.joined = false;
+		this.updateTimestampsMemo = null;
+
 		// reset the timestamp for any non-transactional access after this
 		// 		point - until (if) we later join a new txn
 //		this.lastTransactionCompletionTimestamp = regionFactory.nextTimestamp();
 	}
 
+	@Override
+	public Map<String, Long> getUpdateTimestampsMemo() {
+		if ( !joined ) {
+			return null;
+		}
+		if ( updateTimestampsMemo == null ) {
+			updateTimestampsMemo = new HashMap<>();
+		}
+		return updateTimestampsMemo;
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Map;
+
 /**
  * Defines a context object that a {@link RegionFactory} is asked to create
  * ({@link RegionFactory#createTransactionContext}}) when a Hibernate Session
@@ -77,6 +79,21 @@ public interface CacheTransactionSynchronization {
 	 */
 	void transactionCompleted(boolean successful);
 
+	/**
+	 * The memo of the last update timestamps of query spaces already read from the
+	 * {@link TimestampsCache} during the current transaction, if the TimestampsCache
+	 * is configured to {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TIMESTAMPS_MEMO memoize}
+	 * them.
+	 *
+	 * @return The (mutable) memo, or {@code null} if not currently joined to a
+	 * transaction or not supported
+	 *
+	 * @since 6.0
+	 */
+	default Map<String, Long> getUpdateTimestampsMemo() {
+		return null;
+	}
+
 	/**
 	 * Currently not used.  Here for future expansion
 	 *
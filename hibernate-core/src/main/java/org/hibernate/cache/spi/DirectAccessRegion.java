@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -23,6 +27,26 @@ public interface DirectAccessRegion extends Region {
 	 */
 	Object getFromCache(Object key, SharedSessionContractImplementor session);
 
+	/**
+	 * Get the values of multiple keys at once
+	 *
+	 * @implSpec The default implementation gets each value individually.
+	 *
+	 * @return The values by key; keys without a value are not contained
+	 *
+	 * @since 6.0
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> result = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Put a value by key
 	 */
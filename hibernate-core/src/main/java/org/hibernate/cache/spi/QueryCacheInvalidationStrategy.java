@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi;
+
+import java.util.Collection;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Strategy for deciding whether cached query results are still valid in
+ * regards to changes made to the underlying query spaces (tables) since
+ * the results were cached.
+ * <p/>
+ * The strategy to use is selected via
+ * {@link org.hibernate.cfg.AvailableSettings#QUERY_CACHE_INVALIDATION_STRATEGY},
+ * optionally overridden per query results region.
+ *
+ * @author agent
+ */
+public interface QueryCacheInvalidationStrategy {
+	/**
+	 * Determine whether results cached at the given timestamp are still up-to-date
+	 * in regards to the given query spaces.
+	 *
+	 * @param spaces The query spaces (table names) the cached query touched
+	 * @param resultsTimestamp The timestamp at which the results were cached
+	 * @param timestampsCache Access to the last update timestamps of the query spaces
+	 * @param session The originating session
+	 *
+	 * @return {@code true} if the cached results can be used; {@code false} otherwise
+	 */
+	boolean isUpToDate(
+			Collection<String> spaces,
+			Long resultsTimestamp,
+			TimestampsCache timestampsCache,
+			SharedSessionContractImplementor session);
+}
@@ -75,6 +75,19 @@ public interface QueryResultsCache {
 			String[] spaces,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Notification that a caller which was told by {@link #get} that no up-to-date results
+	 * are cached is done with its results, whether or not it {@link #put put} them - it may
+	 * have failed, not read all of the results or not be allowed to put them.  Allows
+	 * implementations which make concurrent callers wait for a single load of the results
+	 * to release those callers.  Called from the thread which called {@link #get}.
+	 *
+	 * @param key The cache key
+	 */
+	default void releaseLoad(QueryKey key) {
+		// nothing to do by default
+	}
+
 	/**
 	 * Clear items from the query cache.
 	 *
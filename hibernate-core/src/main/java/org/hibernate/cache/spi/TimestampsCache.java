@@ -56,6 +56,29 @@ public interface TimestampsCache {
 			Long timestamp,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Resolve the most recent last update timestamp across all of the given
+	 * query spaces, or {@code null} if none of the spaces has a recorded
+	 * update timestamp.
+	 *
+	 * @implSpec The default implementation reads the timestamps of all the spaces
+	 * from the region in a single {@link TimestampsRegion#getAllFromCache} call.
+	 *
+	 * @see org.hibernate.cache.internal.BatchedQueryCacheInvalidationStrategy
+	 */
+	default Long getLastUpdateTimestamp(
+			Collection<String> spaces,
+			SharedSessionContractImplementor session) {
+		Long lastUpdate = null;
+		for ( Object cached : getRegion().getAllFromCache( spaces, session ).values() ) {
+			final Long spaceLastUpdate = (Long) cached;
+			if ( spaceLastUpdate != null && ( lastUpdate == null || spaceLastUpdate > lastUpdate ) ) {
+				lastUpdate = spaceLastUpdate;
+			}
+		}
+		return lastUpdate;
+	}
+
 	default void clear() throws CacheException {
 		getRegion().clear();
 	}
@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+/**
+ * Binary CacheEntry format for entities.  Used to store the entity's data in a compact byte[]
+ * (see {@link org.hibernate.cfg.AvailableSettings#USE_BINARY_CACHE_ENTRIES}), typically for
+ * distributed caches: the entity name is written as its position among the sorted entity names
+ * of the hierarchy, and the property values in the order of the persister's properties, without
+ * their names.  Each entry carries a fingerprint of the mapping of the hierarchy, an entry written
+ * for another mapping is treated as a cache miss.
+ *
+ * @author agent
+ */
+public class BinaryCacheEntry implements CacheEntryStructure {
+	private final EntityPersister persister;
+	private volatile HierarchyMapping hierarchyMapping;
+
+	/**
+	 * Constructs a BinaryCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public BinaryCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final HierarchyMapping mapping = getHierarchyMapping();
+		final BinaryCacheEntryEncoding.Output output = new BinaryCacheEntryEncoding.Output( mapping.fingerprint );
+		output.writeVarInt( determineSubclassId( mapping, entry.getSubclass() ) );
+		output.writeValue( entry.getVersion() );
+		output.writeValues( entry.getDisassembledState() );
+		return output.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		final HierarchyMapping mapping = getHierarchyMapping();
+		final BinaryCacheEntryEncoding.Input input = BinaryCacheEntryEncoding.Input.open( structured, mapping.fingerprint );
+		if ( input == null ) {
+			return null;
+		}
+		final String[] entityNames = mapping.entityNames;
+		final int subclassId = input.readVarInt();
+		if ( subclassId < 0 || subclassId >= entityNames.length ) {
+			throw new CacheException( "Unknown entity id [" + subclassId + "] in binary cache entry for " + persister.getRootEntityName() );
+		}
+		final Object version = input.readValue();
+		final Serializable[] disassembledState = input.readValues();
+		return new StandardCacheEntryImpl( disassembledState, entityNames[subclassId], version );
+	}
+
+	private int determineSubclassId(HierarchyMapping mapping, String subclass) {
+		final int subclassId = Arrays.binarySearch( mapping.entityNames, subclass );
+		if ( subclassId < 0 ) {
+			throw new CacheException( "Entity [" + subclass + "] is not part of the hierarchy of " + persister.getRootEntityName() );
+		}
+		return subclassId;
+	}
+
+	/**
+	 * The entries of a hierarchy share a region, so the ids of the entity names and the fingerprint
+	 * are determined by the root entity, whatever the persister used to read or write them
+	 */
+	@SuppressWarnings("unchecked")
+	private HierarchyMapping getHierarchyMapping() {
+		HierarchyMapping mapping = hierarchyMapping;
+		if ( mapping == null ) {
+			final MetamodelImplementor metamodel = persister.getFactory().getMetamodel();
+			final Set<String> subclassEntityNames = metamodel.entityPersister( persister.getRootEntityName() )
+					.getEntityMetamodel()
+					.getSubclassEntityNames();
+			final String[] entityNames = subclassEntityNames.toArray( new String[ subclassEntityNames.size() ] );
+			Arrays.sort( entityNames );
+
+			int fingerprint = 0;
+			for ( String entityName : entityNames ) {
+				final EntityPersister subclassPersister = metamodel.entityPersister( entityName );
+				final String[] propertyNames = subclassPersister.getPropertyNames();
+				final Type[] propertyTypes = subclassPersister.getPropertyTypes();
+				fingerprint = BinaryCacheEntryEncoding.fingerprint( fingerprint, entityName );
+				for ( int i = 0; i < propertyNames.length; i++ ) {
+					fingerprint = BinaryCacheEntryEncoding.fingerprint( fingerprint, propertyNames[i] );
+					fingerprint = BinaryCacheEntryEncoding.fingerprint( fingerprint, propertyTypes[i].getName() );
+				}
+			}
+
+			mapping = new HierarchyMapping( entityNames, fingerprint );
+			hierarchyMapping = mapping;
+		}
+		return mapping;
+	}
+
+	private static final class HierarchyMapping {
+		private final String[] entityNames;
+		private final int fingerprint;
+
+		private HierarchyMapping(String[] entityNames, int fingerprint) {
+			this.entityNames = entityNames;
+			this.fingerprint = fingerprint;
+		}
+	}
+}
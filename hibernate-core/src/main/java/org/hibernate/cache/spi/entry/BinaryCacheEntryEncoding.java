@@ -0,0 +1,467 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * The binary layout shared by {@link BinaryCacheEntry} and {@link BinaryCollectionCacheEntry}.
+ * <p/>
+ * Every entry starts with a {@link #FORMAT_VERSION format version} byte, followed by a fingerprint of
+ * the mapping it was written for (see {@link #fingerprint}); an entry of another version or mapping,
+ * e.g. written by a node of a distributed cache running another version of the application, is not
+ * read but treated as a cache miss.  Disassembled values are
+ * written as a one byte tag followed by a compact encoding of the value for the types disassembled
+ * values most commonly are (numbers as variable-length integers, strings as UTF-8, arrays of
+ * disassembled component or collection state, temporal values, the lazy and back-reference
+ * markers), falling back to Java serialization for any other value.
+ *
+ * @author agent
+ */
+final class BinaryCacheEntryEncoding {
+	/**
+	 * The version of the layout, to be incremented on any incompatible change
+	 */
+	static final byte FORMAT_VERSION = 2;
+
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte FLOAT = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte STRING = 10;
+	private static final byte BIG_DECIMAL = 11;
+	private static final byte BIG_INTEGER = 12;
+	private static final byte BYTES = 13;
+	private static final byte OBJECT_ARRAY = 14;
+	private static final byte SERIALIZABLE_ARRAY = 15;
+	private static final byte UUID_VALUE = 16;
+	private static final byte DATE = 17;
+	private static final byte SQL_TIMESTAMP = 18;
+	private static final byte SQL_DATE = 19;
+	private static final byte SQL_TIME = 20;
+	private static final byte INSTANT = 21;
+	private static final byte LOCAL_DATE = 22;
+	private static final byte LOCAL_DATE_TIME = 23;
+	private static final byte LOCAL_TIME = 24;
+	private static final byte UNFETCHED_PROPERTY = 25;
+	private static final byte UNKNOWN_BACKREF = 26;
+	private static final byte SERIALIZED = 127;
+
+	private BinaryCacheEntryEncoding() {
+	}
+
+	/**
+	 * Mixes a part of the mapping (an entity name, a property name, a type name...) into a
+	 * fingerprint.  {@link String#hashCode()} is specified, so fingerprints are the same on every JVM.
+	 */
+	static int fingerprint(int fingerprint, String part) {
+		return 31 * fingerprint + ( part == null ? 0 : part.hashCode() );
+	}
+
+	/**
+	 * Writes an entry
+	 */
+	static final class Output {
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 64 );
+
+		Output(int fingerprint) {
+			bytes.write( FORMAT_VERSION );
+			writeFixedInt( fingerprint );
+		}
+
+		byte[] toByteArray() {
+			return bytes.toByteArray();
+		}
+
+		void writeVarInt(int value) {
+			while ( ( value & ~0x7F ) != 0 ) {
+				bytes.write( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			bytes.write( value );
+		}
+
+		void writeVarLong(long value) {
+			while ( ( value & ~0x7FL ) != 0 ) {
+				bytes.write( ( (int) value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			bytes.write( (int) value );
+		}
+
+		private void writeZigZagInt(int value) {
+			writeVarInt( ( value << 1 ) ^ ( value >> 31 ) );
+		}
+
+		private void writeZigZagLong(long value) {
+			writeVarLong( ( value << 1 ) ^ ( value >> 63 ) );
+		}
+
+		private void writeFixedInt(int value) {
+			bytes.write( value >>> 24 );
+			bytes.write( value >>> 16 );
+			bytes.write( value >>> 8 );
+			bytes.write( value );
+		}
+
+		private void writeFixedLong(long value) {
+			writeFixedInt( (int) ( value >>> 32 ) );
+			writeFixedInt( (int) value );
+		}
+
+		private void writeBytes(byte[] value) {
+			writeVarInt( value.length );
+			bytes.write( value, 0, value.length );
+		}
+
+		private void writeString(String value) {
+			writeBytes( value.getBytes( StandardCharsets.UTF_8 ) );
+		}
+
+		void writeValues(Object[] values) {
+			writeVarInt( values.length );
+			for ( Object value : values ) {
+				writeValue( value );
+			}
+		}
+
+		void writeValue(Object value) {
+			if ( value == null ) {
+				bytes.write( NULL );
+			}
+			else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				bytes.write( UNFETCHED_PROPERTY );
+			}
+			else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+				bytes.write( UNKNOWN_BACKREF );
+			}
+			else {
+				// dispatch on the exact class, subclasses (e.g. of Date) may carry more state
+				final Class<?> valueClass = value.getClass();
+				if ( valueClass == Long.class ) {
+					bytes.write( LONG );
+					writeZigZagLong( (Long) value );
+				}
+				else if ( valueClass == Integer.class ) {
+					bytes.write( INTEGER );
+					writeZigZagInt( (Integer) value );
+				}
+				else if ( valueClass == String.class ) {
+					bytes.write( STRING );
+					writeString( (String) value );
+				}
+				else if ( valueClass == Boolean.class ) {
+					bytes.write( (Boolean) value ? TRUE : FALSE );
+				}
+				else if ( valueClass == Short.class ) {
+					bytes.write( SHORT );
+					writeZigZagInt( (Short) value );
+				}
+				else if ( valueClass == Byte.class ) {
+					bytes.write( BYTE );
+					bytes.write( (Byte) value );
+				}
+				else if ( valueClass == Character.class ) {
+					bytes.write( CHARACTER );
+					writeVarInt( (Character) value );
+				}
+				else if ( valueClass == Double.class ) {
+					bytes.write( DOUBLE );
+					writeFixedLong( Double.doubleToRawLongBits( (Double) value ) );
+				}
+				else if ( valueClass == Float.class ) {
+					bytes.write( FLOAT );
+					writeFixedInt( Float.floatToRawIntBits( (Float) value ) );
+				}
+				else if ( valueClass == BigDecimal.class ) {
+					bytes.write( BIG_DECIMAL );
+					writeZigZagInt( ( (BigDecimal) value ).scale() );
+					writeBytes( ( (BigDecimal) value ).unscaledValue().toByteArray() );
+				}
+				else if ( valueClass == BigInteger.class ) {
+					bytes.write( BIG_INTEGER );
+					writeBytes( ( (BigInteger) value ).toByteArray() );
+				}
+				else if ( valueClass == byte[].class ) {
+					bytes.write( BYTES );
+					writeBytes( (byte[]) value );
+				}
+				else if ( valueClass == Object[].class ) {
+					// the disassembled state of a component
+					bytes.write( OBJECT_ARRAY );
+					writeValues( (Object[]) value );
+				}
+				else if ( valueClass == Serializable[].class ) {
+					// the disassembled state of a collection
+					bytes.write( SERIALIZABLE_ARRAY );
+					writeValues( (Object[]) value );
+				}
+				else if ( valueClass == UUID.class ) {
+					bytes.write( UUID_VALUE );
+					writeFixedLong( ( (UUID) value ).getMostSignificantBits() );
+					writeFixedLong( ( (UUID) value ).getLeastSignificantBits() );
+				}
+				else if ( valueClass == java.sql.Timestamp.class ) {
+					bytes.write( SQL_TIMESTAMP );
+					writeZigZagLong( ( (java.sql.Timestamp) value ).getTime() );
+					writeVarInt( ( (java.sql.Timestamp) value ).getNanos() );
+				}
+				else if ( valueClass == Date.class ) {
+					bytes.write( DATE );
+					writeZigZagLong( ( (Date) value ).getTime() );
+				}
+				else if ( valueClass == java.sql.Date.class ) {
+					bytes.write( SQL_DATE );
+					writeZigZagLong( ( (Date) value ).getTime() );
+				}
+				else if ( valueClass == java.sql.Time.class ) {
+					bytes.write( SQL_TIME );
+					writeZigZagLong( ( (Date) value ).getTime() );
+				}
+				else if ( valueClass == Instant.class ) {
+					bytes.write( INSTANT );
+					writeZigZagLong( ( (Instant) value ).getEpochSecond() );
+					writeVarInt( ( (Instant) value ).getNano() );
+				}
+				else if ( valueClass == LocalDate.class ) {
+					bytes.write( LOCAL_DATE );
+					writeZigZagLong( ( (LocalDate) value ).toEpochDay() );
+				}
+				else if ( valueClass == LocalDateTime.class ) {
+					bytes.write( LOCAL_DATE_TIME );
+					writeZigZagLong( ( (LocalDateTime) value ).toLocalDate().toEpochDay() );
+					writeVarLong( ( (LocalDateTime) value ).toLocalTime().toNanoOfDay() );
+				}
+				else if ( valueClass == LocalTime.class ) {
+					bytes.write( LOCAL_TIME );
+					writeVarLong( ( (LocalTime) value ).toNanoOfDay() );
+				}
+				else {
+					bytes.write( SERIALIZED );
+					writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads an entry
+	 */
+	static final class Input {
+		private final byte[] bytes;
+		private int position;
+
+		private Input(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		/**
+		 * Starts reading an entry
+		 *
+		 * @param structured The entry
+		 * @param fingerprint The fingerprint of the mapping the entry is read for
+		 *
+		 * @return The input positioned after the header, or {@code null} if the entry was written
+		 * in another format version or for another mapping
+		 */
+		static Input open(Object structured, int fingerprint) {
+			if ( !( structured instanceof byte[] ) ) {
+				throw new CacheException( "Unexpected structured cache entry, expecting a byte[] : " + structured );
+			}
+			final Input input = new Input( (byte[]) structured );
+			if ( input.readByte() != FORMAT_VERSION || input.readFixedInt() != fingerprint ) {
+				return null;
+			}
+			return input;
+		}
+
+		private byte readByte() {
+			if ( position >= bytes.length ) {
+				throw new CacheException( "Truncated binary cache entry" );
+			}
+			return bytes[position++];
+		}
+
+		int readVarInt() {
+			int value = 0;
+			for ( int shift = 0; shift < 32; shift += 7 ) {
+				final byte b = readByte();
+				value |= ( b & 0x7F ) << shift;
+				if ( ( b & 0x80 ) == 0 ) {
+					return value;
+				}
+			}
+			throw new CacheException( "Malformed variable-length integer in binary cache entry" );
+		}
+
+		long readVarLong() {
+			long value = 0;
+			for ( int shift = 0; shift < 64; shift += 7 ) {
+				final byte b = readByte();
+				value |= (long) ( b & 0x7F ) << shift;
+				if ( ( b & 0x80 ) == 0 ) {
+					return value;
+				}
+			}
+			throw new CacheException( "Malformed variable-length integer in binary cache entry" );
+		}
+
+		private int readZigZagInt() {
+			final int value = readVarInt();
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		private long readZigZagLong() {
+			final long value = readVarLong();
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		private int readFixedInt() {
+			return ( readByte() & 0xFF ) << 24
+					| ( readByte() & 0xFF ) << 16
+					| ( readByte() & 0xFF ) << 8
+					| ( readByte() & 0xFF );
+		}
+
+		private long readFixedLong() {
+			return ( (long) readFixedInt() << 32 ) | ( readFixedInt() & 0xFFFFFFFFL );
+		}
+
+		private byte[] readBytes() {
+			final int length = readVarInt();
+			if ( length < 0 || length > bytes.length - position ) {
+				throw new CacheException( "Truncated binary cache entry" );
+			}
+			final byte[] value = new byte[length];
+			System.arraycopy( bytes, position, value, 0, length );
+			position += length;
+			return value;
+		}
+
+		private String readString() {
+			final int length = readVarInt();
+			if ( length < 0 || length > bytes.length - position ) {
+				throw new CacheException( "Truncated binary cache entry" );
+			}
+			final String value = new String( bytes, position, length, StandardCharsets.UTF_8 );
+			position += length;
+			return value;
+		}
+
+		Serializable[] readValues() {
+			final Serializable[] values = new Serializable[readVarInt()];
+			for ( int i = 0; i < values.length; i++ ) {
+				values[i] = readValue();
+			}
+			return values;
+		}
+
+		private Object[] readObjectValues() {
+			final Object[] values = new Object[readVarInt()];
+			for ( int i = 0; i < values.length; i++ ) {
+				values[i] = readValue();
+			}
+			return values;
+		}
+
+		Serializable readValue() {
+			final byte tag = readByte();
+			switch ( tag ) {
+				case NULL:
+					return null;
+				case UNFETCHED_PROPERTY:
+					return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+				case UNKNOWN_BACKREF:
+					return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+				case TRUE:
+					return Boolean.TRUE;
+				case FALSE:
+					return Boolean.FALSE;
+				case BYTE:
+					return readByte();
+				case SHORT:
+					return (short) readZigZagInt();
+				case INTEGER:
+					return readZigZagInt();
+				case LONG:
+					return readZigZagLong();
+				case FLOAT:
+					return Float.intBitsToFloat( readFixedInt() );
+				case DOUBLE:
+					return Double.longBitsToDouble( readFixedLong() );
+				case CHARACTER:
+					return (char) readVarInt();
+				case STRING:
+					return readString();
+				case BIG_DECIMAL: {
+					final int scale = readZigZagInt();
+					return new BigDecimal( new BigInteger( readBytes() ), scale );
+				}
+				case BIG_INTEGER:
+					return new BigInteger( readBytes() );
+				case BYTES:
+					return readBytes();
+				case OBJECT_ARRAY:
+					return readObjectValues();
+				case SERIALIZABLE_ARRAY:
+					return readValues();
+				case UUID_VALUE: {
+					final long mostSignificantBits = readFixedLong();
+					return new UUID( mostSignificantBits, readFixedLong() );
+				}
+				case SQL_TIMESTAMP: {
+					final java.sql.Timestamp timestamp = new java.sql.Timestamp( readZigZagLong() );
+					timestamp.setNanos( readVarInt() );
+					return timestamp;
+				}
+				case DATE:
+					return new Date( readZigZagLong() );
+				case SQL_DATE:
+					return new java.sql.Date( readZigZagLong() );
+				case SQL_TIME:
+					return new java.sql.Time( readZigZagLong() );
+				case INSTANT: {
+					final long epochSecond = readZigZagLong();
+					return Instant.ofEpochSecond( epochSecond, readVarInt() );
+				}
+				case LOCAL_DATE:
+					return LocalDate.ofEpochDay( readZigZagLong() );
+				case LOCAL_DATE_TIME: {
+					final LocalDate date = LocalDate.ofEpochDay( readZigZagLong() );
+					return LocalDateTime.of( date, LocalTime.ofNanoOfDay( readVarLong() ) );
+				}
+				case LOCAL_TIME:
+					return LocalTime.ofNanoOfDay( readVarLong() );
+				case SERIALIZED:
+					return (Serializable) SerializationHelper.deserialize( readBytes() );
+				default:
+					throw new CacheException( "Unknown value tag [" + tag + "] in binary cache entry" );
+			}
+		}
+	}
+}
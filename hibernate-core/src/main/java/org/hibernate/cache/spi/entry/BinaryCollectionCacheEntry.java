@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.type.Type;
+
+/**
+ * Binary CacheEntry format for persistent collections, Maps included (see {@link BinaryCacheEntry}).
+ * Each entry carries a fingerprint of the mapping of the collection, an entry written for another
+ * mapping is treated as a cache miss.
+ *
+ * @author agent
+ */
+public class BinaryCollectionCacheEntry implements CacheEntryStructure {
+	private final CollectionPersister persister;
+	private volatile Integer fingerprint;
+
+	/**
+	 * Constructs a BinaryCollectionCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public BinaryCollectionCacheEntry(CollectionPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CollectionCacheEntry entry = (CollectionCacheEntry) item;
+		final BinaryCacheEntryEncoding.Output output = new BinaryCacheEntryEncoding.Output( getFingerprint() );
+		output.writeValues( entry.getState() );
+		return output.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		final BinaryCacheEntryEncoding.Input input = BinaryCacheEntryEncoding.Input.open( structured, getFingerprint() );
+		if ( input == null ) {
+			return null;
+		}
+		return new CollectionCacheEntry( input.readValues() );
+	}
+
+	private int getFingerprint() {
+		Integer value = fingerprint;
+		if ( value == null ) {
+			int hash = BinaryCacheEntryEncoding.fingerprint( 0, persister.getRole() );
+			hash = BinaryCacheEntryEncoding.fingerprint( hash, typeName( persister.getKeyType() ) );
+			hash = BinaryCacheEntryEncoding.fingerprint( hash, typeName( persister.getIndexType() ) );
+			hash = BinaryCacheEntryEncoding.fingerprint( hash, typeName( persister.getElementType() ) );
+			value = hash;
+			fingerprint = value;
+		}
+		return value;
+	}
+
+	private static String typeName(Type type) {
+		return type == null ? null : type.getName();
+	}
+}
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -23,6 +27,28 @@ public interface StorageAccess {
 	 */
 	Object getFromCache(Object key, SharedSessionContractImplementor session);
 
+	/**
+	 * Get multiple items from the cache at once.
+	 *
+	 * @implSpec The default implementation gets each item individually.  Implementations
+	 * backed by a remote or clustered cache should override this to fetch the items
+	 * in as few round trips as possible.
+	 *
+	 * @return The cached items by key; keys which are not cached are not contained
+	 *
+	 * @since 6.0
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> result = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Put an item into the cache
 	 */
@@ -774,6 +774,34 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 * Maximum JDBC batch size. A nonzero value enables batch updates.
 	 */
 	String STATEMENT_BATCH_SIZE = "hibernate.jdbc.batch_size";
+
+	/**
+	 * Enables adaptive JDBC batching:  rather than always executing a batch once it reaches
+	 * {@value #STATEMENT_BATCH_SIZE} rows, the batch size is tuned per batch (entity or collection
+	 * operation) based on the measured latency of its executions, targeting
+	 * {@value #ADAPTIVE_BATCHING_TARGET_LATENCY}.  {@value #STATEMENT_BATCH_SIZE} is used as the
+	 * initial batch size and must be greater than 1 for batching to happen at all.  Disabled by default.
+	 *
+	 * @since 6.0
+	 */
+	String ADAPTIVE_BATCHING = "hibernate.jdbc.adaptive_batching";
+
+	/**
+	 * The targeted execution time, in milliseconds, of a batch when {@value #ADAPTIVE_BATCHING}
+	 * is enabled.  Defaults to {@code 20}.
+	 *
+	 * @since 6.0
+	 */
+	String ADAPTIVE_BATCHING_TARGET_LATENCY = "hibernate.jdbc.adaptive_batching.target_latency";
+
+	/**
+	 * The maximum number of rows in a batch when {@value #ADAPTIVE_BATCHING} is enabled, bounding
+	 * the memory the JDBC driver needs to hold the batch.  Defaults to {@code 1000}.
+	 *
+	 * @since 6.0
+	 */
+	String ADAPTIVE_BATCHING_MAX_BATCH_SIZE = "hibernate.jdbc.adaptive_batching.max_batch_size";
+
 	/**
 	 * Select a custom batcher.
 	 */
@@ -791,6 +819,17 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String JDBC_TIME_ZONE = "hibernate.jdbc.time_zone";
 
+	/**
+	 * Names the {@link org.hibernate.sql.exec.spi.JdbcSelectExecutor} to use.  Can specify either
+	 * a JdbcSelectExecutor instance, Class reference or FQN.  Defaults to
+	 * {@link org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl}
+	 *
+	 * @see org.hibernate.engine.jdbc.spi.JdbcServices#getJdbcSelectExecutor
+	 *
+	 * @since 6.0
+	 */
+	String JDBC_SELECT_EXECUTOR = "hibernate.jdbc.select_executor";
+
 	/**
 	 * Enable automatic session close at end of transaction
 	 */
@@ -801,6 +840,25 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String FLUSH_BEFORE_COMPLETION = "hibernate.transaction.flush_before_completion";
 
+	/**
+	 * The number of entities in the persistence context from which the dirty checking of the
+	 * entities during flush is performed in parallel, using the common
+	 * {@link java.util.concurrent.ForkJoinPool}.  Only the comparison of the current state of
+	 * an entity with its loaded state is parallelized; entities which are dirty checked by the
+	 * bytecode enhancement, which map associations to other entities, or for which a database
+	 * snapshot is needed, are still checked serially, and the update actions are always
+	 * scheduled serially, in the usual order.
+	 * </p>
+	 * As the state of these entities is read ahead of their flush, a change made to such an
+	 * entity during the flush of another entity (e.g. by a {@code @PreUpdate} callback) may go
+	 * unnoticed.
+	 * </p>
+	 * The default value is {@code 0}, which disables parallel dirty checking.
+	 *
+	 * @since 6.0
+	 */
+	String FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD = "hibernate.flush.parallel_dirty_check_threshold";
+
 	/**
 	 * Specifies how Hibernate should acquire JDBC connections.  Should generally only configure
 	 * this or {@link #RELEASE_CONNECTIONS}, not both
@@ -1182,6 +1240,49 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * The {@link org.hibernate.cache.spi.QueryCacheInvalidationStrategy} used to verify that cached
+	 * query results are still up-to-date.  Accepts a strategy instance, Class, FQN or one of the short
+	 * names {@code per-space} (the default), {@code batched} or {@code none}.
+	 * <p/>
+	 * May be specified per query results region by appending {@code .} and the region name to this
+	 * setting name, e.g. {@code hibernate.cache.query_cache_invalidation_strategy.my-read-only-region=none}
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_CACHE_INVALIDATION_STRATEGY = "hibernate.cache.query_cache_invalidation_strategy";
+
+	/**
+	 * Enables "single-flight" population of the query cache:  when multiple sessions miss the
+	 * cached results for the same query at once, only the first executes the query while the
+	 * others wait for it to cache the results.  Disabled by default.
+	 *
+	 * @see #QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_CACHE_SINGLE_FLIGHT = "hibernate.cache.query_cache_single_flight";
+
+	/**
+	 * The maximum time, in milliseconds, a session waits for another session to cache query results
+	 * when {@link #QUERY_CACHE_SINGLE_FLIGHT} is enabled, before executing the query itself.  Defaults
+	 * to {@code 5000}.
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT = "hibernate.cache.query_cache_single_flight_timeout";
+
+	/**
+	 * Should the last update timestamps of query spaces be memoized for the duration of a transaction?
+	 * If enabled, each session reads the timestamp of a query space from the update timestamps region
+	 * at most once per transaction (or again after itself modifying the space), rather than once per
+	 * query cache lookup.  Within a transaction, the query cache then reflects updates by other
+	 * transactions only as of the first lookup involving the space.  Disabled by default.
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_CACHE_TIMESTAMPS_MEMO = "hibernate.cache.query_cache_timestamps_memo";
+
 	/**
 	 * The <tt>CacheProvider</tt> region name prefix
 	 */
@@ -1197,6 +1298,19 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enable use of binary second-level cache entries: entity and collection data is stored as a
+	 * compact byte[], written according to the mapping (the names of the entities and of their
+	 * properties are not part of the entries) rather than by Java serialization.  Meant for
+	 * distributed caches, which then store and transfer fewer bytes per entry; all the nodes
+	 * sharing the cache must use the same mappings.
+	 * </p>
+	 * Takes precedence over {@link #USE_STRUCTURED_CACHE}.  The default value is {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	String USE_BINARY_CACHE_ENTRIES = "hibernate.cache.use_binary_entries";
+
 	/**
 	 * Enables the automatic eviction of a bi-directional association's collection cache when an element in the
 	 * ManyToOne collection is added/updated/removed without properly managing the change on the OneToMany side.
@@ -1270,6 +1384,21 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String PREFERRED_POOLED_OPTIMIZER = "hibernate.id.optimizer.pooled.preferred";
 
+	/**
+	 * When using pooled {@link org.hibernate.id.enhanced.Optimizer optimizers} with a
+	 * {@link org.hibernate.id.enhanced.SequenceStyleGenerator}, the number of values remaining in the
+	 * current block at which the next block is fetched in the background, on a separate Connection, so
+	 * that generating identifiers does not wait on the database when the block is exhausted.  The
+	 * default is {@code 0}, which disables prefetching.
+	 * <p/>
+	 * Prefetching is not applied to tenant-specific identifier blocks.
+	 *
+	 * @see org.hibernate.id.enhanced.PrefetchAwareOptimizer
+	 *
+	 * @since 6.0
+	 */
+	String POOLED_OPTIMIZER_PREFETCH_LOW_WATER_MARK = "hibernate.id.optimizer.pooled.prefetch_low_water_mark";
+
 	/**
 	 * Should query plan caching be enabled at all?  Default is {@code false}
 	 * unless one of {@link #QUERY_PLAN_CACHE_MAX_SIZE} or
@@ -1285,6 +1414,17 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The eviction policy of the Hibernate "Query Plan Cache", either {@code lirs}
+	 * (the default) or {@code tinylfu}.  The TinyLFU variant never locks on reads,
+	 * which may pay off for read-heavy workloads on many cores.
+	 *
+	 * @see org.hibernate.query.internal.QueryInterpretationCacheStandardImpl.EvictionPolicy
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_PLAN_CACHE_EVICTION = "hibernate.query.plan_cache_eviction";
+
 	/**
 	 * The maximum number of {@link ParameterMetadataImpl} maintained
 	 * by {@link QueryInterpretationCache}. Default is 128.
@@ -2083,6 +2223,21 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * When the Dialect supports it (see {@link org.hibernate.dialect.Dialect#getArrayInListPredicateTemplate}),
+	 * bind all values of a multi-valued parameter used in an IN predicate as a single JDBC array
+	 * - e.g. {@code = any(?)} on PostgreSQL.  The SQL is then the same whatever the number of values,
+	 * which avoids one query plan per IN list size.
+	 * </p>
+	 * Takes precedence over {@link #IN_CLAUSE_PARAMETER_PADDING}, which remains the fallback for
+	 * Dialects which do not support array binding.
+	 * </p>
+	 * The default value is {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	String IN_CLAUSE_ARRAY_BINDING = "hibernate.query.in_clause_array_binding";
+
 	/**
 	 * This setting controls the number of {@link org.hibernate.stat.QueryStatistics} entries
 	 * that will be stored by the Hibernate {@link org.hibernate.stat.Statistics} object.
@@ -2720,6 +2720,39 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * The SQL fragment rendered after the test expression of an {@code IN} predicate whose
+	 * values are all bound as a single JDBC {@link java.sql.Array}, with a single {@code ?}
+	 * marking the array parameter - e.g. {@code = any(?)}.  The SQL for such a predicate no
+	 * longer depends on the number of values bound.
+	 *
+	 * @param negated Whether the predicate is negated ({@code NOT IN})
+	 *
+	 * @return The SQL fragment, or {@code null} (the default) if this dialect does not
+	 * support binding the values of an {@code IN} predicate as an array
+	 *
+	 * @since 6.0
+	 */
+	public String getArrayInListPredicateTemplate(boolean negated) {
+		return null;
+	}
+
+	/**
+	 * The element type name passed to {@link java.sql.Connection#createArrayOf} when binding
+	 * the values of an array-bound {@code IN} predicate.
+	 *
+	 * @param sqlTypeCode The {@link Types} type code of the array elements
+	 *
+	 * @return The database type name, without any length/precision/scale specification
+	 *
+	 * @since 6.0
+	 */
+	public String getArrayElementTypeName(int sqlTypeCode) {
+		final String typeName = getTypeName( sqlTypeCode );
+		final int parenPosition = typeName.indexOf( '(' );
+		return parenPosition < 0 ? typeName : typeName.substring( 0, parenPosition ).trim();
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
@@ -72,6 +72,7 @@ public class H2Dialect extends Dialect {
 
 	private final String querySequenceString;
 	private final SequenceInformationExtractor sequenceInformationExtractor;
+	private final boolean supportsArrayInListParameterBinding;
 
 	/**
 	 * Constructs a H2Dialect
@@ -98,6 +99,9 @@ public class H2Dialect extends Dialect {
 			LOG.undeterminedH2Version();
 		}
 
+		// UNNEST and Connection#createArrayOf are only available as of 1.4.197
+		this.supportsArrayInListParameterBinding = buildId >= 197;
+
 		if ( buildId >= 32 ) {
 			this.sequenceInformationExtractor = SequenceInformationExtractorH2DatabaseImpl.INSTANCE;
 			this.querySequenceString = "select * from INFORMATION_SCHEMA.sequences";
@@ -433,6 +437,14 @@ public class H2Dialect extends Dialect {
 	public boolean supportsTuplesInSubqueries() {
 		return false;
 	}
+
+	@Override
+	public String getArrayInListPredicateTemplate(boolean negated) {
+		if ( !supportsArrayInListParameterBinding ) {
+			return null;
+		}
+		return negated ? "not in (unnest(?))" : "in (unnest(?))";
+	}
 	
 	@Override
 	public boolean dropConstraints() {
@@ -591,6 +591,11 @@ public class PostgreSQL81Dialect extends Dialect {
 	public boolean supportsRowValueConstructorSyntax() {
 		return true;
 	}
+
+	@Override
+	public String getArrayInListPredicateTemplate(boolean negated) {
+		return negated ? "<> all(?)" : "= any(?)";
+	}
 	
 	@Override
 	public String getForUpdateNowaitString() {
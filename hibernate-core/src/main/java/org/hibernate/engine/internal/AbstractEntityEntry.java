@@ -66,8 +66,9 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 	 * 4 - existsInDatabase
 	 * 5 - isBeingReplicated
 	 * 6 - loadedWithLazyPropertiesUnfetched; NOTE: this is not updated when properties are fetched lazily!
+	 * 7 - isRegisteredToFlush
 	 *
-	 * 0000 0000 | 0000 0000 | 0654 3333 | 2222 1111
+	 * 0000 0000 | 0000 0000 | 7654 3333 | 2222 1111
 	 * </pre>
 	 * Use {@link #setCompressedValue(org.hibernate.engine.internal.AbstractEntityEntry.EnumState, Enum)},
 	 * {@link #getCompressedValue(org.hibernate.engine.internal.AbstractEntityEntry.EnumState)} etc
@@ -192,6 +193,10 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		if ( currentStatus != status ) {
 			setCompressedValue( EnumState.PREVIOUS_STATUS, currentStatus );
 			setCompressedValue( EnumState.STATUS, status );
+			if ( status != Status.MANAGED && status != Status.LOADING ) {
+				// e.g. deleted or made read-only, the flush has to visit the entity even if unchanged
+				registerChange();
+			}
 		}
 	}
 
@@ -371,6 +376,34 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		return false;
 	}
 
+	@Override
+	public void registerChange() {
+		if ( !getCompressedValue( BooleanState.IS_REGISTERED_TO_FLUSH )
+				&& persistenceContext != null
+				&& isFlushedOnlyOnceRegistered() ) {
+			setCompressedValue( BooleanState.IS_REGISTERED_TO_FLUSH, true );
+			persistenceContext.registerEntryToFlush( this );
+		}
+	}
+
+	/**
+	 * Is the entry one of an entity which tracks its own changes and maps no collections?  The flush of such
+	 * an entity only depends on its changes and status, so the flush only visits it once registered by
+	 * {@link #registerChange()}.
+	 */
+	public boolean isFlushedOnlyOnceRegistered() {
+		return persister != null
+				&& !persister.hasCollections()
+				&& SelfDirtinessTracker.class.isAssignableFrom( persister.getMappedClass() );
+	}
+
+	/**
+	 * Called by the persistence context once the registered entry was flushed
+	 */
+	void clearRegistrationToFlush() {
+		setCompressedValue( BooleanState.IS_REGISTERED_TO_FLUSH, false );
+	}
+
 	@Override
 	public boolean isModifiableEntity() {
 		final Status status = getStatus();
@@ -609,7 +642,8 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 	protected enum BooleanState {
 
 		EXISTS_IN_DATABASE(13),
-		IS_BEING_REPLICATED(14);
+		IS_BEING_REPLICATED(14),
+		IS_REGISTERED_TO_FLUSH(15);
 
 		private final int offset;
 		private final int mask;
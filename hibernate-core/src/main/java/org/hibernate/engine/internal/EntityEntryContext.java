@@ -20,6 +20,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.IdentityHashMap;
 import java.util.Map;
 
@@ -55,6 +56,9 @@ public class EntityEntryContext {
 	private transient Map.Entry<Object,EntityEntry>[] reentrantSafeEntries = new Map.Entry[0];
 	private transient boolean dirty;
 
+	// the subset of reentrantSafeEntries visited by every flush, null when to be rebuilt
+	private transient Map.Entry<Object,EntityEntry>[] reentrantSafeAlwaysFlushedEntries;
+
 	/**
 	 * Constructs a EntityEntryContext
 	 */
@@ -320,11 +324,38 @@ public class EntityEntryContext {
 				);
 				managedEntity = managedEntity.$$_hibernate_getNextManagedEntity();
 			}
+			reentrantSafeAlwaysFlushedEntries = null;
 			dirty = false;
 		}
 		return reentrantSafeEntries;
 	}
 
+	/**
+	 * Return an array of the entity/EntityEntry pairs of {@link #reentrantSafeEntityEntries()} visited by
+	 * every flush, that is all but those whose entry {@linkplain AbstractEntityEntry#isFlushedOnlyOnceRegistered()
+	 * is flushed only once registered}.
+	 *
+	 * @return The safe array
+	 */
+	@SuppressWarnings( {"unchecked"})
+	public Map.Entry<Object, EntityEntry>[] reentrantSafeAlwaysFlushedEntityEntries() {
+		final Map.Entry<Object, EntityEntry>[] entries = reentrantSafeEntityEntries();
+		if ( reentrantSafeAlwaysFlushedEntries == null ) {
+			final Map.Entry<Object, EntityEntry>[] alwaysFlushedEntries = new Map.Entry[entries.length];
+			int count = 0;
+			for ( Map.Entry<Object, EntityEntry> entry : entries ) {
+				if ( !( entry.getValue() instanceof AbstractEntityEntry )
+						|| !( (AbstractEntityEntry) entry.getValue() ).isFlushedOnlyOnceRegistered() ) {
+					alwaysFlushedEntries[count++] = entry;
+				}
+			}
+			reentrantSafeAlwaysFlushedEntries = count == entries.length
+					? entries
+					: Arrays.copyOf( alwaysFlushedEntries, count );
+		}
+		return reentrantSafeAlwaysFlushedEntries;
+	}
+
 	/**
 	 * Clear this context of all managed entities
 	 */
@@ -356,6 +387,7 @@ public class EntityEntryContext {
 		count = 0;
 
 		reentrantSafeEntries = null;
+		reentrantSafeAlwaysFlushedEntries = null;
 	}
 
 	/**
@@ -52,6 +52,7 @@ import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -60,6 +61,7 @@ import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.LinearProbingHashMap;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -102,6 +104,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	private EntityEntryContext entityEntryContext;
 
+	// Entries of entities tracking their own changes, to be visited by the next flush
+	private List<EntityEntry> entriesToFlush;
+
 	// Entity proxies, by EntityKey
 	private ConcurrentMap<EntityKey, Object> proxiesByKey;
 
@@ -156,11 +161,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 
-		entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
-		entitySnapshotsByKey = new HashMap<>( INIT_COLL_SIZE );
+		entitiesByKey = new LinearProbingHashMap<>( INIT_COLL_SIZE );
+		entitySnapshotsByKey = new LinearProbingHashMap<>( INIT_COLL_SIZE );
 
 		entityEntryContext = new EntityEntryContext( this );
-		collectionsByKey = new HashMap<>( INIT_COLL_SIZE );
+		collectionsByKey = new LinearProbingHashMap<>( INIT_COLL_SIZE );
 	}
 
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
@@ -245,6 +250,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entitiesByKey.clear();
 		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
+		entriesToFlush = null;
 		parentsByChild = null;
 		entitySnapshotsByKey.clear();
 		collectionsByKey.clear();
@@ -546,6 +552,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		entityEntryContext.addEntityEntry( entity, e );
 
+		if ( entity instanceof SelfDirtinessTracker && status != Status.LOADING
+				&& ( status != Status.MANAGED || loadedState == null
+						|| ( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes() ) ) {
+			// changed before being associated, or not dirty checked against its loaded state
+			e.registerChange();
+		}
+
 		setHasNonReadOnlyEnties( status );
 		return e;
 	}
@@ -1199,6 +1212,51 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entityEntryContext.reentrantSafeEntityEntries();
 	}
 
+	@Override
+	public Entry<Object,EntityEntry>[] reentrantSafeAlwaysFlushedEntityEntries() {
+		return entityEntryContext.reentrantSafeAlwaysFlushedEntityEntries();
+	}
+
+	@Override
+	public void registerEntryToFlush(EntityEntry entry) {
+		if ( entriesToFlush == null ) {
+			entriesToFlush = new ArrayList<>();
+		}
+		entriesToFlush.add( entry );
+	}
+
+	@Override
+	public List<EntityEntry> getEntriesToFlush() {
+		if ( entriesToFlush == null ) {
+			entriesToFlush = new ArrayList<>();
+		}
+		return entriesToFlush;
+	}
+
+	@Override
+	public void clearEntriesToFlush() {
+		if ( entriesToFlush == null ) {
+			return;
+		}
+		final List<EntityEntry> flushedEntries = entriesToFlush;
+		entriesToFlush = null;
+		for ( EntityEntry entry : flushedEntries ) {
+			( (AbstractEntityEntry) entry ).clearRegistrationToFlush();
+		}
+		for ( EntityEntry entry : flushedEntries ) {
+			if ( entry.getId() == null ) {
+				continue;
+			}
+			// still changed, e.g. by the flush of other entities after its own flush
+			final Object entity = getEntity( entry.getEntityKey() );
+			if ( entity instanceof SelfDirtinessTracker
+					&& getEntry( entity ) == entry
+					&& ( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes() ) {
+				entry.registerChange();
+			}
+		}
+	}
+
 	@Override
 	public Serializable getOwnerId(String entityName, String propertyName, Object childEntity, Map mergeMap) {
 		final String collectionRole = entityName + '.' + propertyName;
@@ -1653,7 +1711,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitiesByKey = new LinearProbingHashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1692,7 +1750,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitySnapshotsByKey = new LinearProbingHashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1703,7 +1761,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.collectionsByKey = new LinearProbingHashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put( CollectionKey.deserialize( ois, session ), (PersistentCollection) ois.readObject() );
 			}
@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+
+/**
+ * Tunes the JDBC batch size per {@link BatchKey}, based on the measured latency of
+ * previous executions of batches for that key.
+ * <p/>
+ * The per-row execution time is tracked as an exponentially weighted moving average,
+ * and the batch size is set to the number of rows expected to execute in the target
+ * latency.  The batch size is never larger than the configured maximum (the budget for
+ * the rows the driver holds in memory before execution), and at most doubles per
+ * execution so that a single fast execution does not cause an outsized batch.
+ *
+ * @author agent
+ */
+public class AdaptiveBatchSizeTuner {
+	/**
+	 * The weight of the latest measurement in the moving average
+	 */
+	private static final double SMOOTHING_FACTOR = 0.25;
+
+	private static final int MINIMUM_BATCH_SIZE = 2;
+
+	private final long targetLatencyNanos;
+	private final int maximumBatchSize;
+
+	private final ConcurrentMap<BatchKey, KeyState> stateByKey = new ConcurrentHashMap<>();
+
+	/**
+	 * @param targetLatency The targeted latency of a batch execution, in milliseconds
+	 * @param maximumBatchSize The maximum number of rows in a batch
+	 */
+	public AdaptiveBatchSizeTuner(long targetLatency, int maximumBatchSize) {
+		if ( targetLatency <= 0 ) {
+			throw new IllegalArgumentException( "Target batch latency must be positive : " + targetLatency );
+		}
+		this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos( targetLatency );
+		this.maximumBatchSize = Math.max( maximumBatchSize, MINIMUM_BATCH_SIZE );
+	}
+
+	public long getTargetLatency() {
+		return TimeUnit.NANOSECONDS.toMillis( targetLatencyNanos );
+	}
+
+	public int getMaximumBatchSize() {
+		return maximumBatchSize;
+	}
+
+	/**
+	 * The batch size to use for the given key
+	 *
+	 * @param key The batch key
+	 * @param initialBatchSize The batch size to use when nothing is known about the key yet
+	 */
+	public int getBatchSize(BatchKey key, int initialBatchSize) {
+		final KeyState state = stateByKey.get( key );
+		if ( state == null ) {
+			return clamp( initialBatchSize );
+		}
+		return state.batchSize;
+	}
+
+	/**
+	 * Record the execution of a batch.
+	 *
+	 * @param key The batch key
+	 * @param initialBatchSize The batch size to use when nothing is known about the key yet
+	 * @param rowCount The number of rows in the executed batch
+	 * @param executionNanos The execution time, in nanoseconds
+	 *
+	 * @return The batch size to use for the key from now on
+	 */
+	public int batchExecuted(BatchKey key, int initialBatchSize, int rowCount, long executionNanos) {
+		final KeyState state = stateByKey.computeIfAbsent( key, k -> new KeyState( clamp( initialBatchSize ) ) );
+		return state.batchExecuted( rowCount, executionNanos );
+	}
+
+	private int clamp(int batchSize) {
+		return Math.max( MINIMUM_BATCH_SIZE, Math.min( batchSize, maximumBatchSize ) );
+	}
+
+	private class KeyState {
+		private volatile int batchSize;
+		private double nanosPerRow = -1;
+
+		private KeyState(int batchSize) {
+			this.batchSize = batchSize;
+		}
+
+		private synchronized int batchExecuted(int rowCount, long executionNanos) {
+			// a (final) batch much smaller than the current size is mostly per-execution
+			// overhead, and would overestimate the per-row time
+			if ( rowCount <= 0 || rowCount < batchSize / 2 ) {
+				return batchSize;
+			}
+
+			final double measured = (double) executionNanos / rowCount;
+			nanosPerRow = nanosPerRow < 0
+					? measured
+					: nanosPerRow + SMOOTHING_FACTOR * ( measured - nanosPerRow );
+
+			final double idealBatchSize = nanosPerRow <= 0 ? maximumBatchSize : targetLatencyNanos / nanosPerRow;
+			batchSize = clamp( (int) Math.min( idealBatchSize, batchSize * 2L ) );
+			return batchSize;
+		}
+	}
+}
@@ -8,6 +8,7 @@ package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Map;
 
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
@@ -28,6 +29,7 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BatchBuilderImpl.class );
 
 	private int jdbcBatchSize;
+	private AdaptiveBatchSizeTuner adaptiveBatchSizeTuner;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -47,6 +49,21 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 	@Override
 	public void configure(Map configurationValues) {
 		jdbcBatchSize = ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, jdbcBatchSize );
+
+		if ( ConfigurationHelper.getBoolean( AvailableSettings.ADAPTIVE_BATCHING, configurationValues, false ) ) {
+			adaptiveBatchSizeTuner = new AdaptiveBatchSizeTuner(
+					ConfigurationHelper.getLong( AvailableSettings.ADAPTIVE_BATCHING_TARGET_LATENCY, configurationValues, 20 ),
+					ConfigurationHelper.getInt( AvailableSettings.ADAPTIVE_BATCHING_MAX_BATCH_SIZE, configurationValues, 1000 )
+			);
+			LOG.debugf(
+					"Using adaptive JDBC batching; target latency = %s ms, maximum batch size = %s",
+					adaptiveBatchSizeTuner.getTargetLatency(),
+					adaptiveBatchSizeTuner.getMaximumBatchSize()
+			);
+		}
+		else {
+			adaptiveBatchSizeTuner = null;
+		}
 	}
 
 	@Override
@@ -67,7 +84,7 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 				this.jdbcBatchSize :
 				sessionJdbcBatchSize;
 		return jdbcBatchSizeToUse > 1
-				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
+				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse, adaptiveBatchSizeTuner )
 				: new NonBatchingBatch( key, jdbcCoordinator );
 	}
 }
@@ -8,18 +8,23 @@ package org.hibernate.engine.jdbc.batch.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
 /**
  * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} implementation which does bathing based on a given size.  Once
  * the batch size is reached for a statement in the batch, the entire batch is implicitly executed.
+ * <p/>
+ * When an {@link AdaptiveBatchSizeTuner} is given, the batch size is re-tuned after each execution
+ * based on the measured latency.
  *
  * @author Steve Ebersole
  */
@@ -32,7 +37,9 @@ public class BatchingBatch extends AbstractBatchImpl {
 	// IMPL NOTE : Until HHH-5797 is fixed, there will only be 1 statement in a batch
 
 	private int batchSize;
-	private final int configuredBatchSize;
+	private int configuredBatchSize;
+	private final AdaptiveBatchSizeTuner adaptiveBatchSizeTuner;
+	private final int initialBatchSize;
 	private int batchPosition;
 	private boolean batchExecuted;
 	private int statementPosition;
@@ -48,22 +55,49 @@ public class BatchingBatch extends AbstractBatchImpl {
 			BatchKey key,
 			JdbcCoordinator jdbcCoordinator,
 			int batchSize) {
+		this( key, jdbcCoordinator, batchSize, null );
+	}
+
+	/**
+	 * Constructs a BatchingBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The batch size, or the initial batch size when adaptive batching is used.
+	 * @param adaptiveBatchSizeTuner The tuner adapting the batch size to the execution latency;
+	 * {@code null} indicates a fixed batch size
+	 */
+	public BatchingBatch(
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			int batchSize,
+			AdaptiveBatchSizeTuner adaptiveBatchSizeTuner) {
 		super( key, jdbcCoordinator );
 		if ( ! key.getExpectation().canBeBatched() ) {
 			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
 		}
-		this.batchSize = batchSize;
-		this.configuredBatchSize = batchSize;
+		this.adaptiveBatchSizeTuner = adaptiveBatchSizeTuner;
+		this.initialBatchSize = batchSize;
+		this.configuredBatchSize = adaptiveBatchSizeTuner == null
+				? batchSize
+				: adaptiveBatchSizeTuner.getBatchSize( key, batchSize );
+		this.batchSize = configuredBatchSize;
 	}
 
 	private String currentStatementSql;
 	private PreparedStatement currentStatement;
 
+	// the number of rows added to each statement since the last execution, checked against the row counts
+	// of the statement and reported to the tuner per statement
+	private final Map<PreparedStatement, int[]> statementRowCounts = new IdentityHashMap<>();
+	private int[] currentStatementRowCount;
+
 	@Override
 	public PreparedStatement getBatchStatement(String sql, boolean callable) {
 		currentStatementSql = sql;
 		int previousBatchSize = getStatements().size();
 		currentStatement = super.getBatchStatement( sql, callable );
+		currentStatementRowCount = statementRowCounts.computeIfAbsent( currentStatement, statement -> new int[1] );
 		int currentBatchSize = getStatements().size();
 		if ( currentBatchSize > previousBatchSize ) {
 			this.batchSize = this.configuredBatchSize * currentBatchSize;
@@ -81,6 +115,7 @@ public class BatchingBatch extends AbstractBatchImpl {
 			LOG.debugf( "SQLException escaped proxy", e );
 			throw sqlExceptionHelper().convert( e, "could not perform addBatch", currentStatementSql );
 		}
+		currentStatementRowCount[0]++;
 		statementPosition++;
 		if ( statementPosition >= getKey().getBatchedStatementCount() ) {
 			batchPosition++;
@@ -108,12 +143,15 @@ public class BatchingBatch extends AbstractBatchImpl {
 
 	private void performExecution() {
 		LOG.debugf( "Executing batch size: %s", batchPosition );
+		int rowCount = 0;
+		long executionNanos = 0;
 		try {
 			for ( Map.Entry<String,PreparedStatement> entry : getStatements().entrySet() ) {
 				String sql = entry.getKey();
 				try {
 					final PreparedStatement statement = entry.getValue();
 					final int[] rowCounts;
+					final long startTime = System.nanoTime();
 					try {
 						getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
 						rowCounts = statement.executeBatch();
@@ -121,7 +159,15 @@ public class BatchingBatch extends AbstractBatchImpl {
 					finally {
 						getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
 					}
+					final long statementNanos = System.nanoTime() - startTime;
 					checkRowCounts( rowCounts, statement );
+
+					// the rows of each statement, not the batch position: the position counts the
+					// operations, each adding a row to every statement of a multi-table key
+					final int statementRowCount = statementRowCounts.get( statement )[0];
+					statementExecuted( statementRowCount, statementNanos );
+					rowCount += statementRowCount;
+					executionNanos += statementNanos;
 				}
 				catch ( SQLException e ) {
 					abortBatch();
@@ -134,15 +180,51 @@ public class BatchingBatch extends AbstractBatchImpl {
 					throw re;
 				}
 			}
+			batchExecuted( rowCount, executionNanos );
 		}
 		finally {
 			batchPosition = 0;
+			for ( int[] statementRowCount : statementRowCounts.values() ) {
+				statementRowCount[0] = 0;
+			}
+		}
+	}
+
+	@Override
+	protected void releaseStatements() {
+		super.releaseStatements();
+		statementRowCounts.clear();
+	}
+
+	private void statementExecuted(int rowCount, long executionNanos) {
+		if ( adaptiveBatchSizeTuner != null && rowCount > 0 ) {
+			configuredBatchSize = adaptiveBatchSizeTuner.batchExecuted(
+					getKey(),
+					initialBatchSize,
+					rowCount,
+					executionNanos
+			);
+		}
+	}
+
+	private void batchExecuted(int rowCount, long executionNanos) {
+		final StatisticsImplementor statistics = getJdbcCoordinator().getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getStatistics();
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.jdbcBatchExecuted( getKey().toString(), rowCount, executionNanos );
+		}
+
+		if ( adaptiveBatchSizeTuner != null ) {
+			batchSize = configuredBatchSize * Math.max( getStatements().size(), 1 );
 		}
 	}
 
 	private void checkRowCounts(int[] rowCounts, PreparedStatement ps) throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
-		if ( batchPosition != 0 && numberOfRowCounts != batchPosition / getStatements().size() ) {
+		final int[] expectedRowCount = statementRowCounts.get( ps );
+		if ( expectedRowCount != null && numberOfRowCounts != expectedRowCount[0] ) {
 			LOG.unexpectedRowCounts();
 		}
 		for ( int i = 0; i < numberOfRowCounts; i++ ) {
@@ -9,6 +9,8 @@ package org.hibernate.engine.jdbc.internal;
 import java.util.Map;
 
 import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.LobCreationContext;
@@ -25,6 +27,8 @@ import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 
 /**
  * Standard implementation of the {@link JdbcServices} contract
@@ -41,6 +45,8 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 
 	private ResultSetWrapperImpl resultSetWrapper;
 
+	private JdbcSelectExecutor jdbcSelectExecutor;
+
 	@Override
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.serviceRegistry = serviceRegistry;
@@ -60,6 +66,12 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 		this.sqlStatementLogger = new SqlStatementLogger( showSQL, formatSQL, logSlowQuery );
 
 		resultSetWrapper = new ResultSetWrapperImpl( serviceRegistry );
+
+		this.jdbcSelectExecutor = serviceRegistry.getService( StrategySelector.class ).resolveDefaultableStrategy(
+				JdbcSelectExecutor.class,
+				configValues.get( AvailableSettings.JDBC_SELECT_EXECUTOR ),
+				JdbcSelectExecutorStandardImpl.INSTANCE
+		);
 	}
 
 	@Override
@@ -113,4 +125,9 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 	public ResultSetWrapper getResultSetWrapper() {
 		return resultSetWrapper;
 	}
+
+	@Override
+	public JdbcSelectExecutor getJdbcSelectExecutor() {
+		return jdbcSelectExecutor;
+	}
 }
@@ -79,7 +79,9 @@ public interface JdbcServices extends Service {
 	ResultSetWrapper getResultSetWrapper();
 
 	/**
-	 * Access the executor for {@link org.hibernate.sql.exec.spi.JdbcSelect} operations
+	 * Access the executor for {@link org.hibernate.sql.exec.spi.JdbcSelect} operations.
+	 * <p/>
+	 * The executor is swappable via {@link org.hibernate.cfg.AvailableSettings#JDBC_SELECT_EXECUTOR}.
 	 */
 	default JdbcSelectExecutor getJdbcSelectExecutor() {
 		return JdbcSelectExecutorStandardImpl.INSTANCE;
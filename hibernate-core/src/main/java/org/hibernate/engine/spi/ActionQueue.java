@@ -11,13 +11,15 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -1039,23 +1041,25 @@ public class ActionQueue {
 			private final String entityName;
 			private final String rootEntityName;
 
+			// the position of the entity name in the order the entity names were first encountered
+			private final int index;
+
 			private Set<String> parentEntityNames = new HashSet<>( );
 
 			private Set<String> childEntityNames = new HashSet<>( );
 
-			private BatchIdentifier parent;
+			private final List<AbstractEntityInsertAction> actions = new ArrayList<>();
 
-			BatchIdentifier(String entityName, String rootEntityName) {
-				this.entityName = entityName;
-				this.rootEntityName = rootEntityName;
-			}
+			// the batches which must be inserted after this one
+			private final Set<BatchIdentifier> successors = new HashSet<>();
 
-			public BatchIdentifier getParent() {
-				return parent;
-			}
+			// the number of batches which must be inserted before this one, and are not yet sorted
+			private int unsortedPredecessorCount;
 
-			public void setParent(BatchIdentifier parent) {
-				this.parent = parent;
+			BatchIdentifier(String entityName, String rootEntityName, int index) {
+				this.entityName = entityName;
+				this.rootEntityName = rootEntityName;
+				this.index = index;
 			}
 
 			@Override
@@ -1083,6 +1087,10 @@ public class ActionQueue {
 				return rootEntityName;
 			}
 
+			int getIndex() {
+				return index;
+			}
+
 			Set<String> getParentEntityNames() {
 				return parentEntityNames;
 			}
@@ -1091,163 +1099,153 @@ public class ActionQueue {
 				return childEntityNames;
 			}
 
-			boolean hasAnyParentEntityNames(BatchIdentifier batchIdentifier) {
-				return parentEntityNames.contains( batchIdentifier.getEntityName() ) ||
-						parentEntityNames.contains( batchIdentifier.getRootEntityName() );
-			}
-
-			boolean hasAnyChildEntityNames(BatchIdentifier batchIdentifier) {
-				return childEntityNames.contains( batchIdentifier.getEntityName() );
+			List<AbstractEntityInsertAction> getActions() {
+				return actions;
 			}
 
 			/**
-			 * Check if the this {@link BatchIdentifier} has a parent or grand parent
-			 * matching the given {@link BatchIdentifier reference.
-			 *
-			 * @param batchIdentifier {@link BatchIdentifier} reference
+			 * Record that the given {@link BatchIdentifier} must be inserted after this one.
 			 *
-			 * @return This {@link BatchIdentifier} has a parent matching the given {@link BatchIdentifier reference
+			 * @param successor The dependent {@link BatchIdentifier}, or {@code null} if the dependent
+			 * entity is not part of the insertions being sorted
 			 */
-			boolean hasParent(BatchIdentifier batchIdentifier) {
-				return (
-					parent == batchIdentifier
-					|| parentEntityNames.contains( batchIdentifier.getEntityName() )
-					|| ( parentEntityNames.contains( batchIdentifier.getRootEntityName() ) && !this.getEntityName().equals( batchIdentifier.getRootEntityName() ) )
-					|| parent != null && parent.hasParent( batchIdentifier, new ArrayList<>() )
-				);
-			}
-
-			private boolean hasParent(BatchIdentifier batchIdentifier, List<BatchIdentifier> stack) {
-				if ( !stack.contains( this ) && parent != null ) {
-					stack.add( this );
-					return parent.hasParent( batchIdentifier, stack );
+			void addSuccessor(BatchIdentifier successor) {
+				if ( successor != null && successor != this && successors.add( successor ) ) {
+					successor.unsortedPredecessorCount++;
 				}
-				return (
-					parent == batchIdentifier
-					|| parentEntityNames.contains( batchIdentifier.getEntityName() )
-				);
 			}
 		}
 
-		// the mapping of entity names to their latest batch numbers.
-		private List<BatchIdentifier> latestBatches;
-
-		// the map of batch numbers to EntityInsertAction lists
-		private Map<BatchIdentifier, List<AbstractEntityInsertAction>> actionBatches;
-
 		public InsertActionSorter() {
 		}
 
 		/**
 		 * Sort the insert actions.
+		 * <p/>
+		 * The actions are grouped into a batch per entity name; the batches are then sorted
+		 * topologically, based on the parent/child entity names of the actions, so that each batch
+		 * follows the batches it depends on.  Otherwise the batches keep the order in which their
+		 * entity names were first encountered.  If the dependencies are circular, the actions are
+		 * left in the order they were queued.
 		 */
 		public void sort(List<AbstractEntityInsertAction> insertions) {
-			// optimize the hash size to eliminate a rehash.
-			this.latestBatches = new ArrayList<>( );
-			this.actionBatches = new HashMap<>();
+			// the batches, keyed by entity name, in the order the entity names were first encountered
+			final Map<String, BatchIdentifier> latestBatches = new LinkedHashMap<>();
 
 			for ( AbstractEntityInsertAction action : insertions ) {
-				BatchIdentifier batchIdentifier = new BatchIdentifier(
-						action.getEntityName(),
-						action.getSession()
-								.getFactory()
-								.getMetamodel()
-								.entityPersister( action.getEntityName() )
-								.getRootEntityName()
-				);
-
-				// the entity associated with the current action.
-				Object currentEntity = action.getInstance();
-				int index = latestBatches.indexOf( batchIdentifier );
-
-				if ( index != -1 )  {
-					batchIdentifier = latestBatches.get( index );
-				}
-				else {
-					latestBatches.add( batchIdentifier );
+				BatchIdentifier batchIdentifier = latestBatches.get( action.getEntityName() );
+				if ( batchIdentifier == null ) {
+					batchIdentifier = new BatchIdentifier(
+							action.getEntityName(),
+							action.getPersister().getRootEntityName(),
+							latestBatches.size()
+					);
+					latestBatches.put( action.getEntityName(), batchIdentifier );
 				}
 				addParentChildEntityNames( action, batchIdentifier );
-				addToBatch( batchIdentifier, action );
+				batchIdentifier.getActions().add( action );
 			}
 
-			// Examine each entry in the batch list, and build the dependency graph.
-			for ( int i = 0; i < latestBatches.size(); i++ ) {
-				BatchIdentifier batchIdentifier = latestBatches.get( i );
-
-				for ( int j = i - 1; j >= 0; j-- ) {
-					BatchIdentifier prevBatchIdentifier = latestBatches.get( j );
-					if ( prevBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
-					}
-					if ( batchIdentifier.hasAnyChildEntityNames( prevBatchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
-					}
-				}
-
-				for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-					BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
-
-					if ( nextBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
-					}
-					if ( batchIdentifier.hasAnyChildEntityNames( nextBatchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
-					}
-				}
+			if ( latestBatches.size() < 2 ) {
+				return;
 			}
 
-			boolean sorted = false;
+			addDependencies( latestBatches );
 
-			long maxIterations = latestBatches.size() * latestBatches.size();
-			long iterations = 0;
+			final List<BatchIdentifier> sortedBatches = sortBatches( latestBatches.values() );
+			if ( sortedBatches == null ) {
+				return;
+			}
 
-			sort:
-			do {
-				// Examine each entry in the batch list, sorting them based on parent/child association
-				// as depicted by the dependency graph.
-				iterations++;
+			// Now, rebuild the insertions list. There is a batch for each entity name.
+			insertions.clear();
+			for ( BatchIdentifier batchIdentifier : sortedBatches ) {
+				insertions.addAll( batchIdentifier.getActions() );
+			}
+		}
 
-				for ( int i = 0; i < latestBatches.size(); i++ ) {
-					BatchIdentifier batchIdentifier = latestBatches.get( i );
+		/**
+		 * Build the dependency graph of the batches from their parent and child entity names.
+		 *
+		 * @param latestBatches The batches, keyed by entity name
+		 */
+		private void addDependencies(Map<String, BatchIdentifier> latestBatches) {
+			final Map<String, List<BatchIdentifier>> batchesByRootEntityName = new HashMap<>();
+			for ( BatchIdentifier batchIdentifier : latestBatches.values() ) {
+				batchesByRootEntityName.computeIfAbsent( batchIdentifier.getRootEntityName(), k -> new ArrayList<>() )
+						.add( batchIdentifier );
+			}
 
-					// Iterate next batches and make sure that children types are after parents.
-					// Since the outer loop looks at each batch entry individually and the prior loop will reorder
-					// entries as well, we need to look and verify if the current batch is a child of the next
-					// batch or if the current batch is seen as a parent or child of the next batch.
-					for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-						BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
+			for ( BatchIdentifier batchIdentifier : latestBatches.values() ) {
+				for ( String parentEntityName : batchIdentifier.getParentEntityNames() ) {
+					final BatchIdentifier parent = latestBatches.get( parentEntityName );
+					if ( parent != null ) {
+						parent.addSuccessor( batchIdentifier );
+					}
 
-						if ( batchIdentifier.hasParent( nextBatchIdentifier ) ) {
-							if ( nextBatchIdentifier.hasParent( batchIdentifier ) ) {
-								//cycle detected, no need to continue
-								break sort;
+					// a reference to the root of an entity hierarchy may refer to any of its subclasses
+					if ( !batchIdentifier.getEntityName().equals( parentEntityName ) ) {
+						final List<BatchIdentifier> hierarchy = batchesByRootEntityName.get( parentEntityName );
+						if ( hierarchy != null ) {
+							for ( BatchIdentifier hierarchyBatchIdentifier : hierarchy ) {
+								hierarchyBatchIdentifier.addSuccessor( batchIdentifier );
 							}
-
-							latestBatches.remove( batchIdentifier );
-							latestBatches.add( j, batchIdentifier );
-
-							continue sort;
 						}
 					}
 				}
-				sorted = true;
+
+				for ( String childEntityName : batchIdentifier.getChildEntityNames() ) {
+					batchIdentifier.addSuccessor( latestBatches.get( childEntityName ) );
+				}
 			}
-			while ( !sorted && iterations <= maxIterations );
+		}
 
-			if ( iterations > maxIterations ) {
-				LOG.warn( "The batch containing " + latestBatches.size() + " statements could not be sorted after " + maxIterations + " iterations. " +
-								"This might indicate a circular entity relationship." );
+		/**
+		 * Sort the batches topologically (Kahn's algorithm), choosing the earliest encountered
+		 * batch whenever more than one batch has no unsorted dependencies.
+		 *
+		 * @param batches The batches, in the order their entity names were first encountered
+		 *
+		 * @return The sorted batches, or {@code null} if the dependencies are circular
+		 */
+		private List<BatchIdentifier> sortBatches(Collection<BatchIdentifier> batches) {
+			final PriorityQueue<BatchIdentifier> sortable = new PriorityQueue<>(
+					batches.size(),
+					Comparator.comparingInt( BatchIdentifier::getIndex )
+			);
+			for ( BatchIdentifier batchIdentifier : batches ) {
+				if ( batchIdentifier.unsortedPredecessorCount == 0 ) {
+					sortable.add( batchIdentifier );
+				}
 			}
 
-			// Now, rebuild the insertions list. There is a batch for each entry in the name list.
-			if ( sorted ) {
-				insertions.clear();
+			final List<BatchIdentifier> sortedBatches = new ArrayList<>( batches.size() );
+			while ( !sortable.isEmpty() ) {
+				final BatchIdentifier batchIdentifier = sortable.poll();
+				sortedBatches.add( batchIdentifier );
+				for ( BatchIdentifier successor : batchIdentifier.successors ) {
+					if ( --successor.unsortedPredecessorCount == 0 ) {
+						sortable.add( successor );
+					}
+				}
+			}
 
-				for ( BatchIdentifier rootIdentifier : latestBatches ) {
-					List<AbstractEntityInsertAction> batch = actionBatches.get( rootIdentifier );
-					insertions.addAll( batch );
+			if ( sortedBatches.size() < batches.size() ) {
+				if ( LOG.isDebugEnabled() ) {
+					final List<String> unsortedEntityNames = new ArrayList<>();
+					for ( BatchIdentifier batchIdentifier : batches ) {
+						if ( batchIdentifier.unsortedPredecessorCount > 0 ) {
+							unsortedEntityNames.add( batchIdentifier.getEntityName() );
+						}
+					}
+					LOG.debugf(
+							"Insertions were not ordered, as the dependencies of entities %s are circular",
+							unsortedEntityNames
+					);
 				}
+				return null;
 			}
+			return sortedBatches;
 		}
 
 		/**
@@ -1336,16 +1334,6 @@ public class ActionQueue {
 			}
 		}
 
-		private void addToBatch(BatchIdentifier batchIdentifier, AbstractEntityInsertAction action) {
-			List<AbstractEntityInsertAction> actions = actionBatches.get( batchIdentifier );
-
-			if ( actions == null ) {
-				actions = new LinkedList<>();
-				actionBatches.put( batchIdentifier, actions );
-			}
-			actions.add( action );
-		}
-
 	}
 
 	private abstract static class ListProvider<T extends Executable & Comparable & Serializable> {
@@ -105,6 +105,16 @@ public interface EntityEntry {
 	 */
 	boolean requiresDirtyCheck(Object entity);
 
+	/**
+	 * Notification that the entity, which tracks its own changes (see {@link SelfDirtinessTracker}), has
+	 * been changed.  Called by the bytecode-enhanced entity itself, so that it gets flushed: the flush only
+	 * visits such entities once registered with the persistence context.
+	 *
+	 * @see PersistenceContext#registerEntryToFlush
+	 */
+	default void registerChange() {
+	}
+
 	/**
 	 * Can the entity be modified?
 	 *
@@ -9,6 +9,7 @@ package org.hibernate.engine.spi;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -504,6 +505,38 @@ public interface PersistenceContext {
 	 */
 	Map.Entry<Object,EntityEntry>[] reentrantSafeEntityEntries();
 
+	/**
+	 * Provides access to the entity/EntityEntry combos which are visited by every flush, in the same manner as
+	 * {@link #reentrantSafeEntityEntries()}.  Leaves out the entities which track their own changes and map no
+	 * collections: their flush only depends on their changes and status, so they are only visited once
+	 * {@linkplain #registerEntryToFlush registered}.
+	 *
+	 * @return The entity/EntityEntry combos visited by every flush
+	 */
+	Map.Entry<Object,EntityEntry>[] reentrantSafeAlwaysFlushedEntityEntries();
+
+	/**
+	 * Register the entry of an entity which tracks its own changes as to be visited by the next flush, because
+	 * the entity was changed or its status changed.  See {@link EntityEntry#registerChange()}.
+	 *
+	 * @param entry The entry, registered only once until the next {@link #clearEntriesToFlush()}
+	 */
+	void registerEntryToFlush(EntityEntry entry);
+
+	/**
+	 * Get the entries {@linkplain #registerEntryToFlush registered} since the last flush.  The returned list
+	 * grows as entries are registered, including while it is being iterated by the flush.
+	 *
+	 * @return The registered entries, possibly including entries since removed from this persistence context
+	 */
+	List<EntityEntry> getEntriesToFlush();
+
+	/**
+	 * Clear the entries {@linkplain #registerEntryToFlush registered} for the flush, once flushed.  The
+	 * entries whose entity still tracks changes (e.g. made by the flush of another entity) remain registered.
+	 */
+	void clearEntriesToFlush();
+
 	/**
 	 * Get the mapping from entity instance to entity entry
 	 *
@@ -511,6 +511,12 @@ public final class QueryParameters {
 
 	@SuppressWarnings( {"unchecked"})
 	public void processFilters(String sql, Map filters, SessionFactoryImplementor factory) {
+		// todo (6.0) : filter parameters are not yet expanded (see below), so for now just pass
+		//		along the SQL and positional parameters as-is
+		processedPositionalParameterValues = getPositionalParameterValues();
+		processedPositionalParameterTypes = getPositionalParameterTypes();
+		processedSQL = sql;
+
 //		if ( filters.size() == 0 || !sql.contains( ParserHelper.HQL_VARIABLE_PREFIX ) ) {
 //			// HELLA IMPORTANT OPTIMIZATION!!!
 //			processedPositionalParameterValues = getPositionalParameterValues();
@@ -7,8 +7,11 @@
 package org.hibernate.event.internal;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
@@ -16,6 +19,7 @@ import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
 import org.hibernate.engine.internal.Collections;
@@ -26,6 +30,9 @@ import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.service.spi.EventListenerRegistry;
@@ -37,8 +44,11 @@ import org.hibernate.event.spi.FlushEntityEventListener;
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.EntityPrinter;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.LazyIterator;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
 
@@ -51,6 +61,11 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, AbstractFlushingEventListener.class.getName() );
 
+	/**
+	 * Marks the persisters whose entities cannot be dirty checked in parallel
+	 */
+	private static final int[] NOT_PARALLEL_DIRTY_CHECKABLE = new int[0];
+
 	private boolean jpaBootstrap;
 
 	@Override
@@ -217,10 +232,15 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		// So this needs to be safe from concurrent modification problems.
 
-		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
-		final int count = entityEntries.length;
+		// The entities which track their own changes and map no collections are left out: they are only
+		// visited when registered, because changed (see EntityEntry#registerChange) or no longer managed
+		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeAlwaysFlushedEntityEntries();
+		int count = entityEntries.length;
+
+		final FlushEntityEvent[] dirtyCheckedEvents = dirtyCheckInParallel( source, entityEntries );
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 
 			// Update the status of the object and if necessary, schedule an update
 
@@ -228,18 +248,163 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 			Status status = entry.getStatus();
 
 			if ( status != Status.LOADING && status != Status.GONE ) {
-				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
+				final FlushEntityEvent entityEvent = dirtyCheckedEvents != null && dirtyCheckedEvents[i] != null
+						? dirtyCheckedEvents[i]
+						: new FlushEntityEvent( source, me.getKey(), entry );
+				for ( FlushEntityEventListener listener : flushListeners ) {
+					listener.onFlushEntity( entityEvent );
+				}
+			}
+		}
+
+		// the list grows with the entities changed by the flush of the entities visited before them
+		final List<EntityEntry> registeredEntries = persistenceContext.getEntriesToFlush();
+		for ( int i = 0; i < registeredEntries.size(); i++ ) {
+			final EntityEntry entry = registeredEntries.get( i );
+			if ( entry.getId() == null ) {
+				// the placeholder of an entity being saved, since replaced by the entry holding its id
+				continue;
+			}
+			final Object entity = persistenceContext.getEntity( entry.getEntityKey() );
+			if ( entity == null || persistenceContext.getEntry( entity ) != entry ) {
+				// since removed from the persistence context
+				continue;
+			}
+			count++;
+
+			final Status status = entry.getStatus();
+			if ( status != Status.LOADING && status != Status.GONE ) {
+				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, entity, entry );
 				for ( FlushEntityEventListener listener : flushListeners ) {
 					listener.onFlushEntity( entityEvent );
 				}
 			}
 		}
+		persistenceContext.clearEntriesToFlush();
 
 		source.getActionQueue().sortActions();
 
 		return count;
 	}
 
+	/**
+	 * When there are enough entities in the persistence context (see
+	 * {@link org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD}),
+	 * dirty check in parallel, ahead of their flush, the entities which are dirty checked by
+	 * simply comparing their current state with their loaded state.
+	 *
+	 * @return The flush events carrying the result of the dirty check, by index of the entity
+	 * entries, or {@code null} if the entities are not dirty checked ahead of their flush
+	 */
+	private FlushEntityEvent[] dirtyCheckInParallel(EventSource source, Map.Entry<Object,EntityEntry>[] entityEntries) {
+		final SessionFactoryImplementor factory = source.getFactory();
+		final int threshold = factory.getSessionFactoryOptions().getParallelDirtyCheckThreshold();
+		if ( threshold <= 0 || entityEntries.length < threshold
+				|| factory.getCustomEntityDirtinessStrategy() != DefaultCustomEntityDirtinessStrategy.INSTANCE ) {
+			return null;
+		}
+
+		final FlushEntityEvent[] events = new FlushEntityEvent[entityEntries.length];
+		final Map<EntityPersister,int[]> collectionPropertiesByPersister = new IdentityHashMap<>();
+		int candidates = 0;
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			final Object entity = entityEntries[i].getKey();
+			final EntityEntry entry = entityEntries[i].getValue();
+			if ( entry.getStatus() != Status.MANAGED
+					|| entry.getLoadedState() == null
+					|| entity instanceof SelfDirtinessTracker
+					|| entity instanceof PersistentAttributeInterceptable
+					|| !entry.requiresDirtyCheck( entity ) ) {
+				continue;
+			}
+			final int[] collectionProperties = collectionPropertiesByPersister.computeIfAbsent(
+					entry.getPersister(),
+					AbstractFlushingEventListener::determineCollectionPropertiesIfParallelDirtyCheckable
+			);
+			if ( collectionProperties != NOT_PARALLEL_DIRTY_CHECKABLE ) {
+				events[i] = new FlushEntityEvent( source, entity, entry );
+				candidates++;
+			}
+		}
+
+		if ( candidates < threshold ) {
+			return null;
+		}
+
+		LOG.tracef( "Dirty checking %s entities in parallel", candidates );
+		Arrays.stream( events )
+				.parallel()
+				.filter( Objects::nonNull )
+				.forEach(
+						entityEvent -> dirtyCheck(
+								entityEvent,
+								collectionPropertiesByPersister.get( entityEvent.getEntityEntry().getPersister() )
+						)
+				);
+		return events;
+	}
+
+	/**
+	 * Called concurrently: only reads the state of the entity and compares it with its loaded state
+	 */
+	private static void dirtyCheck(FlushEntityEvent event, int[] collectionProperties) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
+		final EntityPersister persister = entry.getPersister();
+		final Object[] loadedState = entry.getLoadedState();
+		try {
+			final Object[] values = persister.getPropertyValues( entity );
+			for ( int collectionProperty : collectionProperties ) {
+				if ( values[collectionProperty] != loadedState[collectionProperty] ) {
+					// comparing a replaced collection might initialize the loaded one, leave it to the flush
+					return;
+				}
+			}
+			event.setPrecomputedDirtyCheck(
+					values,
+					persister.findDirty( values, loadedState, entity, event.getSession() )
+			);
+		}
+		catch (RuntimeException e) {
+			// leave it to the flush of the entity, which reports the failure
+			LOG.debugf( "Unable to dirty check an entity of type [%s] in parallel : %s", persister.getEntityName(), e );
+		}
+	}
+
+	/**
+	 * The entities of a persister are dirty checked in parallel unless they map associations to other
+	 * entities, whose dirty check needs the persistence context, or collections within components.
+	 *
+	 * @return The indexes of the collection properties, or {@link #NOT_PARALLEL_DIRTY_CHECKABLE}
+	 */
+	private static int[] determineCollectionPropertiesIfParallelDirtyCheckable(EntityPersister persister) {
+		final Type[] types = persister.getPropertyTypes();
+		int[] collectionProperties = ArrayHelper.EMPTY_INT_ARRAY;
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( types[i].isCollectionType() ) {
+				collectionProperties = ArrayHelper.join( collectionProperties, new int[] { i } );
+			}
+			else if ( !isComparableWithoutPersistenceContext( types[i] ) ) {
+				return NOT_PARALLEL_DIRTY_CHECKABLE;
+			}
+		}
+		return collectionProperties;
+	}
+
+	private static boolean isComparableWithoutPersistenceContext(Type type) {
+		if ( type.isEntityType() || type.isAnyType() || type.isCollectionType() ) {
+			return false;
+		}
+		if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				if ( !isComparableWithoutPersistenceContext( subtype ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
@@ -159,12 +159,16 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, mightBeDirty, session );
 
 		event.setPropertyValues( values );
 
 		//TODO: avoid this for non-new instances where mightBeDirty==false
 		boolean substitute = wrapCollections( session, persister, types, values );
+		if ( substitute ) {
+			// the dirty check performed ahead of the flush did not see the wrapped collections
+			event.setPrecomputedDirtyCheck( null, null );
+		}
 
 		if ( isUpdateNecessary( event, mightBeDirty ) ) {
 			substitute = scheduleUpdate( event ) || substitute;
@@ -185,7 +189,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(FlushEntityEvent event, boolean mightBeDirty, SessionImplementor session) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
 		final Object[] loadedState = entry.getLoadedState();
 		final Status status = entry.getStatus();
 		final EntityPersister persister = entry.getPersister();
@@ -202,13 +208,64 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			checkId( entity, persister, entry.getId(), session );
 
 			// grab its current state
-			values = persister.getPropertyValues( entity );
+			final Object[] currentValues = persister.getPropertyValues( entity );
+			if ( !event.hasPrecomputedDirtyCheck() ) {
+				values = currentValues;
+			}
+			else if ( isPrecomputedStateCurrent( event, currentValues, persister, loadedState, session ) ) {
+				// still the state dirty checked ahead of the flush
+				values = event.getPrecomputedPropertyValues();
+			}
+			else {
+				// changed since it was dirty checked ahead of the flush (e.g. by an Interceptor or a
+				// callback flushing another entity), so dirty check it again
+				event.setPrecomputedDirtyCheck( null, null );
+				values = currentValues;
+			}
 
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 		}
 		return values;
 	}
 
+	/**
+	 * Whether the current state of the entity is the state dirty checked ahead of the flush: the same
+	 * values, and no mutable value changed in place to differ from the loaded state
+	 */
+	private static boolean isPrecomputedStateCurrent(
+			FlushEntityEvent event,
+			Object[] currentValues,
+			EntityPersister persister,
+			Object[] loadedState,
+			SessionImplementor session) {
+		final Object[] precomputedValues = event.getPrecomputedPropertyValues();
+		final int[] precomputedDirtyProperties = event.getPrecomputedDirtyProperties();
+		final Type[] types = persister.getPropertyTypes();
+		for ( int i = 0; i < currentValues.length; i++ ) {
+			if ( currentValues[i] != precomputedValues[i] ) {
+				return false;
+			}
+			if ( types[i].isMutable()
+					&& !types[i].isCollectionType()
+					&& !isDirtyProperty( precomputedDirtyProperties, i )
+					&& types[i].isDirty( loadedState[i], currentValues[i], session ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isDirtyProperty(int[] dirtyProperties, int property) {
+		if ( dirtyProperties != null ) {
+			for ( int dirtyProperty : dirtyProperties ) {
+				if ( dirtyProperty == property ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	private boolean wrapCollections(
 			EventSource session,
 			EntityPersister persister,
@@ -581,8 +638,14 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 				// object loaded by update()
 				dirtyCheckPossible = loadedState != null;
 				if ( dirtyCheckPossible ) {
-					// dirty check against the usual snapshot of the entity
-					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+					if ( event.hasPrecomputedDirtyCheck() && values == event.getPrecomputedPropertyValues() ) {
+						// already dirty checked, in parallel, against the very same values
+						dirtyProperties = event.getPrecomputedDirtyProperties();
+					}
+					else {
+						// dirty check against the usual snapshot of the entity
+						dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+					}
 				}
 				else if ( entry.getStatus() == Status.DELETED && !event.getEntityEntry().isModifiableEntity() ) {
 					// A non-modifiable (e.g., read-only or immutable) entity needs to be have
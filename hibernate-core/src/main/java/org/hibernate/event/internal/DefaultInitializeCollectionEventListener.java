@@ -121,10 +121,14 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 		final CollectionDataAccess cacheAccessStrategy = persister.getCacheAccessStrategy();
 		final Object ck = cacheAccessStrategy.generateCacheKey( id, persister, factory, source.getTenantIdentifier() );
 		final Object ce = CacheHelper.fromSharedCache( source, ck, cacheAccessStrategy );
+		// an entry written for another mapping of the collection destructures to null
+		final CollectionCacheEntry cacheEntry = ce == null
+				? null
+				: (CollectionCacheEntry) persister.getCacheEntryStructure().destructure( ce, factory );
 
 		final StatisticsImplementor statistics = factory.getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
-			if ( ce == null ) {
+			if ( cacheEntry == null ) {
 				statistics.collectionCacheMiss(
 						persister.getNavigableRole(),
 						cacheAccessStrategy.getRegion().getName()
@@ -138,15 +142,10 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 			}
 		}
 
-		if ( ce == null ) {
+		if ( cacheEntry == null ) {
 			return false;
 		}
 
-		CollectionCacheEntry cacheEntry = (CollectionCacheEntry) persister.getCacheEntryStructure().destructure(
-				ce,
-				factory
-		);
-
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		cacheEntry.assemble( collection, persister, persistenceContext.getCollectionOwner( id, persister ) );
 		persistenceContext.getCollectionEntry( collection ).postInitialize( collection );
@@ -20,7 +20,9 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
 	private EntityEntry entityEntry;
-	
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
+
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
 		super(source);
 		this.entity = entity;
@@ -72,4 +74,26 @@ public class FlushEntityEvent extends AbstractEvent {
 	public Object getEntity() {
 		return entity;
 	}
+
+	/**
+	 * The result of a dirty check performed ahead of the flush of this entity (see
+	 * {@link org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD}),
+	 * valid only as long as the property values of the entity are the given ones.
+	 *
+	 * @param propertyValues The property values the dirty check was performed with
+	 * @param dirtyProperties The indexes of the dirty properties, or {@code null} if none
+	 */
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
+	public boolean hasPrecomputedDirtyCheck() {
+		return precomputedPropertyValues != null;
+	}
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
 }
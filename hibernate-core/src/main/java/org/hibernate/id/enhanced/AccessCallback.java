@@ -1,31 +1,58 @@
-/*
- * Hibernate, Relational Persistence for Idiomatic Java
- *
- * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
- * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
- */
-package org.hibernate.id.enhanced;
-
-import org.hibernate.id.IntegralDataTypeHolder;
-
-/**
- * Contract for providing callback access to a {@link DatabaseStructure},
- * typically from the {@link Optimizer}.
- *
- * @author Steve Ebersole
- */
-public interface AccessCallback {
-	/**
-	 * Retrieve the next value from the underlying source.
-	 *
-	 * @return The next value.
-	 */
-	public IntegralDataTypeHolder getNextValue();
-
-	/**
-	 * Obtain the tenant identifier (multi-tenancy), if one, associated with this callback.
-	 *
-	 * @return The tenant identifier
-	 */
-	public String getTenantIdentifier();
-}
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+
+/**
+ * Contract for providing callback access to a {@link DatabaseStructure},
+ * typically from the {@link Optimizer}.
+ *
+ * @author Steve Ebersole
+ */
+public interface AccessCallback {
+	/**
+	 * Retrieve the next value from the underlying source.
+	 *
+	 * @return The next value.
+	 */
+	public IntegralDataTypeHolder getNextValue();
+
+	/**
+	 * Obtain the tenant identifier (multi-tenancy), if one, associated with this callback.
+	 *
+	 * @return The tenant identifier
+	 */
+	public String getTenantIdentifier();
+
+	/**
+	 * Obtain a callback which retrieves values from the same source, but independently of the
+	 * Session (and its Connection) this callback is bound to, so that it can be used from another
+	 * thread - e.g. to {@linkplain PrefetchAwareOptimizer prefetch} the next block of values.
+	 *
+	 * @return The detached callback, or {@code null} if the source does not support detached access
+	 *
+	 * @since 6.0
+	 */
+	default AccessCallback getDetachedCallback() {
+		return null;
+	}
+
+	/**
+	 * Obtain the executor to use the {@linkplain #getDetachedCallback() detached callback} on.  Scoped
+	 * to the SessionFactory, so that retrievals still pending when it is closed are cancelled.
+	 *
+	 * @return The executor, or {@code null} if the source does not support detached access
+	 *
+	 * @since 6.0
+	 */
+	default ExecutorService getDetachedExecutor() {
+		return null;
+	}
+}
@@ -27,7 +27,8 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * All known implementors are synchronized. Consider carefully if a new
+	 * Implementors must be thread-safe; all known implementors other than
+	 * {@link PooledLoStripedOptimizer} are synchronized. Consider carefully if a new
 	 * implementation could drop this requirement.
 	 *
 	 * @param callback Callback to access the underlying value source.
@@ -23,7 +23,7 @@ import org.jboss.logging.Logger;
  *
  * @see PooledOptimizer
  */
-public class PooledLoOptimizer extends AbstractOptimizer {
+public class PooledLoOptimizer extends AbstractOptimizer implements PrefetchAwareOptimizer {
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
 			CoreMessageLogger.class,
 			PooledLoOptimizer.class.getName()
@@ -36,8 +36,12 @@ public class PooledLoOptimizer extends AbstractOptimizer {
 		private IntegralDataTypeHolder value;
 		// the value at which we'll hit the db again
 		private IntegralDataTypeHolder upperLimitValue;
+		// the background retrieval of the next source value, if any
+		private final SourceValuePrefetcher prefetcher = new SourceValuePrefetcher();
 	}
 
+	private int prefetchLowWaterMark;
+
 	/**
 	 * Constructs a PooledLoOptimizer.
 	 *
@@ -58,7 +62,7 @@ public class PooledLoOptimizer extends AbstractOptimizer {
 
 		if ( generationState.lastSourceValue == null
 				|| ! generationState.value.lt( generationState.upperLimitValue ) ) {
-			generationState.lastSourceValue = callback.getNextValue();
+			generationState.lastSourceValue = generationState.prefetcher.nextValue( callback );
 			generationState.upperLimitValue = generationState.lastSourceValue.copy().add( incrementSize );
 			generationState.value = generationState.lastSourceValue.copy();
 			// handle cases where initial-value is less that one (hsqldb for instance).
@@ -66,7 +70,9 @@ public class PooledLoOptimizer extends AbstractOptimizer {
 				generationState.value.increment();
 			}
 		}
-		return generationState.value.makeValueThenIncrement();
+		final Serializable result = generationState.value.makeValueThenIncrement();
+		prefetchIfNecessary( callback, generationState );
+		return result;
 	}
 
 	private GenerationState noTenantState;
@@ -113,4 +119,18 @@ public class PooledLoOptimizer extends AbstractOptimizer {
 	public boolean applyIncrementSizeToSourceValues() {
 		return true;
 	}
+
+	@Override
+	public void injectPrefetchLowWaterMark(int lowWaterMark) {
+		this.prefetchLowWaterMark = lowWaterMark;
+	}
+
+	private void prefetchIfNecessary(AccessCallback callback, GenerationState generationState) {
+		if ( prefetchLowWaterMark > 0
+				&& callback.getTenantIdentifier() == null
+				&& !generationState.value.lt( generationState.upperLimitValue.copy().subtract( prefetchLowWaterMark ) ) ) {
+			// no more than prefetchLowWaterMark values remain in the current block
+			generationState.prefetcher.prefetch( callback );
+		}
+	}
 }
@@ -0,0 +1,222 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.MathHelper;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} (the database value is interpreted as the lo value of
+ * the block) which does not synchronize the generation of values.  Each block obtained from the
+ * database is split into a number of stripes (by default one per available processor, rounded up
+ * to a power of two), and each thread takes values from "its" stripe using a CAS - moving on to
+ * the other stripes once its own is exhausted.  Only obtaining the next block from the database
+ * is synchronized.
+ * <p/>
+ * The database contract is exactly that of {@link PooledLoOptimizer}; however, the generated
+ * values are unique but not increasing - not even the values generated by any one thread, which
+ * may move on to a stripe of lower values once its own stripe is exhausted.  Only the blocks
+ * themselves are used in increasing order.
+ * <p/>
+ * Tenant-specific values are generated by a (synchronized) {@link PooledLoOptimizer}.
+ *
+ * @author agent
+ *
+ * @see PooledLoOptimizer
+ */
+public class PooledLoStripedOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoStripedOptimizer.class.getName()
+	);
+
+	/**
+	 * The distance between the cursors of adjacent stripes in {@link Block#cursors}, so that
+	 * they do not share a cache line
+	 */
+	private static final int PADDING = 8;
+
+	private static final long EXHAUSTED = Long.MIN_VALUE;
+
+	/**
+	 * One block of values obtained from the database, along with its division into stripes.
+	 * The block is immutable apart from the stripe cursors.
+	 */
+	private static class Block {
+		// last value read from db source
+		private final IntegralDataTypeHolder sourceValue;
+		// the next value of each stripe, at index (stripe * PADDING)
+		private final AtomicLongArray cursors;
+		// the (exclusive) upper limit of each stripe
+		private final long[] limits;
+
+		private Block(IntegralDataTypeHolder sourceValue, long start, long end, int stripeCount) {
+			this.sourceValue = sourceValue;
+			this.cursors = new AtomicLongArray( stripeCount * PADDING );
+			this.limits = new long[stripeCount];
+
+			final long size = Math.max( end - start, 0 );
+			final long stripeSize = size / stripeCount;
+			final long remainder = size % stripeCount;
+			long stripeStart = start;
+			for ( int i = 0; i < stripeCount; i++ ) {
+				final long stripeEnd = stripeStart + stripeSize + ( i < remainder ? 1 : 0 );
+				cursors.set( i * PADDING, stripeStart );
+				limits[i] = stripeEnd;
+				stripeStart = stripeEnd;
+			}
+		}
+
+		/**
+		 * Take the next value, preferably from the given stripe.
+		 *
+		 * @return The value, or {@link #EXHAUSTED} if all stripes are exhausted
+		 */
+		private long next(int preferredStripe, int stripeMask) {
+			for ( int i = 0; i <= stripeMask; i++ ) {
+				final int stripe = ( preferredStripe + i ) & stripeMask;
+				final int cursor = stripe * PADDING;
+				final long limit = limits[stripe];
+				// check first, to avoid contending on the cursors of exhausted stripes
+				if ( cursors.get( cursor ) < limit ) {
+					final long value = cursors.getAndIncrement( cursor );
+					if ( value < limit ) {
+						return value;
+					}
+				}
+			}
+			return EXHAUSTED;
+		}
+	}
+
+	private final int stripeMask;
+	private final PooledLoOptimizer tenantOptimizer;
+	private final Object refillLock = new Object();
+
+	private volatile Block block;
+
+	/**
+	 * Constructs a PooledLoStripedOptimizer, using one stripe per available processor.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoStripedOptimizer(Class returnClass, int incrementSize) {
+		this( returnClass, incrementSize, Runtime.getRuntime().availableProcessors() );
+	}
+
+	/**
+	 * Constructs a PooledLoStripedOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 * @param stripes The number of stripes to split each block into; rounded up to a power of two
+	 * and limited to the increment size.
+	 */
+	public PooledLoStripedOptimizer(Class returnClass, int incrementSize, int stripes) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		final int stripeCount = Math.min(
+				MathHelper.ceilingPowerOfTwo( Math.max( stripes, 1 ) ),
+				Integer.highestOneBit( incrementSize )
+		);
+		this.stripeMask = stripeCount - 1;
+		this.tenantOptimizer = new PooledLoOptimizer( returnClass, incrementSize );
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev(
+					"Creating striped pooled-lo optimizer with [incrementSize={0}; stripes={1}; returnClass={2}]",
+					incrementSize,
+					stripeCount,
+					returnClass.getName()
+			);
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		if ( callback.getTenantIdentifier() != null ) {
+			return tenantOptimizer.generate( callback );
+		}
+
+		final int preferredStripe = preferredStripe();
+		Block current = block;
+		while ( true ) {
+			if ( current != null ) {
+				final long value = current.next( preferredStripe, stripeMask );
+				if ( value != EXHAUSTED ) {
+					return makeValue( value );
+				}
+			}
+			current = refill( callback, current );
+		}
+	}
+
+	private int preferredStripe() {
+		final int hash = (int) Thread.currentThread().getId() * 0x9E3779B9;
+		return ( hash ^ ( hash >>> 16 ) ) & stripeMask;
+	}
+
+	/**
+	 * Replace the exhausted block with the next block from the database, unless another thread
+	 * already did.
+	 */
+	private Block refill(AccessCallback callback, Block exhausted) {
+		synchronized ( refillLock ) {
+			final Block current = block;
+			if ( current != exhausted ) {
+				return current;
+			}
+
+			final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+			final long lo = sourceValue.makeValue().longValue();
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			final Block next = new Block( sourceValue, Math.max( lo, 1 ), lo + incrementSize, stripeMask + 1 );
+			block = next;
+			return next;
+		}
+	}
+
+	private Serializable makeValue(long value) {
+		if ( returnClass == Long.class ) {
+			return value;
+		}
+		else if ( returnClass == Integer.class ) {
+			return (int) value;
+		}
+		return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass ).initialize( value ).makeValue();
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final Block current = block;
+		return current == null ? null : current.sourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	/**
+	 * The number of stripes each block is split into.
+	 * <p/>
+	 * Exposure intended for testing purposes.
+	 */
+	public int getStripeCount() {
+		return stripeMask + 1;
+	}
+}
@@ -25,7 +25,7 @@ import org.jboss.logging.Logger;
  * @author Steve Ebersole
  * @see PooledOptimizer
  */
-public class PooledLoThreadLocalOptimizer extends AbstractOptimizer {
+public class PooledLoThreadLocalOptimizer extends AbstractOptimizer implements PrefetchAwareOptimizer {
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
 			CoreMessageLogger.class,
 			PooledLoOptimizer.class.getName()
@@ -38,8 +38,12 @@ public class PooledLoThreadLocalOptimizer extends AbstractOptimizer {
 		private IntegralDataTypeHolder value;
 		// the value at which we'll hit the db again
 		private IntegralDataTypeHolder upperLimitValue;
+		// the background retrieval of the next source value, if any
+		private final SourceValuePrefetcher prefetcher = new SourceValuePrefetcher();
 	}
 
+	private int prefetchLowWaterMark;
+
 	/**
 	 * Constructs a PooledLoThreadLocalOptimizer.
 	 *
@@ -59,7 +63,9 @@ public class PooledLoThreadLocalOptimizer extends AbstractOptimizer {
 		if ( callback.getTenantIdentifier() == null ) {
 			final GenerationState local = localAssignedIds.get();
 			if ( local.value != null && local.value.lt( local.upperLimitValue ) ) {
-				return local.value.makeValueThenIncrement();
+				final Serializable result = local.value.makeValueThenIncrement();
+				prefetchIfNecessary( callback, local );
+				return result;
 			}
 		}
 
@@ -68,7 +74,7 @@ public class PooledLoThreadLocalOptimizer extends AbstractOptimizer {
 
 			if ( generationState.lastSourceValue == null
 					|| !generationState.value.lt( generationState.upperLimitValue )) {
-				generationState.lastSourceValue = callback.getNextValue();
+				generationState.lastSourceValue = generationState.prefetcher.nextValue( callback );
 				generationState.upperLimitValue = generationState.lastSourceValue.copy().add( incrementSize );
 				generationState.value = generationState.lastSourceValue.copy();
 				// handle cases where initial-value is less that one (hsqldb for instance).
@@ -76,7 +82,9 @@ public class PooledLoThreadLocalOptimizer extends AbstractOptimizer {
 					generationState.value.increment();
 				}
 			}
-			return generationState.value.makeValueThenIncrement();
+			final Serializable result = generationState.value.makeValueThenIncrement();
+			prefetchIfNecessary( callback, generationState );
+			return result;
 		}
 	}
 
@@ -125,4 +133,18 @@ public class PooledLoThreadLocalOptimizer extends AbstractOptimizer {
 	public boolean applyIncrementSizeToSourceValues() {
 		return true;
 	}
+
+	@Override
+	public void injectPrefetchLowWaterMark(int lowWaterMark) {
+		this.prefetchLowWaterMark = lowWaterMark;
+	}
+
+	private void prefetchIfNecessary(AccessCallback callback, GenerationState generationState) {
+		if ( prefetchLowWaterMark > 0
+				&& callback.getTenantIdentifier() == null
+				&& !generationState.value.lt( generationState.upperLimitValue.copy().subtract( prefetchLowWaterMark ) ) ) {
+			// no more than prefetchLowWaterMark values remain in the current block
+			generationState.prefetcher.prefetch( callback );
+		}
+	}
 }
@@ -31,7 +31,7 @@ import org.jboss.logging.Logger;
  *
  * @see PooledLoOptimizer
  */
-public class PooledOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+public class PooledOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer, PrefetchAwareOptimizer {
 	private static final CoreMessageLogger log = Logger.getMessageLogger(
 			CoreMessageLogger.class,
 			PooledOptimizer.class.getName()
@@ -40,9 +40,11 @@ public class PooledOptimizer extends AbstractOptimizer implements InitialValueAw
 	private static class GenerationState {
 		private IntegralDataTypeHolder hiValue;
 		private IntegralDataTypeHolder value;
+		private final SourceValuePrefetcher prefetcher = new SourceValuePrefetcher();
 	}
 
 	private long initialValue = -1;
+	private int prefetchLowWaterMark;
 
 	/**
 	 * Constructs a PooledOptimizer
@@ -90,11 +92,18 @@ public class PooledOptimizer extends AbstractOptimizer implements InitialValueAw
 			}
 		}
 		else if ( generationState.value.gt( generationState.hiValue ) ) {
-			generationState.hiValue = callback.getNextValue();
+			generationState.hiValue = generationState.prefetcher.nextValue( callback );
 			generationState.value = generationState.hiValue.copy().subtract( incrementSize - 1 );
 		}
 
-		return generationState.value.makeValueThenIncrement();
+		final Serializable result = generationState.value.makeValueThenIncrement();
+		if ( prefetchLowWaterMark > 0
+				&& callback.getTenantIdentifier() == null
+				&& generationState.hiValue.copy().subtract( prefetchLowWaterMark ).lt( generationState.value ) ) {
+			// no more than prefetchLowWaterMark values remain in the current block
+			generationState.prefetcher.prefetch( callback );
+		}
+		return result;
 	}
 
 	private GenerationState noTenantState;
@@ -157,4 +166,9 @@ public class PooledOptimizer extends AbstractOptimizer implements InitialValueAw
 	public void injectInitialValue(long initialValue) {
 		this.initialValue = initialValue;
 	}
+
+	@Override
+	public void injectPrefetchLowWaterMark(int lowWaterMark) {
+		this.prefetchLowWaterMark = lowWaterMark;
+	}
 }
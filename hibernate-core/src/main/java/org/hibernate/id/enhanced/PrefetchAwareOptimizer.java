@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+/**
+ * Marker interface for optimizers which are able to fetch the next block of values from the
+ * database in the background, before the current block is exhausted.
+ * <p/>
+ * Used instead of constructor injection for the same reasons as {@link InitialValueAwareOptimizer}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#POOLED_OPTIMIZER_PREFETCH_LOW_WATER_MARK
+ *
+ * @author agent
+ *
+ * @since 6.0
+ */
+public interface PrefetchAwareOptimizer {
+	/**
+	 * Reports the prefetch low-water mark to the optimizer.  Once the number of values
+	 * remaining in the current block drops to (or below) the low-water mark, the optimizer
+	 * starts fetching the next block using the {@linkplain AccessCallback#getDetachedCallback() detached}
+	 * callback.
+	 *
+	 * @param lowWaterMark The low-water mark; zero (or less) disables prefetching
+	 */
+	public void injectPrefetchLowWaterMark(int lowWaterMark);
+}
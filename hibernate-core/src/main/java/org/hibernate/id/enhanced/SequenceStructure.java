@@ -6,9 +6,12 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -17,7 +20,10 @@ import org.hibernate.boot.model.relational.Namespace;
 import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
@@ -43,7 +49,7 @@ public class SequenceStructure implements DatabaseStructure {
 
 	private String sql;
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 	protected String sequenceName;
 
 	public SequenceStructure(
@@ -71,7 +77,7 @@ public class SequenceStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -88,7 +94,7 @@ public class SequenceStructure implements DatabaseStructure {
 		return new AccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
+				accessCounter.incrementAndGet();
 				try {
 					final PreparedStatement st = session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
 					try {
@@ -130,6 +136,71 @@ public class SequenceStructure implements DatabaseStructure {
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
 			}
+
+			@Override
+			public AccessCallback getDetachedCallback() {
+				if ( session.getTenantIdentifier() != null ) {
+					// the bootstrap connection is not tenant-specific
+					return null;
+				}
+				return buildDetachedCallback( session.getJdbcServices() );
+			}
+
+			@Override
+			public ExecutorService getDetachedExecutor() {
+				return session.getFactory()
+						.getServiceRegistry()
+						.getService( SourceValuePrefetchExecutor.class )
+						.getExecutor();
+			}
+		};
+	}
+
+	/**
+	 * Build a callback which obtains sequence values using a Connection of its own, rather
+	 * than one bound to a Session.
+	 */
+	private AccessCallback buildDetachedCallback(final JdbcServices jdbcServices) {
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				accessCounter.incrementAndGet();
+				final JdbcConnectionAccess connectionAccess = jdbcServices.getBootstrapJdbcConnectionAccess();
+				try {
+					final Connection connection = connectionAccess.obtainConnection();
+					try {
+						jdbcServices.getSqlStatementLogger().logStatement( sql, FormatStyle.BASIC.getFormatter() );
+						try ( PreparedStatement st = connection.prepareStatement( sql );
+								ResultSet rs = st.executeQuery() ) {
+							rs.next();
+							final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+							value.initialize( rs, 1 );
+							if ( LOG.isDebugEnabled() ) {
+								LOG.debugf( "Sequence value obtained (detached): %s", value.makeValue() );
+							}
+							if ( !connection.getAutoCommit() ) {
+								connection.commit();
+							}
+							return value;
+						}
+					}
+					finally {
+						connectionAccess.releaseConnection( connection );
+					}
+				}
+				catch ( SQLException sqle) {
+					throw jdbcServices.getSqlExceptionHelper().convert(
+							sqle,
+							"could not get next sequence value",
+							sql
+					);
+				}
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
 		};
 	}
 
@@ -294,6 +294,11 @@ public class SequenceStyleGenerator
 				incrementSize,
 				ConfigurationHelper.getInt( INITIAL_PARAM, params, -1 )
 		);
+		if ( optimizer instanceof PrefetchAwareOptimizer ) {
+			( (PrefetchAwareOptimizer) optimizer ).injectPrefetchLowWaterMark(
+					ConfigurationHelper.getInt( AvailableSettings.POOLED_OPTIMIZER_PREFETCH_LOW_WATER_MARK, params, 0 )
+			);
+		}
 		this.databaseStructure.prepare( optimizer );
 	}
 
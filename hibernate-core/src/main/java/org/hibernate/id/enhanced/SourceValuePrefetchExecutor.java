@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * The threads on which the {@link PrefetchAwareOptimizer prefetching} optimizers of a SessionFactory
+ * retrieve source values in the background.
+ * <p/>
+ * At most one daemon thread per processor, which time out when idle.  When all of them are busy
+ * retrievals wait in a bounded queue; when that is full too they are rejected.  Stopped along with
+ * the SessionFactory, cancelling the retrievals still pending so that none of them uses its
+ * connection access once it is closed.
+ *
+ * @author agent
+ *
+ * @since 6.0
+ */
+public class SourceValuePrefetchExecutor implements Service, Stoppable {
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+	private static final int THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+
+	// retrievals waiting for a thread, per thread
+	private static final int QUEUED_RETRIEVALS_PER_THREAD = 4;
+
+	private final ThreadPoolExecutor executor;
+
+	public SourceValuePrefetchExecutor() {
+		executor = new ThreadPoolExecutor(
+				THREAD_COUNT,
+				THREAD_COUNT,
+				60L,
+				TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>( THREAD_COUNT * QUEUED_RETRIEVALS_PER_THREAD ),
+				runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-id-prefetch-" + THREAD_COUNTER.incrementAndGet() );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		executor.allowCoreThreadTimeOut( true );
+	}
+
+	/**
+	 * The executor to submit retrievals to
+	 */
+	public ExecutorService getExecutor() {
+		return executor;
+	}
+
+	@Override
+	public void stop() {
+		// interrupts the running retrievals; the queued ones are never run, so cancel them for
+		// the optimizers waiting on them to obtain their values directly
+		for ( Runnable queued : executor.shutdownNow() ) {
+			if ( queued instanceof Future ) {
+				( (Future<?>) queued ).cancel( false );
+			}
+		}
+	}
+}
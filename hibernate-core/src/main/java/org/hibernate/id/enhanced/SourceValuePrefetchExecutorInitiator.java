@@ -0,0 +1,43 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+/**
+ * Standard initiator for the {@link SourceValuePrefetchExecutor} of a SessionFactory
+ *
+ * @author agent
+ */
+public class SourceValuePrefetchExecutorInitiator implements SessionFactoryServiceInitiator<SourceValuePrefetchExecutor> {
+	/**
+	 * Singleton access
+	 */
+	public static final SourceValuePrefetchExecutorInitiator INSTANCE = new SourceValuePrefetchExecutorInitiator();
+
+	@Override
+	public SourceValuePrefetchExecutor initiateService(
+			SessionFactoryImplementor sessionFactory,
+			SessionFactoryOptions sessionFactoryOptions,
+			ServiceRegistryImplementor registry) {
+		return new SourceValuePrefetchExecutor();
+	}
+
+	@Override
+	public SourceValuePrefetchExecutor initiateService(SessionFactoryServiceInitiatorContext context) {
+		return new SourceValuePrefetchExecutor();
+	}
+
+	@Override
+	public Class<SourceValuePrefetchExecutor> getServiceInitiated() {
+		return SourceValuePrefetchExecutor.class;
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Holds the (at most one) pending background retrieval of the next source value for a
+ * {@link PrefetchAwareOptimizer}'s generation state.
+ * <p/>
+ * Not thread-safe; access is guarded by the optimizer.
+ * <p/>
+ * Retrievals run on the {@linkplain AccessCallback#getDetachedExecutor() executor} of the
+ * SessionFactory.  When it rejects them (too many are pending already, or the SessionFactory
+ * is closed) the prefetch is skipped and the value is obtained directly, as without prefetching.
+ *
+ * @author agent
+ */
+final class SourceValuePrefetcher {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			SourceValuePrefetcher.class.getName()
+	);
+
+	private Future<IntegralDataTypeHolder> pending;
+
+	/**
+	 * Start retrieving the next source value in the background, unless a retrieval is
+	 * already pending, the callback does not support detached access or the executor
+	 * rejects the retrieval.
+	 */
+	void prefetch(AccessCallback callback) {
+		if ( pending != null ) {
+			return;
+		}
+		final AccessCallback detachedCallback = callback.getDetachedCallback();
+		final ExecutorService executor = callback.getDetachedExecutor();
+		if ( detachedCallback == null || executor == null ) {
+			return;
+		}
+		try {
+			pending = executor.submit( detachedCallback::getNextValue );
+		}
+		catch (RejectedExecutionException e) {
+			LOG.debug( "Unable to start prefetch, the next source value will be obtained directly" );
+		}
+	}
+
+	/**
+	 * Obtain the next source value; the prefetched one if a retrieval is pending, or
+	 * otherwise (or if the prefetch failed) one obtained from the given callback.
+	 */
+	IntegralDataTypeHolder nextValue(AccessCallback callback) {
+		final Future<IntegralDataTypeHolder> future = pending;
+		if ( future == null ) {
+			return callback.getNextValue();
+		}
+		pending = null;
+		try {
+			return future.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel( true );
+			LOG.debug( "Interrupted waiting for prefetched source value, obtaining it directly" );
+		}
+		catch (ExecutionException e) {
+			LOG.debugf( e.getCause(), "Unable to prefetch source value, obtaining it directly" );
+		}
+		catch (CancellationException e) {
+			LOG.debug( "Prefetch of source value was cancelled, obtaining it directly" );
+		}
+		return callback.getNextValue();
+	}
+}
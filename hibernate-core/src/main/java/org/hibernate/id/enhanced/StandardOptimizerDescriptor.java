@@ -43,7 +43,12 @@ public enum StandardOptimizerDescriptor {
 	 * Describes the optimizer for use with tables/sequences that store the chunk information.  Here, specifically the
 	 * lo value is stored in the database and ThreadLocal used to cache the generation state.
 	 */
-	POOLED_LOTL( "pooled-lotl", PooledLoThreadLocalOptimizer.class, true );
+	POOLED_LOTL( "pooled-lotl", PooledLoThreadLocalOptimizer.class, true ),
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.  Here, specifically the
+	 * lo value is stored in the database and each chunk is split into stripes handed out without synchronization.
+	 */
+	POOLED_LO_STRIPED( "pooled-lo-striped", PooledLoStripedOptimizer.class, true );
 
 	private static final Logger log = Logger.getLogger( StandardOptimizerDescriptor.class );
 
@@ -104,6 +109,9 @@ public enum StandardOptimizerDescriptor {
 		else if ( POOLED_LOTL.externalName.equals( externalName ) ) {
 			return POOLED_LOTL;
 		}
+		else if ( POOLED_LO_STRIPED.externalName.equals( externalName ) ) {
+			return POOLED_LO_STRIPED;
+		}
 		else {
 			log.debugf( "Unknown optimizer key [%s]; returning null assuming Optimizer impl class name", externalName );
 			return null;
@@ -11,6 +11,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -21,6 +23,8 @@ import org.hibernate.boot.model.relational.InitCommand;
 import org.hibernate.boot.model.relational.Namespace;
 import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -62,7 +66,7 @@ public class TableStructure implements DatabaseStructure {
 	private String updateQuery;
 
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 
 	public TableStructure(
 			JdbcEnvironment jdbcEnvironment,
@@ -96,7 +100,7 @@ public class TableStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -126,51 +130,7 @@ public class TableStructure implements DatabaseStructure {
 						new AbstractReturningWork<IntegralDataTypeHolder>() {
 							@Override
 							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-								final IntegralDataTypeHolder value = makeValue();
-								int rows;
-								do {
-									try (PreparedStatement selectStatement = prepareStatement(
-											connection,
-											selectQuery,
-											statementLogger,
-											statsCollector
-									)) {
-										final ResultSet selectRS = executeQuery( selectStatement, statsCollector );
-										if ( !selectRS.next() ) {
-											final String err = "could not read a hi value - you need to populate the table: " + tableNameText;
-											LOG.error( err );
-											throw new IdentifierGenerationException( err );
-										}
-										value.initialize( selectRS, 1 );
-										selectRS.close();
-									}
-									catch (SQLException sqle) {
-										LOG.error( "could not read a hi value", sqle );
-										throw sqle;
-									}
-
-
-									try (PreparedStatement updatePS = prepareStatement(
-											connection,
-											updateQuery,
-											statementLogger,
-											statsCollector
-									)) {
-										final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
-										final IntegralDataTypeHolder updateValue = value.copy().add( increment );
-										updateValue.bind( updatePS, 1 );
-										value.bind( updatePS, 2 );
-										rows = executeUpdate( updatePS, statsCollector );
-									}
-									catch (SQLException e) {
-										LOG.unableToUpdateQueryHiValue( tableNameText, e );
-										throw e;
-									}
-								} while ( rows == 0 );
-
-								accessCounter++;
-
-								return value;
+								return incrementValue( connection, statementLogger, statsCollector );
 							}
 						},
 						true
@@ -181,9 +141,139 @@ public class TableStructure implements DatabaseStructure {
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
 			}
+
+			@Override
+			public AccessCallback getDetachedCallback() {
+				if ( session.getTenantIdentifier() != null ) {
+					// the bootstrap connection is not tenant-specific
+					return null;
+				}
+				return buildDetachedCallback( session.getJdbcServices() );
+			}
+
+			@Override
+			public ExecutorService getDetachedExecutor() {
+				return session.getFactory()
+						.getServiceRegistry()
+						.getService( SourceValuePrefetchExecutor.class )
+						.getExecutor();
+			}
+		};
+	}
+
+	/**
+	 * Build a callback which increments the value using a Connection (and transaction) of its
+	 * own, rather than one bound to a Session.
+	 */
+	private AccessCallback buildDetachedCallback(final JdbcServices jdbcServices) {
+		final SessionEventListenerManager statsCollector = new SessionEventListenerManagerImpl();
+
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				final JdbcConnectionAccess connectionAccess = jdbcServices.getBootstrapJdbcConnectionAccess();
+				try {
+					final Connection connection = connectionAccess.obtainConnection();
+					final boolean wasAutoCommit = connection.getAutoCommit();
+					try {
+						if ( wasAutoCommit ) {
+							connection.setAutoCommit( false );
+						}
+						final IntegralDataTypeHolder value = incrementValue(
+								connection,
+								jdbcServices.getSqlStatementLogger(),
+								statsCollector
+						);
+						connection.commit();
+						return value;
+					}
+					catch (SQLException | RuntimeException e) {
+						try {
+							connection.rollback();
+						}
+						catch (SQLException ignore) {
+							// intentionally empty
+						}
+						throw e;
+					}
+					finally {
+						try {
+							if ( wasAutoCommit ) {
+								connection.setAutoCommit( true );
+							}
+						}
+						finally {
+							connectionAccess.releaseConnection( connection );
+						}
+					}
+				}
+				catch (SQLException sqle) {
+					throw jdbcServices.getSqlExceptionHelper().convert(
+							sqle,
+							"could not get next table value",
+							selectQuery
+					);
+				}
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
 		};
 	}
 
+	private IntegralDataTypeHolder incrementValue(
+			Connection connection,
+			SqlStatementLogger statementLogger,
+			SessionEventListenerManager statsCollector) throws SQLException {
+		final IntegralDataTypeHolder value = makeValue();
+		int rows;
+		do {
+			try (PreparedStatement selectStatement = prepareStatement(
+					connection,
+					selectQuery,
+					statementLogger,
+					statsCollector
+			)) {
+				final ResultSet selectRS = executeQuery( selectStatement, statsCollector );
+				if ( !selectRS.next() ) {
+					final String err = "could not read a hi value - you need to populate the table: " + tableNameText;
+					LOG.error( err );
+					throw new IdentifierGenerationException( err );
+				}
+				value.initialize( selectRS, 1 );
+				selectRS.close();
+			}
+			catch (SQLException sqle) {
+				LOG.error( "could not read a hi value", sqle );
+				throw sqle;
+			}
+
+
+			try (PreparedStatement updatePS = prepareStatement(
+					connection,
+					updateQuery,
+					statementLogger,
+					statsCollector
+			)) {
+				final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
+				final IntegralDataTypeHolder updateValue = value.copy().add( increment );
+				updateValue.bind( updatePS, 1 );
+				value.bind( updatePS, 2 );
+				rows = executeUpdate( updatePS, statsCollector );
+			}
+			catch (SQLException e) {
+				LOG.unableToUpdateQueryHiValue( tableNameText, e );
+				throw e;
+			}
+		} while ( rows == 0 );
+
+		accessCounter.incrementAndGet();
+
+		return value;
+	}
+
 	private PreparedStatement prepareStatement(
 			Connection connection,
 			String sql,
@@ -0,0 +1,474 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.internal.util.MathHelper;
+
+/**
+ * A bounded, concurrent cache with a W-TinyLFU style eviction policy.
+ * <p/>
+ * Entries are held in a {@link ConcurrentHashMap}, so reads never lock.  Reads are
+ * recorded in a lossy, striped buffer which is replayed against the eviction policy
+ * by whichever thread manages to acquire the eviction lock - either when a buffer
+ * stripe fills up or when an entry is added.
+ * <p/>
+ * The eviction policy is made up of a small LRU "admission window" followed by a
+ * segmented LRU "main" space (probation and protected segments).  Entries leaving the
+ * window compete with the probation victim for a place in the main space, the winner
+ * being the one estimated to be used most often by a 4-bit count-min sketch.  The
+ * sketch is periodically halved so that it follows changes in the workload.
+ *
+ * @author agent
+ */
+public class BoundedLfuCache<K, V> {
+	/**
+	 * Notified of each entry evicted to honor the maximum size
+	 */
+	@FunctionalInterface
+	public interface EvictionListener<K, V> {
+		void onEviction(K key, V value);
+	}
+
+	private static final int WINDOW = 0;
+	private static final int PROBATION = 1;
+	private static final int PROTECTED = 2;
+	private static final int RETIRED = 3;
+
+	private static final int READ_BUFFER_STRIPES = Math.min(
+			64,
+			MathHelper.ceilingPowerOfTwo( 4 * Runtime.getRuntime().availableProcessors() )
+	);
+	private static final int READ_BUFFER_STRIPE_SIZE = 16;
+	private static final int READ_BUFFER_STRIPE_MASK = READ_BUFFER_STRIPE_SIZE - 1;
+	// spacing of the per-stripe counters, to keep each one on its own cache line
+	private static final int COUNTER_PADDING = 16;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final int maximumSize;
+	private final int windowMaximum;
+	private final int protectedMaximum;
+	private final EvictionListener<K, V> evictionListener;
+
+	private final AtomicReferenceArray<Node<K, V>> readBuffer;
+	private final AtomicLongArray readBufferWriteCounts;
+
+	// all of the following are guarded by the eviction lock
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessOrderDeque<K, V> windowDeque = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> probationDeque = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> protectedDeque = new AccessOrderDeque<>();
+	private int size;
+	private int windowSize;
+	private int protectedSize;
+
+	public BoundedLfuCache(int maximumSize) {
+		this( maximumSize, null );
+	}
+
+	public BoundedLfuCache(int maximumSize, EvictionListener<K, V> evictionListener) {
+		if ( maximumSize <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive : " + maximumSize );
+		}
+
+		this.maximumSize = maximumSize;
+		this.windowMaximum = Math.max( 1, maximumSize / 100 );
+		this.protectedMaximum = ( maximumSize - windowMaximum ) * 4 / 5;
+		this.evictionListener = evictionListener;
+
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1 << 16 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+		this.readBuffer = new AtomicReferenceArray<>( READ_BUFFER_STRIPES * READ_BUFFER_STRIPE_SIZE );
+		this.readBufferWriteCounts = new AtomicLongArray( READ_BUFFER_STRIPES * COUNTER_PADDING );
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	public int size() {
+		return data.size();
+	}
+
+	public V get(K key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+
+		afterRead( node );
+		return node.value;
+	}
+
+	/**
+	 * Add the value, unless there is already one cached for the key
+	 *
+	 * @return The value already cached for the key, or {@code null} if the given value was added
+	 */
+	public V putIfAbsent(K key, V value) {
+		Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			final Node<K, V> newNode = new Node<>( key, value );
+			node = data.putIfAbsent( key, newNode );
+			if ( node == null ) {
+				afterWrite( newNode );
+				return null;
+			}
+		}
+
+		afterRead( node );
+		return node.value;
+	}
+
+	public void clear() {
+		evictionLock.lock();
+		try {
+			for ( Node<K, V> node : data.values() ) {
+				node.queue = RETIRED;
+			}
+			data.clear();
+
+			for ( int i = 0; i < readBuffer.length(); i++ ) {
+				readBuffer.lazySet( i, null );
+			}
+
+			windowDeque.clear();
+			probationDeque.clear();
+			protectedDeque.clear();
+			size = 0;
+			windowSize = 0;
+			protectedSize = 0;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// read buffer
+
+	private void afterRead(Node<K, V> node) {
+		final int stripe = (int) Thread.currentThread().getId() & ( READ_BUFFER_STRIPES - 1 );
+		final long writeCount = readBufferWriteCounts.getAndIncrement( stripe * COUNTER_PADDING );
+		final int index = (int) writeCount & READ_BUFFER_STRIPE_MASK;
+
+		// lossy - an unprocessed read recorded in the same slot is simply overwritten
+		readBuffer.lazySet( stripe * READ_BUFFER_STRIPE_SIZE + index, node );
+
+		if ( index == READ_BUFFER_STRIPE_MASK && evictionLock.tryLock() ) {
+			try {
+				drainReadBuffer();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void drainReadBuffer() {
+		for ( int i = 0; i < readBuffer.length(); i++ ) {
+			final Node<K, V> node = readBuffer.get( i );
+			if ( node != null && readBuffer.compareAndSet( i, node, null ) ) {
+				onAccess( node );
+			}
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// eviction policy - all called with the eviction lock held
+
+	private void afterWrite(Node<K, V> node) {
+		evictionLock.lock();
+		try {
+			drainReadBuffer();
+
+			if ( data.get( node.key ) != node ) {
+				// cleared concurrently
+				return;
+			}
+
+			sketch.increment( node.key );
+			node.queue = WINDOW;
+			windowDeque.addLast( node );
+			windowSize++;
+			size++;
+
+			evict();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void onAccess(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW: {
+				sketch.increment( node.key );
+				windowDeque.moveToBack( node );
+				break;
+			}
+			case PROBATION: {
+				sketch.increment( node.key );
+				probationDeque.remove( node );
+				node.queue = PROTECTED;
+				protectedDeque.addLast( node );
+				protectedSize++;
+				demoteFromProtected();
+				break;
+			}
+			case PROTECTED: {
+				sketch.increment( node.key );
+				protectedDeque.moveToBack( node );
+				break;
+			}
+			default: {
+				// evicted or cleared since the read was recorded
+			}
+		}
+	}
+
+	private void demoteFromProtected() {
+		while ( protectedSize > protectedMaximum ) {
+			final Node<K, V> demoted = protectedDeque.pollFirst();
+			protectedSize--;
+			demoted.queue = PROBATION;
+			probationDeque.addLast( demoted );
+		}
+	}
+
+	private void evict() {
+		// entries overflowing the admission window become candidates for the main space
+		while ( windowSize > windowMaximum ) {
+			final Node<K, V> candidate = windowDeque.pollFirst();
+			windowSize--;
+			candidate.queue = PROBATION;
+			probationDeque.addLast( candidate );
+		}
+
+		while ( size > maximumSize ) {
+			final Node<K, V> victim = probationDeque.peekFirst();
+			final Node<K, V> candidate = probationDeque.peekLast();
+
+			final Node<K, V> evicted;
+			if ( victim == null ) {
+				evicted = protectedDeque.peekFirst() != null ? protectedDeque.peekFirst() : windowDeque.peekFirst();
+			}
+			else if ( victim == candidate ) {
+				evicted = victim;
+			}
+			else {
+				// TinyLFU admission : the candidate only replaces the victim if used more often
+				evicted = sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ? victim : candidate;
+			}
+
+			evictNode( evicted );
+		}
+	}
+
+	private void evictNode(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW: {
+				windowDeque.remove( node );
+				windowSize--;
+				break;
+			}
+			case PROBATION: {
+				probationDeque.remove( node );
+				break;
+			}
+			case PROTECTED: {
+				protectedDeque.remove( node );
+				protectedSize--;
+				break;
+			}
+			default: {
+				return;
+			}
+		}
+
+		node.queue = RETIRED;
+		size--;
+
+		if ( data.remove( node.key, node ) && evictionListener != null ) {
+			evictionListener.onEviction( node.key, node.value );
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// support
+
+	private static final class Node<K, V> {
+		private final K key;
+		private final V value;
+
+		// guarded by the eviction lock
+		private int queue = RETIRED;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Doubly-linked list threaded through the nodes themselves, least recently used first
+	 */
+	private static final class AccessOrderDeque<K, V> {
+		private Node<K, V> head;
+		private Node<K, V> tail;
+
+		private Node<K, V> peekFirst() {
+			return head;
+		}
+
+		private Node<K, V> peekLast() {
+			return tail;
+		}
+
+		private void addLast(Node<K, V> node) {
+			node.previous = tail;
+			node.next = null;
+			if ( tail == null ) {
+				head = node;
+			}
+			else {
+				tail.next = node;
+			}
+			tail = node;
+		}
+
+		private void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				head = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+
+			if ( node.next == null ) {
+				tail = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+
+			node.previous = null;
+			node.next = null;
+		}
+
+		private void moveToBack(Node<K, V> node) {
+			if ( node != tail ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		private Node<K, V> pollFirst() {
+			final Node<K, V> node = head;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		private void clear() {
+			head = null;
+			tail = null;
+		}
+	}
+
+	/**
+	 * A count-min sketch of 4-bit counters (16 per {@code long}) estimating how often
+	 * each key was used.  All counters are halved once the number of increments reaches
+	 * 10 times the maximum size of the cache.  Not thread-safe.
+	 */
+	static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+		private static final long ONE_MASK = 0x1111111111111111L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int additions;
+
+		FrequencySketch(int maximumSize) {
+			final int tableSize = MathHelper.ceilingPowerOfTwo( Math.max( 1, Math.min( maximumSize, 1 << 30 ) ) );
+			this.table = new long[tableSize];
+			this.tableMask = tableSize - 1;
+			this.sampleSize = (int) Math.min( 10L * maximumSize, Integer.MAX_VALUE );
+		}
+
+		int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+
+			if ( added && ++additions >= sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			return false;
+		}
+
+		private void reset() {
+			int odd = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				odd += Long.bitCount( table[i] & ONE_MASK );
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			additions = ( additions >>> 1 ) - ( odd >>> 2 );
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return ( (int) h ) & tableMask;
+		}
+
+		private static int spread(int x) {
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			return ( x >>> 16 ) ^ x;
+		}
+	}
+}
@@ -6,11 +6,9 @@
  */
 package org.hibernate.internal.util.collections;
 
-import java.io.Serializable;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -19,12 +17,14 @@ import java.util.function.Consumer;
 /**
  * A <tt>Map</tt> where keys are compared by object identity,
  * rather than <tt>equals()</tt>.
+ * <p/>
+ * Backed by a {@link LinearProbingHashMap}, so that keys need not be wrapped.
  */
 public final class IdentityMap<K,V> implements Map<K,V> {
 
-	private final LinkedHashMap<IdentityKey<K>,V> map;
+	private final LinearProbingHashMap<K,V> map;
 	@SuppressWarnings( {"unchecked"})
-	private transient Map.Entry<IdentityKey<K>,V>[] entryArray = null;
+	private transient Map.Entry<K,V>[] entryArray = null;
 
 	/**
 	 * Return a new instance of this class, with iteration
@@ -34,7 +34,7 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	 * @return The map
 	 */
 	public static <K,V> IdentityMap<K,V> instantiateSequenced(int size) {
-		return new IdentityMap<K,V>( new LinkedHashMap<>( size << 1, 0.6f ) );
+		return new IdentityMap<K,V>( new IdentityLinearProbingHashMap<>( size ) );
 	}
 
 	/**
@@ -42,7 +42,7 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	 *
 	 * @param underlyingMap The delegate map.
 	 */
-	private IdentityMap(LinkedHashMap<IdentityKey<K>,V> underlyingMap) {
+	private IdentityMap(LinearProbingHashMap<K,V> underlyingMap) {
 		map = underlyingMap;
 	}
 
@@ -60,7 +60,7 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 
 	public static <K,V> void onEachKey(Map<K,V> map, Consumer<K> consumer) {
 		final IdentityMap<K, V> identityMap = (IdentityMap<K, V>) map;
-		identityMap.map.forEach( (kIdentityKey, v) -> consumer.accept( kIdentityKey.key ) );
+		identityMap.map.forEach( (k, v) -> consumer.accept( k ) );
 	}
 
 	/**
@@ -69,11 +69,28 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	 */
 	@Override
 	public void forEach(BiConsumer<? super K, ? super V> action) {
-		map.forEach( (k,v) -> action.accept( k.key, v ) );
+		map.forEach( action );
 	}
 
 	public Iterator<K> keyIterator() {
-		return new KeyIterator<K>( map.keySet().iterator() );
+		final Iterator<K> keyIterator = map.keySet().iterator();
+		return new Iterator<K>() {
+			@Override
+			public boolean hasNext() {
+				return keyIterator.hasNext();
+			}
+
+			@Override
+			public K next() {
+				return keyIterator.next();
+			}
+
+			@Override
+			public void remove() {
+				keyIterator.remove();
+				entryArray = null;
+			}
+		};
 	}
 
 	@Override
@@ -87,9 +104,8 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	}
 
 	@Override
-	@SuppressWarnings({ "unchecked" })
 	public boolean containsKey(Object key) {
-		return map.containsKey( new IdentityKey( key ) );
+		return map.containsKey( key );
 	}
 
 	@Override
@@ -99,22 +115,20 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	}
 
 	@Override
-	@SuppressWarnings( {"unchecked"})
 	public V get(Object key) {
-		return map.get( new IdentityKey( key ) );
+		return map.get( key );
 	}
 
 	@Override
 	public V put(K key, V value) {
 		this.entryArray = null;
-		return map.put( new IdentityKey<K>( key ), value );
+		return map.put( key, value );
 	}
 
 	@Override
-	@SuppressWarnings( {"unchecked"})
 	public V remove(Object key) {
 		this.entryArray = null;
-		return map.remove( new IdentityKey( key ) );
+		return map.remove( key );
 	}
 
 	@Override
@@ -145,22 +159,17 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	@Override
 	public Set<Entry<K,V>> entrySet() {
 		Set<Entry<K,V>> set = new HashSet<Entry<K,V>>( map.size() );
-		for ( Entry<IdentityKey<K>, V> entry : map.entrySet() ) {
-			set.add( new IdentityMapEntry<K,V>( entry.getKey().key, entry.getValue() ) );
-		}
+		map.forEach( (k, v) -> set.add( new IdentityMapEntry<K,V>( k, v ) ) );
 		return set;
 	}
 
 	@SuppressWarnings( {"unchecked"})
 	public Map.Entry[] entryArray() {
 		if ( entryArray == null ) {
-			entryArray = new Map.Entry[ map.size() ];
-			final Iterator<Entry<IdentityKey<K>, V>> itr = map.entrySet().iterator();
-			int i = 0;
-			while ( itr.hasNext() ) {
-				final Entry<IdentityKey<K>, V> me = itr.next();
-				entryArray[i++] = new IdentityMapEntry( me.getKey().key, me.getValue() );
-			}
+			final Map.Entry<K,V>[] entries = new Map.Entry[ map.size() ];
+			final int[] i = { 0 };
+			map.forEach( (k, v) -> entries[i[0]++] = new IdentityMapEntry<>( k, v ) );
+			entryArray = entries;
 		}
 		return entryArray;
 	}
@@ -170,27 +179,6 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 		return map.toString();
 	}
 
-	private static final class KeyIterator<K> implements Iterator<K> {
-		private final Iterator<IdentityKey<K>> identityKeyIterator;
-
-		private KeyIterator(Iterator<IdentityKey<K>> iterator) {
-			identityKeyIterator = iterator;
-		}
-
-		public boolean hasNext() {
-			return identityKeyIterator.hasNext();
-		}
-
-		public K next() {
-			return identityKeyIterator.next().key;
-		}
-
-		public void remove() {
-			throw new UnsupportedOperationException();
-		}
-
-	}
-
 	private static final class IdentityMapEntry<K,V> implements java.util.Map.Entry<K,V> {
 
 		private final K key;
@@ -217,30 +205,21 @@ public final class IdentityMap<K,V> implements Map<K,V> {
 	/**
 	 * We need to base the identity on {@link System#identityHashCode(Object)}
 	 */
-	private static final class IdentityKey<K> implements Serializable {
+	private static final class IdentityLinearProbingHashMap<K,V> extends LinearProbingHashMap<K,V> {
 
-		private final K key;
-
-		IdentityKey(K key) {
-			this.key = key;
-		}
-
-		@SuppressWarnings( {"EqualsWhichDoesntCheckParameterClass"})
-		@Override
-		public boolean equals(Object other) {
-			return other != null && key == ( (IdentityKey) other ).key;
+		IdentityLinearProbingHashMap(int expectedSize) {
+			super( expectedSize );
 		}
 
 		@Override
-		public int hashCode() {
+		protected int hash(Object key) {
 			return System.identityHashCode( key );
 		}
 
 		@Override
-		public String toString() {
-			return key.toString();
+		protected boolean isSameKey(Object key, Object other) {
+			return key == other;
 		}
-
 	}
 
 }
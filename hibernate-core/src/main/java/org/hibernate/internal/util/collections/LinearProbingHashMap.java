@@ -0,0 +1,522 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.hibernate.internal.util.MathHelper;
+
+/**
+ * A <tt>Map</tt> using open addressing (linear probing), which does not allocate
+ * anything per entry: the keys, values and hashes are held in arrays, in the order
+ * the entries were added, and are located through an array of positions in those arrays.
+ * <p/>
+ * Iteration order is the order in which the entries were added.  Removing an entry leaves
+ * a hole in the arrays, which is reclaimed when the arrays are next resized; removing
+ * entries while iterating (through the iterator) is therefore cheap.
+ * <p/>
+ * Keys are compared through {@link #hash} and {@link #isSameKey}, using {@code equals()}
+ * unless overridden.  {@code null} keys are not supported.  This map is not thread-safe.
+ *
+ * @author agent
+ */
+public class LinearProbingHashMap<K, V> extends AbstractMap<K, V> {
+	private static final int MINIMUM_CAPACITY = 4;
+
+	private final int initialCapacity;
+
+	// position + 1 of the entry in the arrays below, or 0 for a free slot; at most half full
+	private int[] slots;
+	private Object[] keys;
+	private Object[] values;
+	private int[] hashes;
+
+	// the number of positions used in the arrays, including holes left by removed entries
+	private int end;
+	private int size;
+	private int modCount;
+
+	private Set<K> keySet;
+	private Collection<V> valueCollection;
+	private Set<Map.Entry<K, V>> entrySet;
+
+	/**
+	 * Create a map, sized for the given number of entries.  No memory is allocated
+	 * until the first entry is added.
+	 *
+	 * @param expectedSize The expected number of entries
+	 */
+	public LinearProbingHashMap(int expectedSize) {
+		this.initialCapacity = MathHelper.ceilingPowerOfTwo( Math.max( expectedSize, MINIMUM_CAPACITY ) );
+	}
+
+	/**
+	 * The hash of the given (non-null) key
+	 */
+	protected int hash(Object key) {
+		final int h = key.hashCode();
+		return h ^ ( h >>> 16 );
+	}
+
+	/**
+	 * Whether the given (non-null) keys are to be considered as the same key
+	 */
+	protected boolean isSameKey(Object key, Object other) {
+		return key == other || key.equals( other );
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf( key ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		for ( int i = 0; i < end; i++ ) {
+			if ( keys[i] != null && Objects.equals( value, values[i] ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		final int index = indexOf( key );
+		return index < 0 ? null : (V) values[index];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		Objects.requireNonNull( key, "null keys are not supported" );
+		final int hash = hash( key );
+		if ( slots == null ) {
+			allocate( initialCapacity );
+		}
+
+		int slot = findSlot( key, hash );
+		final int index = slots[slot] - 1;
+		if ( index >= 0 ) {
+			final V old = (V) values[index];
+			values[index] = value;
+			return old;
+		}
+
+		if ( end == keys.length ) {
+			// reuse the space of the removed entries if they make up half of the arrays, otherwise grow
+			resize( size < keys.length >> 1 ? keys.length : keys.length << 1 );
+			slot = findSlot( key, hash );
+		}
+		keys[end] = key;
+		values[end] = value;
+		hashes[end] = hash;
+		slots[slot] = ++end;
+		size++;
+		modCount++;
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if ( size == 0 || key == null ) {
+			return null;
+		}
+		final int slot = findSlot( key, hash( key ) );
+		final int index = slots[slot] - 1;
+		if ( index < 0 ) {
+			return null;
+		}
+		final V old = (V) values[index];
+		removeAt( slot, index );
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		if ( slots != null ) {
+			// drop the arrays: a cleared map is likely to be much smaller the next time around
+			slots = null;
+			keys = null;
+			values = null;
+			hashes = null;
+			end = 0;
+			size = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final int expectedModCount = modCount;
+		for ( int i = 0; i < end; i++ ) {
+			if ( keys[i] != null ) {
+				action.accept( (K) keys[i], (V) values[i] );
+				if ( modCount != expectedModCount ) {
+					throw new ConcurrentModificationException();
+				}
+			}
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		if ( keySet == null ) {
+			keySet = new KeySet();
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( valueCollection == null ) {
+			valueCollection = new Values();
+		}
+		return valueCollection;
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	@Override
+	public String toString() {
+		// avoid the allocation of an entry per element
+		final StringBuilder buffer = new StringBuilder( "{" );
+		for ( int i = 0; i < end; i++ ) {
+			if ( keys[i] != null ) {
+				if ( buffer.length() > 1 ) {
+					buffer.append( ", " );
+				}
+				buffer.append( keys[i] ).append( '=' ).append( values[i] );
+			}
+		}
+		return buffer.append( '}' ).toString();
+	}
+
+	private int indexOf(Object key) {
+		if ( size == 0 || key == null ) {
+			return -1;
+		}
+		return slots[findSlot( key, hash( key ) )] - 1;
+	}
+
+	/**
+	 * The slot holding the given key, or the free slot it would be added to
+	 */
+	private int findSlot(Object key, int hash) {
+		final int mask = slots.length - 1;
+		int slot = hash & mask;
+		while ( true ) {
+			final int index = slots[slot] - 1;
+			if ( index < 0 || ( hashes[index] == hash && isSameKey( keys[index], key ) ) ) {
+				return slot;
+			}
+			slot = ( slot + 1 ) & mask;
+		}
+	}
+
+	private void removeAt(int slot, int index) {
+		keys[index] = null;
+		values[index] = null;
+		size--;
+		modCount++;
+
+		// shift back the following slots of the probe sequence which would no longer be reachable
+		final int mask = slots.length - 1;
+		int gap = slot;
+		int next = slot;
+		while ( true ) {
+			next = ( next + 1 ) & mask;
+			final int position = slots[next];
+			if ( position == 0 ) {
+				break;
+			}
+			final int home = hashes[position - 1] & mask;
+			final boolean reachable = next > gap
+					? home > gap && home <= next
+					: home > gap || home <= next;
+			if ( !reachable ) {
+				slots[gap] = position;
+				gap = next;
+			}
+		}
+		slots[gap] = 0;
+	}
+
+	private void removeAt(int index) {
+		final int mask = slots.length - 1;
+		int slot = hashes[index] & mask;
+		while ( slots[slot] != index + 1 ) {
+			slot = ( slot + 1 ) & mask;
+		}
+		removeAt( slot, index );
+	}
+
+	private void allocate(int capacity) {
+		slots = new int[capacity << 1];
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		hashes = new int[capacity];
+	}
+
+	private void resize(int capacity) {
+		final Object[] oldKeys = keys;
+		final Object[] oldValues = values;
+		final int[] oldHashes = hashes;
+		final int oldEnd = end;
+		allocate( capacity );
+
+		final int mask = slots.length - 1;
+		int index = 0;
+		for ( int i = 0; i < oldEnd; i++ ) {
+			if ( oldKeys[i] != null ) {
+				keys[index] = oldKeys[i];
+				values[index] = oldValues[i];
+				hashes[index] = oldHashes[i];
+				int slot = oldHashes[i] & mask;
+				while ( slots[slot] != 0 ) {
+					slot = ( slot + 1 ) & mask;
+				}
+				slots[slot] = ++index;
+			}
+		}
+		end = index;
+		modCount++;
+	}
+
+	private abstract class PositionIterator<T> implements Iterator<T> {
+		private int next = skipHoles( 0 );
+		private int current = -1;
+		private int expectedModCount = modCount;
+
+		private int skipHoles(int position) {
+			while ( position < end && keys[position] == null ) {
+				position++;
+			}
+			return position;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < end;
+		}
+
+		@Override
+		public T next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( next >= end ) {
+				throw new NoSuchElementException();
+			}
+			current = next;
+			next = skipHoles( next + 1 );
+			return element( current );
+		}
+
+		@Override
+		public void remove() {
+			if ( current < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			// the arrays are never resized by a removal: the positions of the remaining entries do not change
+			removeAt( current );
+			current = -1;
+			expectedModCount = modCount;
+		}
+
+		abstract T element(int position);
+	}
+
+	private final class KeySet extends AbstractSet<K> {
+		@Override
+		public Iterator<K> iterator() {
+			return new PositionIterator<K>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				K element(int position) {
+					return (K) keys[position];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return containsKey( key );
+		}
+
+		@Override
+		public boolean remove(Object key) {
+			if ( containsKey( key ) ) {
+				LinearProbingHashMap.this.remove( key );
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			LinearProbingHashMap.this.clear();
+		}
+	}
+
+	private final class Values extends AbstractCollection<V> {
+		@Override
+		public Iterator<V> iterator() {
+			return new PositionIterator<V>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				V element(int position) {
+					return (V) values[position];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object value) {
+			return containsValue( value );
+		}
+
+		@Override
+		public void clear() {
+			LinearProbingHashMap.this.clear();
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator() {
+			return new PositionIterator<Map.Entry<K, V>>() {
+				@Override
+				Map.Entry<K, V> element(int position) {
+					return new PositionEntry( position );
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+			final int index = indexOf( entry.getKey() );
+			return index >= 0 && Objects.equals( values[index], entry.getValue() );
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if ( contains( o ) ) {
+				LinearProbingHashMap.this.remove( ( (Map.Entry<?, ?>) o ).getKey() );
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			LinearProbingHashMap.this.clear();
+		}
+	}
+
+	/**
+	 * An entry reading (and writing) through to the arrays, for as long as the map is not resized
+	 */
+	private final class PositionEntry implements Map.Entry<K, V> {
+		private final int position;
+
+		private PositionEntry(int position) {
+			this.position = position;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public K getKey() {
+			return (K) keys[position];
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			return (V) values[position];
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V setValue(V value) {
+			final V old = (V) values[position];
+			values[position] = value;
+			return old;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+			return Objects.equals( getKey(), other.getKey() ) && Objects.equals( getValue(), other.getValue() );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode( getKey() ) ^ Objects.hashCode( getValue() );
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+
+}
@@ -140,25 +140,24 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 			return null;
 		}
 
-		final Object ce = getFromSharedCache( event, persister, source );
+		final CacheEntry entry = getFromSharedCache( event, persister, source );
 
-		if ( ce == null ) {
+		if ( entry == null ) {
 			// nothing was found in cache
 			return null;
 		}
 
-		return processCachedEntry( event, persister, ce, source, entityKey );
+		return processCachedEntry( event, persister, entry, source, entityKey );
 	}
 
 
 	private Object processCachedEntry(
 			final LoadEvent event,
 			final EntityPersister persister,
-			final Object ce,
+			final CacheEntry entry,
 			final SessionImplementor source,
 			final EntityKey entityKey) {
 
-		CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
 		if ( entry.isReferenceEntry() ) {
 			if ( event.getInstanceToLoad() != null ) {
 				throw new HibernateException(
@@ -188,7 +187,7 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 		}
 	}
 
-	private Object getFromSharedCache(
+	private CacheEntry getFromSharedCache(
 			final LoadEvent event,
 			final EntityPersister persister,
 			SessionImplementor source) {
@@ -202,9 +201,13 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 		);
 
 		final Object ce = CacheHelper.fromSharedCache( source, ck, persister.getCacheAccessStrategy() );
+		// an entry written for another mapping of the entity destructures to null
+		final CacheEntry entry = ce == null
+				? null
+				: (CacheEntry) persister.getCacheEntryStructure().destructure( ce, factory );
 		final StatisticsImplementor statistics = factory.getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
-			if ( ce == null ) {
+			if ( entry == null ) {
 				statistics.entityCacheMiss(
 						StatsHelper.INSTANCE.getRootEntityRole( persister ),
 						cache.getRegion().getName()
@@ -217,7 +220,7 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 				);
 			}
 		}
-		return ce;
+		return entry;
 	}
 
 	private Object convertCacheReferenceEntryToEntity(
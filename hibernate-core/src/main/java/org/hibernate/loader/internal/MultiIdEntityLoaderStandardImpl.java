@@ -7,21 +7,65 @@
 package org.hibernate.loader.internal;
 
 import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.internal.util.MathHelper;
+import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.loader.entity.CacheEntityLoaderHelper;
 import org.hibernate.loader.entity.DynamicBatchingEntityLoaderBuilder;
+import org.hibernate.loader.entity.DynamicBatchingEntityLoaderBuilder.DynamicEntityLoader;
 import org.hibernate.loader.spi.MultiIdEntityLoader;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 
+import org.jboss.logging.Logger;
+
 /**
+ * Standard MultiIdEntityLoader implementation.
+ * <p/>
+ * Resolves as many of the requested entities as possible from the Session and
+ * second-level cache (per {@link MultiLoadOptions}) and loads the remainder in
+ * chunks sized according to the Dialect's
+ * {@link org.hibernate.loader.BatchLoadSizingStrategy}.  When
+ * {@link org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING} is
+ * enabled, each chunk is padded (by repeating its last id) to the next power of
+ * two so that only a handful of distinct SQL strings are ever generated.
+ *
  * @author Steve Ebersole
  */
 public class MultiIdEntityLoaderStandardImpl<T> implements MultiIdEntityLoader<T> {
+	private static final Logger log = Logger.getLogger( MultiIdEntityLoaderStandardImpl.class );
+
 	private final EntityPersister entityDescriptor;
 
+	// todo (6.0) : the chunk loads still use the legacy (SQL String based) DynamicEntityLoader
+	//		because the SQL AST for entity selects is not yet available - see
+	//		`SingleIdEntityLoaderStandardImpl#createJdbcSelect`.  Once it is, this should
+	//		cache a JdbcSelect per (padded) chunk size instead
+
+	/**
+	 * The loader for "standard" (no lock, no influencers) chunk loads.  Its SQL template
+	 * does not depend on the chunk size - the restriction is expanded for the actual ids of
+	 * each chunk - so a single loader serves all chunk sizes.
+	 */
+	private volatile DynamicEntityLoader standardChunkLoader;
+
 	public MultiIdEntityLoaderStandardImpl(EntityPersister entityDescriptor) {
 		this.entityDescriptor = entityDescriptor;
 	}
@@ -33,13 +77,324 @@ public class MultiIdEntityLoaderStandardImpl<T> implements MultiIdEntityLoader<T
 
 	@Override
 	public List<T> load(Object[] ids, MultiLoadOptions loadOptions, SharedSessionContractImplementor session) {
-		//noinspection unchecked
-		return DynamicBatchingEntityLoaderBuilder.INSTANCE.multiLoad(
+		assert ids != null;
+
+		final LockOptions lockOptions = loadOptions.getLockOptions() == null
+				? new LockOptions( LockMode.NONE )
+				: loadOptions.getLockOptions();
+
+		if ( loadOptions.isOrderReturnEnabled() ) {
+			return performOrderedMultiLoad( (Serializable[]) ids, session, loadOptions, lockOptions );
+		}
+		else {
+			return performUnorderedMultiLoad( (Serializable[]) ids, session, loadOptions, lockOptions );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<T> performOrderedMultiLoad(
+			Serializable[] ids,
+			SharedSessionContractImplementor session,
+			MultiLoadOptions loadOptions,
+			LockOptions lockOptions) {
+		final List result = CollectionHelper.arrayList( ids.length );
+
+		final int maxBatchSize = resolveMaxBatchSize( ids.length, loadOptions, session );
+
+		final List<Serializable> idsInBatch = new ArrayList<>();
+		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
+
+		for ( int i = 0; i < ids.length; i++ ) {
+			final Serializable id = ids[i];
+			final EntityKey entityKey = new EntityKey( id, entityDescriptor );
+
+			if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+				final LoadEvent loadEvent = new LoadEvent(
+						id,
+						entityDescriptor.getMappedClass().getName(),
+						lockOptions,
+						(EventSource) session
+				);
+
+				Object managedEntity = null;
+
+				if ( loadOptions.isSessionCheckingEnabled() ) {
+					// look for it in the Session first
+					final CacheEntityLoaderHelper.PersistenceContextEntry persistenceContextEntry = CacheEntityLoaderHelper.INSTANCE
+							.loadFromSessionCache( loadEvent, entityKey, LoadEventListener.GET );
+					managedEntity = persistenceContextEntry.getEntity();
+
+					if ( managedEntity != null
+							&& !loadOptions.isReturnOfDeletedEntitiesEnabled()
+							&& !persistenceContextEntry.isManaged() ) {
+						// put a null in the result
+						result.add( i, null );
+						continue;
+					}
+				}
+
+				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+					// look for it in the SessionFactory
+					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+							loadEvent,
+							entityDescriptor,
+							entityKey
+					);
+				}
+
+				if ( managedEntity != null ) {
+					result.add( i, managedEntity );
+					continue;
+				}
+			}
+
+			// if we did not hit any of the continues above, then we need to batch
+			// load the entity state.
+			idsInBatch.add( id );
+
+			if ( idsInBatch.size() >= maxBatchSize ) {
+				loadChunk( idsInBatch.toArray( new Serializable[ idsInBatch.size() ] ), maxBatchSize, lockOptions, session );
+				idsInBatch.clear();
+			}
+
+			// Save the EntityKey instance for use later!
+			result.add( i, entityKey );
+			elementPositionsLoadedByBatch.add( i );
+		}
+
+		if ( !idsInBatch.isEmpty() ) {
+			loadChunk( idsInBatch.toArray( new Serializable[ idsInBatch.size() ] ), maxBatchSize, lockOptions, session );
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		for ( Integer position : elementPositionsLoadedByBatch ) {
+			// the element value at this position in the result List should be
+			// the EntityKey for that entity; reuse it!
+			final EntityKey entityKey = (EntityKey) result.get( position );
+			Object entity = persistenceContext.getEntity( entityKey );
+			if ( entity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() ) {
+				// make sure it is not DELETED
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				if ( entry.getStatus() == Status.DELETED || entry.getStatus() == Status.GONE ) {
+					// the entity is locally deleted, and the options ask that we not return such entities...
+					entity = null;
+				}
+			}
+			result.set( position, entity );
+		}
+
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<T> performUnorderedMultiLoad(
+			Serializable[] ids,
+			SharedSessionContractImplementor session,
+			MultiLoadOptions loadOptions,
+			LockOptions lockOptions) {
+		final List result = CollectionHelper.arrayList( ids.length );
+
+		if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			// the user requested that we exclude ids corresponding to already managed
+			// entities from the generated load SQL.  So here we will iterate all
+			// incoming id values and see whether it corresponds to an existing
+			// entity associated with the PC - if it does we add it to the result
+			// list immediately and remove its id from the group of ids to load.
+			boolean foundAnyManagedEntities = false;
+			final List<Serializable> nonManagedIds = new ArrayList<>();
+			for ( Serializable id : ids ) {
+				final EntityKey entityKey = new EntityKey( id, entityDescriptor );
+
+				final LoadEvent loadEvent = new LoadEvent(
+						id,
+						entityDescriptor.getMappedClass().getName(),
+						lockOptions,
+						(EventSource) session
+				);
+
+				Object managedEntity = null;
+
+				// look for it in the Session first
+				final CacheEntityLoaderHelper.PersistenceContextEntry persistenceContextEntry = CacheEntityLoaderHelper.INSTANCE
+						.loadFromSessionCache( loadEvent, entityKey, LoadEventListener.GET );
+				if ( loadOptions.isSessionCheckingEnabled() ) {
+					managedEntity = persistenceContextEntry.getEntity();
+
+					if ( managedEntity != null
+							&& !loadOptions.isReturnOfDeletedEntitiesEnabled()
+							&& !persistenceContextEntry.isManaged() ) {
+						foundAnyManagedEntities = true;
+						result.add( null );
+						continue;
+					}
+				}
+
+				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+							loadEvent,
+							entityDescriptor,
+							entityKey
+					);
+				}
+
+				if ( managedEntity != null ) {
+					foundAnyManagedEntities = true;
+					result.add( managedEntity );
+				}
+				else {
+					nonManagedIds.add( id );
+				}
+			}
+
+			if ( foundAnyManagedEntities ) {
+				if ( nonManagedIds.isEmpty() ) {
+					// all of the given ids were already associated with the Session
+					return result;
+				}
+				else {
+					// over-write the ids to be loaded with the collection of
+					// just non-managed ones
+					ids = nonManagedIds.toArray(
+							(Serializable[]) Array.newInstance(
+									ids.getClass().getComponentType(),
+									nonManagedIds.size()
+							)
+					);
+				}
+			}
+		}
+
+		final int maxBatchSize = resolveMaxBatchSize( ids.length, loadOptions, session );
+
+		int numberOfIdsLeft = ids.length;
+		int idPosition = 0;
+		while ( numberOfIdsLeft > 0 ) {
+			final int batchSize = Math.min( numberOfIdsLeft, maxBatchSize );
+
+			final Serializable[] idsInBatch = new Serializable[batchSize];
+			System.arraycopy( ids, idPosition, idsInBatch, 0, batchSize );
+
+			result.addAll( loadChunk( idsInBatch, maxBatchSize, lockOptions, session ) );
+
+			numberOfIdsLeft = numberOfIdsLeft - batchSize;
+			idPosition += batchSize;
+		}
+
+		return result;
+	}
+
+	private int resolveMaxBatchSize(
+			int numberOfIds,
+			MultiLoadOptions loadOptions,
+			SharedSessionContractImplementor session) {
+		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
+			return loadOptions.getBatchSize();
+		}
+
+		final Dialect dialect = session.getJdbcServices().getJdbcEnvironment().getDialect();
+		final int identifierColumnSpan = entityDescriptor.getIdentifierType().getColumnSpan( session.getFactory() );
+
+		int maxBatchSize = dialect.getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
+				identifierColumnSpan,
+				numberOfIds
+		);
+
+		// never exceed the number of parameters the database accepts in an IN predicate
+		final int inExpressionCountLimit = dialect.getInExpressionCountLimit();
+		if ( inExpressionCountLimit > 0 ) {
+			maxBatchSize = Math.min( maxBatchSize, Math.max( 1, inExpressionCountLimit / identifierColumnSpan ) );
+		}
+
+		return maxBatchSize;
+	}
+
+	private List loadChunk(
+			Serializable[] idsInBatch,
+			int maxBatchSize,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final Serializable[] idsToLoad = padIfNecessary( idsInBatch, maxBatchSize, session );
+
+		if ( log.isDebugEnabled() ) {
+			log.debugf(
+					"Multi-load chunk for entity [%s] : %s ids (%s bound parameters)",
+					entityDescriptor.getEntityName(),
+					idsInBatch.length,
+					idsToLoad.length
+			);
+		}
+
+		final DynamicEntityLoader chunkLoader = resolveChunkLoader( idsToLoad.length, lockOptions, session );
+		final QueryParameters qp = DynamicBatchingEntityLoaderBuilder.buildMultiLoadQueryParameters(
 				(OuterJoinLoadable) entityDescriptor,
-				(Serializable[]) ids,
-				session,
-				loadOptions
+				idsToLoad,
+				lockOptions
 		);
+		return chunkLoader.doEntityBatchFetch( session, qp, idsToLoad );
+	}
+
+	/**
+	 * Pads the ids to the next power of two (never exceeding {@code maxBatchSize}) by
+	 * repeating the last id, if IN-clause parameter padding is enabled.  Repeated
+	 * values do not alter the results of the IN predicate.
+	 */
+	private Serializable[] padIfNecessary(
+			Serializable[] idsInBatch,
+			int maxBatchSize,
+			SharedSessionContractImplementor session) {
+		if ( !session.getFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
+			return idsInBatch;
+		}
+
+		final int paddedSize = Math.min( MathHelper.ceilingPowerOfTwo( idsInBatch.length ), maxBatchSize );
+		if ( paddedSize <= idsInBatch.length ) {
+			return idsInBatch;
+		}
 
+		final Serializable[] padded = (Serializable[]) Array.newInstance(
+				idsInBatch.getClass().getComponentType(),
+				paddedSize
+		);
+		System.arraycopy( idsInBatch, 0, padded, 0, idsInBatch.length );
+		final Serializable lastId = idsInBatch[ idsInBatch.length - 1 ];
+		for ( int i = idsInBatch.length; i < paddedSize; i++ ) {
+			padded[i] = lastId;
+		}
+		return padded;
+	}
+
+	private DynamicEntityLoader resolveChunkLoader(
+			int chunkSize,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers loadQueryInfluencers = session.getLoadQueryInfluencers();
+
+		if ( lockOptions.getLockMode() == LockMode.NONE
+				&& loadQueryInfluencers.getEnabledInternalFetchProfile() == null
+				&& !entityDescriptor.isAffectedByEnabledFilters( loadQueryInfluencers )
+				&& !entityDescriptor.isAffectedByEnabledFetchProfiles( loadQueryInfluencers )
+				&& !entityDescriptor.isAffectedByEntityGraph( loadQueryInfluencers ) ) {
+			// benign race - concurrent initializations build equivalent loaders
+			DynamicEntityLoader loader = standardChunkLoader;
+			if ( loader == null ) {
+				loader = new DynamicEntityLoader(
+						(OuterJoinLoadable) entityDescriptor,
+						chunkSize,
+						lockOptions,
+						session.getFactory(),
+						LoadQueryInfluencers.NONE
+				);
+				standardChunkLoader = loader;
+			}
+			return loader;
+		}
+
+		return new DynamicEntityLoader(
+				(OuterJoinLoadable) entityDescriptor,
+				chunkSize,
+				lockOptions,
+				session.getFactory(),
+				loadQueryInfluencers
+		);
 	}
 }
@@ -336,6 +336,12 @@ public abstract class SimpleValue implements KeyValue {
 					cs.getSettings().get( AvailableSettings.PREFERRED_POOLED_OPTIMIZER )
 			);
 		}
+		if ( cs.getSettings().get( AvailableSettings.POOLED_OPTIMIZER_PREFETCH_LOW_WATER_MARK ) != null ) {
+			params.put(
+					AvailableSettings.POOLED_OPTIMIZER_PREFETCH_LOW_WATER_MARK,
+					cs.getSettings().get( AvailableSettings.POOLED_OPTIMIZER_PREFETCH_LOW_WATER_MARK )
+			);
+		}
 
 		identifierGeneratorFactory.setDialect( dialect );
 		identifierGenerator = identifierGeneratorFactory.createIdentifierGenerator( identifierGeneratorStrategy, getType(), params );
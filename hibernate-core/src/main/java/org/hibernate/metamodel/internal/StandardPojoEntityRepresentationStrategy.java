@@ -8,9 +8,8 @@ package org.hibernate.metamodel.internal;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -38,7 +37,6 @@ import org.hibernate.metamodel.RepresentationMode;
 import org.hibernate.metamodel.spi.EntityRepresentationStrategy;
 import org.hibernate.metamodel.spi.Instantiator;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
-import org.hibernate.property.access.internal.PropertyAccessBasicImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyEmbeddedImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyIndexBackRefImpl;
@@ -236,44 +234,25 @@ public class StandardPojoEntityRepresentationStrategy implements EntityRepresent
 			javaTypeToReflect = mappedJtd.getJavaType();
 		}
 
-		final List<String> getterNames = new ArrayList<>();
-		final List<String> setterNames = new ArrayList<>();
-		final List<Class> getterTypes = new ArrayList<>();
-
-		boolean foundCustomAccessor = false;
+		// the access to each property, in the order of the state array
+		final Map<String, PropertyAccess> propertyAccesses = new LinkedHashMap<>();
 
 		//noinspection unchecked
 		final Iterator<Property> itr = bootType.getPropertyClosureIterator();
-		int i = 0;
 		while ( itr.hasNext() ) {
 			//TODO: redesign how PropertyAccessors are acquired...
 			final Property property = itr.next();
 			final PropertyAccess propertyAccess = makePropertyAccess( property );
 
 			propertyAccessMap.put( property.getName(), propertyAccess );
-
-			if ( ! (propertyAccess instanceof PropertyAccessBasicImpl) ) {
-				foundCustomAccessor = true;
-			}
-
-			getterNames.add( propertyAccess.getGetter().getMethodName() );
-			getterTypes.add( propertyAccess.getGetter().getReturnType() );
-
-			setterNames.add( propertyAccess.getSetter().getMethodName() );
-
-			i++;
+			propertyAccesses.put( property.getName(), propertyAccess );
 		}
 
-		if ( foundCustomAccessor || ! Environment.useReflectionOptimizer() ) {
+		if ( ! Environment.useReflectionOptimizer() ) {
 			return null;
 		}
 
-		return bytecodeProvider.getReflectionOptimizer(
-				javaTypeToReflect,
-				getterNames.toArray( new String[0] ),
-				setterNames.toArray( new String[0] ),
-				getterTypes.toArray( new Class[0] )
-		);
+		return bytecodeProvider.getReflectionOptimizer( javaTypeToReflect, propertyAccesses );
 	}
 
 	private PropertyAccess makePropertyAccess(Property bootAttributeDescriptor) {
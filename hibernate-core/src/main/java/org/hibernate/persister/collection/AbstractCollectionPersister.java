@@ -29,6 +29,7 @@ import org.hibernate.TransientObjectException;
 import org.hibernate.boot.model.relational.Database;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCollectionCacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.StructuredCollectionCacheEntry;
 import org.hibernate.cache.spi.entry.StructuredMapCacheEntry;
@@ -244,7 +245,10 @@ public abstract class AbstractCollectionPersister
 
 		this.factory = creationContext.getSessionFactory();
 		this.cacheAccessStrategy = cacheAccessStrategy;
-		if ( factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled() ) {
+		if ( factory.getSessionFactoryOptions().isBinaryCacheEntriesEnabled() ) {
+			cacheEntryStructure = new BinaryCollectionCacheEntry( this );
+		}
+		else if ( factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled() ) {
 			cacheEntryStructure = collectionBinding.isMap()
 					? StructuredMapCacheEntry.INSTANCE
 					: StructuredCollectionCacheEntry.INSTANCE;
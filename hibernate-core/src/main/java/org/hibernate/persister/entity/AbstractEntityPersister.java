@@ -55,6 +55,7 @@ import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
@@ -103,6 +104,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.FilterHelper;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.BoundedLfuCache;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
 import org.hibernate.jdbc.TooManyRowsAffectedException;
@@ -220,6 +222,10 @@ public abstract class AbstractEntityPersister
 
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( AbstractEntityPersister.class );
 
+	// the number of distinct combinations of updated properties (and tables) whose dynamic UPDATE
+	// statements are kept; workloads tend to update the same few combinations over and over
+	private static final int DYNAMIC_UPDATE_STRING_CACHE_SIZE = 128;
+
 	public static final String ENTITY_CLASS = "class";
 
 
@@ -277,6 +283,9 @@ public abstract class AbstractEntityPersister
 
 	private final List<Integer> lobProperties = new ArrayList<>();
 
+	// the UPDATE statements generated for dynamic-update, by the properties they update
+	private final BoundedLfuCache<DynamicUpdateKey, String> dynamicUpdateStrings;
+
 	//information about lazy properties of this class
 	private final String[] lazyPropertyNames;
 	private final int[] lazyPropertyNumbers;
@@ -638,6 +647,9 @@ public abstract class AbstractEntityPersister
 		}
 
 		this.entityMetamodel = new EntityMetamodel( bootDescriptor, this, factory );
+		this.dynamicUpdateStrings = entityMetamodel.isDynamicUpdate()
+				? new BoundedLfuCache<>( DYNAMIC_UPDATE_STRING_CACHE_SIZE )
+				: null;
 
 		if ( entityMetamodel.isMutable() ) {
 			this.entityEntryFactory = MutableEntityEntryFactory.INSTANCE;
@@ -1064,8 +1076,12 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 
+		if ( factory.getSessionFactoryOptions().isBinaryCacheEntriesEnabled() ) {
+			return new StructuredCacheEntryHelper( this, new BinaryCacheEntry( this ) );
+		}
+
 		return factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled()
-				? new StructuredCacheEntryHelper( this )
+				? new StructuredCacheEntryHelper( this, new StructuredCacheEntry( this ) )
 				: new StandardCacheEntryHelper( this );
 	}
 
@@ -1382,13 +1398,16 @@ public abstract class AbstractEntityPersister
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, cacheAccess );
 			if ( ce != null ) {
 				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
-				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
-				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
-					// The following should be redundant, since the setter should have set this already.
-					// interceptor.attributeInitialized(fieldName);
-
-					// NOTE EARLY EXIT!!!
-					return initializedValue;
+				// an entry written for another mapping of the entity destructures to null
+				if ( cacheEntry != null ) {
+					final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
+					if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
+						// The following should be redundant, since the setter should have set this already.
+						// interceptor.attributeInitialized(fieldName);
+
+						// NOTE EARLY EXIT!!!
+						return initializedValue;
+					}
 				}
 			}
 		}
@@ -2925,6 +2944,76 @@ public abstract class AbstractEntityPersister
 		return hasColumns ? update.toStatementString() : null;
 	}
 
+	/**
+	 * The UPDATE statement for dynamic-update, reusing the statement generated earlier for the same
+	 * properties of the same table, unless the statement depends on the values of the properties
+	 * (optimistic-lock="all" or "dirty")
+	 */
+	private String getDynamicUpdateString(
+			final boolean[] includeProperty,
+			final int j,
+			final Object[] oldFields,
+			final boolean useRowId) {
+		if ( oldFields != null && isAllOrDirtyOptLocking() ) {
+			return generateUpdateString( includeProperty, j, oldFields, useRowId );
+		}
+
+		final DynamicUpdateKey key = new DynamicUpdateKey( includeProperty, j, useRowId );
+		final String cached = dynamicUpdateStrings.get( key );
+		if ( cached != null ) {
+			return cached;
+		}
+
+		final String sql = generateUpdateString( includeProperty, j, null, useRowId );
+		if ( sql == null ) {
+			return null;
+		}
+		// use the statement cached by a concurrent session, if any: batched statements are looked up by SQL
+		final String concurrentlyCached = dynamicUpdateStrings.putIfAbsent( key, sql );
+		return concurrentlyCached == null ? sql : concurrentlyCached;
+	}
+
+	/**
+	 * The properties, table and row selection of a dynamic UPDATE statement
+	 */
+	private static final class DynamicUpdateKey {
+		private final long[] includedProperties;
+		private final int table;
+		private final boolean useRowId;
+		private final int hashCode;
+
+		private DynamicUpdateKey(boolean[] includeProperty, int table, boolean useRowId) {
+			this.includedProperties = new long[( includeProperty.length + 63 ) >>> 6];
+			for ( int i = 0; i < includeProperty.length; i++ ) {
+				if ( includeProperty[i] ) {
+					includedProperties[i >>> 6] |= 1L << i;
+				}
+			}
+			this.table = table;
+			this.useRowId = useRowId;
+			this.hashCode = 31 * ( 31 * Arrays.hashCode( includedProperties ) + table ) + ( useRowId ? 1 : 0 );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof DynamicUpdateKey ) ) {
+				return false;
+			}
+			final DynamicUpdateKey that = (DynamicUpdateKey) o;
+			return table == that.table
+					&& useRowId == that.useRowId
+					&& Arrays.equals( includedProperties, that.includedProperties );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	protected final boolean checkVersion(final boolean[] includeProperty) {
 		return includeProperty[getVersionProperty()]
 				|| entityMetamodel.isVersionGenerated();
@@ -3579,6 +3668,8 @@ public abstract class AbstractEntityPersister
 			int index = 1; // starting index
 			final PreparedStatement update;
 			if ( useBatch ) {
+				// dynamic updates of different properties share the batch key: preparing a different
+				// statement executes the batch first, so the rows are still updated in flush order
 				update = session
 						.getJdbcCoordinator()
 						.getBatch( updateBatchKey )
@@ -3882,7 +3973,7 @@ public abstract class AbstractEntityPersister
 			updateStrings = new String[span];
 			for ( int j = 0; j < span; j++ ) {
 				updateStrings[j] = tableUpdateNeeded[j] ?
-						generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
+						getDynamicUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
 						null;
 			}
 		}
@@ -5987,11 +6078,11 @@ public abstract class AbstractEntityPersister
 
 	private static class StructuredCacheEntryHelper implements CacheEntryHelper {
 		private final EntityPersister persister;
-		private final StructuredCacheEntry structure;
+		private final CacheEntryStructure structure;
 
-		private StructuredCacheEntryHelper(EntityPersister persister) {
+		private StructuredCacheEntryHelper(EntityPersister persister, CacheEntryStructure structure) {
 			this.persister = persister;
-			this.structure = new StructuredCacheEntry( persister );
+			this.structure = structure;
 		}
 
 		@Override
@@ -24,9 +24,11 @@ import org.hibernate.internal.util.ReflectHelper;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.ProxyConfiguration;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.TypeCache;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
 import net.bytebuddy.implementation.SuperMethodCall;
 
@@ -34,6 +36,7 @@ public class ByteBuddyProxyHelper implements Serializable {
 
 	private static final CoreMessageLogger LOG = messageLogger( ByteBuddyProxyHelper.class );
 	private static final String PROXY_NAMING_SUFFIX = Environment.useLegacyProxyClassnames() ? "HibernateProxy$" : "HibernateProxy";
+	private static final String PREGENERATED_PROXY_SUFFIX = "$HibernatePregeneratedProxy";
 
 	private final ByteBuddyState byteBuddyState;
 
@@ -45,15 +48,55 @@ public class ByteBuddyProxyHelper implements Serializable {
 	public Class buildProxy(
 			final Class persistentClass,
 			final Class[] interfaces) {
+		if ( isPregenerable( persistentClass, interfaces ) ) {
+			final Class pregeneratedProxy = byteBuddyState.loadPregenerated(
+					persistentClass,
+					pregeneratedProxyClassName( persistentClass )
+			);
+			if ( pregeneratedProxy != null
+					&& persistentClass.isAssignableFrom( pregeneratedProxy )
+					&& ProxyConfiguration.class.isAssignableFrom( pregeneratedProxy )
+					&& HibernateProxy.class.isAssignableFrom( pregeneratedProxy ) ) {
+				LOG.debugf( "Using pre-generated proxy class [%s]", pregeneratedProxy.getName() );
+				return pregeneratedProxy;
+			}
+		}
+
 		Set<Class<?>> key = new HashSet<Class<?>>();
 		if ( interfaces.length == 1 ) {
 			key.add( persistentClass );
 		}
 		key.addAll( Arrays.<Class<?>>asList( interfaces ) );
 
-		return byteBuddyState.loadProxy( persistentClass, new TypeCache.SimpleKey(key), byteBuddy -> byteBuddy
+		return byteBuddyState.loadProxy( persistentClass, new TypeCache.SimpleKey(key), byteBuddy -> proxyBuilder(
+				byteBuddy.with( new NamingStrategy.SuffixingRandom( PROXY_NAMING_SUFFIX, new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( persistentClass.getName() ) ) ),
+				persistentClass,
+				interfaces
+		) );
+	}
+
+	/**
+	 * Generate, ahead of time, the proxy class of the given entity class, for an entity mapped
+	 * without a proxy interface.  The generated class is used by {@link #buildProxy} instead of
+	 * generating the proxy class again, as long as it is visible to the class loader of the entity
+	 * class.
+	 *
+	 * @param persistentClass The entity class.
+	 *
+	 * @return The bytecode of the proxy class.
+	 */
+	public byte[] pregenerateProxy(final Class<?> persistentClass) {
+		final Class[] interfaces = new Class[] { HibernateProxy.class };
+		return byteBuddyState.pregenerate(
+				pregeneratedProxyClassName( persistentClass ),
+				byteBuddy -> proxyBuilder( byteBuddy, persistentClass, interfaces )
+		);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private DynamicType.Builder<?> proxyBuilder(ByteBuddy byteBuddy, Class persistentClass, Class[] interfaces) {
+		return byteBuddy
 				.ignore( byteBuddyState.getProxyDefinitionHelpers().getGroovyGetMetaClassFilter() )
-				.with( new NamingStrategy.SuffixingRandom( PROXY_NAMING_SUFFIX, new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( persistentClass.getName() ) ) )
 				.subclass( interfaces.length == 1 ? persistentClass : Object.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING )
 				.implement( (Type[]) interfaces )
 				.method( byteBuddyState.getProxyDefinitionHelpers().getVirtualNotFinalizerFilter() )
@@ -62,8 +105,20 @@ public class ByteBuddyProxyHelper implements Serializable {
 						.intercept( SuperMethodCall.INSTANCE )
 				.defineField( ProxyConfiguration.INTERCEPTOR_FIELD_NAME, ProxyConfiguration.Interceptor.class, Visibility.PRIVATE )
 				.implement( ProxyConfiguration.class )
-						.intercept( byteBuddyState.getProxyDefinitionHelpers().getInterceptorFieldAccessor() )
-		);
+						.intercept( byteBuddyState.getProxyDefinitionHelpers().getInterceptorFieldAccessor() );
+	}
+
+	private static boolean isPregenerable(Class persistentClass, Class[] interfaces) {
+		return interfaces.length == 1
+				&& interfaces[0] == HibernateProxy.class
+				&& !persistentClass.isInterface();
+	}
+
+	/**
+	 * The name of the proxy class {@link #pregenerateProxy pre-generated} for the given entity class.
+	 */
+	public static String pregeneratedProxyClassName(Class<?> persistentClass) {
+		return persistentClass.getName() + PREGENERATED_PROXY_SUFFIX;
 	}
 
 	public HibernateProxy deserializeProxy(SerializableProxy serializableProxy) {
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hibernate.SortOrder;
+
+/**
+ * Keyset (or "seek") pagination.  Rather than skipping the leading rows of
+ * the result using an offset, the query is ordered by a unique key and each
+ * page restricts the results to the rows following the last row of the
+ * previous page:
+ *
+ * <pre>
+ *     KeysetPage page = KeysetPage.first( 50, "createdOn", "id" );
+ *     List&lt;Order&gt; orders = session.createQuery( "from Order", Order.class )
+ *             .setKeysetPage( page )
+ *             .list();
+ *     ...
+ *     Order last = orders.get( orders.size() - 1 );
+ *     page = page.next( last.getCreatedOn(), last.getId() );
+ * </pre>
+ *
+ * The cost of fetching a page is therefore independent of how deep into the
+ * results the page is, provided the key columns are indexed.
+ * <p/>
+ * The key attributes must be basic attributes of the single query root and,
+ * taken together, must uniquely identify a row.  The keyset ordering replaces
+ * any ORDER BY defined by the query itself.
+ *
+ * @see Query#setKeysetPage
+ *
+ * @author agent
+ */
+public final class KeysetPage implements Serializable {
+	private final int size;
+	private final SortOrder sortOrder;
+	private final String[] keyAttributeNames;
+	private final Object[] lastKeyValues;
+
+	private KeysetPage(int size, SortOrder sortOrder, String[] keyAttributeNames, Object[] lastKeyValues) {
+		this.size = size;
+		this.sortOrder = sortOrder;
+		this.keyAttributeNames = keyAttributeNames;
+		this.lastKeyValues = lastKeyValues;
+	}
+
+	/**
+	 * The first page, ordering the results by the given key attributes ascending
+	 */
+	public static KeysetPage first(int size, String... keyAttributeNames) {
+		return first( size, SortOrder.ASCENDING, keyAttributeNames );
+	}
+
+	/**
+	 * The first page, ordering the results by the given key attributes
+	 */
+	public static KeysetPage first(int size, SortOrder sortOrder, String... keyAttributeNames) {
+		if ( size <= 0 ) {
+			throw new IllegalArgumentException( "Keyset page size must be positive : " + size );
+		}
+		if ( sortOrder == null ) {
+			throw new IllegalArgumentException( "Keyset sort order must be specified" );
+		}
+		if ( keyAttributeNames == null || keyAttributeNames.length == 0 ) {
+			throw new IllegalArgumentException( "At least one keyset attribute must be specified" );
+		}
+		return new KeysetPage( size, sortOrder, keyAttributeNames.clone(), null );
+	}
+
+	/**
+	 * The page following the row whose key attributes have the given values
+	 *
+	 * @param lastKeyValues The key values of the last row of this page, in
+	 * the order of the {@linkplain #getKeyAttributeNames() key attributes}
+	 */
+	public KeysetPage next(Object... lastKeyValues) {
+		if ( lastKeyValues == null || lastKeyValues.length != keyAttributeNames.length ) {
+			throw new IllegalArgumentException(
+					"Expecting " + keyAttributeNames.length + " keyset values but found "
+							+ ( lastKeyValues == null ? 0 : lastKeyValues.length )
+			);
+		}
+		return new KeysetPage( size, sortOrder, keyAttributeNames, lastKeyValues.clone() );
+	}
+
+	/**
+	 * The maximum number of rows in the page
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	public SortOrder getSortOrder() {
+		return sortOrder;
+	}
+
+	/**
+	 * The names of the root attributes the results are ordered by
+	 */
+	public String[] getKeyAttributeNames() {
+		return keyAttributeNames.clone();
+	}
+
+	/**
+	 * The key values of the last row of the previous page, or {@code null}
+	 * for the first page
+	 */
+	public Object[] getLastKeyValues() {
+		return lastKeyValues == null ? null : lastKeyValues.clone();
+	}
+
+	/**
+	 * Is this the first page?  The first page is not restricted by a previous
+	 * key.
+	 */
+	public boolean isFirst() {
+		return lastKeyValues == null;
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPage(" + Arrays.toString( keyAttributeNames ) + ' ' + sortOrder
+				+ ", size=" + size + ", after=" + Arrays.toString( lastKeyValues ) + ')';
+	}
+}
@@ -98,6 +98,23 @@ public interface Query<R> extends TypedQuery<R>, CommonQueryContract {
 		return applyGraph( graph, GraphSemantic.LOAD );
 	}
 
+	/**
+	 * Apply keyset ("seek") pagination to the query.  The query results are
+	 * ordered by the page's key attributes and limited to the page size, and
+	 * for any page other than the first are restricted to the rows following
+	 * the page's last-seen key.
+	 *
+	 * @param page The page to fetch, or {@code null} to remove keyset pagination
+	 *
+	 * @return this - for method chaining
+	 *
+	 * @throws UnsupportedOperationException if the query does not support
+	 * keyset pagination (e.g. native queries)
+	 */
+	default Query<R> setKeysetPage(KeysetPage page) {
+		throw new UnsupportedOperationException( "Keyset pagination is not supported by this query : " + getQueryString() );
+	}
+
 	/**
 	 * Return the query results as <tt>ScrollableResults</tt>. The
 	 * scrollability of the returned results depends upon JDBC driver
@@ -126,6 +126,7 @@ import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
 import org.hibernate.query.sqm.tree.select.SqmSubQuery;
+import org.hibernate.query.sqm.tree.update.SqmSetClause;
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
 import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
 
@@ -313,11 +314,18 @@ public class SemanticQueryBuilder extends HqlParserBaseVisitor implements SqmCre
 		parameterCollector = updateStatement;
 
 		processingStateStack.push( new SqmDmlCreationProcessingState( updateStatement, this ) );
+		processingStateStack.getCurrent().getPathRegistry().register( root );
 		try {
-			updateStatement.getWhereClause().setPredicate(
-					(SqmPredicate) ctx.whereClause().predicate().accept( this )
-			);
+			if ( ctx.whereClause() != null && ctx.whereClause().predicate() != null ) {
+				updateStatement.setWhereClause(
+						new SqmWhereClause(
+								(SqmPredicate) ctx.whereClause().predicate().accept( this ),
+								creationContext.getNodeBuilder()
+						)
+				);
+			}
 
+			updateStatement.setSetClause( new SqmSetClause() );
 			for ( HqlParser.AssignmentContext assignmentContext : ctx.setClause().assignment() ) {
 				final SqmPath stateField = consumeDomainPath( assignmentContext.dotIdentifierSequence() );
 				// todo : validate "state field" expression
@@ -347,10 +355,14 @@ public class SemanticQueryBuilder extends HqlParserBaseVisitor implements SqmCre
 		parameterCollector = deleteStatement;
 
 		processingStateStack.push( new SqmDmlCreationProcessingState( deleteStatement, this ) );
+		processingStateStack.getCurrent().getPathRegistry().register( root );
 		try {
 			if ( ctx.whereClause() != null && ctx.whereClause().predicate() != null ) {
-				deleteStatement.getWhereClause().setPredicate(
-						(SqmPredicate) ctx.whereClause().predicate().accept( this )
+				deleteStatement.setWhereClause(
+						new SqmWhereClause(
+								(SqmPredicate) ctx.whereClause().predicate().accept( this ),
+								creationContext.getNodeBuilder()
+						)
 				);
 			}
 
@@ -790,7 +802,7 @@ public class SemanticQueryBuilder extends HqlParserBaseVisitor implements SqmCre
 		log.debugf( "Attempting to resolve path [%s] as entity reference...", entityName );
 		EntityDomainType reference = null;
 		try {
-			reference = creationContext.getJpaMetamodel().entity( entityName );
+			reference = creationContext.getJpaMetamodel().resolveHqlEntityReference( entityName );
 		}
 		catch (Exception ignore) {
 		}
@@ -1200,6 +1212,7 @@ public class SemanticQueryBuilder extends HqlParserBaseVisitor implements SqmCre
 
 	@Override
 	public SqmPredicate visitInPredicate(HqlParser.InPredicateContext ctx) {
+		final boolean negated = ctx.NOT() != null;
 		final SqmExpression testExpression = (SqmExpression) ctx.expression().accept( this );
 
 		if ( ctx.inList() instanceof HqlParser.ExplicitTupleInListContext ) {
@@ -1215,7 +1228,7 @@ public class SemanticQueryBuilder extends HqlParserBaseVisitor implements SqmCre
 				}
 
 				//noinspection unchecked
-				return new SqmInListPredicate( testExpression, listExpressions, creationContext.getNodeBuilder() );
+				return new SqmInListPredicate( testExpression, listExpressions, negated, creationContext.getNodeBuilder() );
 			}
 			finally {
 				parameterDeclarationContextStack.pop();
@@ -1236,6 +1249,7 @@ public class SemanticQueryBuilder extends HqlParserBaseVisitor implements SqmCre
 			return new SqmInSubQueryPredicate(
 					testExpression,
 					(SqmSubQuery) subQueryExpression,
+					negated,
 					creationContext.getNodeBuilder()
 			);
 		}
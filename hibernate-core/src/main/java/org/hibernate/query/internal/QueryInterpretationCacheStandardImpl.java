@@ -6,9 +6,15 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.BoundedLfuCache;
 import org.hibernate.query.QueryLogger;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.QueryInterpretationCache;
@@ -16,6 +22,7 @@ import org.hibernate.query.spi.QueryPlan;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -36,26 +43,102 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	 */
 	public static final int DEFAULT_QUERY_PLAN_MAX_COUNT = 2048;
 
+	/**
+	 * The eviction policy of the bounded caches
+	 */
+	public enum EvictionPolicy {
+		/**
+		 * The segment-locked LIRS {@link BoundedConcurrentHashMap}, the default
+		 */
+		LIRS,
+		/**
+		 * The {@link BoundedLfuCache}, whose reads never lock
+		 */
+		TINY_LFU;
+
+		/**
+		 * Interpret the {@value AvailableSettings#QUERY_PLAN_CACHE_EVICTION} setting,
+		 * defaulting to {@link #LIRS}
+		 */
+		public static EvictionPolicy interpret(Object setting) {
+			if ( setting == null ) {
+				return LIRS;
+			}
+
+			if ( setting instanceof EvictionPolicy ) {
+				return (EvictionPolicy) setting;
+			}
+
+			final String name = setting.toString().trim();
+			if ( "tinylfu".equalsIgnoreCase( name ) || TINY_LFU.name().equalsIgnoreCase( name ) ) {
+				return TINY_LFU;
+			}
+			if ( LIRS.name().equalsIgnoreCase( name ) ) {
+				return LIRS;
+			}
+
+			throw new HibernateException(
+					"Unrecognized " + AvailableSettings.QUERY_PLAN_CACHE_EVICTION + " value : " + setting
+			);
+		}
+	}
+
+	private final Supplier<StatisticsImplementor> statisticsSupplier;
+
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final BoundedCache<Key, QueryPlan> queryPlanCache;
 
-	private final BoundedConcurrentHashMap<String, SqmStatement<?>> sqmStatementCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final BoundedCache<String, SqmStatement<?>> sqmStatementCache;
+	private final BoundedCache<String, ParameterInterpretation> nativeQueryParamCache;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount) {
-		log.debugf( "Starting QueryPlanCache(%s)", maxQueryPlanCount );
+		this( maxQueryPlanCount, EvictionPolicy.LIRS, () -> null );
+	}
 
-		queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		sqmStatementCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			EvictionPolicy evictionPolicy,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
+		log.debugf( "Starting QueryPlanCache(%s, %s)", maxQueryPlanCount, evictionPolicy );
+
+		this.statisticsSupplier = statisticsSupplier;
+
+		queryPlanCache = createCache(
+				evictionPolicy,
+				maxQueryPlanCount,
+				() -> {
+					final StatisticsImplementor statistics = getStatistics();
+					if ( statistics != null ) {
+						statistics.queryExecutionPlanCacheEviction();
+					}
+				}
+		);
+		sqmStatementCache = createCache(
+				evictionPolicy,
+				maxQueryPlanCount,
+				() -> {
+					final StatisticsImplementor statistics = getStatistics();
+					if ( statistics != null ) {
+						statistics.queryPlanCacheEviction();
+					}
+				}
+		);
+		nativeQueryParamCache = createCache( evictionPolicy, maxQueryPlanCount, () -> {} );
+	}
+
+	private StatisticsImplementor getStatistics() {
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		return statistics != null && statistics.isStatisticsEnabled() ? statistics : null;
 	}
 
 	@Override
 	public SelectQueryPlan getSelectQueryPlan(Key key) {
 		log.tracef( "QueryPlan#getSelectQueryPlan(%s)", key );
-		return (SelectQueryPlan) queryPlanCache.get( key );
+		final QueryPlan queryPlan = queryPlanCache.get( key );
+		recordQueryPlanLookup( queryPlan != null );
+		return (SelectQueryPlan) queryPlan;
 	}
 
 	@Override
@@ -67,12 +150,27 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
 		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
-		return null;
+		final QueryPlan queryPlan = queryPlanCache.get( key );
+		recordQueryPlanLookup( queryPlan != null );
+		return (NonSelectQueryPlan) queryPlan;
 	}
 
 	@Override
 	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
 		log.tracef( "QueryPlan#cacheNonSelectQueryPlan(%s)", key );
+		queryPlanCache.putIfAbsent( key, plan );
+	}
+
+	private void recordQueryPlanLookup(boolean hit) {
+		final StatisticsImplementor statistics = getStatistics();
+		if ( statistics != null ) {
+			if ( hit ) {
+				statistics.queryExecutionPlanCacheHit();
+			}
+			else {
+				statistics.queryExecutionPlanCacheMiss();
+			}
+		}
 	}
 
 	@Override
@@ -80,13 +178,34 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			String queryString,
 			Function<String, SqmStatement<?>> creator) {
 		log.tracef( "QueryPlan#resolveSqmStatement(%s)", queryString );
-		return sqmStatementCache.computeIfAbsent(
-				queryString,
-				s -> {
-					log.debugf( "Creating and caching SqmStatement - %s", queryString );
-					return creator.apply( queryString );
-				}
-		);
+		final StatisticsImplementor statistics = getStatistics();
+
+		final SqmStatement<?> cached = sqmStatementCache.get( queryString );
+		if ( cached != null ) {
+			if ( statistics != null ) {
+				statistics.queryPlanCacheHit( queryString );
+			}
+			return cached;
+		}
+
+		// interpret outside of any cache lock - a concurrent interpretation of the
+		// same query string may be wasted, but never blocks the other readers
+		log.debugf( "Creating and caching SqmStatement - %s", queryString );
+		final SqmStatement<?> sqmStatement;
+		if ( statistics == null ) {
+			sqmStatement = creator.apply( queryString );
+		}
+		else {
+			final long start = System.nanoTime();
+			sqmStatement = creator.apply( queryString );
+			statistics.queryCompiled(
+					queryString,
+					TimeUnit.NANOSECONDS.toMicros( System.nanoTime() - start )
+			);
+		}
+
+		final SqmStatement<?> existing = sqmStatementCache.putIfAbsent( queryString, sqmStatement );
+		return existing != null ? existing : sqmStatement;
 	}
 
 	@Override
@@ -94,13 +213,15 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			String queryString,
 			Function<String, ParameterInterpretation> creator) {
 		log.tracef( "QueryPlan#resolveNativeQueryParameters(%s)", queryString );
-		return nativeQueryParamCache.computeIfAbsent(
-				queryString,
-				s -> {
-					log.debugf( "Creating and caching SqmStatement - %s", queryString );
-					return creator.apply( queryString );
-				}
-		);
+		final ParameterInterpretation cached = nativeQueryParamCache.get( queryString );
+		if ( cached != null ) {
+			return cached;
+		}
+
+		log.debugf( "Creating and caching ParameterInterpretation - %s", queryString );
+		final ParameterInterpretation interpretation = creator.apply( queryString );
+		final ParameterInterpretation existing = nativeQueryParamCache.putIfAbsent( queryString, interpretation );
+		return existing != null ? existing : interpretation;
 	}
 
 	@Override
@@ -113,4 +234,78 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		// todo (6.0) : clear maps/caches and LOG
 		queryPlanCache.clear();
 	}
+
+
+	private static <K, V> BoundedCache<K, V> createCache(
+			EvictionPolicy evictionPolicy,
+			int maximumSize,
+			Runnable evictionCallback) {
+		if ( evictionPolicy == EvictionPolicy.TINY_LFU ) {
+			final BoundedLfuCache<K, V> cache = new BoundedLfuCache<>(
+					maximumSize,
+					(key, value) -> evictionCallback.run()
+			);
+			return new BoundedCache<K, V>() {
+				@Override
+				public V get(K key) {
+					return cache.get( key );
+				}
+
+				@Override
+				public V putIfAbsent(K key, V value) {
+					return cache.putIfAbsent( key, value );
+				}
+
+				@Override
+				public void clear() {
+					cache.clear();
+				}
+			};
+		}
+
+		final BoundedConcurrentHashMap<K, V> map = new BoundedConcurrentHashMap<>(
+				maximumSize,
+				20,
+				BoundedConcurrentHashMap.Eviction.LIRS,
+				new BoundedConcurrentHashMap.EvictionListener<K, V>() {
+					@Override
+					public void onEntryEviction(Map<K, V> evicted) {
+						for ( int i = 0; i < evicted.size(); i++ ) {
+							evictionCallback.run();
+						}
+					}
+
+					@Override
+					public void onEntryChosenForEviction(V internalCacheEntry) {
+					}
+				}
+		);
+		return new BoundedCache<K, V>() {
+			@Override
+			public V get(K key) {
+				return map.get( key );
+			}
+
+			@Override
+			public V putIfAbsent(K key, V value) {
+				return map.putIfAbsent( key, value );
+			}
+
+			@Override
+			public void clear() {
+				map.clear();
+			}
+		};
+	}
+
+	/**
+	 * The operations needed of either eviction policy's bounded cache
+	 */
+	private interface BoundedCache<K, V> {
+		V get(K key);
+
+		V putIfAbsent(K key, V value);
+
+		void clear();
+	}
 }
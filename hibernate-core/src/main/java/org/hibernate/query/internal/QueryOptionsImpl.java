@@ -17,6 +17,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.query.KeysetPage;
 import org.hibernate.query.Limit;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
@@ -33,6 +34,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 
 	// only valid for (non-native) select queries
 	private final Limit limit = new Limit();
+	private KeysetPage keysetPage;
 	private final LockOptions lockOptions = new LockOptions();
 	private Integer fetchSize;
 	private CacheRetrieveMode cacheRetrieveMode;
@@ -102,6 +104,16 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		return limit;
 	}
 
+	@Override
+	public KeysetPage getKeysetPage() {
+		return keysetPage;
+	}
+
+	@Override
+	public void setKeysetPage(KeysetPage keysetPage) {
+		this.keysetPage = keysetPage;
+	}
+
 	@Override
 	public LockOptions getLockOptions() {
 		return lockOptions;
@@ -11,6 +11,7 @@ import javax.persistence.CacheStoreMode;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
+import org.hibernate.query.KeysetPage;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 
@@ -76,6 +77,11 @@ public interface MutableQueryOptions extends QueryOptions {
 	 */
 	void addDatabaseHint(String hint);
 
+	/**
+	 * Corollary to {@link #getKeysetPage()}
+	 */
+	void setKeysetPage(KeysetPage keysetPage);
+
 	void setTupleTransformer(TupleTransformer transformer);
 
 	void setResultListTransformer(ResultListTransformer transformer);
@@ -7,6 +7,7 @@
 package org.hibernate.query.spi;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
@@ -37,6 +38,7 @@ import org.hibernate.query.sqm.sql.SqmSelectToSqlAstConverter;
 import org.hibernate.query.sqm.sql.internal.StandardSqmSelectToSqlAstConverter;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.sql.ast.spi.SqlAstCreationContext;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Aggregation and encapsulation of the components Hibernate uses
@@ -56,7 +58,8 @@ public class QueryEngine {
 				sessionFactory,
 				new SqmCreationOptionsStandard( sessionFactory ),
 				sessionFactory.getProperties(),
-				metadata.buildNamedQueryRepository( sessionFactory )
+				metadata.buildNamedQueryRepository( sessionFactory ),
+				sessionFactory::getStatistics
 		);
 	}
 
@@ -74,7 +77,8 @@ public class QueryEngine {
 			SqmCreationContext sqmCreationContext,
 			SqmCreationOptions sqmCreationOptions,
 			Map properties,
-			NamedQueryRepository namedQueryRepository) {
+			NamedQueryRepository namedQueryRepository,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
 		final JdbcServices jdbcServices = serviceRegistry.getService( JdbcServices.class );
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
 		final Dialect dialect = jdbcEnvironment.getDialect();
@@ -101,7 +105,7 @@ public class QueryEngine {
 				serviceRegistry
 		);
 
-		this.interpretationCache = buildInterpretationCache( properties );
+		this.interpretationCache = buildInterpretationCache( properties, statisticsSupplier );
 
 		this.sqmFunctionRegistry = new SqmFunctionRegistry();
 		dialect.initializeFunctionRegistry( this );
@@ -159,7 +163,9 @@ public class QueryEngine {
 		};
 	}
 
-	private static QueryInterpretationCache buildInterpretationCache(Map properties) {
+	private static QueryInterpretationCache buildInterpretationCache(
+			Map properties,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
 		final boolean explicitUseCache = ConfigurationHelper.getBoolean(
 				AvailableSettings.QUERY_PLAN_CACHE_ENABLED,
 				properties,
@@ -175,7 +181,11 @@ public class QueryEngine {
 			return new QueryInterpretationCacheStandardImpl(
 					explicitMaxPlanCount != null
 							? explicitMaxPlanCount
-							: QueryInterpretationCacheStandardImpl.DEFAULT_QUERY_PLAN_MAX_COUNT
+							: QueryInterpretationCacheStandardImpl.DEFAULT_QUERY_PLAN_MAX_COUNT,
+					QueryInterpretationCacheStandardImpl.EvictionPolicy.interpret(
+							properties.get( AvailableSettings.QUERY_PLAN_CACHE_EVICTION )
+					),
+					statisticsSupplier
 			);
 		}
 		else {
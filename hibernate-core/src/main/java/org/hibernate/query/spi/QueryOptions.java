@@ -18,6 +18,7 @@ import org.hibernate.FlushMode;
 import org.hibernate.LockOptions;
 import org.hibernate.annotations.Cache;
 import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.query.KeysetPage;
 import org.hibernate.query.Limit;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
@@ -183,6 +184,15 @@ public interface QueryOptions {
 		return false;
 	}
 
+	/**
+	 * The keyset pagination to apply to the query, if any.  Keyset pagination
+	 * is applied to the SQL AST of the (root) query and, unlike {@link #getLimit},
+	 * also rewrites its ORDER BY and WHERE clauses.
+	 */
+	default KeysetPage getKeysetPage() {
+		return null;
+	}
+
 	/**
 	 * Singleton access
 	 */
@@ -534,10 +534,10 @@ public class NativeQueryImpl<R>
 
 	protected NonSelectInterpretationsKey generateNonSelectInterpretationsKey() {
 		// todo (6.0) - should this account for query-spaces in determining "cacheable"?
-		return new NonSelectInterpretationsKey(
-				getQueryString(),
-				getSynchronizedQuerySpaces()
-		);
+		//		- NativeNonSelectQueryPlanImpl is bound to this query instance (and
+		//		NonSelectInterpretationsKey does not define equality), so it cannot be
+		//		shared through the interpretation cache yet
+		return null;
 	}
 
 	@Override
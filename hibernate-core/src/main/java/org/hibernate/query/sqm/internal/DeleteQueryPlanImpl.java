@@ -16,18 +16,15 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
  */
 public class DeleteQueryPlanImpl implements NonSelectQueryPlan {
 	private final DeleteHandler deleteHandler;
-	private final ExecutionContext executionContext;
 
 	public DeleteQueryPlanImpl(
 			SqmDeleteStatement sqmDeleteStatement,
-			DeleteHandler deleteHandler,
-			ExecutionContext executionContext) {
+			DeleteHandler deleteHandler) {
 		this.deleteHandler = deleteHandler;
-		this.executionContext = executionContext;
 	}
 
 	@Override
 	public int executeUpdate(ExecutionContext executionContext) {
-		return deleteHandler.execute( this.executionContext );
+		return deleteHandler.execute( executionContext );
 	}
 }
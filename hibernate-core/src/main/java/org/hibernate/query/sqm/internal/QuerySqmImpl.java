@@ -25,6 +25,7 @@ import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.KeysetPage;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.hql.internal.NamedHqlQueryMementoImpl;
@@ -38,6 +39,7 @@ import org.hibernate.query.spi.AbstractQuery;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -148,15 +150,16 @@ public class QuerySqmImpl<R>
 			SharedSessionContractImplementor producer) {
 		super( producer );
 
-		SqmUtil.verifyIsSelectStatement( sqmStatement );
-		checkQueryReturnType( (SqmSelectStatement<R>) sqmStatement, resultType, producer.getFactory() );
-
 		if ( resultType != null ) {
 			if ( sqmStatement instanceof SqmDmlStatement ) {
 				throw new IllegalArgumentException( "Non-select queries cannot be typed" );
 			}
 		}
 
+		if ( sqmStatement instanceof SqmSelectStatement ) {
+			checkQueryReturnType( (SqmSelectStatement<R>) sqmStatement, resultType, producer.getFactory() );
+		}
+
 		this.hqlString = hqlString;
 		this.sqmStatement = sqmStatement;
 		this.resultType = resultType;
@@ -324,6 +327,21 @@ public class QuerySqmImpl<R>
 		verifySettingLockMode();
 	}
 
+	@Override
+	public QueryImplementor<R> setKeysetPage(KeysetPage page) {
+		if ( !isSelect() ) {
+			throw new IllegalStateException( "Illegal attempt to apply keyset pagination to a non-SELECT query" );
+		}
+
+		getQueryOptions().setKeysetPage( page );
+		if ( page != null ) {
+			// the page replaces any offset - its size is applied as the limit
+			getQueryOptions().getLimit().setFirstRow( null );
+			getQueryOptions().getLimit().setMaxRows( page.getSize() );
+		}
+		return this;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T unwrap(Class<T> cls) {
@@ -515,30 +533,34 @@ public class QuerySqmImpl<R>
 		final SqmDeleteStatement sqmDelete = (SqmDeleteStatement) getSqmStatement();
 
 		final String entityNameToDelete = sqmDelete.getTarget().getReferencedPathSource().getHibernateEntityName();
-		final EntityPersister entityDescriptor = getSessionFactory().getDomainModel().findEntityDescriptor( entityNameToDelete );
+		final SessionFactoryImplementor sessionFactory = getSessionFactory();
+		final EntityPersister entityDescriptor = sessionFactory.getDomainModel().findEntityDescriptor( entityNameToDelete );
 
 		final DeleteHandler deleteHandler = entityDescriptor.getSqmMultiTableMutationStrategy().buildDeleteHandler(
 				sqmDelete,
 				domainParameterXref,
-				this::getSessionFactory
+				// the plan is cached across sessions, so it must not capture this query
+				() -> sessionFactory
 		);
 
-		return new DeleteQueryPlanImpl( sqmDelete, deleteHandler, this );
+		return new DeleteQueryPlanImpl( sqmDelete, deleteHandler );
 	}
 
 	private NonSelectQueryPlan buildUpdateQueryPlan() {
 		final SqmUpdateStatement sqmStatement = (SqmUpdateStatement) getSqmStatement();
 
 		final String entityNameToUpdate = sqmStatement.getTarget().getReferencedPathSource().getHibernateEntityName();
-		final EntityPersister entityDescriptor = getSessionFactory().getDomainModel().findEntityDescriptor( entityNameToUpdate );
+		final SessionFactoryImplementor sessionFactory = getSessionFactory();
+		final EntityPersister entityDescriptor = sessionFactory.getDomainModel().findEntityDescriptor( entityNameToUpdate );
 
 		final UpdateHandler updateHandler = entityDescriptor.getSqmMultiTableMutationStrategy().buildUpdateHandler(
 				sqmStatement,
 				domainParameterXref,
-				this::getSessionFactory
+				// the plan is cached across sessions, so it must not capture this query
+				() -> sessionFactory
 		);
 
-		return new UpdateQueryPlanImpl( sqmStatement, updateHandler, this );
+		return new UpdateQueryPlanImpl( sqmStatement, updateHandler );
 	}
 
 	@Override
@@ -8,7 +8,7 @@ package org.hibernate.query.sqm.internal;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
-import org.hibernate.query.Limit;
+import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
@@ -34,16 +34,24 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 
 	@SuppressWarnings("WeakerAccess")
 	public static QueryInterpretationCache.Key generateNonSelectKey(QuerySqmImpl query) {
-		// todo (6.0) : do we want to cache non-select plans?  If so, what requirements?
-		//		- very minimum is that it be a "simple" (non-multi-table) statement
-		//
-		// for now... no caching of non-select plans
-		return null;
+		// the non-select plans (simple as well as multi-table) hold no state specific
+		// to the query instance - the ExecutionContext is passed to each execution -
+		// so the same requirements as for select plans apply
+		if ( !isCacheable( query ) ) {
+			return null;
+		}
+
+		return new SqmInterpretationsKey(
+				query.getQueryString(),
+				null,
+				query.getQueryOptions()
+		);
 	}
 
 	@SuppressWarnings("RedundantIfStatement")
 	private static boolean isCacheable(QuerySqmImpl<?> query) {
-		if ( query.getQueryOptions().getAppliedGraph() != null ) {
+		final AppliedGraph appliedGraph = query.getQueryOptions().getAppliedGraph();
+		if ( appliedGraph != null && appliedGraph.getGraph() != null ) {
 			// At the moment we cannot cache query plan if there is an
 			// EntityGraph involved.
 			return false;
@@ -57,8 +65,12 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 			return false;
 		}
 
-		if ( hasLimit( query.getQueryOptions().getLimit() ) ) {
-			// cannot cache query plans if there is a limit defined
+		// NOTE : a limit (first/max results) does not prevent caching - it is
+		//		applied to the SQL per-execution by the Dialect's LimitHandler
+
+		if ( query.getQueryOptions().getKeysetPage() != null ) {
+			// cannot cache query plans if keyset pagination is applied - the
+			//		keyset restriction is rendered into the SQL AST
 			return false;
 		}
 
@@ -70,10 +82,6 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 		return true;
 	}
 
-	private static boolean hasLimit(Limit limit) {
-		return limit.getFirstRow() != null || limit.getMaxRows() != null;
-	}
-
 	private static boolean definesLocking(LockOptions lockOptions) {
 		final LockMode mostRestrictiveLockMode = lockOptions.findGreatestLockMode();
 		return mostRestrictiveLockMode.greaterThan( LockMode.READ );
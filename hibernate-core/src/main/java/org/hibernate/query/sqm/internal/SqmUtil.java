@@ -32,6 +32,7 @@ import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.sql.ast.Clause;
+import org.hibernate.sql.exec.internal.JdbcArrayParameterImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
 import org.hibernate.sql.exec.spi.JdbcParameter;
 import org.hibernate.sql.exec.spi.JdbcParameterBinding;
@@ -204,19 +205,29 @@ public class SqmUtil {
 				}
 				else if ( domainParamBinding.isMultiValued() ) {
 					final Collection<?> bindValues = domainParamBinding.getBindValues();
+
+					if ( jdbcParams.size() == 1 && jdbcParams.get( 0 ) instanceof JdbcArrayParameterImpl ) {
+						// all values are bound through a single array parameter
+						createArrayValueBinding( jdbcParameterBindings, parameterType, jdbcParams.get( 0 ), bindValues, session );
+						continue;
+					}
+
 					final Iterator<?> valueItr = bindValues.iterator();
 
 					// the original SqmParameter is the one we are processing.. create a binding for it..
-					createValueBindings( jdbcParameterBindings, parameterType, jdbcParams, valueItr.next(), session );
+					Object bindValue = valueItr.next();
+					createValueBindings( jdbcParameterBindings, parameterType, jdbcParams, bindValue, session );
 
-					// an then one for each of the expansions
+					// an then one for each of the expansions.  If the IN list was padded there
+					// are more expansions than values - the extra ones repeat the last value
 					final List<SqmParameter> expansions = domainParameterXref.getExpansions( sqmParameter );
-					assert expansions.size() == bindValues.size() - 1;
-					int expansionPosition = 0;
-					while ( valueItr.hasNext() ) {
-						final SqmParameter expansionSqmParam = expansions.get( expansionPosition++ );
+					assert expansions.size() >= bindValues.size() - 1;
+					for ( SqmParameter expansionSqmParam : expansions ) {
+						if ( valueItr.hasNext() ) {
+							bindValue = valueItr.next();
+						}
 						final List<JdbcParameter> expansionJdbcParams = jdbcParamMap.get( expansionSqmParam );
-						createValueBindings( jdbcParameterBindings, parameterType, expansionJdbcParams, valueItr.next(), session );
+						createValueBindings( jdbcParameterBindings, parameterType, expansionJdbcParams, bindValue, session );
 					}
 				}
 				else {
@@ -269,6 +280,48 @@ public class SqmUtil {
 		);
 	}
 
+	private static void createArrayValueBinding(
+			JdbcParameterBindings jdbcParameterBindings,
+			AllowableParameterType<?> parameterType,
+			JdbcParameter arrayParameter,
+			Collection<?> bindValues,
+			SharedSessionContractImplementor session) {
+		final MappingModelExpressable mappingExpressable = session.getFactory()
+				.getDomainModel()
+				.resolveMappingExpressable( parameterType );
+		final Object[] jdbcValues = new Object[ bindValues.size() ];
+		final JdbcMapping[] elementJdbcMapping = new JdbcMapping[1];
+
+		int position = 0;
+		for ( Object bindValue : bindValues ) {
+			final int valuePosition = position++;
+			mappingExpressable.visitJdbcValues(
+					bindValue,
+					Clause.IRRELEVANT,
+					(jdbcValue, jdbcType) -> {
+						jdbcValues[valuePosition] = jdbcValue;
+						elementJdbcMapping[0] = jdbcType;
+					},
+					session
+			);
+		}
+
+		jdbcParameterBindings.addBinding(
+				arrayParameter,
+				new JdbcParameterBinding() {
+					@Override
+					public JdbcMapping getBindType() {
+						return elementJdbcMapping[0];
+					}
+
+					@Override
+					public Object getBindValue() {
+						return jdbcValues;
+					}
+				}
+		);
+	}
+
 	public static AllowableParameterType determineParameterType(
 			QueryParameterBinding<?> binding,
 			QueryParameterImplementor<?> parameter,
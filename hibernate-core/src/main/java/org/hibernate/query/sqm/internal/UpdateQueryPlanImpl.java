@@ -16,18 +16,15 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
  */
 public class UpdateQueryPlanImpl implements NonSelectQueryPlan {
 	private final UpdateHandler updateHandler;
-	private final ExecutionContext executionContext;
 
 	public <R> UpdateQueryPlanImpl(
 			SqmUpdateStatement sqmStatement,
-			UpdateHandler updateHandler,
-			ExecutionContext executionContext) {
+			UpdateHandler updateHandler) {
 		this.updateHandler = updateHandler;
-		this.executionContext = executionContext;
 	}
 
 	@Override
 	public int executeUpdate(ExecutionContext executionContext) {
-		return updateHandler.execute( this.executionContext );
+		return updateHandler.execute( executionContext );
 	}
 }
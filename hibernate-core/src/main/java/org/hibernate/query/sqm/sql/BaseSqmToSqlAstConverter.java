@@ -17,16 +17,26 @@ import java.util.function.Supplier;
 import org.hibernate.AssertionFailure;
 import org.hibernate.LockMode;
 import org.hibernate.NotYetImplementedFor6Exception;
+import org.hibernate.SortOrder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.MathHelper;
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.BasicValuedMapping;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.MappingModelExpressable;
 import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.model.convert.spi.BasicValueConverter;
 import org.hibernate.metamodel.model.domain.AllowableParameterType;
 import org.hibernate.metamodel.model.domain.EntityDomainType;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.Lockable;
 import org.hibernate.query.BinaryArithmeticOperator;
+import org.hibernate.query.ComparisonOperator;
+import org.hibernate.query.KeysetPage;
 import org.hibernate.query.UnaryArithmeticOperator;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBinding;
@@ -99,6 +109,7 @@ import org.hibernate.sql.ast.spi.SqlAstCreationContext;
 import org.hibernate.sql.ast.tree.expression.BinaryArithmeticExpression;
 import org.hibernate.sql.ast.tree.expression.CaseSearchedExpression;
 import org.hibernate.sql.ast.tree.expression.CaseSimpleExpression;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
 import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.expression.QueryLiteral;
 import org.hibernate.sql.ast.tree.expression.UnaryOperation;
@@ -119,12 +130,14 @@ import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectClause;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.ast.tree.select.SortSpecification;
+import org.hibernate.sql.exec.internal.JdbcArrayParameterImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.internal.JdbcParametersImpl;
 import org.hibernate.sql.exec.spi.JdbcParameter;
 import org.hibernate.sql.exec.spi.JdbcParameters;
 import org.hibernate.sql.results.spi.Fetch;
 import org.hibernate.sql.results.spi.FetchParent;
+import org.hibernate.type.spi.TypeConfiguration;
 
 import org.jboss.logging.Logger;
 
@@ -311,7 +324,12 @@ public abstract class BaseSqmToSqlAstConverter
 			// todo : group-by
 			// todo : having
 
-			if ( sqmQuerySpec.getOrderByClause() != null ) {
+			final KeysetPage keysetPage = sqlQuerySpec.isRoot() ? queryOptions.getKeysetPage() : null;
+			if ( keysetPage != null ) {
+				// keyset pagination defines both a restriction and the ordering
+				applyKeysetPage( keysetPage, sqmQuerySpec, sqlQuerySpec );
+			}
+			else if ( sqmQuerySpec.getOrderByClause() != null ) {
 				currentClauseStack.push( Clause.ORDER );
 				try {
 					for ( SqmSortSpecification sortSpecification : sqmQuerySpec.getOrderByClause().getSortSpecifications() ) {
@@ -333,6 +351,131 @@ public abstract class BaseSqmToSqlAstConverter
 		}
 	}
 
+	private void applyKeysetPage(KeysetPage keysetPage, SqmQuerySpec<?> sqmQuerySpec, QuerySpec sqlQuerySpec) {
+		final List<SqmRoot> roots = sqmQuerySpec.getFromClause().getRoots();
+		if ( roots.size() != 1 ) {
+			throw new InterpretationException( "Keyset pagination requires a query with a single root : " + keysetPage );
+		}
+
+		// resolve the key columns against the root TableGroup directly (rather
+		// 		than through SqmPath#get) so that the - possibly cached and shared -
+		// 		SQM tree is not altered
+		final TableGroup rootTableGroup = getFromClauseAccess().getTableGroup( roots.get( 0 ).getNavigablePath() );
+		final String[] keyAttributeNames = keysetPage.getKeyAttributeNames();
+		final ColumnReference[] keyExpressions = new ColumnReference[ keyAttributeNames.length ];
+		final BasicValueConverter[] keyConverters = new BasicValueConverter[ keyAttributeNames.length ];
+		for ( int i = 0; i < keyAttributeNames.length; i++ ) {
+			final ModelPart subPart = rootTableGroup.getModelPart().findSubPart( keyAttributeNames[i], null );
+			if ( subPart instanceof BasicValuedModelPart ) {
+				final BasicValuedModelPart keyMapping = (BasicValuedModelPart) subPart;
+				keyExpressions[i] = resolveKeyColumnReference(
+						rootTableGroup,
+						keyMapping.getContainingTableExpression(),
+						keyMapping.getMappedColumnExpression(),
+						keyMapping.getJdbcMapping()
+				);
+				keyConverters[i] = keyMapping.getConverter();
+			}
+			else if ( subPart == null && isSimpleIdentifier( rootTableGroup.getModelPart(), keyAttributeNames[i] ) ) {
+				// the entity identifier is not (yet) exposed as a sub-part
+				final Lockable persister = (Lockable) ( (EntityMappingType) rootTableGroup.getModelPart() ).getEntityPersister();
+				keyExpressions[i] = resolveKeyColumnReference(
+						rootTableGroup,
+						persister.getRootTableName(),
+						persister.getRootTableIdentifierColumnNames()[0],
+						(JdbcMapping) persister.getIdentifierType()
+				);
+			}
+			else {
+				throw new InterpretationException(
+						"Keyset attribute [" + keyAttributeNames[i] + "] is not a basic attribute of the query root : " + keysetPage
+				);
+			}
+		}
+
+		if ( !keysetPage.isFirst() ) {
+			currentClauseStack.push( Clause.WHERE );
+			try {
+				sqlQuerySpec.applyPredicate( createKeysetRestriction( keysetPage, keyExpressions, keyConverters ) );
+			}
+			finally {
+				currentClauseStack.pop();
+			}
+		}
+
+		currentClauseStack.push( Clause.ORDER );
+		try {
+			for ( ColumnReference keyExpression : keyExpressions ) {
+				sqlQuerySpec.addSortSpecification( new SortSpecification( keyExpression, null, keysetPage.getSortOrder() ) );
+			}
+		}
+		finally {
+			currentClauseStack.pop();
+		}
+	}
+
+	private static boolean isSimpleIdentifier(ModelPart rootModelPart, String attributeName) {
+		if ( !( rootModelPart instanceof EntityMappingType ) ) {
+			return false;
+		}
+		final EntityPersister persister = ( (EntityMappingType) rootModelPart ).getEntityPersister();
+		return persister instanceof Lockable
+				&& persister.getIdentifierType() instanceof JdbcMapping
+				&& attributeName.equals( persister.getIdentifierPropertyName() );
+	}
+
+	private ColumnReference resolveKeyColumnReference(
+			TableGroup tableGroup,
+			String tableExpression,
+			String columnExpression,
+			JdbcMapping jdbcMapping) {
+		return (ColumnReference) getSqlExpressionResolver().resolveSqlExpression(
+				SqlExpressionResolver.createColumnReferenceKey( tableExpression, columnExpression ),
+				sacs -> new ColumnReference(
+						columnExpression,
+						tableGroup.resolveTableReference( tableExpression ).getIdentificationVariable(),
+						jdbcMapping,
+						creationContext.getSessionFactory()
+				)
+		);
+	}
+
+	/**
+	 * Creates the "seek" restriction selecting the rows following the page's
+	 * last key, e.g. for ascending keys {@code (k1, k2)}:
+	 * {@code (k1 > ? or (k1 = ? and k2 > ?))}
+	 */
+	@SuppressWarnings("unchecked")
+	private Predicate createKeysetRestriction(
+			KeysetPage keysetPage,
+			ColumnReference[] keyExpressions,
+			BasicValueConverter[] keyConverters) {
+		final ComparisonOperator seekOperator = keysetPage.getSortOrder() == SortOrder.DESCENDING
+				? ComparisonOperator.LESS_THAN
+				: ComparisonOperator.GREATER_THAN;
+
+		final Object[] lastKeyValues = keysetPage.getLastKeyValues();
+		final Expression[] keyValues = new Expression[ keyExpressions.length ];
+		for ( int i = 0; i < keyExpressions.length; i++ ) {
+			keyValues[i] = new QueryLiteral(
+					keyConverters[i] == null ? lastKeyValues[i] : keyConverters[i].toRelationalValue( lastKeyValues[i] ),
+					(BasicValuedMapping) keyExpressions[i].getExpressionType(),
+					Clause.WHERE
+			);
+		}
+
+		final Junction disjunction = new Junction( Junction.Nature.DISJUNCTION );
+		for ( int i = 0; i < keyExpressions.length; i++ ) {
+			final Junction conjunction = new Junction( Junction.Nature.CONJUNCTION );
+			for ( int j = 0; j < i; j++ ) {
+				conjunction.add( new ComparisonPredicate( keyExpressions[j], ComparisonOperator.EQUAL, keyValues[j] ) );
+			}
+			conjunction.add( new ComparisonPredicate( keyExpressions[i], seekOperator, keyValues[i] ) );
+			disjunction.add( i == 0 ? conjunction : new GroupedPredicate( conjunction ) );
+		}
+		return new GroupedPredicate( disjunction );
+	}
+
 	@Override
 	public SelectClause visitSelectClause(SqmSelectClause selectClause) {
 		currentClauseStack.push( Clause.SELECT );
@@ -1572,22 +1715,34 @@ public abstract class BaseSqmToSqlAstConverter
 				final QueryParameterBinding domainParamBinding = domainParameterBindings.getBinding( domainParam );
 
 				if ( domainParamBinding.isMultiValued() ) {
-					final InListPredicate inListPredicate = new InListPredicate(
-							(Expression) predicate.getTestExpression().accept( this )
-					);
+					final Expression testExpression = (Expression) predicate.getTestExpression().accept( this );
+
+					final JdbcMapping arrayElementJdbcMapping = resolveArrayInListElementJdbcMapping( predicate );
+					if ( arrayElementJdbcMapping != null ) {
+						// bind all values through a single array parameter - the SQL
+						// is then the same regardless of the number of values
+						final JdbcParameter arrayParameter = new JdbcArrayParameterImpl( arrayElementJdbcMapping );
+						final List<JdbcParameter> jdbcParametersForSqm = Collections.singletonList( arrayParameter );
+						this.jdbcParameters.addParameters( jdbcParametersForSqm );
+						this.jdbcParamsBySqmParam.put( sqmParameter, jdbcParametersForSqm );
+						return InListPredicate.arrayBound( testExpression, arrayParameter, predicate.isNegated() );
+					}
+
+					final InListPredicate inListPredicate = new InListPredicate( testExpression, predicate.isNegated() );
 
 					inferableTypeAccessStack.push(
 							() -> determineValueMapping( predicate.getTestExpression() ) );
 
 					try {
-						boolean first = true;
-						for ( Object bindValue : domainParamBinding.getBindValues() ) {
+						// for each bind value do the following:
+						//		1) create a pseudo-SqmParameter (though re-use the original for the first value)
+						//		2) when padding is enabled, keep going up to the padded size; the
+						//			extra parameters get bound to the last value (see SqmUtil)
+						final int parameterCount = determineInListParameterCount( domainParamBinding.getBindValues().size() );
+						for ( int i = 0; i < parameterCount; i++ ) {
 							final SqmParameter sqmParamToConsume;
-							// for each bind value do the following:
-							//		1) create a pseudo-SqmParameter (though re-use the original for the first value)
-							if ( first ) {
+							if ( i == 0 ) {
 								sqmParamToConsume = sqmParameter;
-								first = false;
 							}
 							else {
 								sqmParamToConsume = sqmParameter.copy();
@@ -1619,6 +1774,51 @@ public abstract class BaseSqmToSqlAstConverter
 		return inPredicate;
 	}
 
+	/**
+	 * If the values of the multi-valued parameter in the given IN predicate should be bound as a
+	 * single array, returns the JdbcMapping of the array elements; otherwise {@code null}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_BINDING
+	 */
+	private JdbcMapping resolveArrayInListElementJdbcMapping(SqmInListPredicate<?> predicate) {
+		final SessionFactoryImplementor sessionFactory = getCreationContext().getSessionFactory();
+		if ( !sessionFactory.getSessionFactoryOptions().inClauseArrayBindingEnabled()
+				|| sessionFactory.getJdbcServices().getDialect().getArrayInListPredicateTemplate( predicate.isNegated() ) == null ) {
+			return null;
+		}
+
+		final MappingModelExpressable<?> valueMapping = determineValueMapping( predicate.getTestExpression() );
+		final TypeConfiguration typeConfiguration = getCreationContext().getDomainModel().getTypeConfiguration();
+		if ( valueMapping == null || valueMapping.getJdbcTypeCount( typeConfiguration ) != 1 ) {
+			// tuples cannot be bound as an array
+			return null;
+		}
+
+		final List<JdbcMapping> jdbcMappings = new ArrayList<>( 1 );
+		valueMapping.visitJdbcTypes( jdbcMappings::add, getCurrentClauseStack().getCurrent(), typeConfiguration );
+		return jdbcMappings.get( 0 );
+	}
+
+	/**
+	 * The number of parameters to render for a multi-valued parameter with the given number of
+	 * values.  Unless {@link org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING} is
+	 * enabled this is simply the number of values; otherwise it is padded to the next power of
+	 * two, limited by {@link org.hibernate.dialect.Dialect#getInExpressionCountLimit()}.
+	 */
+	private int determineInListParameterCount(int valueCount) {
+		final SessionFactoryImplementor sessionFactory = getCreationContext().getSessionFactory();
+		if ( valueCount <= 1 || !sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
+			return valueCount;
+		}
+
+		final int paddedCount = MathHelper.ceilingPowerOfTwo( valueCount );
+		final int inExpressionCountLimit = sessionFactory.getJdbcServices().getDialect().getInExpressionCountLimit();
+		if ( inExpressionCountLimit > 0 && paddedCount > inExpressionCountLimit ) {
+			return Math.max( valueCount, inExpressionCountLimit );
+		}
+		return paddedCount;
+	}
+
 	@Override
 	public InSubQueryPredicate visitInSubQueryPredicate(SqmInSubQueryPredicate predicate) {
 		return new InSubQueryPredicate(
@@ -20,6 +20,7 @@ import org.hibernate.sql.ast.spi.SqlAstCreationContext;
 import org.hibernate.sql.ast.spi.SqlAstWalker;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
 import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.SqlSelectionExpression;
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.update.Assignment;
 import org.hibernate.sql.results.spi.DomainResult;
@@ -43,7 +44,7 @@ public class BasicValuedPathInterpretation<T> implements AssignableSqmPathInterp
 				null
 		);
 
-		final ColumnReference columnReference = (ColumnReference) sqlAstCreationState.getSqlExpressionResolver().resolveSqlExpression(
+		final Expression expression = sqlAstCreationState.getSqlExpressionResolver().resolveSqlExpression(
 				SqlExpressionResolver.createColumnReferenceKey(
 						mapping.getContainingTableExpression(),
 						mapping.getMappedColumnExpression()
@@ -57,6 +58,11 @@ public class BasicValuedPathInterpretation<T> implements AssignableSqmPathInterp
 				)
 		);
 
+		// in the order-by, group-by and having clauses a selected column comes back wrapped
+		final ColumnReference columnReference = expression instanceof SqlSelectionExpression
+				? (ColumnReference) ( (SqlSelectionExpression) expression ).getExpression()
+				: (ColumnReference) expression;
+
 		return new BasicValuedPathInterpretation<>( columnReference, sqmPath, mapping, tableGroup );
 	}
 
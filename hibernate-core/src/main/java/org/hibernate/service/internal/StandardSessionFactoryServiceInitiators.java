@@ -13,6 +13,7 @@ import java.util.List;
 import org.hibernate.engine.query.spi.NativeQueryInterpreterInitiator;
 import org.hibernate.engine.spi.CacheInitiator;
 import org.hibernate.event.service.internal.EventListenerServiceInitiator;
+import org.hibernate.id.enhanced.SourceValuePrefetchExecutorInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 import org.hibernate.stat.internal.StatisticsInitiator;
 
@@ -31,6 +32,7 @@ public final class StandardSessionFactoryServiceInitiators {
 		serviceInitiators.add( StatisticsInitiator.INSTANCE );
 		serviceInitiators.add( CacheInitiator.INSTANCE );
 		serviceInitiators.add( NativeQueryInterpreterInitiator.INSTANCE );
+		serviceInitiators.add( SourceValuePrefetchExecutorInitiator.INSTANCE );
 
 		return serviceInitiators;
 	}
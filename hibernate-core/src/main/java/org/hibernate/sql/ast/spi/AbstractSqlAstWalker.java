@@ -908,10 +908,19 @@ public abstract class AbstractSqlAstWalker
 	@Override
 	public void visitInListPredicate(InListPredicate inListPredicate) {
 		inListPredicate.getTestExpression().accept( this );
+		if ( inListPredicate.isArrayBound() ) {
+			final String template = getSessionFactory().getJdbcServices().getDialect().getArrayInListPredicateTemplate( inListPredicate.isNegated() );
+			final int markerPosition = template.indexOf( PARAM_MARKER );
+			appendSql( EMPTY_STRING + template.substring( 0, markerPosition ) );
+			inListPredicate.getListExpressions().get( 0 ).accept( this );
+			appendSql( template.substring( markerPosition + PARAM_MARKER.length() ) );
+			return;
+		}
+
 		if ( inListPredicate.isNegated() ) {
-			appendSql( NOT_KEYWORD );
+			appendSql( EMPTY_STRING + NOT_KEYWORD );
 		}
-		appendSql( IN_KEYWORD + ' ' + OPEN_PARENTHESIS );
+		appendSql( EMPTY_STRING + IN_KEYWORD + EMPTY_STRING + OPEN_PARENTHESIS );
 		if ( inListPredicate.getListExpressions().isEmpty() ) {
 			appendSql( NULL_KEYWORD );
 		}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.sql.ast.spi;
 
+import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
 import org.hibernate.sql.ast.tree.predicate.Predicate;
 
@@ -40,15 +41,25 @@ public class SqlAstTreeHelper {
 			}
 			else {
 				combinedPredicate = new Junction( Junction.Nature.CONJUNCTION );
-				combinedPredicate.add( baseRestriction );
+				combinedPredicate.add( group( baseRestriction ) );
 			}
 		}
 		else {
 			combinedPredicate = new Junction( Junction.Nature.CONJUNCTION );
+			combinedPredicate.add( baseRestriction );
 		}
 
-		combinedPredicate.add( incomingRestriction );
+		combinedPredicate.add( group( incomingRestriction ) );
 
 		return combinedPredicate;
 	}
+
+	private static Predicate group(Predicate predicate) {
+		// junctions are rendered without parentheses; a disjunction needs
+		//		grouping to be correctly combined into a conjunction
+		if ( predicate instanceof Junction && ( (Junction) predicate ).getNature() == Junction.Nature.DISJUNCTION ) {
+			return new GroupedPredicate( predicate );
+		}
+		return predicate;
+	}
 }
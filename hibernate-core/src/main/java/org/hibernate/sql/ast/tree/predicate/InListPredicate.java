@@ -12,6 +12,7 @@ import java.util.List;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.sql.ast.spi.SqlAstWalker;
 import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.exec.spi.JdbcParameter;
 
 /**
  * @author Steve Ebersole
@@ -20,6 +21,7 @@ public class InListPredicate implements Predicate {
 	private final Expression testExpression;
 	private final List<Expression> listExpressions;
 	private final boolean negated;
+	private final boolean arrayBound;
 
 	public InListPredicate(Expression testExpression) {
 		this( testExpression, new ArrayList<>() );
@@ -43,9 +45,29 @@ public class InListPredicate implements Predicate {
 			Expression testExpression,
 			List<Expression> listExpressions,
 			boolean negated) {
+		this( testExpression, listExpressions, negated, false );
+	}
+
+	private InListPredicate(
+			Expression testExpression,
+			List<Expression> listExpressions,
+			boolean negated,
+			boolean arrayBound) {
 		this.testExpression = testExpression;
 		this.listExpressions = listExpressions;
 		this.negated = negated;
+		this.arrayBound = arrayBound;
+	}
+
+	/**
+	 * Creates an IN predicate whose values are all bound through the single (array) parameter
+	 *
+	 * @see org.hibernate.dialect.Dialect#getArrayInListPredicateTemplate
+	 */
+	public static InListPredicate arrayBound(Expression testExpression, JdbcParameter arrayParameter, boolean negated) {
+		final List<Expression> listExpressions = new ArrayList<>( 1 );
+		listExpressions.add( arrayParameter );
+		return new InListPredicate( testExpression, listExpressions, negated, true );
 	}
 
 	public Expression getTestExpression() {
@@ -64,6 +86,14 @@ public class InListPredicate implements Predicate {
 		return negated;
 	}
 
+	/**
+	 * Are all values bound through a single array parameter?  If so, {@link #getListExpressions()}
+	 * contains just that parameter.
+	 */
+	public boolean isArrayBound() {
+		return arrayBound;
+	}
+
 	@Override
 	public boolean isEmpty() {
 		return false;
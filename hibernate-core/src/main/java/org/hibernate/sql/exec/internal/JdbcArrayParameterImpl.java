@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.ast.spi.SqlAstWalker;
+import org.hibernate.sql.exec.ExecutionException;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.type.descriptor.java.BasicJavaDescriptor;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+
+/**
+ * A JDBC parameter binding all values of a multi-valued query parameter as a single
+ * {@link Array}.  The bound value is expected to be an {@code Object[]} of JDBC values
+ * whose element type is described by {@link #getJdbcMapping()}.
+ *
+ * @see Dialect#getArrayInListPredicateTemplate
+ *
+ * @author agent
+ */
+public class JdbcArrayParameterImpl extends AbstractJdbcParameter {
+	public JdbcArrayParameterImpl(JdbcMapping elementJdbcMapping) {
+		super( elementJdbcMapping );
+	}
+
+	@Override
+	public void accept(SqlAstWalker sqlTreeWalker) {
+		sqlTreeWalker.visitParameter( this );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void bindParameterValue(
+			PreparedStatement statement,
+			int startPosition,
+			JdbcParameterBindings jdbcParamBindings,
+			ExecutionContext executionContext) throws SQLException {
+		final JdbcParameterBinding binding = jdbcParamBindings.getBinding( this );
+		if ( binding == null ) {
+			throw new ExecutionException( "JDBC parameter value not bound - " + this );
+		}
+
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final JdbcMapping elementJdbcMapping = binding.getBindType() == null ? getJdbcMapping() : binding.getBindType();
+		final JavaTypeDescriptor javaTypeDescriptor = elementJdbcMapping.getJavaTypeDescriptor();
+		final SqlTypeDescriptor sqlTypeDescriptor = elementJdbcMapping.getSqlTypeDescriptor();
+		final BasicJavaDescriptor<?> jdbcJavaTypeDescriptor = sqlTypeDescriptor.getJdbcRecommendedJavaTypeMapping(
+				session.getFactory().getTypeConfiguration()
+		);
+
+		final Object[] values = (Object[]) binding.getBindValue();
+		final Object[] jdbcValues = new Object[ values.length ];
+		for ( int i = 0; i < values.length; i++ ) {
+			jdbcValues[i] = javaTypeDescriptor.unwrap( values[i], jdbcJavaTypeDescriptor.getJavaType(), session );
+		}
+
+		final Dialect dialect = session.getJdbcServices().getDialect();
+		final Array array = statement.getConnection().createArrayOf(
+				dialect.getArrayElementTypeName( sqlTypeDescriptor.getSqlType() ),
+				jdbcValues
+		);
+		statement.setArray( startPosition, array );
+	}
+}
@@ -46,16 +46,12 @@ import org.hibernate.sql.results.spi.ScrollableResultsConsumer;
 import org.jboss.logging.Logger;
 
 /**
+ * Standard JdbcSelectExecutor implementation.  Other implementations can be
+ * plugged in via {@link org.hibernate.cfg.AvailableSettings#JDBC_SELECT_EXECUTOR}
+ *
  * @author Steve Ebersole
  */
 public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
-	// todo (6.0) : Make resolving these executors swappable - JdbcServices?
-	//		Since JdbcServices is just a "composition service", this is actually
-	//		a very good option...
-
-	// todo (6.0) : where do affected-table-names get checked for up-to-date?
-	//		who is responsible for that?  Here?
-
 	/**
 	 * Singleton access
 	 */
@@ -245,21 +241,14 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					executionContext.getSession()
 			);
 
+			// the affected table names are used to verify "up-to-dateness" of the cached results
+			// according to the region's QueryCacheInvalidationStrategy
 			cachedResults = queryCache.get(
 					// todo (6.0) : QueryCache#get takes the `queryResultsCacheKey` see tat discussion above
 					queryResultsCacheKey,
-					// todo (6.0) : `querySpaces` and `session` make perfect sense as args, but its odd passing those into this method just to pass along
-					//		atm we do not even collect querySpaces, but we need to
 					jdbcSelect.getAffectedTableNames(),
 					executionContext.getSession()
 			);
-
-			// todo (6.0) : `querySpaces` and `session` are used in QueryCache#get to verify "up-to-dateness" via UpdateTimestampsCache
-			//		better imo to move UpdateTimestampsCache handling here and have QueryCache be a simple access to
-			//		the underlying query result cache region.
-			//
-			// todo (6.0) : if we go this route (^^), still beneficial to have an abstraction over different UpdateTimestampsCache-based
-			//		invalidation strategies - QueryCacheInvalidationStrategy
 		}
 		else {
 			log.debugf( "Skipping reading Query result cache data: cache-enabled = %s, cache-mode = %s",
@@ -270,7 +259,17 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			queryResultsCacheKey = null;
 		}
 
-		if ( cachedResults == null || cachedResults.isEmpty() ) {
+		// an empty list is a (cached) query without results, only null is a miss
+		if ( cachedResults == null ) {
+			if ( queryResultsCacheKey != null && !cacheMode.isPutEnabled() ) {
+				// we will not be putting the results, release anyone waiting for us to
+				// right away instead of once the results are read
+				executionContext.getSession().getFactory()
+						.getCache()
+						.getQueryResultsCache( executionContext.getQueryOptions().getResultCacheRegionName() )
+						.releaseLoad( queryResultsCacheKey );
+			}
+
 			return new JdbcValuesResultSetImpl(
 					resultSetAccess,
 					queryResultsCacheKey,
@@ -288,6 +287,12 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 	}
 
 	private CacheMode resolveCacheMode(ExecutionContext executionContext) {
+		if ( executionContext.getQueryOptions().getKeysetPage() != null ) {
+			// the keyset values are rendered into the SQL AST rather than being
+			//		query parameter bindings, so they are not part of the QueryKey
+			return CacheMode.IGNORE;
+		}
+
 		CacheMode cacheMode = executionContext.getQueryOptions().getCacheMode();
 		if ( cacheMode != null ) {
 			return cacheMode;
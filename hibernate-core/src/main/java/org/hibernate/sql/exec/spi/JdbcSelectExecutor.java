@@ -7,6 +7,9 @@
 package org.hibernate.sql.exec.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import org.hibernate.Incubating;
@@ -15,14 +18,13 @@ import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.spi.RowTransformer;
 
 /**
- * An executor for JdbcSelect operations.
+ * An executor for JdbcSelect operations.  The executor in effect is obtained
+ * from {@link org.hibernate.engine.jdbc.spi.JdbcServices#getJdbcSelectExecutor()}
  *
  * @author Steve Ebersole
  */
 @Incubating
 public interface JdbcSelectExecutor {
-	// todo (6.0) : Ideally we'd have a singular place (JdbcServices? ServiceRegistry?) to obtain these executors
-
 	<R> List<R> list(
 			JdbcSelect jdbcSelect,
 			JdbcParameterBindings jdbcParameterBindings,
@@ -41,4 +43,27 @@ public interface JdbcSelectExecutor {
 			JdbcParameterBindings jdbcParameterBindings,
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer);
+
+	/**
+	 * Asynchronous form of {@link #list}.  Statement execution as well as the
+	 * processing of the rows (via the {@link org.hibernate.sql.results.spi.ResultsConsumer})
+	 * happen on the given {@code executor}, which may be backed by any kind of threads
+	 * (pooled, virtual, etc).  The results are fully materialized on that thread before
+	 * the returned stage completes.
+	 * <p/>
+	 * The Session behind the {@code executionContext} is not thread-safe and is used from
+	 * the executor thread while the statement runs - the caller must not use that Session
+	 * in any way until the returned stage has completed.
+	 */
+	default <R> CompletionStage<List<R>> listAsync(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Executor executor) {
+		return CompletableFuture.supplyAsync(
+				() -> list( jdbcSelect, jdbcParameterBindings, executionContext, rowTransformer ),
+				executor
+		);
+	}
 }
@@ -18,6 +18,9 @@ import org.hibernate.sql.results.spi.RowProcessingState;
 public abstract class AbstractJdbcValues implements JdbcValues {
 	private final QueryCachePutManager queryCachePutManager;
 
+	// only results which were read completely are put into the query cache
+	private boolean exhausted;
+
 	public AbstractJdbcValues(QueryCachePutManager queryCachePutManager) {
 		if ( queryCachePutManager == null ) {
 			throw new IllegalArgumentException( "QueryCachePutManager cannot be null" );
@@ -30,15 +33,25 @@ public abstract class AbstractJdbcValues implements JdbcValues {
 		if ( getCurrentRowValuesArray() != null ) {
 			queryCachePutManager.registerJdbcRow( getCurrentRowValuesArray() );
 		}
-		return processNext( rowProcessingState );
+		final boolean hasNext = processNext( rowProcessingState );
+		if ( !hasNext ) {
+			exhausted = true;
+		}
+		return hasNext;
 	}
 
 	protected abstract boolean processNext(RowProcessingState rowProcessingState);
 
 	@Override
 	public final void finishUp() {
-		queryCachePutManager.finishUp();
-		release();
+		try {
+			if ( exhausted ) {
+				queryCachePutManager.finishUp();
+			}
+		}
+		finally {
+			release();
+		}
 	}
 
 	protected abstract void release();
@@ -11,9 +11,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.function.Function;
 
+import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.dialect.pagination.LimitHelper;
+import org.hibernate.dialect.pagination.NoopLimitHandler;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.query.Limit;
+import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
@@ -65,7 +71,11 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		final LogicalConnectionImplementor logicalConnection = getPersistenceContext().getJdbcCoordinator().getLogicalConnection();
 		final JdbcServices jdbcServices = getPersistenceContext().getFactory().getServiceRegistry().getService( JdbcServices.class );
 
-		final String sql = jdbcSelect.getSql();
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		final RowSelection rowSelection = interpretRowSelection( queryOptions );
+		final LimitHandler limitHandler = resolveLimitHandler( rowSelection, jdbcServices );
+
+		final String sql = limitHandler.processSql( jdbcSelect.getSql(), rowSelection );
 
 		try {
 			log.tracef( "Executing query to retrieve ResultSet : %s", sql );
@@ -73,19 +83,18 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			preparedStatement = statementCreator.apply( sql );
 
 			// set options
-			if ( executionContext.getQueryOptions().getFetchSize() != null ) {
-				preparedStatement.setFetchSize( executionContext.getQueryOptions().getFetchSize() );
+			if ( queryOptions.getFetchSize() != null ) {
+				preparedStatement.setFetchSize( queryOptions.getFetchSize() );
 			}
-			if ( executionContext.getQueryOptions().getTimeout() != null ) {
-				preparedStatement.setQueryTimeout( executionContext.getQueryOptions().getTimeout() );
+			if ( queryOptions.getTimeout() != null ) {
+				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 			}
 
-			// todo : limit/offset
-
-
-			// bind parameters
+			// bind parameters, surrounded by any limit/offset parameters the
+			// 		dialect's LimitHandler rendered into the SQL
 			// 		todo : validate that all query parameters were bound?
 			int paramBindingPosition = 1;
+			paramBindingPosition += limitHandler.bindLimitParametersAtStartOfQuery( rowSelection, preparedStatement, paramBindingPosition );
 			for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
 				parameterBinder.bindParameterValue(
 						preparedStatement,
@@ -94,10 +103,17 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 						executionContext
 				);
 			}
+			limitHandler.bindLimitParametersAtEndOfQuery( rowSelection, preparedStatement, paramBindingPosition );
+
+			limitHandler.setMaxRows( rowSelection, preparedStatement );
 
 			resultSet = preparedStatement.executeQuery();
 			logicalConnection.getResourceRegistry().register( resultSet, preparedStatement );
 
+			if ( !limitHandler.supportsLimitOffset() || !LimitHelper.useLimit( limitHandler, rowSelection ) ) {
+				// the offset was not applied in the SQL, skip the leading rows on the client
+				skipFirstRows( rowSelection );
+			}
 		}
 		catch (SQLException e) {
 			throw jdbcServices.getSqlExceptionHelper().convert(
@@ -110,6 +126,30 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		}
 	}
 
+	private static RowSelection interpretRowSelection(QueryOptions queryOptions) {
+		final Limit limit = queryOptions.getEffectiveLimit();
+		return new RowSelection(
+				limit.getFirstRow(),
+				limit.getMaxRows(),
+				queryOptions.getTimeout(),
+				queryOptions.getFetchSize()
+		);
+	}
+
+	private static LimitHandler resolveLimitHandler(RowSelection rowSelection, JdbcServices jdbcServices) {
+		final LimitHandler limitHandler = jdbcServices.getDialect().getLimitHandler();
+		return LimitHelper.useLimit( limitHandler, rowSelection ) ? limitHandler : NoopLimitHandler.INSTANCE;
+	}
+
+	private void skipFirstRows(RowSelection rowSelection) throws SQLException {
+		final int firstRow = LimitHelper.getFirstRow( rowSelection );
+		for ( int i = 0; i < firstRow; i++ ) {
+			if ( !resultSet.next() ) {
+				break;
+			}
+		}
+	}
+
 	@Override
 	public void release() {
 		if ( resultSet != null ) {
@@ -33,7 +33,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	}
 
 	public JdbcValuesCacheHit(List<Object[]> cachedResults, JdbcValuesMapping resolvedMapping) {
-		this( (Object[][]) cachedResults.toArray(), resolvedMapping );
+		this( cachedResults.toArray( new Object[ cachedResults.size() ][] ), resolvedMapping );
 	}
 
 	@Override
@@ -41,7 +41,8 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		// NOTE : explicitly skipping limit handling under the truth that
 		//		because the cached state ought to be the same size since
 		//		the cache key includes limits
-		if ( isExhausted() ) {
+		if ( position + 1 >= numberOfRows ) {
+			position = numberOfRows;
 			return false;
 		}
 		position++;
@@ -49,7 +50,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	}
 
 	private boolean isExhausted() {
-		return position >= numberOfRows;
+		return position < 0 || position >= numberOfRows;
 	}
 
 	@Override
@@ -6,11 +6,14 @@
  */
 package org.hibernate.sql.results.internal;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 import org.hibernate.CacheMode;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.Limit;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.spi.SqlSelection;
@@ -21,6 +24,7 @@ import org.hibernate.sql.results.internal.caching.QueryCachePutManagerDisabledIm
 import org.hibernate.sql.results.internal.caching.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.spi.RowProcessingState;
+import org.hibernate.type.descriptor.ValueExtractor;
 
 /**
  * JdbcValuesSource implementation for a JDBC ResultSet as the source
@@ -33,14 +37,30 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final JdbcValuesMapping valuesMapping;
 	private final ExecutionContext executionContext;
 
-	// todo (6.0) - manage limit-based skips
+	// the query cache which missed the results, and may be holding other callers
+	//		back until this load of them is done; otherwise null
+	private final QueryResultsCache queryCache;
+	private final QueryKey queryCacheKey;
 
+	// limit/offset are applied to the SQL (and any leading rows skipped) by
+	//		the ResultSetAccess; the row count here is just a safeguard for
+	//		dialects which cannot limit the results in the SQL
 	private final int numberOfRowsToProcess;
 
 	// we start position at -1 prior to any next call so that the first next call
 	//		increments position to 0, which is the first row
 	private int position = -1;
 
+	// the SqlSelection details, resolved up front for indexed access per row
+	private final int rowSize;
+	private final ValueExtractor[] valueExtractors;
+	private final int[] jdbcResultSetIndexes;
+	private final int[] valuesArrayPositions;
+
+	// the row array, reused for each row when the rows are not retained
+	//		for the query cache; otherwise null
+	private final Object[] reusableRow;
+
 	private Object[] currentRowJdbcValues;
 
 	public JdbcValuesResultSetImpl(
@@ -49,13 +69,68 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 			QueryOptions queryOptions,
 			JdbcValuesMapping valuesMapping,
 			ExecutionContext executionContext) {
-		super( resolveQueryCachePutManager( executionContext, queryOptions, queryCacheKey ) );
+		this(
+				resultSetAccess,
+				queryCacheKey,
+				resolveQueryResultsCache( executionContext, queryOptions, queryCacheKey ),
+				queryOptions,
+				valuesMapping,
+				executionContext
+		);
+	}
+
+	private JdbcValuesResultSetImpl(
+			ResultSetAccess resultSetAccess,
+			QueryKey queryCacheKey,
+			QueryResultsCache queryCache,
+			QueryOptions queryOptions,
+			JdbcValuesMapping valuesMapping,
+			ExecutionContext executionContext) {
+		this(
+				resultSetAccess,
+				queryCacheKey,
+				queryCache,
+				resolveQueryCachePutManager( executionContext, queryOptions, queryCache, queryCacheKey ),
+				queryOptions,
+				valuesMapping,
+				executionContext
+		);
+	}
+
+	private JdbcValuesResultSetImpl(
+			ResultSetAccess resultSetAccess,
+			QueryKey queryCacheKey,
+			QueryResultsCache queryCache,
+			QueryCachePutManager queryCachePutManager,
+			QueryOptions queryOptions,
+			JdbcValuesMapping valuesMapping,
+			ExecutionContext executionContext) {
+		super( queryCachePutManager );
 		this.resultSetAccess = resultSetAccess;
 		this.valuesMapping = valuesMapping;
 		this.executionContext = executionContext;
+		this.queryCache = queryCache;
+		this.queryCacheKey = queryCacheKey;
 
-		// todo (6.0) : decide how to handle paged/limited results
 		this.numberOfRowsToProcess = interpretNumberOfRowsToProcess( queryOptions );
+
+		final List<SqlSelection> sqlSelections = valuesMapping.getSqlSelections();
+		this.rowSize = sqlSelections.size();
+		this.valueExtractors = new ValueExtractor[rowSize];
+		this.jdbcResultSetIndexes = new int[rowSize];
+		this.valuesArrayPositions = new int[rowSize];
+		for ( int i = 0; i < rowSize; i++ ) {
+			final SqlSelection sqlSelection = sqlSelections.get( i );
+			valueExtractors[i] = sqlSelection.getJdbcValueExtractor();
+			jdbcResultSetIndexes[i] = sqlSelection.getJdbcResultSetIndex();
+			valuesArrayPositions[i] = sqlSelection.getValuesArrayPosition();
+		}
+
+		// rows registered with the query cache are held on to until the end of
+		//		processing, in which case each row needs its own array
+		this.reusableRow = queryCachePutManager == QueryCachePutManagerDisabledImpl.INSTANCE
+				? new Object[rowSize]
+				: null;
 	}
 
 	private static int interpretNumberOfRowsToProcess(QueryOptions queryOptions) {
@@ -70,7 +145,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		return limit.getMaxRows();
 	}
 
-	private static QueryCachePutManager resolveQueryCachePutManager(
+	private static QueryResultsCache resolveQueryResultsCache(
 			ExecutionContext executionContext,
 			QueryOptions queryOptions,
 			QueryKey queryCacheKey) {
@@ -78,14 +153,26 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 				.getFactory()
 				.getSessionFactoryOptions()
 				.isQueryCacheEnabled();
-		final CacheMode cacheMode = queryOptions.getCacheMode();
 
-		if ( queryCacheEnabled && cacheMode.isPutEnabled() ) {
-			final QueryResultsCache queryCache = executionContext.getSession().getFactory()
+		if ( queryCacheEnabled && queryCacheKey != null ) {
+			return executionContext.getSession().getFactory()
 					.getCache()
 					.getQueryResultsCache( queryOptions.getResultCacheRegionName() );
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static QueryCachePutManager resolveQueryCachePutManager(
+			ExecutionContext executionContext,
+			QueryOptions queryOptions,
+			QueryResultsCache queryCache,
+			QueryKey queryCacheKey) {
+		final CacheMode cacheMode = queryOptions.getCacheMode();
 
-			return new QueryCachePutManagerEnabledImpl( queryCache, queryCacheKey );
+		if ( queryCache != null && cacheMode.isPutEnabled() ) {
+			return new QueryCachePutManagerEnabledImpl( queryCache, queryCacheKey, executionContext.getSession() );
 		}
 		else {
 			return QueryCachePutManagerDisabledImpl.INSTANCE;
@@ -96,10 +183,10 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
 		currentRowJdbcValues = null;
 
-		if ( numberOfRowsToProcess != -1 && position > numberOfRowsToProcess ) {
+		if ( numberOfRowsToProcess != -1 && position + 1 >= numberOfRowsToProcess ) {
 			// numberOfRowsToProcess != -1 means we had some limit, and
-			//		position > numberOfRowsToProcess means we have exceeded the
-			// 		number of limited rows
+			//		position + 1 >= numberOfRowsToProcess means we have already
+			// 		processed the number of limited rows
 			return false;
 		}
 
@@ -134,13 +221,14 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	}
 
 	private Object[] readCurrentRowValues(RowProcessingState rowProcessingState) throws SQLException {
-		final int numberOfSqlSelections = valuesMapping.getSqlSelections().size();
-		final Object[] row = new Object[numberOfSqlSelections];
-		for ( SqlSelection sqlSelection : valuesMapping.getSqlSelections() ) {
-			row[ sqlSelection.getValuesArrayPosition() ] = sqlSelection.getJdbcValueExtractor().extract(
-					resultSetAccess.getResultSet(),
-					sqlSelection.getJdbcResultSetIndex(),
-					executionContext.getSession()
+		final ResultSet resultSet = resultSetAccess.getResultSet();
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final Object[] row = reusableRow != null ? reusableRow : new Object[rowSize];
+		for ( int i = 0; i < rowSize; i++ ) {
+			row[ valuesArrayPositions[i] ] = valueExtractors[i].extract(
+					resultSet,
+					jdbcResultSetIndexes[i],
+					session
 			);
 		}
 		return row;
@@ -148,7 +236,16 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	protected void release() {
-		resultSetAccess.release();
+		try {
+			resultSetAccess.release();
+		}
+		finally {
+			if ( queryCache != null ) {
+				// whether the results were put, failed to be read or were not read completely -
+				//		release anyone waiting on this load of them
+				queryCache.releaseLoad( queryCacheKey );
+			}
+		}
 	}
 
 	@Override
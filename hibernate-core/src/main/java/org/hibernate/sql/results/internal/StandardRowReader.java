@@ -32,9 +32,17 @@ public class StandardRowReader<T> implements RowReader<T> {
 	private final List<Initializer> initializers;
 	private final RowTransformer<T> rowTransformer;
 
+	// array copies of the above lists, for indexed access per row
+	private final DomainResultAssembler[] resultAssemblerArray;
+	private final Initializer[] initializerArray;
+
 	private final int assemblerCount;
 	private final Callback callback;
 
+	// the "raw" result row, reused for each row when the RowTransformer
+	//		does not retain it; otherwise null
+	private final Object[] reusableResultRow;
+
 	public StandardRowReader(
 			List<DomainResultAssembler> resultAssemblers,
 			List<Initializer> initializers,
@@ -44,8 +52,13 @@ public class StandardRowReader<T> implements RowReader<T> {
 		this.initializers = initializers;
 		this.rowTransformer = rowTransformer;
 
+		this.resultAssemblerArray = resultAssemblers.toArray( new DomainResultAssembler[0] );
+		this.initializerArray = initializers.toArray( new Initializer[0] );
+
 		this.assemblerCount = resultAssemblers.size();
 		this.callback = callback;
+
+		this.reusableResultRow = rowTransformer.retainsRawRow() ? null : new Object[assemblerCount];
 	}
 
 	@Override
@@ -70,14 +83,16 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 	@Override
 	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
-		LOG.info( "---Processing Row---" );
+		if ( LOG.isTraceEnabled() ) {
+			LOG.trace( "---Processing Row---" );
+		}
 		coordinateInitializers( rowProcessingState, options );
 
 		// finally assemble the results
 
-		final Object[] result = new Object[assemblerCount];
+		final Object[] result = reusableResultRow != null ? reusableResultRow : new Object[assemblerCount];
 		for ( int i = 0; i < assemblerCount; i++ ) {
-			result[i] = resultAssemblers.get( i ).assemble( rowProcessingState, options );
+			result[i] = resultAssemblerArray[i].assemble( rowProcessingState, options );
 		}
 
 		afterRow( rowProcessingState, options );
@@ -88,8 +103,8 @@ public class StandardRowReader<T> implements RowReader<T> {
 	private void afterRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
 		// todo : add AfterLoadActions handling here via Callback
 
-		for ( Initializer initializer : initializers ) {
-			initializer.finishUpRow( rowProcessingState );
+		for ( int i = 0; i < initializerArray.length; i++ ) {
+			initializerArray[i].finishUpRow( rowProcessingState );
 		}
 	}
 
@@ -121,16 +136,16 @@ public class StandardRowReader<T> implements RowReader<T> {
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// old
 
-		for ( Initializer initializer : initializers ) {
-			initializer.resolveKey( rowProcessingState );
+		for ( int i = 0; i < initializerArray.length; i++ ) {
+			initializerArray[i].resolveKey( rowProcessingState );
 		}
 
-		for ( Initializer initializer : initializers ) {
-			initializer.resolveInstance( rowProcessingState );
+		for ( int i = 0; i < initializerArray.length; i++ ) {
+			initializerArray[i].resolveInstance( rowProcessingState );
 		}
 
-		for ( Initializer initializer : initializers ) {
-			initializer.initializeInstance( rowProcessingState );
+		for ( int i = 0; i < initializerArray.length; i++ ) {
+			initializerArray[i].initializeInstance( rowProcessingState );
 		}
 	}
 
@@ -30,4 +30,13 @@ public interface RowTransformer<T> {
 	default int determineNumberOfResultElements(int rawElementCount) {
 		return rawElementCount;
 	}
+
+	/**
+	 * Does the transformed result hold on to the "raw" row array passed to
+	 * {@link #transformRow}?  If not, the caller may reuse the same array for
+	 * each row rather than allocating a new one.
+	 */
+	default boolean retainsRawRow() {
+		return true;
+	}
 }
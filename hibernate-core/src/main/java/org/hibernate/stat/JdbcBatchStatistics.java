@@ -0,0 +1,61 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * JDBC batch statistics, per batch key (an entity or collection operation,
+ * e.g. {@code com.acme.Customer#INSERT})
+ *
+ * @since 6.0
+ *
+ * @author agent
+ */
+public interface JdbcBatchStatistics extends Serializable {
+	/**
+	 * The batch key these statistics are for
+	 */
+	String getBatchKey();
+
+	/**
+	 * How many times has a batch been executed?
+	 */
+	long getExecutionCount();
+
+	/**
+	 * How many rows, cumulatively, have been executed as part of the batches?
+	 */
+	long getExecutionRowCount();
+
+	/**
+	 * How long, cumulatively, have all executions taken (in milliseconds)?
+	 */
+	long getExecutionTotalTime();
+
+	/**
+	 * What is the max amount time taken to execute a batch (in milliseconds)?
+	 */
+	long getExecutionMaxTime();
+
+	/**
+	 * The average number of rows per executed batch
+	 */
+	double getAverageBatchSize();
+
+	/**
+	 * The number of rows in the most recently executed batch
+	 */
+	int getLastBatchSize();
+
+	/**
+	 * Histogram of the batch sizes (rows per execution).  The element at index {@code i}
+	 * counts the executions of batches with between {@code 2^i} (inclusive) and
+	 * {@code 2^(i+1)} (exclusive) rows.
+	 */
+	long[] getBatchSizeHistogram();
+}
@@ -49,6 +49,23 @@ public interface QueryStatistics extends Serializable {
 
 	double getExecutionAvgTimeAsDouble();
 
+	/**
+	 * What is the amount of time within which the given percentage of the executions
+	 * of this query completed?  For example, {@code getExecutionTimePercentile( 99 )}
+	 * is the 99th percentile (p99) execution time.
+	 * <p/>
+	 * Execution times are tracked using a fixed number of buckets, so the returned
+	 * value is exact only for times below 32 milliseconds, and otherwise within ~6%.
+	 *
+	 * @param percentile The percentile, greater than 0 and at most 100
+	 *
+	 * @since 6.0
+	 */
+	default long getExecutionTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The number of cache hits for this query.
 	 *
@@ -157,6 +157,21 @@ public interface Statistics {
 	 */
 	String getQueryExecutionMaxTimeQueryString();
 
+	/**
+	 * Get the time in milliseconds within which the given percentage of all query
+	 * executions completed; e.g. {@code getQueryExecutionTimePercentile( 95 )} is the
+	 * 95th percentile (p95) query execution time.
+	 *
+	 * @param percentile The percentile, greater than 0 and at most 100
+	 *
+	 * @see QueryStatistics#getExecutionTimePercentile
+	 *
+	 * @since 6.0
+	 */
+	default long getQueryExecutionTimePercentile(double percentile) {
+		return 0;
+	}
+
     /**
      * Get the global number of cached queries successfully retrieved from cache
      */
@@ -386,4 +401,65 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Get the global number of query plans evicted from cache to honor its maximum size
+	 *
+	 * @since 6.0
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		return 0;
+	}
+
+	/**
+	 * Get the global number of executable (select and non-select) query plans
+	 * successfully retrieved from cache
+	 *
+	 * @since 6.0
+	 */
+	default long getQueryExecutionPlanCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * Get the global number of executable (select and non-select) query plan
+	 * lookups *not* found in cache
+	 *
+	 * @since 6.0
+	 */
+	default long getQueryExecutionPlanCacheMissCount() {
+		return 0;
+	}
+
+	/**
+	 * Get the global number of executable (select and non-select) query plans
+	 * evicted from cache to honor its maximum size
+	 *
+	 * @since 6.0
+	 */
+	default long getQueryExecutionPlanCacheEvictionCount() {
+		return 0;
+	}
+
+	/**
+	 * Get the keys of all executed JDBC batches
+	 *
+	 * @since 6.0
+	 */
+	default String[] getJdbcBatchKeys() {
+		return new String[0];
+	}
+
+	/**
+	 * JDBC batch statistics, for the given batch key
+	 *
+	 * @param batchKey The batch key, see {@link #getJdbcBatchKeys()}
+	 *
+	 * @return The statistics, or {@code null} if no batch with that key was executed
+	 *
+	 * @since 6.0
+	 */
+	default JdbcBatchStatistics getJdbcBatchStatistics(String batchKey) {
+		return null;
+	}
 }
@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.JdbcBatchStatistics;
+
+/**
+ * JDBC batch statistics, per batch key
+ *
+ * @author agent
+ */
+public class JdbcBatchStatisticsImpl implements JdbcBatchStatistics {
+	// enough buckets for batches of up to Integer.MAX_VALUE rows
+	private static final int BUCKET_COUNT = 31;
+
+	private final String batchKey;
+
+	private final LongAdder executionCount = new LongAdder();
+	private final LongAdder executionRowCount = new LongAdder();
+	private final LongAdder executionTotalNanos = new LongAdder();
+	private final AtomicLong executionMaxNanos = new AtomicLong();
+	private volatile int lastBatchSize;
+
+	private final LongAdder[] batchSizeHistogram = new LongAdder[BUCKET_COUNT];
+
+	JdbcBatchStatisticsImpl(String batchKey) {
+		this.batchKey = batchKey;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			batchSizeHistogram[i] = new LongAdder();
+		}
+	}
+
+	@Override
+	public String getBatchKey() {
+		return batchKey;
+	}
+
+	@Override
+	public long getExecutionCount() {
+		return executionCount.sum();
+	}
+
+	@Override
+	public long getExecutionRowCount() {
+		return executionRowCount.sum();
+	}
+
+	@Override
+	public long getExecutionTotalTime() {
+		return TimeUnit.NANOSECONDS.toMillis( executionTotalNanos.sum() );
+	}
+
+	@Override
+	public long getExecutionMaxTime() {
+		return TimeUnit.NANOSECONDS.toMillis( executionMaxNanos.get() );
+	}
+
+	@Override
+	public double getAverageBatchSize() {
+		final long executions = executionCount.sum();
+		return executions == 0 ? 0 : (double) executionRowCount.sum() / executions;
+	}
+
+	@Override
+	public int getLastBatchSize() {
+		return lastBatchSize;
+	}
+
+	@Override
+	public long[] getBatchSizeHistogram() {
+		final long[] histogram = new long[BUCKET_COUNT];
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			histogram[i] = batchSizeHistogram[i].sum();
+		}
+		return histogram;
+	}
+
+	/**
+	 * Record the execution of a batch
+	 *
+	 * @param rows The number of rows in the batch
+	 * @param nanos The execution time, in nanoseconds
+	 */
+	void executed(int rows, long nanos) {
+		executionCount.increment();
+		executionRowCount.add( rows );
+		executionTotalNanos.add( nanos );
+		executionMaxNanos.accumulateAndGet( nanos, Math::max );
+		lastBatchSize = rows;
+
+		if ( rows > 0 ) {
+			batchSizeHistogram[ 31 - Integer.numberOfLeadingZeros( rows ) ].increment();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "JdbcBatchStatistics"
+				+ "[batchKey=" + batchKey
+				+ ",executionCount=" + getExecutionCount()
+				+ ",executionRowCount=" + getExecutionRowCount()
+				+ ",executionTotalTime=" + getExecutionTotalTime()
+				+ ",executionMaxTime=" + getExecutionMaxTime()
+				+ ",averageBatchSize=" + getAverageBatchSize()
+				+ ']';
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size histogram of (non-negative) latencies, used to report percentiles.
+ * <p/>
+ * Following the HdrHistogram layout, values below {@value #LINEAR_LIMIT} are counted exactly;
+ * above that each power-of-two range is split into {@value #SUB_BUCKET_COUNT} buckets, so that
+ * a reported percentile is within ~6% of the actual value.  Values of {@value #MAX_TRACKABLE_VALUE}
+ * and above are counted in the last bucket.
+ * <p/>
+ * Recording is lock-free; a percentile is computed from the counts at the time it is requested,
+ * which need not be a consistent snapshot with respect to concurrent recording.
+ *
+ * @author agent
+ */
+public final class LatencyHistogram implements Serializable {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+	private static final int MAX_VALUE_BITS = 22;
+	private static final long MAX_TRACKABLE_VALUE = 1L << MAX_VALUE_BITS;
+
+	public static final int BUCKET_COUNT = bucketIndex( MAX_TRACKABLE_VALUE - 1 ) + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKET_COUNT );
+
+	/**
+	 * Count the given value
+	 */
+	public void record(long value) {
+		counts.incrementAndGet( bucketIndex( Math.max( 0, Math.min( value, MAX_TRACKABLE_VALUE - 1 ) ) ) );
+	}
+
+	/**
+	 * The value below (or at) which the given percentage of the recorded values fall, or
+	 * {@code 0} if no values were recorded
+	 *
+	 * @param percentile The percentile, between 0 (exclusive) and 100 (inclusive)
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if ( !( percentile > 0 && percentile <= 100 ) ) {
+			throw new IllegalArgumentException( "Percentile must be greater than 0 and at most 100 : " + percentile );
+		}
+
+		final long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			snapshot[i] = counts.get( i );
+			total += snapshot[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+
+		final long rank = Math.max( 1, (long) Math.ceil( percentile / 100 * total ) );
+		long cumulative = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulative += snapshot[i];
+			if ( cumulative >= rank ) {
+				return highestEquivalentValue( i );
+			}
+		}
+		return highestEquivalentValue( BUCKET_COUNT - 1 );
+	}
+
+	public void clear() {
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts.set( i, 0 );
+		}
+	}
+
+	public static int bucketIndex(long value) {
+		if ( value < LINEAR_LIMIT ) {
+			return (int) value;
+		}
+		// the number of low bits dropped so the value falls in [SUB_BUCKET_COUNT, 2 * SUB_BUCKET_COUNT)
+		final int shift = 63 - Long.numberOfLeadingZeros( value ) - SUB_BUCKET_BITS;
+		final int subBucket = (int) ( value >>> shift ) - SUB_BUCKET_COUNT;
+		return LINEAR_LIMIT + ( shift - 1 ) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	public static long highestEquivalentValue(int bucketIndex) {
+		if ( bucketIndex < LINEAR_LIMIT ) {
+			return bucketIndex;
+		}
+		final int shift = ( bucketIndex - LINEAR_LIMIT ) / SUB_BUCKET_COUNT + 1;
+		final long subBucket = SUB_BUCKET_COUNT + ( bucketIndex - LINEAR_LIMIT ) % SUB_BUCKET_COUNT;
+		return ( ( subBucket + 1 ) << shift ) - 1;
+	}
+}
@@ -80,6 +80,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 	private final LongAdder queryExecutionCount = new LongAdder();
 	private final AtomicLong queryExecutionMaxTime = new AtomicLong();
+	private final LatencyHistogram queryExecutionTimeHistogram = new LatencyHistogram();
 	private volatile String queryExecutionMaxTimeQueryString;
 	private final LongAdder queryCacheHitCount = new LongAdder();
 	private final LongAdder queryCacheMissCount = new LongAdder();
@@ -87,6 +88,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
+
+	private final LongAdder queryExecutionPlanCacheHitCount = new LongAdder();
+	private final LongAdder queryExecutionPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryExecutionPlanCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -113,6 +119,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 	private final StatsNamedContainer<DeprecatedNaturalIdCacheStatisticsImpl> deprecatedNaturalIdStatsMap = new StatsNamedContainer();
 
+	/**
+	 * Keyed by JDBC batch key
+	 */
+	private final StatsNamedContainer<JdbcBatchStatisticsImpl> jdbcBatchStatsMap = new StatsNamedContainer<>();
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
@@ -170,6 +181,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		queryCacheHitCount.reset();
 		queryExecutionMaxTime.set( 0L );
 		queryExecutionMaxTimeQueryString = null;
+		queryExecutionTimeHistogram.clear();
 		queryCacheMissCount.reset();
 		queryCachePutCount.reset();
 
@@ -188,9 +200,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		l2CacheStatsMap.clear();
 		queryStatsMap.clear();
 		deprecatedNaturalIdStatsMap.clear();
+		jdbcBatchStatsMap.clear();
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
+
+		queryExecutionPlanCacheHitCount.reset();
+		queryExecutionPlanCacheMissCount.reset();
+		queryExecutionPlanCacheEvictionCount.reset();
 
 		startTime = System.currentTimeMillis();
 	}
@@ -724,10 +742,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return queryExecutionMaxTime.get();
 	}
 
+	@Override
+	public long getQueryExecutionTimePercentile(double percentile) {
+		return queryExecutionTimeHistogram.getValueAtPercentile( percentile );
+	}
+
 	@Override
 	public void queryExecuted(String hql, int rows, long time) {
 		LOG.hql( hql, time, (long) rows );
 		queryExecutionCount.increment();
+		queryExecutionTimeHistogram.record( time );
 
 		boolean isLongestQuery;
 		//noinspection StatementWithEmptyBody
@@ -795,6 +819,26 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
+	@Override
+	public long getQueryExecutionPlanCacheHitCount() {
+		return queryExecutionPlanCacheHitCount.sum();
+	}
+
+	@Override
+	public long getQueryExecutionPlanCacheMissCount() {
+		return queryExecutionPlanCacheMissCount.sum();
+	}
+
+	@Override
+	public long getQueryExecutionPlanCacheEvictionCount() {
+		return queryExecutionPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -813,6 +857,44 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction() {
+		queryPlanCacheEvictionCount.increment();
+	}
+
+	@Override
+	public void queryExecutionPlanCacheHit() {
+		queryExecutionPlanCacheHitCount.increment();
+	}
+
+	@Override
+	public void queryExecutionPlanCacheMiss() {
+		queryExecutionPlanCacheMissCount.increment();
+	}
+
+	@Override
+	public void queryExecutionPlanCacheEviction() {
+		queryExecutionPlanCacheEvictionCount.increment();
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// JDBC batch statistics
+
+	@Override
+	public String[] getJdbcBatchKeys() {
+		return jdbcBatchStatsMap.keysAsArray();
+	}
+
+	@Override
+	public JdbcBatchStatisticsImpl getJdbcBatchStatistics(String batchKey) {
+		return jdbcBatchStatsMap.get( batchKey );
+	}
+
+	@Override
+	public void jdbcBatchExecuted(String batchKey, int rows, long nanos) {
+		jdbcBatchStatsMap.getOrCompute( batchKey, JdbcBatchStatisticsImpl::new ).executed( rows, nanos );
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -986,6 +1068,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 				.append( ",max query time=" ).append( queryExecutionMaxTime )
 				.append( ",query plan cache hits=" ).append( queryPlanCacheHitCount )
 				.append( ",query plan cache misses=" ).append( queryPlanCacheMissCount )
+				.append( ",query plan cache evictions=" ).append( queryPlanCacheEvictionCount )
+				.append( ",query execution plan cache hits=" ).append( queryExecutionPlanCacheHitCount )
+				.append( ",query execution plan cache misses=" ).append( queryExecutionPlanCacheMissCount )
+				.append( ",query execution plan cache evictions=" ).append( queryExecutionPlanCacheEvictionCount )
 				.append( ']' )
 				.toString();
 	}
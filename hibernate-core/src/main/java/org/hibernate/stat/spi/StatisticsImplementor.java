@@ -257,6 +257,40 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating execution of a JDBC batch
+	 *
+	 * @param batchKey The batch key
+	 * @param rows The number of rows in the batch
+	 * @param nanos The execution time, in nanoseconds
+	 */
+	default void jdbcBatchExecuted(String batchKey, int rows, long nanos) {
+	}
+
+	/**
+	 * Callback indicating a query plan was evicted from the query plan cache.
+	 */
+	default void queryPlanCacheEviction() {
+	}
+
+	/**
+	 * Callback indicating a get from the executable query plan cache resulted in a hit.
+	 */
+	default void queryExecutionPlanCacheHit() {
+	}
+
+	/**
+	 * Callback indicating a get from the executable query plan cache resulted in a miss.
+	 */
+	default void queryExecutionPlanCacheMiss() {
+	}
+
+	/**
+	 * Callback indicating a query plan was evicted from the executable query plan cache.
+	 */
+	default void queryExecutionPlanCacheEviction() {
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -0,0 +1,216 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.JdbcBatchStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests the batching of dynamic updates: updates of the same properties are batched together,
+ * and the batch is executed whenever the updated properties change, so the rows are still
+ * updated in flush order.
+ *
+ * @author agent
+ */
+@DomainModel( annotatedClasses = DynamicUpdateBatchTests.Product.class )
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting( name = AvailableSettings.HBM2DDL_AUTO, value = "create-drop" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ),
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.STATEMENT_INSPECTOR,
+						value = "org.hibernate.orm.test.batch.DynamicUpdateBatchTests$CapturingStatementInspector"
+				)
+		}
+)
+@SessionFactory( generateStatistics = true )
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class DynamicUpdateBatchTests {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( long id = 1; id <= 6; id++ ) {
+						session.persist( new Product( id, "product " + id, 10 ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.doWork(
+						work -> {
+							final Statement statement = work.createStatement();
+							statement.execute( "delete from Product" );
+							statement.close();
+						}
+				)
+		);
+	}
+
+	@Test
+	public void testBatchingOfDynamicUpdates(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		for ( int run = 1; run <= 2; run++ ) {
+			final int price = 10 + run;
+			statistics.clear();
+			final List<String> updates = updateProducts(
+					scope,
+					// the names of the first 3 products, then the prices of the last 3
+					product -> product.id <= 3,
+					price
+			);
+
+			// the two update statements are each prepared once ...
+			assertEquals( 2, updates.size() );
+
+			// ... and the updates of each executed as a single batch
+			final JdbcBatchStatistics batchStatistics = statistics.getJdbcBatchStatistics( Product.class.getName() + "#UPDATE" );
+			assertNotNull( batchStatistics );
+			assertEquals( 2, batchStatistics.getExecutionCount() );
+			assertEquals( 6, batchStatistics.getExecutionRowCount() );
+		}
+
+		assertProducts( scope, product -> product.id <= 3, 12, "!!" );
+	}
+
+	@Test
+	public void testInterleavedDynamicUpdatesAreExecutedInFlushOrder(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final List<String> updates = updateProducts(
+				scope,
+				// alternate between updating the name and the price
+				product -> product.id % 2 != 0,
+				11
+		);
+
+		// each change of the updated properties executes the updates batched so far
+		// before preparing the next statement, rather than reordering the rows
+		assertEquals( 6, updates.size() );
+		for ( int i = 2; i < updates.size(); i++ ) {
+			assertEquals( updates.get( i - 2 ), updates.get( i ) );
+		}
+		assertNotEquals( updates.get( 0 ), updates.get( 1 ) );
+
+		final JdbcBatchStatistics batchStatistics = statistics.getJdbcBatchStatistics( Product.class.getName() + "#UPDATE" );
+		assertNotNull( batchStatistics );
+		assertEquals( 6, batchStatistics.getExecutionCount() );
+		assertEquals( 6, batchStatistics.getExecutionRowCount() );
+
+		assertProducts( scope, product -> product.id % 2 != 0, 11, "!" );
+	}
+
+	/**
+	 * Update the name of the selected products and the price of the others, returning the update SQL prepared
+	 */
+	private static List<String> updateProducts(SessionFactoryScope scope, Predicate<Product> updateName, int price) {
+		scope.inTransaction(
+				session -> {
+					final List<Product> products = session.createQuery( "select p from Product p", Product.class )
+							.list();
+					CapturingStatementInspector.SQL.clear();
+					for ( Product product : products ) {
+						if ( updateName.test( product ) ) {
+							product.name = product.name + "!";
+						}
+						else {
+							product.price = price;
+						}
+					}
+				}
+		);
+		return CapturingStatementInspector.SQL.stream()
+				.filter( sql -> sql.startsWith( "update" ) )
+				.collect( Collectors.toList() );
+	}
+
+	private static void assertProducts(
+			SessionFactoryScope scope,
+			Predicate<Product> nameUpdated,
+			int price,
+			String nameSuffix) {
+		scope.inTransaction(
+				session -> {
+					final List<Product> products = session.createQuery( "select p from Product p", Product.class )
+							.list();
+					assertEquals( 6, products.size() );
+					for ( Product product : products ) {
+						if ( nameUpdated.test( product ) ) {
+							assertEquals( "product " + product.id + nameSuffix, product.name );
+							assertEquals( 10, product.price );
+						}
+						else {
+							assertEquals( "product " + product.id, product.name );
+							assertEquals( price, product.price );
+						}
+					}
+				}
+		);
+	}
+
+	public static class CapturingStatementInspector implements StatementInspector {
+		static final List<String> SQL = new ArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			SQL.add( sql );
+			return sql;
+		}
+	}
+
+	@Entity(name = "Product")
+	@DynamicUpdate
+	public static class Product {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private int price;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name, int price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.cfg.Environment;
+import org.hibernate.property.access.spi.BuiltInPropertyAccessStrategies;
+import org.hibernate.property.access.spi.PropertyAccess;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the {@link ReflectionOptimizer} built from the {@link PropertyAccess} of each property
+ *
+ * @author agent
+ */
+public class PropertyAccessOptimizerTests {
+
+	@Test
+	public void testPropertyAccessOptimization() {
+		final ReflectionOptimizer optimizer = buildOptimizer( fieldAccessClassPropertyAccesses() );
+		assertNotNull( optimizer );
+		assertNotNull( optimizer.getInstantiationOptimizer() );
+		assertNotNull( optimizer.getAccessOptimizer() );
+		assertArrayEquals(
+				new String[] { "inherited", "name", "count", "secret", "description" },
+				optimizer.getAccessOptimizer().getPropertyNames()
+		);
+
+		final FieldAccessClass instance = (FieldAccessClass) optimizer.getInstantiationOptimizer().newInstance();
+		final Object[] values = new Object[] { "inherited", "name", 7, "secret", "description" };
+		optimizer.getAccessOptimizer().setPropertyValues( instance, values );
+		assertEquals( "inherited", instance.inherited );
+		assertEquals( "name", instance.name );
+		assertEquals( 7, instance.count );
+		assertEquals( "secret", instance.getSecret() );
+		assertEquals( "description", instance.getDescription() );
+
+		instance.count = 8;
+		values[2] = 8;
+		assertArrayEquals( values, optimizer.getAccessOptimizer().getPropertyValues( instance ) );
+	}
+
+	@Test
+	public void testNullPrimitiveReportsProperty() {
+		final ReflectionOptimizer optimizer = buildOptimizer( fieldAccessClassPropertyAccesses() );
+
+		final PropertyAccessException exception = assertThrows(
+				PropertyAccessException.class,
+				() -> optimizer.getAccessOptimizer().setPropertyValues(
+						new FieldAccessClass(),
+						new Object[] { "inherited", "name", null, "secret", "description" }
+				)
+		);
+		assertEquals( "count", exception.getPropertyName() );
+		assertEquals( FieldAccessClass.class, exception.getPersistentClass() );
+	}
+
+	@Test
+	public void testMistypedValueReportsProperty() {
+		final ReflectionOptimizer optimizer = buildOptimizer( fieldAccessClassPropertyAccesses() );
+
+		final PropertyAccessException exception = assertThrows(
+				PropertyAccessException.class,
+				() -> optimizer.getAccessOptimizer().setPropertyValues(
+						new FieldAccessClass(),
+						new Object[] { "inherited", 1L, 7, "secret", "description" }
+				)
+		);
+		assertEquals( "name", exception.getPropertyName() );
+	}
+
+	@Test
+	public void testUnsupportedPropertyAccess() {
+		final Map<String, PropertyAccess> propertyAccessMap = fieldAccessClassPropertyAccesses();
+		propertyAccessMap.put(
+				"virtual",
+				BuiltInPropertyAccessStrategies.NOOP.getStrategy().buildPropertyAccess( FieldAccessClass.class, "virtual" )
+		);
+
+		assertNull( buildOptimizer( propertyAccessMap ) );
+	}
+
+	private static ReflectionOptimizer buildOptimizer(Map<String, PropertyAccess> propertyAccessMap) {
+		final BytecodeProvider provider = Environment.getBytecodeProvider();
+		return provider.getReflectionOptimizer( FieldAccessClass.class, propertyAccessMap );
+	}
+
+	private static Map<String, PropertyAccess> fieldAccessClassPropertyAccesses() {
+		final Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+		for ( String name : new String[] { "inherited", "name", "count", "secret" } ) {
+			propertyAccessMap.put(
+					name,
+					BuiltInPropertyAccessStrategies.FIELD.getStrategy().buildPropertyAccess( FieldAccessClass.class, name )
+			);
+		}
+		propertyAccessMap.put(
+				"description",
+				BuiltInPropertyAccessStrategies.BASIC.getStrategy().buildPropertyAccess( FieldAccessClass.class, "description" )
+		);
+		return propertyAccessMap;
+	}
+
+	public static class FieldAccessSuperclass {
+		protected String inherited;
+	}
+
+	public static class FieldAccessClass extends FieldAccessSuperclass {
+		String name;
+		int count;
+		private String secret;
+		private String description;
+
+		public String getSecret() {
+			return secret;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+	}
+}
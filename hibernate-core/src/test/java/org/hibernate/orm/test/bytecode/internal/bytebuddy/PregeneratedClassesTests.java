@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.internal.bytebuddy;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.ByteCodeHelper;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.proxy.HibernateProxy;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the classes generated ahead of time by {@link BytecodeProviderImpl#pregenerateClasses}
+ * are used instead of generating them again.
+ *
+ * @author agent
+ */
+public class PregeneratedClassesTests {
+
+	@Test
+	public void testPregeneratedClassesAreUsed() throws Exception {
+		final Map<String, byte[]> pregeneratedClasses = new BytecodeProviderImpl().pregenerateClasses( PregeneratedEntity.class );
+		assertEquals( 2, pregeneratedClasses.size() );
+
+		final Class<?> entityClass = loadWith( pregeneratedClasses );
+
+		final Class<?> proxyClass = new BytecodeProviderImpl().getByteBuddyProxyHelper()
+				.buildProxy( entityClass, new Class[] { HibernateProxy.class } );
+		assertEquals( PregeneratedEntity.class.getName() + "$HibernatePregeneratedProxy", proxyClass.getName() );
+		assertSame( entityClass.getClassLoader(), proxyClass.getClassLoader() );
+		assertTrue( proxyClass.getConstructor().newInstance() instanceof HibernateProxy );
+
+		final ReflectionOptimizer reflectionOptimizer = new BytecodeProviderImpl().getReflectionOptimizer(
+				entityClass,
+				new String[] { "getId", "getName" },
+				new String[] { "setId", "setName" },
+				new Class<?>[] { Long.class, String.class }
+		);
+		final ReflectionOptimizer.InstantiationOptimizer instantiationOptimizer = reflectionOptimizer.getInstantiationOptimizer();
+		assertEquals( PregeneratedEntity.class.getName() + "$HibernatePregeneratedInstantiator", instantiationOptimizer.getClass().getName() );
+		assertSame( entityClass, instantiationOptimizer.newInstance().getClass() );
+	}
+
+	@Test
+	public void testProxyWithInterfacesIsNotPregenerated() throws Exception {
+		final Class<?> entityClass = loadWith( new BytecodeProviderImpl().pregenerateClasses( PregeneratedEntity.class ) );
+
+		final Class<?> proxyClass = new BytecodeProviderImpl().getByteBuddyProxyHelper()
+				.buildProxy( entityClass, new Class[] { Runnable.class, HibernateProxy.class } );
+		assertNotEquals( PregeneratedEntity.class.getName() + "$HibernatePregeneratedProxy", proxyClass.getName() );
+	}
+
+	private static Class<?> loadWith(Map<String, byte[]> pregeneratedClasses) throws IOException, ClassNotFoundException {
+		final Map<String, byte[]> classes = new HashMap<>( pregeneratedClasses );
+		classes.put(
+				PregeneratedEntity.class.getName(),
+				ByteCodeHelper.readByteCode( PregeneratedEntity.class.getClassLoader()
+						.getResourceAsStream( PregeneratedEntity.class.getName().replace( '.', '/' ) + ".class" ) )
+		);
+		return new DefiningClassLoader( classes ).loadClass( PregeneratedEntity.class.getName() );
+	}
+
+	/**
+	 * Defines the given classes itself, delegating to the class loader of the test for any other class
+	 */
+	private static class DefiningClassLoader extends ClassLoader {
+		private final Map<String, byte[]> classes;
+
+		private DefiningClassLoader(Map<String, byte[]> classes) {
+			super( PregeneratedClassesTests.class.getClassLoader() );
+			this.classes = classes;
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			synchronized ( getClassLoadingLock( name ) ) {
+				final byte[] bytecode = classes.get( name );
+				if ( bytecode == null ) {
+					return super.loadClass( name, resolve );
+				}
+				Class<?> loadedClass = findLoadedClass( name );
+				if ( loadedClass == null ) {
+					loadedClass = defineClass( name, bytecode, 0, bytecode.length );
+				}
+				return loadedClass;
+			}
+		}
+	}
+
+	public static class PregeneratedEntity {
+		private Long id;
+		private String name;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,284 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Cacheable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
+import org.hibernate.cache.spi.entry.BinaryCollectionCacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.collection.internal.PersistentBag;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.FailureExpected;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the storage of entities and collections as binary second-level cache entries.
+ *
+ * @author agent
+ */
+@DomainModel( annotatedClasses = { BinaryCacheEntryTests.Vehicle.class, BinaryCacheEntryTests.Car.class, BinaryCacheEntryTests.Garage.class } )
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.CACHE_REGION_FACTORY,
+						value = "org.hibernate.testing.cache.CachingRegionFactory"
+				),
+				@ServiceRegistry.Setting( name = AvailableSettings.USE_BINARY_CACHE_ENTRIES, value = "true" )
+		}
+)
+@SessionFactory( generateStatistics = true )
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class BinaryCacheEntryTests {
+
+	@Test
+	public void testEntityEntryRoundTrip(SessionFactoryScope scope) {
+		final EntityPersister persister = entityPersister( scope, Car.class );
+		final CacheEntryStructure structure = persister.getCacheEntryStructure();
+		assertTrue( structure instanceof BinaryCacheEntry );
+
+		scope.inSession(
+				session -> {
+					final CacheEntry entry = new StandardCacheEntryImpl(
+							carState( persister ),
+							persister,
+							null,
+							session,
+							null
+					);
+					final Object structured = structure.structure( entry );
+					assertTrue( structured instanceof byte[] );
+
+					// read through the root persister, as the entries of the hierarchy share a region
+					final CacheEntry read = (CacheEntry) entityPersister( scope, Vehicle.class )
+							.getCacheEntryStructure()
+							.destructure( structured, scope.getSessionFactory() );
+					assertNotNull( read );
+					assertEquals( Car.class.getName(), read.getSubclass() );
+					assertNull( read.getVersion() );
+					assertArrayEquals( entry.getDisassembledState(), read.getDisassembledState() );
+				}
+		);
+	}
+
+	@Test
+	public void testEntityEntryOfAnotherMappingIsMiss(SessionFactoryScope scope) {
+		final EntityPersister persister = entityPersister( scope, Car.class );
+		final EntityPersister garagePersister = entityPersister( scope, Garage.class );
+
+		scope.inSession(
+				session -> {
+					final Object structured = persister.getCacheEntryStructure().structure(
+							new StandardCacheEntryImpl( carState( persister ), persister, null, session, null )
+					);
+					// e.g. written by a node running another version of the application
+					assertNull(
+							garagePersister.getCacheEntryStructure()
+									.destructure( structured, scope.getSessionFactory() )
+					);
+
+					final byte[] otherVersion = ( (byte[]) structured ).clone();
+					otherVersion[0]++;
+					assertNull(
+							persister.getCacheEntryStructure().destructure( otherVersion, scope.getSessionFactory() )
+					);
+				}
+		);
+	}
+
+	@Test
+	public void testCollectionEntryOfAnotherMappingIsMiss(SessionFactoryScope scope) {
+		final CollectionPersister persister = scope.getSessionFactory()
+				.getMetamodel()
+				.collectionPersister( Vehicle.class.getName() + ".tags" );
+		final CacheEntryStructure structure = persister.getCacheEntryStructure();
+		assertTrue( structure instanceof BinaryCollectionCacheEntry );
+
+		scope.inSession(
+				session -> {
+					final List<String> tags = new ArrayList<>();
+					tags.add( "red" );
+					tags.add( "fast" );
+					final CollectionCacheEntry entry = new CollectionCacheEntry(
+							new PersistentBag( session, tags ),
+							persister
+					);
+					final byte[] structured = (byte[]) structure.structure( entry );
+
+					final CollectionCacheEntry read = (CollectionCacheEntry) structure.destructure(
+							structured,
+							scope.getSessionFactory()
+					);
+					assertArrayEquals( entry.getState(), read.getState() );
+
+					// the fingerprint of the mapping follows the format version
+					final byte[] otherMapping = structured.clone();
+					otherMapping[1]++;
+					assertNull( structure.destructure( otherMapping, scope.getSessionFactory() ) );
+				}
+		);
+	}
+
+	@Test
+	@FailureExpected( reason = "collections are not yet supported by the mapping model" )
+	public void testBinaryCacheEntries(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final EntityPersister persister = entityPersister( scope, Car.class );
+
+		scope.inTransaction(
+				session -> {
+					final Car car = new Car();
+					car.id = 1L;
+					car.name = "car";
+					car.price = new BigDecimal( "12345.67" );
+					car.registered = LocalDate.of( 2019, 5, 17 );
+					car.engine = new Engine( 150, "diesel" );
+					car.tags.add( "red" );
+					car.tags.add( "fast" );
+					session.persist( car );
+				}
+		);
+
+		scope.inSession(
+				session -> {
+					final EntityDataAccess entityDataAccess = persister.getCacheAccessStrategy();
+					final Object cacheKey = entityDataAccess.generateCacheKey( 1L, persister, sessionFactory, null );
+					assertTrue( entityDataAccess.get( session, cacheKey ) instanceof byte[] );
+				}
+		);
+
+		// initializes the collection, caching it
+		scope.inTransaction(
+				session -> assertEquals( 2, session.get( Vehicle.class, 1L ).tags.size() )
+		);
+
+		final Statistics statistics = sessionFactory.getStatistics();
+		statistics.clear();
+
+		scope.inTransaction(
+				session -> {
+					final Vehicle vehicle = session.get( Vehicle.class, 1L );
+					assertTrue( vehicle instanceof Car );
+					final Car car = (Car) vehicle;
+					assertEquals( "car", car.name );
+					assertEquals( new BigDecimal( "12345.67" ), car.price );
+					assertEquals( LocalDate.of( 2019, 5, 17 ), car.registered );
+					assertEquals( 150, car.engine.power );
+					assertEquals( "diesel", car.engine.fuel );
+					assertEquals( 2, car.tags.size() );
+					assertEquals( "red", car.tags.get( 0 ) );
+					assertEquals( "fast", car.tags.get( 1 ) );
+				}
+		);
+
+		assertEquals( 2, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 0, statistics.getSecondLevelCacheMissCount() );
+	}
+
+	private static EntityPersister entityPersister(SessionFactoryScope scope, Class<?> entityClass) {
+		return scope.getSessionFactory().getMetamodel().entityPersister( entityClass.getName() );
+	}
+
+	private static Object[] carState(EntityPersister persister) {
+		final Object[] state = new Object[persister.getPropertyNames().length];
+		state[propertyIndex( persister, "name" )] = "car";
+		state[propertyIndex( persister, "price" )] = new BigDecimal( "12345.67" );
+		state[propertyIndex( persister, "registered" )] = LocalDate.of( 2019, 5, 17 );
+		state[propertyIndex( persister, "engine" )] = new Engine( 150, "diesel" );
+		// the collection is cached in its own region
+		return state;
+	}
+
+	private static int propertyIndex(EntityPersister persister, String propertyName) {
+		return persister.getEntityMetamodel().getPropertyIndex( propertyName );
+	}
+
+	@Entity(name = "Vehicle")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Vehicle {
+		@Id
+		Long id;
+
+		String name;
+
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		List<String> tags = new ArrayList<>();
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		BigDecimal price;
+
+		LocalDate registered;
+
+		@Embedded
+		Engine engine;
+	}
+
+	@Embeddable
+	public static class Engine {
+		int power;
+
+		String fuel;
+
+		public Engine() {
+		}
+
+		public Engine(int power, String fuel) {
+			this.power = power;
+			this.fuel = fuel;
+		}
+	}
+
+	@Entity(name = "Garage")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Garage {
+		@Id
+		Long id;
+
+		String name;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cache.internal.BatchedQueryCacheInvalidationStrategy;
+import org.hibernate.cache.internal.NoQueryCacheInvalidationStrategy;
+import org.hibernate.cache.internal.PerSpaceQueryCacheInvalidationStrategy;
+import org.hibernate.cache.internal.TimestampsCacheDisabledImpl;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for the {@link org.hibernate.cache.spi.QueryCacheInvalidationStrategy} implementations
+ *
+ * @author agent
+ */
+public class QueryCacheInvalidationStrategyTests {
+
+	@Test
+	public void testPerSpaceDelegatesToTimestampsCache() {
+		final TimestampsCacheStub timestampsCache = new TimestampsCacheStub();
+		timestampsCache.region.lastUpdates.put( "a", 10L );
+
+		assertThat( PerSpaceQueryCacheInvalidationStrategy.INSTANCE.isUpToDate( Arrays.asList( "a", "b" ), 11L, timestampsCache, null ), is( true ) );
+		assertThat( PerSpaceQueryCacheInvalidationStrategy.INSTANCE.isUpToDate( Arrays.asList( "a", "b" ), 10L, timestampsCache, null ), is( false ) );
+		assertThat( timestampsCache.region.bulkLookups, is( 0 ) );
+	}
+
+	@Test
+	public void testBatchedUsesSingleBulkLookup() {
+		final TimestampsCacheStub timestampsCache = new TimestampsCacheStub();
+		timestampsCache.region.lastUpdates.put( "a", 10L );
+		timestampsCache.region.lastUpdates.put( "b", 20L );
+
+		assertThat( BatchedQueryCacheInvalidationStrategy.INSTANCE.isUpToDate( Arrays.asList( "a", "b", "c" ), 21L, timestampsCache, null ), is( true ) );
+		assertThat( BatchedQueryCacheInvalidationStrategy.INSTANCE.isUpToDate( Arrays.asList( "a", "b", "c" ), 15L, timestampsCache, null ), is( false ) );
+		assertThat( BatchedQueryCacheInvalidationStrategy.INSTANCE.isUpToDate( Collections.singletonList( "c" ), 1L, timestampsCache, null ), is( true ) );
+
+		// one bulk read of the region per check, never a read per space
+		assertThat( timestampsCache.region.bulkLookups, is( 3 ) );
+		assertThat( timestampsCache.region.singleLookups, is( 0 ) );
+
+		assertThat( BatchedQueryCacheInvalidationStrategy.INSTANCE.isUpToDate( Collections.emptyList(), 1L, timestampsCache, null ), is( true ) );
+		assertThat( timestampsCache.region.bulkLookups, is( 3 ) );
+	}
+
+	@Test
+	public void testDisabledTimestampsCacheIsNeverUpToDate() {
+		final TimestampsCacheDisabledImpl timestampsCache = new TimestampsCacheDisabledImpl();
+		assertThat( BatchedQueryCacheInvalidationStrategy.INSTANCE.isUpToDate( Collections.singletonList( "a" ), 1L, timestampsCache, null ), is( false ) );
+	}
+
+	@Test
+	public void testNoneNeverChecks() {
+		final TimestampsCacheStub timestampsCache = new TimestampsCacheStub();
+		timestampsCache.region.lastUpdates.put( "a", 10L );
+
+		assertThat( NoQueryCacheInvalidationStrategy.INSTANCE.isUpToDate( Collections.singletonList( "a" ), 1L, timestampsCache, null ), is( true ) );
+		assertThat( timestampsCache.region.bulkLookups, is( 0 ) );
+		assertThat( timestampsCache.region.singleLookups, is( 0 ) );
+	}
+
+	/**
+	 * TimestampsCache relying on the default {@link TimestampsCache#getLastUpdateTimestamp}
+	 */
+	private static class TimestampsCacheStub implements TimestampsCache {
+		private final TimestampsRegionStub region = new TimestampsRegionStub();
+
+		@Override
+		public TimestampsRegion getRegion() {
+			return region;
+		}
+
+		@Override
+		public void preInvalidate(String[] spaces, SharedSessionContractImplementor session) {
+		}
+
+		@Override
+		public void invalidate(String[] spaces, SharedSessionContractImplementor session) {
+		}
+
+		@Override
+		public boolean isUpToDate(String[] spaces, Long timestamp, SharedSessionContractImplementor session) {
+			return isUpToDate( Arrays.asList( spaces ), timestamp, session );
+		}
+
+		@Override
+		public boolean isUpToDate(Collection<String> spaces, Long timestamp, SharedSessionContractImplementor session) {
+			for ( String space : spaces ) {
+				final Long lastUpdate = (Long) region.lastUpdates.get( space );
+				if ( lastUpdate != null && lastUpdate >= timestamp ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static class TimestampsRegionStub implements TimestampsRegion {
+		private final Map<Object, Object> lastUpdates = new HashMap<>();
+		private int bulkLookups;
+		private int singleLookups;
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			singleLookups++;
+			return lastUpdates.get( key );
+		}
+
+		@Override
+		public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+			bulkLookups++;
+			final Map<Object, Object> result = new HashMap<>();
+			for ( Object key : keys ) {
+				final Object value = lastUpdates.get( key );
+				if ( value != null ) {
+					result.put( key, value );
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			lastUpdates.put( key, value );
+		}
+
+		@Override
+		public String getName() {
+			return "timestamps";
+		}
+
+		@Override
+		public RegionFactory getRegionFactory() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void clear() {
+			lastUpdates.clear();
+		}
+
+		@Override
+		public void destroy() {
+		}
+	}
+}
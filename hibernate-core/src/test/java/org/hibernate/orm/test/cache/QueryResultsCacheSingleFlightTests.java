@@ -0,0 +1,234 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.test.metamodel.mapping.SmokeTests.SimpleEntity;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests "single-flight" population of the query results cache
+ * ({@value AvailableSettings#QUERY_CACHE_SINGLE_FLIGHT})
+ *
+ * @author agent
+ */
+@DomainModel( annotatedClasses = SimpleEntity.class )
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.CACHE_REGION_FACTORY,
+						value = "org.hibernate.testing.cache.CachingRegionFactory"
+				),
+				@ServiceRegistry.Setting( name = AvailableSettings.QUERY_CACHE_SINGLE_FLIGHT, value = "true" ),
+				// long enough for any wait on a leaked load to fail the test
+				@ServiceRegistry.Setting( name = AvailableSettings.QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT, value = "30000" )
+		}
+)
+@SessionFactory
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class QueryResultsCacheSingleFlightTests {
+	private ExecutorService executor;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		executor = Executors.newSingleThreadExecutor();
+		scope.getSessionFactory().getCache().evictQueryRegions();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		executor.shutdownNow();
+		scope.getSessionFactory().getCache().evictQueryRegions();
+	}
+
+	@Test
+	public void testConcurrentMissWaitsForLoader(SessionFactoryScope scope) {
+		final QueryResultsCache cache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+		final QueryKey key = queryKey();
+		final String[] spaces = new String[] { "mapping_simple_entity" };
+
+		scope.inTransaction(
+				session -> {
+					// the first miss makes this thread the loader
+					assertThat( cache.get( key, spaces, session ), nullValue() );
+					// ... which never waits for itself
+					assertThat( cache.get( key, spaces, session ), nullValue() );
+
+					final Future<List> waiter = executor.submit(
+							() -> scope.fromTransaction( other -> cache.get( key, spaces, other ) )
+					);
+					assertStillWaiting( waiter );
+
+					cache.put( key, Collections.singletonList( new Object[] { "cached" } ), session );
+					assertThat( await( waiter ).size(), is( 1 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testPutByOtherCallerDoesNotReleaseWaiters(SessionFactoryScope scope) {
+		final QueryResultsCache cache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+		final QueryKey key = queryKey();
+		final String[] spaces = new String[] { "mapping_simple_entity" };
+		final ExecutorService otherExecutor = Executors.newSingleThreadExecutor();
+
+		try {
+			scope.inTransaction(
+					session -> {
+						assertThat( cache.get( key, spaces, session ), nullValue() );
+
+						final Future<List> waiter = executor.submit(
+								() -> scope.fromTransaction( other -> cache.get( key, spaces, other ) )
+						);
+						assertStillWaiting( waiter );
+
+						// e.g. a session which executed the query without missing the results first;
+						// only the loading caller releases the waiters
+						await(
+								otherExecutor.submit(
+										() -> scope.fromTransaction(
+												other -> cache.put( key, Collections.singletonList( new Object[] { "other" } ), other )
+										)
+								)
+						);
+						assertStillWaiting( waiter );
+
+						cache.put( key, Collections.singletonList( new Object[] { "cached" } ), session );
+						assertThat( await( waiter ).size(), is( 1 ) );
+					}
+			);
+		}
+		finally {
+			otherExecutor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testReleaseLoadReleasesWaiters(SessionFactoryScope scope) {
+		final QueryResultsCache cache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+		final QueryKey key = queryKey();
+		final String[] spaces = new String[] { "mapping_simple_entity" };
+
+		scope.inTransaction(
+				session -> {
+					assertThat( cache.get( key, spaces, session ), nullValue() );
+
+					final Future<List> waiter = executor.submit(
+							() -> scope.fromTransaction( other -> cache.get( key, spaces, other ) )
+					);
+					assertStillWaiting( waiter );
+
+					cache.releaseLoad( key );
+					assertThat( await( waiter ), nullValue() );
+				}
+		);
+	}
+
+	@Test
+	public void testRollbackReleasesLoad(SessionFactoryScope scope) {
+		final QueryResultsCache cache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+		final QueryKey key = queryKey();
+		final String[] spaces = new String[] { "mapping_simple_entity" };
+
+		try ( SessionImplementor session = (SessionImplementor) scope.getSessionFactory().openSession() ) {
+			session.getTransaction().begin();
+			assertThat( cache.get( key, spaces, session ), nullValue() );
+
+			// neither put() nor releaseLoad() - e.g. results which were never read to the end
+			session.getTransaction().rollback();
+		}
+
+		// the next miss does not wait for the abandoned load
+		assertThat( await( executor.submit( () -> scope.fromTransaction( other -> cache.get( key, spaces, other ) ) ) ), nullValue() );
+	}
+
+	@Test
+	public void testEmptyResultsAreCached(SessionFactoryScope scope) {
+		final QueryResultsCache cache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+		final QueryKey key = queryKey();
+		final String[] spaces = new String[] { "mapping_simple_entity" };
+
+		scope.inTransaction(
+				session -> {
+					assertThat( cache.get( key, spaces, session ), nullValue() );
+					cache.put( key, Collections.emptyList(), session );
+				}
+		);
+
+		// an empty result is a hit, distinguished from a miss by not being null
+		final List cachedResults = await(
+				executor.submit( () -> scope.fromTransaction( other -> cache.get( key, spaces, other ) ) )
+		);
+		assertThat( cachedResults, notNullValue() );
+		assertThat( cachedResults.size(), is( 0 ) );
+	}
+
+	private static QueryKey queryKey() {
+		return new QueryKey(
+				"select * from mapping_simple_entity",
+				new QueryKey.ParameterBindingsMemento() {
+				},
+				null,
+				null,
+				null,
+				Collections.emptySet()
+		);
+	}
+
+	private static <T> T await(Future<T> future) {
+		// well below the single-flight timeout - a caller waiting on a leaked load fails here
+		try {
+			return future.get( 10, TimeUnit.SECONDS );
+		}
+		catch (Exception e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	private static void assertStillWaiting(Future<?> future) {
+		try {
+			future.get( 100, TimeUnit.MILLISECONDS );
+			fail( "Expecting the concurrent miss to wait for the loader" );
+		}
+		catch (TimeoutException expected) {
+		}
+		catch (Exception e) {
+			throw new RuntimeException( e );
+		}
+	}
+}
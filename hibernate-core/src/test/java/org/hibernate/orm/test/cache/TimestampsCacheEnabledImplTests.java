@@ -0,0 +1,178 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cache.internal.TimestampsCacheEnabledImpl;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.StandardCacheTransactionSynchronization;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the bulk (and memoized) reads of the update timestamps by {@link TimestampsCacheEnabledImpl}
+ *
+ * @author agent
+ */
+public class TimestampsCacheEnabledImplTests {
+	private final TimestampsRegionStub region = new TimestampsRegionStub();
+	private StandardCacheTransactionSynchronization cacheTransactionSynchronization;
+	private SharedSessionContractImplementor session;
+
+	@BeforeEach
+	public void prepareSession() {
+		final RegionFactory regionFactory = mock( RegionFactory.class );
+		when( regionFactory.nextTimestamp() ).thenReturn( 100L );
+
+		final CacheImplementor cache = mock( CacheImplementor.class );
+		when( cache.getRegionFactory() ).thenReturn( regionFactory );
+
+		final SessionFactoryImplementor factory = mock( SessionFactoryImplementor.class );
+		when( factory.getStatistics() ).thenReturn( mock( StatisticsImplementor.class ) );
+		when( factory.getCache() ).thenReturn( cache );
+
+		cacheTransactionSynchronization = new StandardCacheTransactionSynchronization( regionFactory );
+
+		session = mock( SharedSessionContractImplementor.class );
+		when( session.getFactory() ).thenReturn( factory );
+		when( session.getEventListenerManager() ).thenReturn( mock( SessionEventListenerManager.class ) );
+		when( session.getCacheTransactionSynchronization() ).thenReturn( cacheTransactionSynchronization );
+	}
+
+	@Test
+	public void testSpacesAreReadInBulk() {
+		final TimestampsCacheEnabledImpl timestampsCache = new TimestampsCacheEnabledImpl( region );
+		region.timestamps.put( "a", 10L );
+		region.timestamps.put( "b", 20L );
+
+		assertTrue( timestampsCache.isUpToDate( new String[] { "a", "b", "c" }, 21L, session ) );
+		assertFalse( timestampsCache.isUpToDate( Arrays.asList( "a", "b", "c" ), 20L, session ) );
+		assertEquals( Long.valueOf( 20L ), timestampsCache.getLastUpdateTimestamp( Arrays.asList( "a", "b", "c" ), session ) );
+		assertNull( timestampsCache.getLastUpdateTimestamp( Arrays.asList( "c", "d" ), session ) );
+
+		assertEquals( 4, region.bulkReads );
+		assertEquals( 0, region.singleReads );
+	}
+
+	@Test
+	public void testNoMemoByDefault() {
+		final TimestampsCacheEnabledImpl timestampsCache = new TimestampsCacheEnabledImpl( region );
+		cacheTransactionSynchronization.transactionJoined();
+
+		assertTrue( timestampsCache.isUpToDate( Arrays.asList( "a", "b" ), 1L, session ) );
+		region.timestamps.put( "a", 10L );
+		assertFalse( timestampsCache.isUpToDate( Arrays.asList( "a", "b" ), 1L, session ) );
+		assertEquals( 2, region.bulkReads );
+	}
+
+	@Test
+	public void testMemoWithinTransaction() {
+		final TimestampsCacheEnabledImpl timestampsCache = new TimestampsCacheEnabledImpl( region, true );
+		region.timestamps.put( "a", 10L );
+
+		cacheTransactionSynchronization.transactionJoined();
+		assertTrue( timestampsCache.isUpToDate( Arrays.asList( "a", "b" ), 11L, session ) );
+		assertEquals( 1, region.bulkReads );
+
+		// another transaction updates "a"; the memo is used for both spaces...
+		region.timestamps.put( "a", 50L );
+		assertTrue( timestampsCache.isUpToDate( Arrays.asList( "a", "b" ), 11L, session ) );
+		assertEquals( 1, region.bulkReads );
+
+		// ... and only the space not yet read is read from the region
+		assertTrue( timestampsCache.isUpToDate( Arrays.asList( "a", "c" ), 11L, session ) );
+		assertEquals( 2, region.bulkReads );
+		assertEquals( Arrays.asList( "c" ), region.lastBulkRead );
+
+		// the memo does not survive the transaction
+		cacheTransactionSynchronization.transactionCompleted( true );
+		assertFalse( timestampsCache.isUpToDate( Arrays.asList( "a", "b" ), 11L, session ) );
+		assertFalse( timestampsCache.isUpToDate( Arrays.asList( "a", "b" ), 11L, session ) );
+		assertEquals( 4, region.bulkReads );
+	}
+
+	@Test
+	public void testInvalidationForgetsMemoizedSpaces() {
+		final TimestampsCacheEnabledImpl timestampsCache = new TimestampsCacheEnabledImpl( region, true );
+
+		cacheTransactionSynchronization.transactionJoined();
+		assertTrue( timestampsCache.isUpToDate( Arrays.asList( "a", "b" ), 11L, session ) );
+
+		timestampsCache.preInvalidate( new String[] { "a" }, session );
+		assertFalse( timestampsCache.isUpToDate( Arrays.asList( "a", "b" ), 11L, session ) );
+		assertEquals( 2, region.bulkReads );
+		assertEquals( Arrays.asList( "a" ), region.lastBulkRead );
+	}
+
+	private static class TimestampsRegionStub implements TimestampsRegion {
+		private final Map<Object, Object> timestamps = new HashMap<>();
+		private int singleReads;
+		private int bulkReads;
+		private Collection<?> lastBulkRead;
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			singleReads++;
+			return timestamps.get( key );
+		}
+
+		@Override
+		public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+			bulkReads++;
+			lastBulkRead = keys;
+			final Map<Object, Object> result = new HashMap<>();
+			for ( Object key : keys ) {
+				if ( timestamps.containsKey( key ) ) {
+					result.put( key, timestamps.get( key ) );
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			timestamps.put( key, value );
+		}
+
+		@Override
+		public String getName() {
+			return "timestamps";
+		}
+
+		@Override
+		public RegionFactory getRegionFactory() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void clear() {
+			timestamps.clear();
+		}
+
+		@Override
+		public void destroy() {
+		}
+	}
+}
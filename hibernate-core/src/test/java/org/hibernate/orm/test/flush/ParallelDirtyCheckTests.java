@@ -0,0 +1,314 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.io.Serializable;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.HibernateException;
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.FailureExpected;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the dirty checking of entities in parallel during flush.
+ *
+ * @author agent
+ */
+@DomainModel( annotatedClasses = { ParallelDirtyCheckTests.Item.class, ParallelDirtyCheckTests.TaggedItem.class } )
+@ServiceRegistry(
+		settings = @ServiceRegistry.Setting( name = AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD, value = "2" )
+)
+@SessionFactory( generateStatistics = true )
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class ParallelDirtyCheckTests {
+
+	private static final int ITEM_COUNT = 20;
+
+	@BeforeEach
+	public void registerListener(SessionFactoryScope scope) {
+		final EventListenerGroup<FlushEntityEventListener> listeners = scope.getSessionFactory()
+				.getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.getEventListenerGroup( EventType.FLUSH_ENTITY );
+		for ( FlushEntityEventListener listener : listeners.listeners() ) {
+			if ( listener instanceof DirtyCheckRecordingListener ) {
+				return;
+			}
+		}
+		listeners.appendListener( new DirtyCheckRecordingListener() );
+	}
+
+	@AfterEach
+	public void dropItems(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session ->
+						session.doWork(
+								work -> {
+									Statement statement = work.createStatement();
+									statement.execute( "delete from Item" );
+									statement.close();
+								}
+						)
+		);
+	}
+
+	@Test
+	public void testPrecomputedDirtyCheckMatchesSerialOne(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction(
+				session -> {
+					final List<Item> items = new ArrayList<>();
+					for ( long id = 1; id <= ITEM_COUNT; id++ ) {
+						final Item item = new Item( id, "item " + id, 10 );
+						session.persist( item );
+						items.add( item );
+					}
+					session.flush();
+
+					statistics.clear();
+					DirtyCheckRecordingListener.DIRTY_CHECKS.clear();
+					for ( Item item : items ) {
+						if ( item.id % 3 == 0 ) {
+							item.price = 20;
+						}
+						if ( item.id % 4 == 0 ) {
+							item.name = "renamed";
+						}
+					}
+					session.flush();
+
+					assertEquals( ITEM_COUNT, DirtyCheckRecordingListener.DIRTY_CHECKS.size() );
+					for ( DirtyCheck dirtyCheck : DirtyCheckRecordingListener.DIRTY_CHECKS.values() ) {
+						assertTrue( dirtyCheck.precomputed );
+						assertArrayEquals( dirtyCheck.serialDirtyProperties, dirtyCheck.dirtyProperties );
+					}
+				}
+		);
+
+		assertEquals( ITEM_COUNT / 3 + ITEM_COUNT / 4 - ITEM_COUNT / 12, statistics.getEntityUpdateCount() );
+
+		scope.inTransaction(
+				session -> {
+					final List<Item> items = session.createQuery( "select i from Item i", Item.class ).list();
+					assertEquals( ITEM_COUNT, items.size() );
+					for ( Item item : items ) {
+						assertEquals( item.id % 4 == 0 ? "renamed" : "item " + item.id, item.name );
+						assertEquals( item.id % 3 == 0 ? 20 : 10, item.price );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testChangeByTheFlushOfAnotherEntityDiscardsPrecomputedDirtyCheck(SessionFactoryScope scope) {
+		final List<Item> items = new ArrayList<>();
+		final Interceptor interceptor = new EmptyInterceptor() {
+			@Override
+			public boolean onFlushDirty(
+					Object entity,
+					Serializable id,
+					Object[] currentState,
+					Object[] previousState,
+					String[] propertyNames,
+					Type[] types) {
+				if ( entity == items.get( 0 ) ) {
+					// changes the last item, after its state was read for its dirty check ahead of the flush
+					items.get( ITEM_COUNT - 1 ).name = "changed by the flush of item 1";
+				}
+				return false;
+			}
+		};
+
+		scope.inTransaction(
+				(SessionImplementor) scope.getSessionFactory().withOptions().interceptor( interceptor ).openSession(),
+				session -> {
+					for ( long id = 1; id <= ITEM_COUNT; id++ ) {
+						final Item item = new Item( id, "item " + id, 10 );
+						session.persist( item );
+						items.add( item );
+					}
+					session.flush();
+
+					DirtyCheckRecordingListener.DIRTY_CHECKS.clear();
+					items.get( 0 ).price = 20;
+					session.flush();
+
+					final DirtyCheck changed = DirtyCheckRecordingListener.DIRTY_CHECKS.get( (long) ITEM_COUNT );
+					assertFalse( changed.precomputed );
+					assertArrayEquals( changed.serialDirtyProperties, changed.dirtyProperties );
+					assertNotNull( changed.dirtyProperties );
+
+					final DirtyCheck unchanged = DirtyCheckRecordingListener.DIRTY_CHECKS.get( 2L );
+					assertTrue( unchanged.precomputed );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final List<Item> loaded = session.createQuery( "select i from Item i", Item.class ).list();
+					assertEquals( ITEM_COUNT, loaded.size() );
+					for ( Item item : loaded ) {
+						if ( item.id == 1 ) {
+							assertEquals( 20, item.price );
+						}
+						else if ( item.id == ITEM_COUNT ) {
+							assertEquals( "changed by the flush of item 1", item.name );
+						}
+						else {
+							assertEquals( "item " + item.id, item.name );
+						}
+					}
+				}
+		);
+	}
+
+	@Test
+	@FailureExpected( reason = "collections are not yet supported by the mapping model" )
+	public void testReplacedCollectionDiscardsPrecomputedDirtyCheck(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<TaggedItem> items = new ArrayList<>();
+					for ( long id = 1; id <= ITEM_COUNT; id++ ) {
+						final TaggedItem item = new TaggedItem( id, "item " + id );
+						item.tags.add( "tag" );
+						session.persist( item );
+						items.add( item );
+					}
+					session.flush();
+
+					DirtyCheckRecordingListener.DIRTY_CHECKS.clear();
+					final List<String> tags = new ArrayList<>();
+					tags.add( "replaced" );
+					items.get( 0 ).tags = tags;
+					items.get( 1 ).name = "renamed";
+					session.flush();
+
+					// the replaced collection is wrapped during the flush, the state read ahead of it is stale
+					final DirtyCheck replaced = DirtyCheckRecordingListener.DIRTY_CHECKS.get( 1L );
+					assertFalse( replaced.precomputed );
+					assertArrayEquals( replaced.serialDirtyProperties, replaced.dirtyProperties );
+
+					final DirtyCheck renamed = DirtyCheckRecordingListener.DIRTY_CHECKS.get( 2L );
+					assertTrue( renamed.precomputed );
+					assertArrayEquals( renamed.serialDirtyProperties, renamed.dirtyProperties );
+				}
+		);
+	}
+
+	private static class DirtyCheck {
+		private final boolean precomputed;
+		private final int[] dirtyProperties;
+		private final int[] serialDirtyProperties;
+
+		private DirtyCheck(boolean precomputed, int[] dirtyProperties, int[] serialDirtyProperties) {
+			this.precomputed = precomputed;
+			this.dirtyProperties = dirtyProperties;
+			this.serialDirtyProperties = serialDirtyProperties;
+		}
+	}
+
+	/**
+	 * Runs after the default listener, and records its dirty check along with the one performed serially
+	 */
+	public static class DirtyCheckRecordingListener implements FlushEntityEventListener {
+		static final Map<Object, DirtyCheck> DIRTY_CHECKS = new HashMap<>();
+
+		@Override
+		public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
+			final EntityEntry entry = event.getEntityEntry();
+			DIRTY_CHECKS.put(
+					entry.getId(),
+					new DirtyCheck(
+							event.hasPrecomputedDirtyCheck(),
+							event.getDirtyProperties(),
+							entry.getPersister().findDirty(
+									event.getPropertyValues(),
+									entry.getLoadedState(),
+									event.getEntity(),
+									event.getSession()
+							)
+					)
+			);
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private int price;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, int price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+
+	@Entity(name = "TaggedItem")
+	public static class TaggedItem {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@ElementCollection
+		private List<String> tags = new ArrayList<>();
+
+		public TaggedItem() {
+		}
+
+		public TaggedItem(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
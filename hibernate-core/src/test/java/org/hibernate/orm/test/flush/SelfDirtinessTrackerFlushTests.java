@@ -0,0 +1,253 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
+import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.orm.test.flush.domain.Priced;
+import org.hibernate.orm.test.flush.domain.Product;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.BaseSessionFactoryFunctionalTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the flush only visits the entities tracking their own changes (see {@link SelfDirtinessTracker})
+ * which were changed since the previous flush.
+ *
+ * @author agent
+ */
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class SelfDirtinessTrackerFlushTests extends BaseSessionFactoryFunctionalTest {
+
+	private static final int PRODUCT_COUNT = 10;
+
+	private final EnhancingClassLoader classLoader = new EnhancingClassLoader( Product.class.getName() );
+
+	@Override
+	public StandardServiceRegistry produceServiceRegistry(StandardServiceRegistryBuilder ssrBuilder) {
+		// the mapped class is resolved by name, so the enhanced one is found through the ClassLoaderService
+		return super.produceServiceRegistry(
+				new StandardServiceRegistryBuilder(
+						new BootstrapServiceRegistryBuilder().applyClassLoader( classLoader ).build()
+				)
+		);
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		builder.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		try {
+			return new Class[] { classLoader.loadClass( Product.class.getName() ) };
+		}
+		catch (ClassNotFoundException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	@Override
+	protected void sessionFactoryBuilt(SessionFactoryImplementor factory) {
+		factory.getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.getEventListenerGroup( EventType.FLUSH_ENTITY )
+				.appendListener( new FlushRecordingListener() );
+	}
+
+	@BeforeEach
+	public void createProducts() {
+		inTransaction(
+				session -> {
+					for ( int id = 1; id <= PRODUCT_COUNT; id++ ) {
+						final Priced product = (Priced) newProduct();
+						product.setId( id );
+						product.setPrice( 10 );
+						session.persist( product );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropProducts() {
+		inTransaction(
+				session -> session.doWork(
+						work -> {
+							final Statement statement = work.createStatement();
+							statement.execute( "delete from Product" );
+							statement.close();
+						}
+				)
+		);
+	}
+
+	@Test
+	public void testCleanEntitiesAreNotVisited() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		inTransaction(
+				session -> {
+					final List<Object> products = session.createQuery( "select p from Product p" ).list();
+					assertEquals( PRODUCT_COUNT, products.size() );
+					for ( Object product : products ) {
+						assertTrue( product instanceof SelfDirtinessTracker );
+					}
+
+					statistics.clear();
+					FlushRecordingListener.VISITED_IDS.clear();
+					session.flush();
+					assertTrue( FlushRecordingListener.VISITED_IDS.isEmpty() );
+
+					for ( Object product : products ) {
+						if ( ( (Priced) product ).getId() == 3 ) {
+							( (Priced) product ).setPrice( 20 );
+						}
+					}
+					session.flush();
+					assertEquals( 1, FlushRecordingListener.VISITED_IDS.size() );
+					assertEquals( 3, (int) FlushRecordingListener.VISITED_IDS.get( 0 ) );
+					assertEquals( 1, statistics.getEntityUpdateCount() );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					final List<Object> products = session.createQuery( "select p from Product p" ).list();
+					for ( Object product : products ) {
+						final Priced priced = (Priced) product;
+						assertEquals( priced.getId() == 3 ? 20 : 10, priced.getPrice() );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testEntityChangedAfterFlushIsVisitedAgain() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		inTransaction(
+				session -> {
+					final List<Object> products = session.createQuery( "select p from Product p" ).list();
+					final Priced first = (Priced) products.get( 0 );
+					final Priced last = (Priced) products.get( PRODUCT_COUNT - 1 );
+
+					first.setPrice( 20 );
+					session.flush();
+
+					statistics.clear();
+					FlushRecordingListener.VISITED_IDS.clear();
+					last.setPrice( 30 );
+					session.flush();
+					assertTrue( FlushRecordingListener.VISITED_IDS.contains( last.getId() ) );
+					assertTrue( FlushRecordingListener.VISITED_IDS.size() <= 2 );
+					assertEquals( 1, statistics.getEntityUpdateCount() );
+
+					FlushRecordingListener.VISITED_IDS.clear();
+					session.flush();
+					assertTrue( FlushRecordingListener.VISITED_IDS.size() <= 1 );
+					first.setPrice( 40 );
+					session.flush();
+					assertTrue( FlushRecordingListener.VISITED_IDS.contains( first.getId() ) );
+					assertEquals( 2, statistics.getEntityUpdateCount() );
+				}
+		);
+	}
+
+	private Object newProduct() {
+		try {
+			return classLoader.loadClass( Product.class.getName() ).newInstance();
+		}
+		catch (ReflectiveOperationException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	public static class FlushRecordingListener implements FlushEntityEventListener {
+		private static final List<Integer> VISITED_IDS = new ArrayList<>();
+
+		@Override
+		public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
+			VISITED_IDS.add( ( (Priced) event.getEntity() ).getId() );
+		}
+	}
+
+	/**
+	 * Loads the {@link Product} class enhanced, the rest from the parent class loader
+	 */
+	private static class EnhancingClassLoader extends ClassLoader {
+		private final String enhancedClassName;
+		private final Enhancer enhancer;
+
+		private EnhancingClassLoader(String enhancedClassName) {
+			super( SelfDirtinessTrackerFlushTests.class.getClassLoader() );
+			this.enhancedClassName = enhancedClassName;
+			this.enhancer = Environment.getBytecodeProvider().getEnhancer( new DefaultEnhancementContext() );
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if ( !enhancedClassName.equals( name ) ) {
+				return super.loadClass( name, resolve );
+			}
+			synchronized ( getClassLoadingLock( name ) ) {
+				Class<?> loadedClass = findLoadedClass( name );
+				if ( loadedClass == null ) {
+					final byte[] enhanced = enhancer.enhance( name, readClass( name ) );
+					loadedClass = defineClass( name, enhanced, 0, enhanced.length );
+				}
+				return loadedClass;
+			}
+		}
+
+		private byte[] readClass(String name) throws ClassNotFoundException {
+			try ( InputStream is = getParent().getResourceAsStream( name.replace( '.', '/' ) + ".class" ) ) {
+				final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				final byte[] buffer = new byte[4096];
+				int read;
+				while ( ( read = is.read( buffer ) ) != -1 ) {
+					bytes.write( buffer, 0, read );
+				}
+				return bytes.toByteArray();
+			}
+			catch (IOException e) {
+				throw new ClassNotFoundException( name, e );
+			}
+		}
+	}
+}
@@ -0,0 +1,22 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush.domain;
+
+/**
+ * Gives access to a {@link Product} loaded by another class loader
+ *
+ * @author agent
+ */
+public interface Priced {
+	Integer getId();
+
+	void setId(Integer id);
+
+	int getPrice();
+
+	void setPrice(int price);
+}
@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * @author agent
+ */
+@Entity(name = "Product")
+public class Product implements Priced {
+	@Id
+	private Integer id;
+
+	private int price;
+
+	@Override
+	public Integer getId() {
+		return id;
+	}
+
+	@Override
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	@Override
+	public int getPrice() {
+		return price;
+	}
+
+	@Override
+	public void setPrice(int price) {
+		this.price = price;
+	}
+}
@@ -0,0 +1,269 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.id.enhanced;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.PooledLoThreadLocalOptimizer;
+import org.hibernate.id.enhanced.PooledOptimizer;
+import org.hibernate.id.enhanced.PrefetchAwareOptimizer;
+import org.hibernate.id.enhanced.SourceValuePrefetchExecutor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests background prefetching of the next block of values by the pooled optimizers
+ *
+ * @author agent
+ */
+public class OptimizerPrefetchTests {
+	private SourceValuePrefetchExecutor prefetchExecutor;
+
+	@BeforeEach
+	public void startPrefetchExecutor() {
+		prefetchExecutor = new SourceValuePrefetchExecutor();
+	}
+
+	@AfterEach
+	public void stopPrefetchExecutor() {
+		prefetchExecutor.stop();
+	}
+
+	@Test
+	public void testPooledLoPrefetch() {
+		final SequenceSourceStub source = new SequenceSourceStub( 1, 10, false, prefetchExecutor );
+		final Optimizer optimizer = new PooledLoOptimizer( Long.class, 10 );
+		( (PrefetchAwareOptimizer) optimizer ).injectPrefetchLowWaterMark( 3 );
+
+		assertSequential( optimizer, source, 35 );
+		// only the very first block is obtained synchronously
+		assertEquals( 1, source.directCalls.get() );
+		assertTrue( source.detachedCalls.get() >= 3 );
+	}
+
+	@Test
+	public void testPooledLoThreadLocalPrefetch() {
+		final SequenceSourceStub source = new SequenceSourceStub( 1, 10, false, prefetchExecutor );
+		final Optimizer optimizer = new PooledLoThreadLocalOptimizer( Long.class, 10 );
+		( (PrefetchAwareOptimizer) optimizer ).injectPrefetchLowWaterMark( 3 );
+
+		assertSequential( optimizer, source, 35 );
+		assertEquals( 1, source.directCalls.get() );
+		assertTrue( source.detachedCalls.get() >= 3 );
+	}
+
+	@Test
+	public void testPooledPrefetch() {
+		final SequenceSourceStub source = new SequenceSourceStub( 1, 10, false, prefetchExecutor );
+		final Optimizer optimizer = new PooledOptimizer( Long.class, 10 );
+		( (PrefetchAwareOptimizer) optimizer ).injectPrefetchLowWaterMark( 3 );
+
+		assertSequential( optimizer, source, 35 );
+		// initialization of the "hi" optimizer reads two values synchronously
+		assertEquals( 2, source.directCalls.get() );
+		assertTrue( source.detachedCalls.get() >= 2 );
+	}
+
+	@Test
+	public void testFailedPrefetchFallsBackToDirectAccess() {
+		final SequenceSourceStub source = new SequenceSourceStub( 1, 10, true, prefetchExecutor );
+		final Optimizer optimizer = new PooledLoOptimizer( Long.class, 10 );
+		( (PrefetchAwareOptimizer) optimizer ).injectPrefetchLowWaterMark( 3 );
+
+		assertSequential( optimizer, source, 35 );
+		assertEquals( 4, source.directCalls.get() );
+	}
+
+	@Test
+	public void testNoPrefetchByDefault() {
+		final SequenceSourceStub source = new SequenceSourceStub( 1, 10, false, prefetchExecutor );
+		final Optimizer optimizer = new PooledLoOptimizer( Long.class, 10 );
+
+		assertSequential( optimizer, source, 35 );
+		assertEquals( 4, source.directCalls.get() );
+		assertEquals( 0, source.detachedCalls.get() );
+	}
+
+	@Test
+	public void testStoppedExecutorCancelsPendingPrefetch() throws Exception {
+		final SequenceSourceStub source = new SequenceSourceStub( 1, 10, false, prefetchExecutor );
+		final CountDownLatch prefetchStarted = new CountDownLatch( 1 );
+		source.blockDetached = prefetchStarted;
+		final Optimizer optimizer = new PooledLoOptimizer( Long.class, 10 );
+		( (PrefetchAwareOptimizer) optimizer ).injectPrefetchLowWaterMark( 3 );
+
+		// reaching the low-water mark starts a prefetch, which blocks
+		assertSequential( optimizer, source, 8 );
+		assertTrue( prefetchStarted.await( 10, TimeUnit.SECONDS ) );
+
+		// e.g. the SessionFactory being closed: the blocked retrieval is interrupted, and the
+		// next blocks are obtained directly
+		prefetchExecutor.stop();
+		for ( int i = 9; i <= 35; i++ ) {
+			assertEquals( (long) i, ( (Long) optimizer.generate( source ) ).longValue() );
+		}
+		assertEquals( 4, source.directCalls.get() );
+	}
+
+	@Test
+	public void testStoppedExecutorCancelsQueuedRetrievals() throws Exception {
+		final ExecutorService executor = prefetchExecutor.getExecutor();
+		final CountDownLatch never = new CountDownLatch( 1 );
+		final Callable<Object> blocked = () -> {
+			never.await();
+			return null;
+		};
+		final List<Future<?>> running = new ArrayList<>();
+		for ( int i = 0; i < Runtime.getRuntime().availableProcessors(); i++ ) {
+			running.add( executor.submit( blocked ) );
+		}
+		final Future<?> queued = executor.submit( blocked );
+
+		prefetchExecutor.stop();
+
+		assertTrue( queued.isCancelled() );
+		for ( Future<?> future : running ) {
+			try {
+				future.get( 10, TimeUnit.SECONDS );
+				fail( "Expecting the running retrieval to be interrupted" );
+			}
+			catch (ExecutionException e) {
+				assertTrue( e.getCause() instanceof InterruptedException );
+			}
+		}
+		assertThrows( RejectedExecutionException.class, () -> executor.submit( () -> null ) );
+	}
+
+	@Test
+	public void testClosingSessionFactoryStopsExecutor() {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder().build();
+		try {
+			final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) new MetadataSources( registry )
+					.buildMetadata()
+					.buildSessionFactory();
+			final ExecutorService executor = sessionFactory.getServiceRegistry()
+					.getService( SourceValuePrefetchExecutor.class )
+					.getExecutor();
+			assertFalse( executor.isShutdown() );
+
+			sessionFactory.close();
+			assertTrue( executor.isShutdown() );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	private static void assertSequential(Optimizer optimizer, AccessCallback callback, int count) {
+		for ( int i = 1; i <= count; i++ ) {
+			assertEquals( (long) i, ( (Long) optimizer.generate( callback ) ).longValue() );
+		}
+	}
+
+	/**
+	 * A "sequence" which may be accessed concurrently through its detached callback
+	 */
+	private static class SequenceSourceStub implements AccessCallback {
+		private final AtomicInteger directCalls = new AtomicInteger();
+		private final AtomicInteger detachedCalls = new AtomicInteger();
+		private final int increment;
+		private final boolean failDetached;
+		private final SourceValuePrefetchExecutor prefetchExecutor;
+		private volatile CountDownLatch blockDetached;
+		private long nextValue;
+
+		private SequenceSourceStub(
+				long initialValue,
+				int increment,
+				boolean failDetached,
+				SourceValuePrefetchExecutor prefetchExecutor) {
+			this.nextValue = initialValue;
+			this.increment = increment;
+			this.failDetached = failDetached;
+			this.prefetchExecutor = prefetchExecutor;
+		}
+
+		private synchronized IntegralDataTypeHolder nextValue() {
+			final IntegralDataTypeHolder value = new IdentifierGeneratorHelper.BasicHolder( Long.class );
+			value.initialize( nextValue );
+			nextValue += increment;
+			return value;
+		}
+
+		@Override
+		public IntegralDataTypeHolder getNextValue() {
+			directCalls.incrementAndGet();
+			return nextValue();
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return null;
+		}
+
+		@Override
+		public AccessCallback getDetachedCallback() {
+			return new AccessCallback() {
+				@Override
+				public IntegralDataTypeHolder getNextValue() {
+					detachedCalls.incrementAndGet();
+					if ( failDetached ) {
+						throw new IllegalStateException( "detached access failure" );
+					}
+					final CountDownLatch started = blockDetached;
+					if ( started != null ) {
+						// block until interrupted
+						started.countDown();
+						try {
+							new CountDownLatch( 1 ).await();
+						}
+						catch (InterruptedException e) {
+							throw new IllegalStateException( "detached access interrupted" );
+						}
+					}
+					return nextValue();
+				}
+
+				@Override
+				public String getTenantIdentifier() {
+					return null;
+				}
+			};
+		}
+
+		@Override
+		public ExecutorService getDetachedExecutor() {
+			return prefetchExecutor.getExecutor();
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.id.enhanced;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.PooledLoStripedOptimizer;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PooledLoStripedOptimizer}
+ *
+ * @author agent
+ */
+public class PooledLoStripedOptimizerTests {
+
+	@Test
+	public void testBasicUsage() {
+		final SequenceStub sequence = new SequenceStub( 1, 10 );
+		final PooledLoStripedOptimizer optimizer = new PooledLoStripedOptimizer( Long.class, 10, 4 );
+		assertEquals( 4, optimizer.getStripeCount() );
+		assertEquals( 0, sequence.timesCalled );
+
+		// a single thread drains "its" stripe first, then the others; each value of the block is used once
+		final Set<Long> values = new HashSet<>();
+		for ( int i = 0; i < 10; i++ ) {
+			final Long next = (Long) optimizer.generate( sequence );
+			assertTrue( next >= 1 && next <= 10 );
+			assertTrue( values.add( next ) );
+		}
+		assertEquals( 1, sequence.timesCalled );
+
+		// force a "clock over"
+		final Long next = (Long) optimizer.generate( sequence );
+		assertTrue( next >= 11 && next <= 20 );
+		assertEquals( 2, sequence.timesCalled );
+		assertEquals( 11, optimizer.getLastSourceValue().makeValue().longValue() );
+	}
+
+	@Test
+	public void testStripeCount() {
+		assertEquals( 8, new PooledLoStripedOptimizer( Long.class, 50, 5 ).getStripeCount() );
+		assertEquals( 4, new PooledLoStripedOptimizer( Long.class, 50, 4 ).getStripeCount() );
+		// never more stripes than values in a block
+		assertEquals( 2, new PooledLoStripedOptimizer( Long.class, 3, 16 ).getStripeCount() );
+		assertEquals( 1, new PooledLoStripedOptimizer( Long.class, 1, 16 ).getStripeCount() );
+		assertEquals( 1, new PooledLoStripedOptimizer( Long.class, 50, 0 ).getStripeCount() );
+	}
+
+	@Test
+	public void testConcurrentUsage() throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 10_000;
+		// the stub itself is not thread-safe; access to it is guarded by the optimizer
+		final SequenceStub sequence = new SequenceStub( 1, 50 );
+		final Optimizer optimizer = OptimizerFactory.buildOptimizer(
+				StandardOptimizerDescriptor.POOLED_LO_STRIPED.getExternalName(),
+				Long.class,
+				50,
+				1
+		);
+
+		final Set<Object> values = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add(
+						executor.submit(
+								() -> {
+									for ( int j = 0; j < valuesPerThread; j++ ) {
+										assertTrue( values.add( optimizer.generate( sequence ) ) );
+									}
+								}
+						)
+				);
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals( threads * valuesPerThread, values.size() );
+		// every block obtained was (all but entirely) used
+		assertTrue( sequence.timesCalled <= threads * valuesPerThread / 50 + 1 );
+	}
+
+	private static class SequenceStub implements AccessCallback {
+		private final int increment;
+		private long nextValue;
+		private int timesCalled;
+
+		private SequenceStub(long initialValue, int increment) {
+			this.nextValue = initialValue;
+			this.increment = increment;
+		}
+
+		@Override
+		public IntegralDataTypeHolder getNextValue() {
+			timesCalled++;
+			final IntegralDataTypeHolder value = new IdentifierGeneratorHelper.BasicHolder( Long.class );
+			value.initialize( nextValue );
+			nextValue += increment;
+			return value;
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.id.enhanced;
+
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests that {@value AvailableSettings#POOLED_OPTIMIZER_PREFETCH_LOW_WATER_MARK} specified
+ * as a SessionFactory setting reaches the optimizer of a mapped sequence generator
+ *
+ * @author agent
+ */
+@DomainModel( annotatedClasses = PooledOptimizerPrefetchSettingTests.SequencedEntity.class )
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting( name = AvailableSettings.HBM2DDL_AUTO, value = "create-drop" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.PREFERRED_POOLED_OPTIMIZER, value = "pooled-lo" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.POOLED_OPTIMIZER_PREFETCH_LOW_WATER_MARK, value = "3" )
+		}
+)
+@SessionFactory
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class PooledOptimizerPrefetchSettingTests {
+
+	@Test
+	public void testLowWaterMarkSetting(SessionFactoryScope scope) throws Exception {
+		final SequenceStyleGenerator generator = (SequenceStyleGenerator) scope.getSessionFactory()
+				.getMetamodel()
+				.entityPersister( SequencedEntity.class )
+				.getIdentifierGenerator();
+		assertThat( generator.getOptimizer(), instanceOf( PooledLoOptimizer.class ) );
+
+		// a single block of 10 values ...
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 10; i++ ) {
+						generator.generate( session, null );
+					}
+				}
+		);
+
+		// ... whose next block was fetched in the background once 3 values remained
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( generator.getDatabaseStructure().getTimesAccessed() < 2 && System.nanoTime() < deadline ) {
+			Thread.sleep( 10 );
+		}
+		assertThat( generator.getDatabaseStructure().getTimesAccessed(), is( 2 ) );
+	}
+
+	@Entity( name = "SequencedEntity" )
+	@Table( name = "sequenced_entity" )
+	public static class SequencedEntity {
+		@Id
+		@GeneratedValue( strategy = GenerationType.SEQUENCE, generator = "sequenced_entity_seq" )
+		@SequenceGenerator( name = "sequenced_entity_seq", allocationSize = 10 )
+		private Long id;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,233 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.action.internal.EntityInsertAction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests the ordering of interleaved insertions of a chain of many-to-one associations, where
+ * an entity name is first encountered before the entity names it depends on.
+ *
+ * @author agent
+ */
+@DomainModel(
+		annotatedClasses = {
+				InsertOrderingWithManyToOneChainTests.Region.class,
+				InsertOrderingWithManyToOneChainTests.Country.class,
+				InsertOrderingWithManyToOneChainTests.City.class,
+				InsertOrderingWithManyToOneChainTests.Street.class
+		}
+)
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting( name = AvailableSettings.HBM2DDL_AUTO, value = "create-drop" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.ORDER_INSERTS, value = "true" ),
+				@ServiceRegistry.Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ),
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.STATEMENT_INSPECTOR,
+						value = "org.hibernate.orm.test.insertordering.InsertOrderingWithManyToOneChainTests$InsertInspector"
+				)
+		}
+)
+@SessionFactory
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class InsertOrderingWithManyToOneChainTests {
+
+	@Test
+	public void testBatching(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final ActionQueue actionQueue = new ActionQueue( session );
+					int id = 0;
+
+					// a street without a city, so that the entity name of the last link in the chain is
+					// encountered first
+					queueInsertion( actionQueue, session, new Street(), ++id, (Object) null );
+
+					for ( int i = 0; i < 3; i++ ) {
+						Region region = new Region();
+						queueInsertion( actionQueue, session, region, ++id );
+
+						Country country = new Country();
+						country.setRegion( region );
+						queueInsertion( actionQueue, session, country, ++id, region );
+
+						City city = new City();
+						city.setCountry( country );
+						queueInsertion( actionQueue, session, city, ++id, country );
+
+						Street street = new Street();
+						street.setCity( city );
+						queueInsertion( actionQueue, session, street, ++id, city );
+					}
+
+					InsertInspector.INSERTS.clear();
+					actionQueue.sortActions();
+					actionQueue.executeActions();
+
+					// nor can the entities be flushed
+					session.clear();
+				}
+		);
+
+		// one batch per entity name
+		final List<String> statements = InsertInspector.INSERTS;
+		assertThat( statements.size(), is( 4 ) );
+		assertThat( statements.get( 0 ), startsWith( "insert into Region " ) );
+		assertThat( statements.get( 1 ), startsWith( "insert into Country " ) );
+		assertThat( statements.get( 2 ), startsWith( "insert into City " ) );
+		assertThat( statements.get( 3 ), startsWith( "insert into Street " ) );
+	}
+
+	/**
+	 * Queue the insertion of the entity with the given state, as {@code persist()} would.
+	 * The state is given explicitly, since to-one attributes are not yet part of the 6.0
+	 * mapping model used to read it from the entity.
+	 */
+	private static void queueInsertion(
+			ActionQueue actionQueue,
+			SessionImplementor session,
+			Object entity,
+			Integer id,
+			Object... state) {
+		final EntityPersister persister = session.getFactory().getMetamodel().entityPersister( entity.getClass() );
+		persister.setIdentifier( entity, id, session );
+		actionQueue.addAction( new EntityInsertAction( id, state, entity, null, persister, false, session ) );
+	}
+
+	public static class InsertInspector implements StatementInspector {
+		static final List<String> INSERTS = new ArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			if ( sql.startsWith( "insert" ) ) {
+				INSERTS.add( sql );
+			}
+			return sql;
+		}
+	}
+
+	@Entity(name = "Region")
+	public static class Region {
+		@Id
+		@GeneratedValue
+		private Integer id;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+		@Id
+		@GeneratedValue
+		private Integer id;
+
+		@ManyToOne
+		private Region region;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public Region getRegion() {
+			return region;
+		}
+
+		public void setRegion(Region region) {
+			this.region = region;
+		}
+	}
+
+	@Entity(name = "City")
+	public static class City {
+		@Id
+		@GeneratedValue
+		private Integer id;
+
+		@ManyToOne
+		private Country country;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public Country getCountry() {
+			return country;
+		}
+
+		public void setCountry(Country country) {
+			this.country = country;
+		}
+	}
+
+	@Entity(name = "Street")
+	public static class Street {
+		@Id
+		@GeneratedValue
+		private Integer id;
+
+		@ManyToOne
+		private City city;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public City getCity() {
+			return city;
+		}
+
+		public void setCity(City city) {
+			this.city = city;
+		}
+	}
+}
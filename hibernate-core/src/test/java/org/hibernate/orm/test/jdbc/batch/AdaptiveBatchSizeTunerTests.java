@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.batch;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchSizeTuner;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.jdbc.Expectations;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link AdaptiveBatchSizeTuner}
+ *
+ * @author agent
+ */
+public class AdaptiveBatchSizeTunerTests {
+	private static final BatchKey NARROW = new BasicBatchKey( "Narrow#INSERT", Expectations.BASIC );
+	private static final BatchKey WIDE = new BasicBatchKey( "Wide#INSERT", Expectations.BASIC );
+
+	@Test
+	public void testInitialBatchSize() {
+		final AdaptiveBatchSizeTuner tuner = new AdaptiveBatchSizeTuner( 20, 100 );
+		assertEquals( 50, tuner.getBatchSize( NARROW, 50 ) );
+		// clamped to the maximum
+		assertEquals( 100, tuner.getBatchSize( NARROW, 500 ) );
+	}
+
+	@Test
+	public void testBatchSizeGrowsForFastRows() {
+		final AdaptiveBatchSizeTuner tuner = new AdaptiveBatchSizeTuner( 20, 1000 );
+
+		// 10 microseconds per row - 2000 rows would fit in 20ms, but growth is limited to doubling
+		assertEquals( 100, tuner.batchExecuted( NARROW, 50, 50, micros( 500 ) ) );
+		assertEquals( 200, tuner.batchExecuted( NARROW, 50, 100, micros( 1000 ) ) );
+		assertEquals( 400, tuner.batchExecuted( NARROW, 50, 200, micros( 2000 ) ) );
+		assertEquals( 800, tuner.batchExecuted( NARROW, 50, 400, micros( 4000 ) ) );
+		// capped by the maximum
+		assertEquals( 1000, tuner.batchExecuted( NARROW, 50, 800, micros( 8000 ) ) );
+		assertEquals( 1000, tuner.getBatchSize( NARROW, 50 ) );
+	}
+
+	@Test
+	public void testBatchSizeShrinksForSlowRows() {
+		final AdaptiveBatchSizeTuner tuner = new AdaptiveBatchSizeTuner( 20, 1000 );
+
+		// 2 milliseconds per row - only 10 rows fit in 20ms
+		assertEquals( 10, tuner.batchExecuted( WIDE, 50, 50, TimeUnit.MILLISECONDS.toNanos( 100 ) ) );
+		assertEquals( 10, tuner.getBatchSize( WIDE, 50 ) );
+
+		// other keys are unaffected
+		assertEquals( 50, tuner.getBatchSize( NARROW, 50 ) );
+	}
+
+	@Test
+	public void testSmallBatchesAreIgnored() {
+		final AdaptiveBatchSizeTuner tuner = new AdaptiveBatchSizeTuner( 20, 1000 );
+
+		// a trailing batch of 3 rows is mostly execution overhead
+		assertEquals( 50, tuner.batchExecuted( WIDE, 50, 3, TimeUnit.MILLISECONDS.toNanos( 100 ) ) );
+	}
+
+	@Test
+	public void testMinimumBatchSize() {
+		final AdaptiveBatchSizeTuner tuner = new AdaptiveBatchSizeTuner( 1, 1000 );
+		assertEquals( 2, tuner.batchExecuted( WIDE, 50, 50, TimeUnit.SECONDS.toNanos( 5 ) ) );
+	}
+
+	private static long micros(long micros) {
+		return TimeUnit.MICROSECONDS.toNanos( micros );
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.batch;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchSizeTuner;
+import org.hibernate.engine.jdbc.batch.internal.BatchingBatch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.stat.JdbcBatchStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests {@link BatchingBatch} with an {@link AdaptiveBatchSizeTuner} and statistics
+ *
+ * @author agent
+ */
+@DomainModel( annotatedClasses = { BatchingBatchTests.Parent.class, BatchingBatchTests.Child.class } )
+@SessionFactory( generateStatistics = true )
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class BatchingBatchTests {
+	private static final String PARENT_SQL = "insert into Parent (name, id) values (?, ?)";
+	private static final String CHILD_SQL = "insert into Child (name, id) values (?, ?)";
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.doWork(
+						work -> {
+							final Statement statement = work.createStatement();
+							statement.execute( "delete from Child" );
+							statement.execute( "delete from Parent" );
+							statement.close();
+						}
+				)
+		);
+	}
+
+	@Test
+	public void testMultiTableKeyReportsRowsPerStatement(SessionFactoryScope scope) {
+		final RecordingTuner tuner = new RecordingTuner();
+		scope.getSessionFactory().getStatistics().clear();
+
+		scope.inTransaction(
+				session -> {
+					// like a joined subclass, each operation adds a row to both statements of the key
+					final BatchingBatch batch = new BatchingBatch(
+							MultiTableBatchKey.INSTANCE,
+							session.getJdbcCoordinator(),
+							4,
+							tuner
+					);
+					try {
+						for ( int id = 1; id <= 3; id++ ) {
+							addRow( batch, PARENT_SQL, id );
+							addRow( batch, CHILD_SQL, id );
+						}
+						batch.execute();
+					}
+					finally {
+						batch.release();
+					}
+				}
+		);
+
+		// one execution of each statement, of the 3 rows added to it
+		assertEquals( 2, tuner.rowCounts.size() );
+		assertEquals( 3, (int) tuner.rowCounts.get( 0 ) );
+		assertEquals( 3, (int) tuner.rowCounts.get( 1 ) );
+
+		final JdbcBatchStatistics batchStatistics = scope.getSessionFactory()
+				.getStatistics()
+				.getJdbcBatchStatistics( MultiTableBatchKey.INSTANCE.toString() );
+		assertEquals( 1, batchStatistics.getExecutionCount() );
+		assertEquals( 6, batchStatistics.getExecutionRowCount() );
+	}
+
+	private static void addRow(BatchingBatch batch, String sql, int id) {
+		final PreparedStatement statement = batch.getBatchStatement( sql, false );
+		try {
+			statement.setString( 1, "row " + id );
+			statement.setInt( 2, id );
+		}
+		catch (SQLException e) {
+			throw new RuntimeException( e );
+		}
+		batch.addToBatch();
+	}
+
+	private static class RecordingTuner extends AdaptiveBatchSizeTuner {
+		private final List<Integer> rowCounts = new ArrayList<>();
+
+		private RecordingTuner() {
+			super( 10_000, 100 );
+		}
+
+		@Override
+		public int batchExecuted(BatchKey key, int initialBatchSize, int rowCount, long executionNanos) {
+			rowCounts.add( rowCount );
+			return super.batchExecuted( key, initialBatchSize, rowCount, executionNanos );
+		}
+	}
+
+	private static class MultiTableBatchKey implements BatchKey {
+		private static final MultiTableBatchKey INSTANCE = new MultiTableBatchKey();
+
+		@Override
+		public int getBatchedStatementCount() {
+			return 2;
+		}
+
+		@Override
+		public Expectation getExpectation() {
+			return Expectations.BASIC;
+		}
+
+		@Override
+		public String toString() {
+			return "Parent#INSERT";
+		}
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+}
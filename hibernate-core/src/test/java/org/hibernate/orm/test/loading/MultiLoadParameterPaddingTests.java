@@ -0,0 +1,187 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.loading;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.metamodel.mapping.SmokeTests.Component;
+import org.hibernate.orm.test.metamodel.mapping.SmokeTests.SimpleEntity;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hibernate.orm.test.metamodel.mapping.SmokeTests.Gender.FEMALE;
+import static org.hibernate.orm.test.metamodel.mapping.SmokeTests.Gender.MALE;
+
+/**
+ * Tests multi-load chunk padding when {@link AvailableSettings#IN_CLAUSE_PARAMETER_PADDING} is enabled
+ *
+ * @author agent
+ */
+@DomainModel( annotatedClasses = SimpleEntity.class )
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.HBM2DDL_AUTO,
+						value = "create-drop"
+				),
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING,
+						value = "true"
+				),
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.STATEMENT_INSPECTOR,
+						value = "org.hibernate.orm.test.loading.MultiLoadParameterPaddingTests$CapturingStatementInspector"
+				)
+		}
+)
+@SessionFactory
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class MultiLoadParameterPaddingTests {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session ->
+						session.doWork(
+								work -> {
+									Statement statement = work.createStatement();
+									statement.execute( "delete from mapping_simple_entity" );
+									statement.close();
+								}
+						)
+		);
+	}
+
+	// todo (6.0) : the chunk loads still read rows through the legacy Loader, which is not yet
+	//		able to read values (`Type#nullSafeGet`) - so for now these tests load ids which
+	//		have no rows, or which are resolved from the Session
+
+	@Test
+	public void testChunkIsPadded(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					CapturingStatementInspector.SQL.clear();
+
+					final List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 101, 5 ) );
+					assertThat( list.size(), is( 5 ) );
+					for ( SimpleEntity entity : list ) {
+						assertThat( entity, nullValue() );
+					}
+
+					assertThat( CapturingStatementInspector.SQL.size(), is( 1 ) );
+					assertThat( CapturingStatementInspector.SQL.get( 0 ), endsWith( "id in (?,?,?,?,?,?,?,?)" ) );
+				}
+		);
+	}
+
+	@Test
+	public void testPaddedSizesShareSql(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					CapturingStatementInspector.SQL.clear();
+					session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 101, 5 ) );
+				}
+		);
+		assertThat( CapturingStatementInspector.SQL.size(), is( 1 ) );
+		final String sqlForFive = CapturingStatementInspector.SQL.get( 0 );
+
+		scope.inTransaction(
+				session -> {
+					CapturingStatementInspector.SQL.clear();
+					session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 101, 7 ) );
+				}
+		);
+		assertThat( CapturingStatementInspector.SQL.size(), is( 1 ) );
+		assertThat( CapturingStatementInspector.SQL.get( 0 ), is( sqlForFive ) );
+	}
+
+	@Test
+	public void testPaddingWithDuplicatedAndMissingIds(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 2; i++ ) {
+						final SimpleEntity simpleEntity = new SimpleEntity();
+						simpleEntity.setId( i );
+						simpleEntity.setGender( FEMALE );
+						simpleEntity.setName( "Entity #" + i );
+						simpleEntity.setGender2( MALE );
+						simpleEntity.setComponent( new Component( "a1", "a2" ) );
+						session.save( simpleEntity );
+					}
+					session.flush();
+
+					CapturingStatementInspector.SQL.clear();
+
+					List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class )
+							.enableSessionCheck( true )
+							.multiLoad( 1, 2, 699, 2, 2 );
+					assertThat( list.size(), is( 5 ) );
+					assertThat( list.get( 0 ).getId(), is( 1 ) );
+					assertThat( list.get( 1 ).getId(), is( 2 ) );
+					assertThat( list.get( 2 ), nullValue() );
+					assertThat( list.get( 3 ), sameInstance( list.get( 1 ) ) );
+					assertThat( list.get( 4 ), sameInstance( list.get( 1 ) ) );
+
+					// only the id not managed by the Session is loaded
+					assertThat( CapturingStatementInspector.SQL.size(), is( 1 ) );
+					assertThat( CapturingStatementInspector.SQL.get( 0 ), endsWith( "id in (?)" ) );
+
+					CapturingStatementInspector.SQL.clear();
+
+					list = session.byMultipleIds( SimpleEntity.class )
+							.enableOrderedReturn( false )
+							.enableSessionCheck( true )
+							.multiLoad( 1, 2, 699, 2, 2 );
+					assertThat( list.size(), is( 4 ) );
+					for ( SimpleEntity entity : list ) {
+						assertThat( entity, notNullValue() );
+					}
+
+					assertThat( CapturingStatementInspector.SQL.size(), is( 1 ) );
+					assertThat( CapturingStatementInspector.SQL.get( 0 ), endsWith( "id in (?)" ) );
+				}
+		);
+	}
+
+	private static Integer[] ids(int first, int count) {
+		final Integer[] ids = new Integer[count];
+		for ( int i = 0; i < count; i++ ) {
+			ids[i] = first + i;
+		}
+		return ids;
+	}
+
+	public static class CapturingStatementInspector implements StatementInspector {
+		static final List<String> SQL = new ArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			SQL.add( sql );
+			return sql;
+		}
+	}
+}
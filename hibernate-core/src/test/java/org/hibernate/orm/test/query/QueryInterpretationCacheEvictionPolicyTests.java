@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
+import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl.EvictionPolicy;
+import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sql.spi.ParameterInterpretation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the {@link EvictionPolicy} choices of {@link QueryInterpretationCacheStandardImpl}
+ *
+ * @author agent
+ */
+public class QueryInterpretationCacheEvictionPolicyTests {
+
+	@Test
+	public void testInterpretSetting() {
+		assertThat( EvictionPolicy.interpret( null ), is( EvictionPolicy.LIRS ) );
+		assertThat( EvictionPolicy.interpret( "lirs" ), is( EvictionPolicy.LIRS ) );
+		assertThat( EvictionPolicy.interpret( "tinylfu" ), is( EvictionPolicy.TINY_LFU ) );
+		assertThat( EvictionPolicy.interpret( "TINY_LFU" ), is( EvictionPolicy.TINY_LFU ) );
+		assertThat( EvictionPolicy.interpret( EvictionPolicy.TINY_LFU ), is( EvictionPolicy.TINY_LFU ) );
+		assertThrows( HibernateException.class, () -> EvictionPolicy.interpret( "lru" ) );
+	}
+
+	@Test
+	public void testLirsInterpretationsAreCached() {
+		verifyInterpretationsAreCached( EvictionPolicy.LIRS );
+	}
+
+	@Test
+	public void testTinyLfuInterpretationsAreCached() {
+		verifyInterpretationsAreCached( EvictionPolicy.TINY_LFU );
+	}
+
+	private void verifyInterpretationsAreCached(EvictionPolicy evictionPolicy) {
+		final QueryInterpretationCache cache = new QueryInterpretationCacheStandardImpl(
+				16,
+				evictionPolicy,
+				() -> null
+		);
+
+		final AtomicInteger interpretations = new AtomicInteger();
+		final ParameterInterpretation first = cache.resolveNativeQueryParameters(
+				"select 1",
+				queryString -> {
+					interpretations.incrementAndGet();
+					return new ParameterInterpretationStub( queryString );
+				}
+		);
+		final ParameterInterpretation second = cache.resolveNativeQueryParameters(
+				"select 1",
+				queryString -> {
+					interpretations.incrementAndGet();
+					return new ParameterInterpretationStub( queryString );
+				}
+		);
+
+		assertThat( second, sameInstance( first ) );
+		assertThat( interpretations.get(), is( 1 ) );
+	}
+
+	private static class ParameterInterpretationStub implements ParameterInterpretation {
+		private final String sql;
+
+		private ParameterInterpretationStub(String sql) {
+			this.sql = sql;
+		}
+
+		@Override
+		public List<QueryParameterImplementor<?>> getOccurrenceOrderedParameters() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public ParameterMetadataImplementor toParameterMetadata(SharedSessionContractImplementor session) {
+			throw new UnsupportedOperationException( sql );
+		}
+	}
+}
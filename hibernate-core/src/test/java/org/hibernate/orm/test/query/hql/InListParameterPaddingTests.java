@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.metamodel.mapping.SmokeTests.Component;
+import org.hibernate.orm.test.metamodel.mapping.SmokeTests.SimpleEntity;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hibernate.orm.test.metamodel.mapping.SmokeTests.Gender.FEMALE;
+import static org.hibernate.orm.test.metamodel.mapping.SmokeTests.Gender.MALE;
+
+/**
+ * Tests padding of multi-valued IN list parameters when
+ * {@link AvailableSettings#IN_CLAUSE_PARAMETER_PADDING} is enabled
+ *
+ * @author agent
+ */
+@DomainModel( annotatedClasses = SimpleEntity.class )
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.HBM2DDL_AUTO,
+						value = "create-drop"
+				),
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING,
+						value = "true"
+				),
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.STATEMENT_INSPECTOR,
+						value = "org.hibernate.orm.test.query.hql.InListParameterPaddingTests$CapturingStatementInspector"
+				)
+		}
+)
+@SessionFactory
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class InListParameterPaddingTests {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 5; i++ ) {
+						final SimpleEntity simpleEntity = new SimpleEntity();
+						simpleEntity.setId( i );
+						simpleEntity.setGender( FEMALE );
+						simpleEntity.setName( "Entity #" + i );
+						simpleEntity.setGender2( MALE );
+						simpleEntity.setComponent( new Component( "a1", "a2" ) );
+						session.save( simpleEntity );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session ->
+						session.doWork(
+								work -> {
+									Statement statement = work.createStatement();
+									statement.execute( "delete from mapping_simple_entity" );
+									statement.close();
+								}
+						)
+		);
+	}
+
+	@Test
+	public void testInListIsPadded(SessionFactoryScope scope) {
+		final String sql = selectNames( scope, false, 1, 2, 3 );
+		assertThat( sql, containsString( "in (?, ?, ?, ?)" ) );
+	}
+
+	@Test
+	public void testPaddedSizesShareSql(SessionFactoryScope scope) {
+		final String sqlForThree = selectNames( scope, false, 1, 2, 3 );
+		final String sqlForFour = selectNames( scope, false, 1, 2, 3, 4 );
+		assertThat( sqlForFour, is( sqlForThree ) );
+	}
+
+	@Test
+	public void testPaddedNotInList(SessionFactoryScope scope) {
+		final String sql = selectNames( scope, true, 1, 2, 3 );
+		assertThat( sql, containsString( "not in (?, ?, ?, ?)" ) );
+	}
+
+	private String selectNames(SessionFactoryScope scope, boolean negated, Integer... ids) {
+		final List<String> nameList = new ArrayList<>( ids.length );
+		for ( Integer id : ids ) {
+			nameList.add( "Entity #" + id );
+		}
+		scope.inTransaction(
+				session -> {
+					CapturingStatementInspector.SQL.clear();
+
+					final List<String> names = session.createQuery(
+							"select e.name from SimpleEntity e where e.name " + ( negated ? "not in" : "in" ) + " (:names)",
+							String.class
+					).setParameterList( "names", nameList ).list();
+
+					assertThat( names.size(), is( negated ? 5 - ids.length : ids.length ) );
+					for ( String name : names ) {
+						assertThat( nameList.contains( name ), is( !negated ) );
+					}
+				}
+		);
+		assertThat( CapturingStatementInspector.SQL.size(), is( 1 ) );
+		return CapturingStatementInspector.SQL.get( 0 );
+	}
+
+	public static class CapturingStatementInspector implements StatementInspector {
+		static final List<String> SQL = new ArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			SQL.add( sql );
+			return sql;
+		}
+	}
+}
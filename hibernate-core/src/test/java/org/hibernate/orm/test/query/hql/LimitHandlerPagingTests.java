@@ -0,0 +1,178 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.SortOrder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.metamodel.mapping.SmokeTests.Component;
+import org.hibernate.orm.test.metamodel.mapping.SmokeTests.SimpleEntity;
+import org.hibernate.query.KeysetPage;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hibernate.orm.test.metamodel.mapping.SmokeTests.Gender.FEMALE;
+import static org.hibernate.orm.test.metamodel.mapping.SmokeTests.Gender.MALE;
+
+/**
+ * Tests limit/offset paging applied through the Dialect's
+ * {@link org.hibernate.dialect.pagination.LimitHandler} as well as
+ * {@link KeysetPage keyset} paging
+ *
+ * @author agent
+ */
+@DomainModel( annotatedClasses = SimpleEntity.class )
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.HBM2DDL_AUTO,
+						value = "create-drop"
+				),
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.STATEMENT_INSPECTOR,
+						value = "org.hibernate.orm.test.query.hql.LimitHandlerPagingTests$CapturingStatementInspector"
+				)
+		}
+)
+@SessionFactory
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class LimitHandlerPagingTests {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 10; i++ ) {
+						final SimpleEntity simpleEntity = new SimpleEntity();
+						simpleEntity.setId( i );
+						simpleEntity.setGender( FEMALE );
+						simpleEntity.setName( String.format( "Entity #%02d", i ) );
+						simpleEntity.setGender2( MALE );
+						simpleEntity.setComponent( new Component( "a1", "a2" ) );
+						session.save( simpleEntity );
+					}
+				}
+		);
+		CapturingStatementInspector.SQL.clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session ->
+						session.doWork(
+								work -> {
+									Statement statement = work.createStatement();
+									statement.execute( "delete from mapping_simple_entity" );
+									statement.close();
+								}
+						)
+		);
+	}
+
+	@Test
+	public void testMaxResultsAppliedInSql(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<String> names = session.createQuery(
+							"select e.name from SimpleEntity e order by e.name",
+							String.class
+					).setMaxResults( 3 ).list();
+
+					assertThat( names, is( Arrays.asList( "Entity #01", "Entity #02", "Entity #03" ) ) );
+				}
+		);
+		assertThat( CapturingStatementInspector.SQL.size(), is( 1 ) );
+		assertThat( CapturingStatementInspector.SQL.get( 0 ), containsString( " limit ?" ) );
+	}
+
+	@Test
+	public void testFirstResultAppliedInSql(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<String> names = session.createQuery(
+							"select e.name from SimpleEntity e order by e.name",
+							String.class
+					).setFirstResult( 8 ).setMaxResults( 5 ).list();
+
+					assertThat( names, is( Arrays.asList( "Entity #09", "Entity #10" ) ) );
+				}
+		);
+		assertThat( CapturingStatementInspector.SQL.size(), is( 1 ) );
+		assertThat( CapturingStatementInspector.SQL.get( 0 ), containsString( " limit ? offset ?" ) );
+	}
+
+	@Test
+	public void testKeysetPaging(SessionFactoryScope scope) {
+		final KeysetPage firstPage = KeysetPage.first( 4, "name" );
+
+		final List<String> firstNames = selectNames( scope, "select e.name from SimpleEntity e", firstPage );
+		assertThat( firstNames, is( Arrays.asList( "Entity #01", "Entity #02", "Entity #03", "Entity #04" ) ) );
+
+		final KeysetPage secondPage = firstPage.next( firstNames.get( firstNames.size() - 1 ) );
+		final List<String> secondNames = selectNames( scope, "select e.name from SimpleEntity e", secondPage );
+		assertThat( secondNames, is( Arrays.asList( "Entity #05", "Entity #06", "Entity #07", "Entity #08" ) ) );
+
+		final KeysetPage thirdPage = secondPage.next( secondNames.get( secondNames.size() - 1 ) );
+		final List<String> thirdNames = selectNames( scope, "select e.name from SimpleEntity e", thirdPage );
+		assertThat( thirdNames, is( Arrays.asList( "Entity #09", "Entity #10" ) ) );
+
+		final String sql = CapturingStatementInspector.SQL.get( CapturingStatementInspector.SQL.size() - 1 );
+		assertThat( sql, containsString( "name>?" ) );
+		assertThat( sql, containsString( "order by" ) );
+		assertThat( sql, containsString( " limit ?" ) );
+	}
+
+	@Test
+	public void testKeysetPagingCombinedWithRestriction(SessionFactoryScope scope) {
+		final KeysetPage page = KeysetPage.first( 2, SortOrder.DESCENDING, "id" ).next( 8 );
+
+		final List<String> names = selectNames(
+				scope,
+				"select e.name from SimpleEntity e where e.name = 'Entity #02' or e.name <> 'Entity #03'",
+				page
+		);
+		assertThat( names, is( Arrays.asList( "Entity #07", "Entity #06" ) ) );
+	}
+
+	private static List<String> selectNames(SessionFactoryScope scope, String hql, KeysetPage page) {
+		return scope.fromTransaction(
+				session -> session.createQuery( hql, String.class )
+						.setKeysetPage( page )
+						.list()
+		);
+	}
+
+	public static class CapturingStatementInspector implements StatementInspector {
+		static final List<String> SQL = new ArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			SQL.add( sql );
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.sqm;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.SharedSessionContract;
+import org.hibernate.annotations.Persister;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.orm.test.metamodel.mapping.SmokeTests.SimpleEntity;
+import org.hibernate.persister.entity.SingleTableEntityPersister;
+import org.hibernate.persister.spi.PersisterCreationContext;
+import org.hibernate.query.Query;
+import org.hibernate.query.spi.NonSelectQueryPlan;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.query.sqm.internal.SqmInterpretationsKey;
+import org.hibernate.query.sqm.mutation.spi.DeleteHandler;
+import org.hibernate.query.sqm.mutation.spi.HandlerCreationContext;
+import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
+import org.hibernate.query.sqm.mutation.spi.UpdateHandler;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests caching of non-select (DML) query plans in the interpretation cache
+ *
+ * @author agent
+ */
+@DomainModel(
+		annotatedClasses = {
+				SimpleEntity.class,
+				NonSelectQueryPlanCachingTests.MutationEntity.class
+		}
+)
+@ServiceRegistry(
+		settings = @ServiceRegistry.Setting(
+				name = AvailableSettings.QUERY_PLAN_CACHE_ENABLED,
+				value = "true"
+		)
+)
+@SessionFactory
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class NonSelectQueryPlanCachingTests {
+
+	@Test
+	public void testNonSelectPlanIsShared(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+
+		final NonSelectQueryPlan queryPlan = executionContext -> 0;
+
+		scope.inTransaction(
+				session -> {
+					final QuerySqmImpl<?> query = (QuerySqmImpl<?>) session.createQuery(
+							"update SimpleEntity e set e.name = :name where e.id = :id"
+					);
+					final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.generateNonSelectKey( query );
+					assertThat( cacheKey, notNullValue() );
+
+					interpretationCache.cacheNonSelectQueryPlan( cacheKey, queryPlan );
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final QuerySqmImpl<?> query = (QuerySqmImpl<?>) session.createQuery(
+							"update SimpleEntity e set e.name = :name where e.id = :id"
+					);
+					final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.generateNonSelectKey( query );
+					assertThat( interpretationCache.getNonSelectQueryPlan( cacheKey ), sameInstance( queryPlan ) );
+				}
+		);
+	}
+
+	@Test
+	public void testMultiValuedParameterPreventsCaching(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final QuerySqmImpl<?> query = (QuerySqmImpl<?>) session.createQuery(
+							"delete SimpleEntity e where e.id in (:ids)"
+					);
+					query.setParameterList( "ids", Arrays.asList( 1, 2 ) );
+					assertThat( SqmInterpretationsKey.generateNonSelectKey( query ), is( nullValue() ) );
+				}
+		);
+	}
+
+	@Test
+	public void testCachedPlanExecutesInLaterSession(SessionFactoryScope scope) {
+		final CountingMutationStrategy strategy = CountingMutationStrategy.INSTANCE;
+		strategy.reset();
+
+		final List<SharedSessionContractImplementor> sessions = new ArrayList<>();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction(
+					session -> {
+						sessions.add( session );
+						final int count = session.createQuery( "update MutationEntity e set e.name = :name where e.name = :old" )
+								.setParameter( "name", "updated" )
+								.setParameter( "old", "initial" )
+								.executeUpdate();
+						assertThat( count, is( 1 ) );
+					}
+			);
+		}
+
+		// the plan (and its handler) built for the first session was reused by the second one
+		assertThat( strategy.updateHandlerCount, is( 1 ) );
+		assertThat( strategy.executingSessions.size(), is( 2 ) );
+		assertThat( strategy.executingSessions.get( 0 ), sameInstance( sessions.get( 0 ) ) );
+		assertThat( strategy.executingSessions.get( 1 ), sameInstance( sessions.get( 1 ) ) );
+		assertThat( sessions.get( 0 ).isClosed(), is( true ) );
+
+		// the cached handler must not hold on to the query (and so the session) which built it
+		final HandlerCreationContext creationContext = strategy.creationContexts.get( 0 );
+		assertThat( creationContext.getSessionFactory(), sameInstance( scope.getSessionFactory() ) );
+		for ( Field field : creationContext.getClass().getDeclaredFields() ) {
+			field.setAccessible( true );
+			final Object captured;
+			try {
+				captured = field.get( creationContext );
+			}
+			catch (IllegalAccessException e) {
+				throw new RuntimeException( e );
+			}
+			assertThat( captured instanceof SharedSessionContract, is( false ) );
+			assertThat( captured instanceof Query, is( false ) );
+		}
+	}
+
+	@Entity( name = "MutationEntity" )
+	@Table( name = "mutation_entity" )
+	@Persister( impl = MutationEntityPersister.class )
+	public static class MutationEntity {
+		@Id
+		private Integer id;
+		private String name;
+	}
+
+	public static class MutationEntityPersister extends SingleTableEntityPersister {
+		public MutationEntityPersister(
+				PersistentClass persistentClass,
+				EntityDataAccess cacheAccessStrategy,
+				NaturalIdDataAccess naturalIdRegionAccessStrategy,
+				PersisterCreationContext creationContext) {
+			super( persistentClass, cacheAccessStrategy, naturalIdRegionAccessStrategy, creationContext );
+		}
+
+		@Override
+		public SqmMultiTableMutationStrategy getSqmMultiTableMutationStrategy() {
+			return CountingMutationStrategy.INSTANCE;
+		}
+	}
+
+	/**
+	 * Builds handlers which only record the session they are executed with
+	 */
+	public static class CountingMutationStrategy implements SqmMultiTableMutationStrategy {
+		static final CountingMutationStrategy INSTANCE = new CountingMutationStrategy();
+
+		private final List<HandlerCreationContext> creationContexts = new ArrayList<>();
+		private final List<SharedSessionContractImplementor> executingSessions = new ArrayList<>();
+		private int updateHandlerCount;
+
+		void reset() {
+			creationContexts.clear();
+			executingSessions.clear();
+			updateHandlerCount = 0;
+		}
+
+		@Override
+		public UpdateHandler buildUpdateHandler(
+				SqmUpdateStatement sqmUpdateStatement,
+				DomainParameterXref domainParameterXref,
+				HandlerCreationContext creationContext) {
+			updateHandlerCount++;
+			creationContexts.add( creationContext );
+			return executionContext -> {
+				assertThat( executionContext.getSession().isClosed(), is( false ) );
+				executingSessions.add( executionContext.getSession() );
+				return 1;
+			};
+		}
+
+		@Override
+		public DeleteHandler buildDeleteHandler(
+				SqmDeleteStatement sqmDeleteStatement,
+				DomainParameterXref domainParameterXref,
+				HandlerCreationContext creationContext) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
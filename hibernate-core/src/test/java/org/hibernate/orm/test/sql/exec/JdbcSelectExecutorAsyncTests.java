@@ -0,0 +1,249 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.exec;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.JDBCException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.test.metamodel.mapping.SmokeTests.SimpleEntity;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests for {@link JdbcSelectExecutor#listAsync}
+ *
+ * @author agent
+ */
+@DomainModel( annotatedClasses = SimpleEntity.class )
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.HBM2DDL_AUTO,
+						value = "create-drop"
+				),
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.JDBC_SELECT_EXECUTOR,
+						value = "org.hibernate.orm.test.sql.exec.JdbcSelectExecutorAsyncTests$CapturingJdbcSelectExecutor"
+				)
+		}
+)
+@SessionFactory
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class JdbcSelectExecutorAsyncTests {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 2; i++ ) {
+						final SimpleEntity simpleEntity = new SimpleEntity();
+						simpleEntity.setId( i );
+						simpleEntity.setName( "Entity #" + i );
+						session.save( simpleEntity );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session ->
+						session.doWork(
+								work -> {
+									Statement statement = work.createStatement();
+									statement.execute( "delete from mapping_simple_entity" );
+									statement.close();
+								}
+						)
+		);
+	}
+
+	@Test
+	public void testListAsyncCompletesWithMaterializedResults(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			scope.inTransaction(
+					session -> {
+						final CapturingJdbcSelectExecutor executor = captureSelect( scope, session );
+
+						final List<String> names = await(
+								executor.listAsync(
+										executor.jdbcSelect,
+										executor.jdbcParameterBindings,
+										executor.executionContext,
+										executor.rowTransformer,
+										executorService
+								).toCompletableFuture()
+						);
+						final List<String> sorted = new ArrayList<>( names );
+						Collections.sort( sorted );
+						assertThat( sorted, is( Arrays.asList( "Entity #1", "Entity #2" ) ) );
+					}
+			);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testListAsyncCompletesExceptionally(SessionFactoryScope scope) {
+		final ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			scope.inTransaction(
+					session -> {
+						final CapturingJdbcSelectExecutor executor = captureSelect( scope, session );
+						final JdbcSelect invalidSelect = new JdbcSelect(
+								"select e.missing_column from mapping_simple_entity e",
+								executor.jdbcSelect.getParameterBinders(),
+								executor.jdbcSelect.getJdbcValuesMappingProducer(),
+								executor.jdbcSelect.getAffectedTableNames()
+						);
+
+						final CompletableFuture<List<String>> future = executor.listAsync(
+								invalidSelect,
+								executor.jdbcParameterBindings,
+								executor.executionContext,
+								executor.rowTransformer,
+								executorService
+						).toCompletableFuture();
+						try {
+							future.get( 10, TimeUnit.SECONDS );
+							fail( "Expecting the select to fail" );
+						}
+						catch (ExecutionException expected) {
+							assertThat( expected.getCause(), instanceOf( JDBCException.class ) );
+						}
+						catch (Exception e) {
+							throw new RuntimeException( e );
+						}
+						assertThat( future.isCompletedExceptionally(), is( true ) );
+					}
+			);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testListAsyncRunsOnlyOnTheExecutor(SessionFactoryScope scope) {
+		final List<Runnable> submitted = new ArrayList<>();
+
+		scope.inTransaction(
+				session -> {
+					final CapturingJdbcSelectExecutor executor = captureSelect( scope, session );
+					final int listCount = executor.listThreads.size();
+
+					final CompletableFuture<List<String>> future = executor.listAsync(
+							executor.jdbcSelect,
+							executor.jdbcParameterBindings,
+							executor.executionContext,
+							executor.rowTransformer,
+							submitted::add
+					).toCompletableFuture();
+
+					// nothing happens on the calling thread
+					assertThat( submitted.size(), is( 1 ) );
+					assertThat( executor.listThreads.size(), is( listCount ) );
+					assertThat( future.isDone(), is( false ) );
+
+					final Thread worker = new Thread( submitted.get( 0 ), "async-select" );
+					worker.start();
+					final List<String> names = await( future );
+
+					// the statement was executed and the results read on the executor's thread
+					assertThat( executor.listThreads.size(), is( listCount + 1 ) );
+					assertThat( executor.listThreads.get( listCount ), sameInstance( worker ) );
+					assertThat( names.size(), is( 2 ) );
+				}
+		);
+	}
+
+	private static CapturingJdbcSelectExecutor captureSelect(SessionFactoryScope scope, SessionImplementor session) {
+		final CapturingJdbcSelectExecutor executor = (CapturingJdbcSelectExecutor) scope.getSessionFactory()
+				.getJdbcServices()
+				.getJdbcSelectExecutor();
+		executor.jdbcSelect = null;
+
+		session.createQuery( "select e.name from SimpleEntity e", String.class )
+				.list();
+
+		assertThat( executor.jdbcSelect == null, is( false ) );
+		return executor;
+	}
+
+	private static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.get( 10, TimeUnit.SECONDS );
+		}
+		catch (Exception e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	public static class CapturingJdbcSelectExecutor extends JdbcSelectExecutorStandardImpl {
+		final List<Thread> listThreads = new ArrayList<>();
+
+		JdbcSelect jdbcSelect;
+		JdbcParameterBindings jdbcParameterBindings;
+		ExecutionContext executionContext;
+		RowTransformer<String> rowTransformer;
+
+		@Override
+		public <R> List<R> list(
+				JdbcSelect jdbcSelect,
+				JdbcParameterBindings jdbcParameterBindings,
+				ExecutionContext executionContext,
+				RowTransformer<R> rowTransformer) {
+			synchronized ( listThreads ) {
+				listThreads.add( Thread.currentThread() );
+			}
+			this.jdbcSelect = jdbcSelect;
+			this.jdbcParameterBindings = jdbcParameterBindings;
+			this.executionContext = executionContext;
+			//noinspection unchecked
+			this.rowTransformer = (RowTransformer<String>) rowTransformer;
+			return super.list( jdbcSelect, jdbcParameterBindings, executionContext, rowTransformer );
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.exec;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.metamodel.mapping.SmokeTests.SimpleEntity;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for swapping the JdbcSelectExecutor via {@link AvailableSettings#JDBC_SELECT_EXECUTOR}
+ *
+ * @author agent
+ */
+@DomainModel( annotatedClasses = SimpleEntity.class )
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.HBM2DDL_AUTO,
+						value = "create-drop"
+				),
+				@ServiceRegistry.Setting(
+						name = AvailableSettings.JDBC_SELECT_EXECUTOR,
+						value = "org.hibernate.orm.test.sql.exec.JdbcSelectExecutorSelectionTests$CountingJdbcSelectExecutor"
+				)
+		}
+)
+@SessionFactory
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class JdbcSelectExecutorSelectionTests {
+
+	@Test
+	public void testCustomExecutorIsUsed(SessionFactoryScope scope) {
+		final JdbcSelectExecutor executor = scope.getSessionFactory().getJdbcServices().getJdbcSelectExecutor();
+		assertThat( executor, instanceOf( CountingJdbcSelectExecutor.class ) );
+
+		final int before = CountingJdbcSelectExecutor.LIST_COUNT.get();
+		scope.inTransaction(
+				session -> {
+					final List<String> names = session.createQuery( "select e.name from SimpleEntity e", String.class )
+							.list();
+					assertThat( names.size(), is( 0 ) );
+				}
+		);
+		assertThat( CountingJdbcSelectExecutor.LIST_COUNT.get(), is( before + 1 ) );
+	}
+
+	public static class CountingJdbcSelectExecutor extends JdbcSelectExecutorStandardImpl {
+		static final AtomicInteger LIST_COUNT = new AtomicInteger();
+
+		@Override
+		public <R> List<R> list(
+				JdbcSelect jdbcSelect,
+				JdbcParameterBindings jdbcParameterBindings,
+				ExecutionContext executionContext,
+				RowTransformer<R> rowTransformer) {
+			LIST_COUNT.incrementAndGet();
+			return super.list( jdbcSelect, jdbcParameterBindings, executionContext, rowTransformer );
+		}
+	}
+}
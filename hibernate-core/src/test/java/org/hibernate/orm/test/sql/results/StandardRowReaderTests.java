@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.sql.results.internal.RowTransformerPassThruImpl;
+import org.hibernate.sql.results.internal.RowTransformerSingularReturnImpl;
+import org.hibernate.sql.results.internal.StandardRowReader;
+import org.hibernate.sql.results.spi.DomainResultAssembler;
+import org.hibernate.sql.results.spi.Initializer;
+import org.hibernate.sql.results.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.RowProcessingState;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests reuse of the raw result row in {@link StandardRowReader}
+ *
+ * @author agent
+ */
+public class StandardRowReaderTests {
+
+	@Test
+	public void testSingularResultsWithReusedRow() {
+		final AtomicInteger counter = new AtomicInteger();
+		final StandardRowReader<Object> rowReader = new StandardRowReader<>(
+				Collections.singletonList( countingAssembler( counter ) ),
+				Collections.<Initializer>emptyList(),
+				RowTransformerSingularReturnImpl.instance(),
+				null
+		);
+
+		final RowProcessingState rowProcessingState = mock( RowProcessingState.class );
+		final JdbcValuesSourceProcessingOptions options = mock( JdbcValuesSourceProcessingOptions.class );
+		for ( int i = 1; i <= 3; i++ ) {
+			assertEquals( i, rowReader.readRow( rowProcessingState, options ) );
+		}
+	}
+
+	@Test
+	public void testRetainedRowsAreNotReused() {
+		final AtomicInteger counter = new AtomicInteger();
+		final List<DomainResultAssembler> assemblers = Arrays.asList(
+				countingAssembler( counter ),
+				countingAssembler( counter )
+		);
+		final StandardRowReader<Object[]> rowReader = new StandardRowReader<>(
+				assemblers,
+				Collections.<Initializer>emptyList(),
+				RowTransformerPassThruImpl.instance(),
+				null
+		);
+
+		final RowProcessingState rowProcessingState = mock( RowProcessingState.class );
+		final JdbcValuesSourceProcessingOptions options = mock( JdbcValuesSourceProcessingOptions.class );
+		final Object[] first = rowReader.readRow( rowProcessingState, options );
+		final Object[] second = rowReader.readRow( rowProcessingState, options );
+
+		assertNotSame( first, second );
+		assertArrayEquals( new Object[] { 1, 2 }, first );
+		assertArrayEquals( new Object[] { 3, 4 }, second );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static DomainResultAssembler countingAssembler(AtomicInteger counter) {
+		final DomainResultAssembler assembler = mock( DomainResultAssembler.class );
+		when( assembler.assemble( any( RowProcessingState.class ), any( JdbcValuesSourceProcessingOptions.class ) ) )
+				.thenAnswer( invocation -> counter.incrementAndGet() );
+		return assembler;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat;
+
+import org.hibernate.stat.internal.LatencyHistogram;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link LatencyHistogram}
+ *
+ * @author agent
+ */
+public class LatencyHistogramTests {
+
+	@Test
+	public void testBucketBoundaries() {
+		// exact below 32
+		for ( int i = 0; i < 32; i++ ) {
+			assertEquals( i, LatencyHistogram.bucketIndex( i ) );
+			assertEquals( i, LatencyHistogram.highestEquivalentValue( i ) );
+		}
+
+		// buckets are contiguous, and each value lies within its bucket with a relative error of at most 1/16
+		long previousHighest = 31;
+		for ( int index = 32; index < LatencyHistogram.BUCKET_COUNT; index++ ) {
+			final long lowest = previousHighest + 1;
+			final long highest = LatencyHistogram.highestEquivalentValue( index );
+			assertEquals( index, LatencyHistogram.bucketIndex( lowest ) );
+			assertEquals( index, LatencyHistogram.bucketIndex( highest ) );
+			assertTrue( ( highest - lowest ) * 16 <= lowest );
+			previousHighest = highest;
+		}
+	}
+
+	@Test
+	public void testPercentiles() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals( 0, histogram.getValueAtPercentile( 50 ) );
+
+		for ( int i = 1; i <= 1000; i++ ) {
+			histogram.record( i );
+		}
+
+		assertWithinBucket( 500, histogram.getValueAtPercentile( 50 ) );
+		assertWithinBucket( 950, histogram.getValueAtPercentile( 95 ) );
+		assertWithinBucket( 990, histogram.getValueAtPercentile( 99 ) );
+		assertWithinBucket( 1000, histogram.getValueAtPercentile( 100 ) );
+	}
+
+	@Test
+	public void testOutOfRangeValues() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record( -5 );
+		assertEquals( 0, histogram.getValueAtPercentile( 100 ) );
+
+		histogram.record( Long.MAX_VALUE );
+		assertEquals(
+				LatencyHistogram.highestEquivalentValue( LatencyHistogram.BUCKET_COUNT - 1 ),
+				histogram.getValueAtPercentile( 100 )
+		);
+
+		histogram.clear();
+		assertEquals( 0, histogram.getValueAtPercentile( 100 ) );
+	}
+
+	@Test
+	public void testInvalidPercentile() {
+		assertThrows( IllegalArgumentException.class, () -> new LatencyHistogram().getValueAtPercentile( 0 ) );
+	}
+
+	private static void assertWithinBucket(long expected, long actual) {
+		assertEquals(
+				LatencyHistogram.highestEquivalentValue( LatencyHistogram.bucketIndex( expected ) ),
+				actual
+		);
+	}
+}
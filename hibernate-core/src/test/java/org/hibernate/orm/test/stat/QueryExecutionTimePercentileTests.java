@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.metamodel.mapping.SmokeTests.SimpleEntity;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the execution time percentiles of the query statistics
+ *
+ * @author agent
+ */
+@DomainModel( annotatedClasses = SimpleEntity.class )
+@ServiceRegistry(
+		settings = @ServiceRegistry.Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+)
+@SessionFactory
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class QueryExecutionTimePercentileTests {
+	private static final String QUERY = "select e from SimpleEntity e";
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testPercentiles(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertEquals( 0, statistics.getQueryExecutionTimePercentile( 99 ) );
+
+		for ( int i = 1; i <= 100; i++ ) {
+			statistics.queryExecuted( QUERY, 1, i % 10 == 0 ? 500 : 5 );
+		}
+
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( QUERY );
+		assertEquals( 5, queryStatistics.getExecutionTimePercentile( 50 ) );
+		assertEquals( 5, queryStatistics.getExecutionTimePercentile( 90 ) );
+		// 500 falls in the bucket [496, 511]
+		assertEquals( 511, queryStatistics.getExecutionTimePercentile( 95 ) );
+		assertEquals( 511, queryStatistics.getExecutionTimePercentile( 99 ) );
+		assertEquals( 500, queryStatistics.getExecutionMaxTime() );
+
+		assertEquals( 5, statistics.getQueryExecutionTimePercentile( 50 ) );
+		assertEquals( 511, statistics.getQueryExecutionTimePercentile( 99 ) );
+	}
+
+	@Test
+	public void testConcurrentExecutions(SessionFactoryScope scope) throws Exception {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final int threads = 8;
+		final int executions = 10_000;
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add(
+						executor.submit(
+								() -> {
+									for ( int j = 1; j <= executions; j++ ) {
+										statistics.queryExecuted( QUERY, 1, j % 100 );
+									}
+								}
+						)
+				);
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( QUERY );
+		assertEquals( threads * executions, queryStatistics.getExecutionCount() );
+		assertEquals( threads * executions, queryStatistics.getExecutionRowCount() );
+		assertEquals( threads * ( executions / 100 ) * 4950L, queryStatistics.getExecutionTotalTime() );
+		assertEquals( 0, queryStatistics.getExecutionMinTime() );
+		assertEquals( 99, queryStatistics.getExecutionMaxTime() );
+		assertEquals( 49, queryStatistics.getExecutionTimePercentile( 50 ) );
+		assertEquals( 49, statistics.getQueryExecutionTimePercentile( 50 ) );
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.util.collections.BoundedLfuCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.OrderingComparison.greaterThanOrEqualTo;
+import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
+
+/**
+ * Tests for {@link BoundedLfuCache}
+ *
+ * @author agent
+ */
+public class BoundedLfuCacheTests {
+
+	@Test
+	public void testPutAndGet() {
+		final BoundedLfuCache<String, String> cache = new BoundedLfuCache<>( 10 );
+		assertThat( cache.get( "a" ), nullValue() );
+		assertThat( cache.putIfAbsent( "a", "1" ), nullValue() );
+		assertThat( cache.putIfAbsent( "a", "2" ), is( "1" ) );
+		assertThat( cache.get( "a" ), is( "1" ) );
+		assertThat( cache.size(), is( 1 ) );
+	}
+
+	@Test
+	public void testSizeIsBounded() {
+		final AtomicInteger evictions = new AtomicInteger();
+		final BoundedLfuCache<Integer, Integer> cache = new BoundedLfuCache<>(
+				100,
+				(key, value) -> evictions.incrementAndGet()
+		);
+
+		for ( int i = 0; i < 1000; i++ ) {
+			cache.putIfAbsent( i, i );
+			assertThat( cache.size(), lessThanOrEqualTo( 100 ) );
+		}
+		assertThat( cache.size(), is( 100 ) );
+		assertThat( evictions.get(), is( 900 ) );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final BoundedLfuCache<Integer, Integer> cache = new BoundedLfuCache<>( 100 );
+
+		// a "hot" set, used over and over
+		for ( int round = 0; round < 20; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				if ( cache.get( i ) == null ) {
+					cache.putIfAbsent( i, i );
+				}
+			}
+		}
+
+		// a scan of one-off keys
+		for ( int i = 1000; i < 3000; i++ ) {
+			cache.putIfAbsent( i, i );
+		}
+
+		int retained = 0;
+		for ( int i = 0; i < 50; i++ ) {
+			if ( cache.get( i ) != null ) {
+				retained++;
+			}
+		}
+		assertThat( retained, greaterThanOrEqualTo( 45 ) );
+	}
+
+	@Test
+	public void testClear() {
+		final BoundedLfuCache<Integer, Integer> cache = new BoundedLfuCache<>( 10 );
+		for ( int i = 0; i < 10; i++ ) {
+			cache.putIfAbsent( i, i );
+		}
+		cache.clear();
+		assertThat( cache.size(), is( 0 ) );
+
+		for ( int i = 0; i < 20; i++ ) {
+			cache.putIfAbsent( i, i );
+		}
+		assertThat( cache.size(), is( 10 ) );
+	}
+}
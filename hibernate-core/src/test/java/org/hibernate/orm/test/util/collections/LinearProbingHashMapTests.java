@@ -0,0 +1,187 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.util.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.LinearProbingHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link LinearProbingHashMap} and the {@link IdentityMap} backed by it
+ *
+ * @author agent
+ */
+public class LinearProbingHashMapTests {
+
+	@Test
+	public void testPutGetAndReplace() {
+		final LinearProbingHashMap<String, Integer> map = new LinearProbingHashMap<>( 2 );
+		assertNull( map.get( "a" ) );
+		assertNull( map.put( "a", 1 ) );
+		assertNull( map.put( "b", 2 ) );
+		assertEquals( Integer.valueOf( 1 ), map.put( "a", 3 ) );
+		assertEquals( Integer.valueOf( 3 ), map.get( "a" ) );
+		assertEquals( 2, map.size() );
+		assertTrue( map.containsKey( "b" ) );
+		assertTrue( map.containsValue( 2 ) );
+		assertFalse( map.containsKey( null ) );
+	}
+
+	@Test
+	public void testCollidingKeys() {
+		final LinearProbingHashMap<Colliding, Integer> map = new LinearProbingHashMap<>( 8 );
+		for ( int i = 0; i < 20; i++ ) {
+			map.put( new Colliding( i ), i );
+		}
+		assertEquals( Integer.valueOf( 7 ), map.remove( new Colliding( 7 ) ) );
+		assertEquals( Integer.valueOf( 0 ), map.remove( new Colliding( 0 ) ) );
+		assertNull( map.remove( new Colliding( 0 ) ) );
+
+		assertEquals( 18, map.size() );
+		for ( int i = 0; i < 20; i++ ) {
+			assertEquals( i == 0 || i == 7 ? null : Integer.valueOf( i ), map.get( new Colliding( i ) ) );
+		}
+	}
+
+	@Test
+	public void testIterationFollowsInsertionOrder() {
+		final LinearProbingHashMap<String, Integer> map = new LinearProbingHashMap<>( 4 );
+		final List<String> keys = Arrays.asList( "z", "y", "x", "a", "b", "c", "w", "d" );
+		for ( int i = 0; i < keys.size(); i++ ) {
+			map.put( keys.get( i ), i );
+		}
+		map.remove( "x" );
+		map.put( "x", 99 );
+
+		final List<String> expected = new ArrayList<>( keys );
+		expected.remove( "x" );
+		expected.add( "x" );
+		assertEquals( expected, new ArrayList<>( map.keySet() ) );
+
+		final List<String> forEachKeys = new ArrayList<>();
+		map.forEach( (k, v) -> forEachKeys.add( k ) );
+		assertEquals( expected, forEachKeys );
+	}
+
+	@Test
+	public void testRemovalThroughIterator() {
+		final LinearProbingHashMap<Integer, String> map = new LinearProbingHashMap<>( 4 );
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( i, String.valueOf( i ) );
+		}
+
+		final Iterator<Map.Entry<Integer, String>> entries = map.entrySet().iterator();
+		while ( entries.hasNext() ) {
+			final Map.Entry<Integer, String> entry = entries.next();
+			if ( entry.getKey() % 2 == 0 ) {
+				entries.remove();
+			}
+			else {
+				entry.setValue( "odd" );
+			}
+		}
+
+		assertEquals( 50, map.size() );
+		for ( int i = 0; i < 100; i++ ) {
+			assertEquals( i % 2 == 0 ? null : "odd", map.get( i ) );
+		}
+	}
+
+	@Test
+	public void testClear() {
+		final LinearProbingHashMap<Integer, Integer> map = new LinearProbingHashMap<>( 4 );
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( i, i );
+		}
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( 1 ) );
+		assertFalse( map.entrySet().iterator().hasNext() );
+
+		map.put( 1, 1 );
+		assertEquals( Integer.valueOf( 1 ), map.get( 1 ) );
+	}
+
+	@Test
+	public void testBehavesLikeHashMap() {
+		final Random random = new Random( 42 );
+		final Map<Integer, Integer> expected = new HashMap<>();
+		final LinearProbingHashMap<Integer, Integer> map = new LinearProbingHashMap<>( 8 );
+
+		for ( int i = 0; i < 100_000; i++ ) {
+			// a small key range, so that entries are often replaced and removed
+			final Integer key = random.nextInt( 2_000 );
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertEquals( expected.remove( key ), map.remove( key ) );
+			}
+			else {
+				assertEquals( expected.put( key, i ), map.put( key, i ) );
+			}
+			assertEquals( expected.size(), map.size() );
+		}
+		assertEquals( expected, map );
+		assertEquals( map, expected );
+	}
+
+	@Test
+	public void testIdentityMapRemovalThroughKeyIterator() {
+		final IdentityMap<String, Integer> map = IdentityMap.instantiateSequenced( 4 );
+		final String a = new String( "a" );
+		final String b = new String( "b" );
+		map.put( a, 1 );
+		map.put( b, 2 );
+		map.put( new String( "a" ), 3 );
+		assertEquals( 3, IdentityMap.concurrentEntries( map ).length );
+
+		final Iterator<String> keys = map.keyIterator();
+		while ( keys.hasNext() ) {
+			if ( keys.next() == b ) {
+				keys.remove();
+			}
+		}
+
+		assertEquals( 2, map.size() );
+		assertFalse( map.containsKey( b ) );
+		final Map.Entry<String, Integer>[] entries = IdentityMap.concurrentEntries( map );
+		assertEquals( 2, entries.length );
+		assertTrue( entries[0].getKey() == a );
+		assertEquals( Integer.valueOf( 3 ), entries[1].getValue() );
+	}
+
+	private static class Colliding {
+		private final int value;
+
+		private Colliding(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Colliding && ( (Colliding) o ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			// every other key in the same slot
+			return value % 2;
+		}
+	}
+}
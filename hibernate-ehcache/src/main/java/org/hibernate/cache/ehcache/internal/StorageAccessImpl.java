@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.ehcache.internal;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import net.sf.ehcache.Ehcache;
 import net.sf.ehcache.Element;
 import net.sf.ehcache.constructs.nonstop.NonStopCacheException;
@@ -64,6 +68,30 @@ public class StorageAccessImpl implements DomainDataStorageAccess  {
 		}
 	}
 
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		try {
+			final Map<Object, Element> elements = getCache().getAll( keys );
+			final Map<Object, Object> result = new HashMap<>();
+			for ( Map.Entry<Object, Element> entry : elements.entrySet() ) {
+				if ( entry.getValue() != null ) {
+					result.put( entry.getKey(), entry.getValue().getObjectValue() );
+				}
+			}
+			return result;
+		}
+		catch (net.sf.ehcache.CacheException e) {
+			if ( e instanceof NonStopCacheException ) {
+				HibernateNonstopCacheExceptionHandler.getInstance()
+						.handleNonstopCacheException( (NonStopCacheException) e );
+				return new HashMap<>();
+			}
+			else {
+				throw new CacheException( e );
+			}
+		}
+	}
+
 	@Override
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
 		try {
@@ -10,17 +10,26 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
 
 import java.io.Serializable;
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.dom4j.Element;
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.RevisionType;
@@ -38,7 +47,7 @@ import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.MappingContext;
 import org.hibernate.event.spi.EventSource;
-import org.hibernate.jdbc.ReturningWork;
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.property.access.spi.Getter;
@@ -82,8 +91,14 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 	private final SessionCacheCleaner sessionCacheCleaner;
 
+	/**
+	 * The updates of the end revision of previous audit rows, pending per transaction
+	 */
+	private final Map<Transaction, RevisionEndUpdates> revisionEndUpdates;
+
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
+		revisionEndUpdates = new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -145,7 +160,6 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			final Object data,
 			final Object revision) {
 		final String auditedEntityName = audEntitiesCfg.getAuditEntityName( entityName );
-		final String revisionInfoEntityName = audEntitiesCfg.getRevisionInfoEntityName();
 
 		// Save the audit data
 		session.save( auditedEntityName, data );
@@ -158,129 +172,13 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = audEntitiesCfg.getEnversService().getGlobalConfiguration().isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( audEntitiesCfg, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( new BeforeTransactionCompletionProcess() {
-				@Override
-				public void doBeforeTransactionCompletion(final SessionImplementor sessionImplementor) {
-					final Queryable productionEntityQueryable = getQueryable( entityName, sessionImplementor );
-					final Queryable rootProductionEntityQueryable = getQueryable(
-							productionEntityQueryable.getRootEntityName(), sessionImplementor
-					);
-					final Queryable auditedEntityQueryable = getQueryable( auditedEntityName, sessionImplementor );
-					final Queryable rootAuditedEntityQueryable = getQueryable(
-							auditedEntityQueryable.getRootEntityName(), sessionImplementor
-					);
-
-					final String updateTableName;
-					if ( UnionSubclassEntityPersister.class.isInstance( rootProductionEntityQueryable ) ) {
-						// this is the condition causing all the problems in terms of the generated SQL UPDATE
-						// the problem being that we currently try to update the in-line view made up of the union query
-						//
-						// this is extremely hacky means to get the root table name for the union subclass style entities.
-						// hacky because it relies on internal behavior of UnionSubclassEntityPersister
-						// !!!!!! NOTICE - using subclass persister, not root !!!!!!
-						updateTableName = auditedEntityQueryable.getSubclassTableName( 0 );
-					}
-					else {
-						updateTableName = rootAuditedEntityQueryable.getTableName();
-					}
-
-					final Type revisionInfoIdType = sessionImplementor.getFactory().getMetamodel().entityPersister( revisionInfoEntityName ).getIdentifierType();
-					final String revEndColumnName = rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionEndFieldName() )[0];
-
-					final boolean isRevisionEndTimestampEnabled = audEntitiesCfg.isRevisionEndTimestampEnabled();
-
-					// update audit_ent set REVEND = ? [, REVEND_TSTMP = ?] where (prod_ent_id) = ? and REV <> ? and REVEND is null
-					final Update update = new Update( sessionImplementor.getFactory().getJdbcServices().getDialect() ).setTableName( updateTableName );
-					// set REVEND = ?
-					update.addColumn( revEndColumnName );
-					// set [, REVEND_TSTMP = ?]
-					if ( isRevisionEndTimestampEnabled ) {
-						update.addColumn(
-								rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionEndTimestampFieldName() )[0]
-						);
-					}
-
-					// where (prod_ent_id) = ?
-					update.addPrimaryKeyColumns( rootProductionEntityQueryable.getIdentifierColumnNames() );
-					// where REV <> ?
-					update.addWhereColumn(
-							rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionNumberPath() )[0], "<> ?"
-					);
-					// where REVEND is null
-					update.addWhereColumn( revEndColumnName, " is null" );
-
-					// Now lets execute the sql...
-					final String updateSql = update.toStatementString();
-
-					int rowCount = sessionImplementor.doReturningWork(
-							new ReturningWork<Integer>() {
-								@Override
-								public Integer execute(Connection connection) throws SQLException {
-									PreparedStatement preparedStatement = sessionImplementor
-											.getJdbcCoordinator().getStatementPreparer().prepareStatement( updateSql );
-
-									try {
-										int index = 1;
-
-										// set REVEND = ?
-										final Number revisionNumber = audEntitiesCfg.getEnversService()
-												.getRevisionInfoNumberReader()
-												.getRevisionNumber( revision );
-
-										revisionInfoIdType.nullSafeSet(
-												preparedStatement, revisionNumber, index, sessionImplementor
-										);
-										index += revisionInfoIdType.getColumnSpan( sessionImplementor.getFactory() );
-
-										// set [, REVEND_TSTMP = ?]
-										if ( isRevisionEndTimestampEnabled ) {
-											final Object revEndTimestampObj = revisionTimestampGetter.get( revision );
-											final Date revisionEndTimestamp = convertRevEndTimestampToDate( revEndTimestampObj );
-											final Type revEndTsType = rootAuditedEntityQueryable.getPropertyType(
-													audEntitiesCfg.getRevisionEndTimestampFieldName()
-											);
-											revEndTsType.nullSafeSet(
-													preparedStatement, revisionEndTimestamp, index, sessionImplementor
-											);
-											index += revEndTsType.getColumnSpan( sessionImplementor.getFactory() );
-										}
-
-										// where (prod_ent_id) = ?
-										final Type idType = rootProductionEntityQueryable.getIdentifierType();
-										idType.nullSafeSet( preparedStatement, id, index, sessionImplementor );
-										index += idType.getColumnSpan( sessionImplementor.getFactory() );
-
-										// where REV <> ?
-										final Type revType = rootAuditedEntityQueryable.getPropertyType(
-												audEntitiesCfg.getRevisionNumberPath()
-										);
-										revType.nullSafeSet( preparedStatement, revisionNumber, index, sessionImplementor );
-
-										// where REVEND is null
-										// 		nothing to bind....
-
-										return sessionImplementor
-												.getJdbcCoordinator().getResultSetReturn().executeUpdate( preparedStatement );
-									}
-									finally {
-										sessionImplementor.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release(
-												preparedStatement
-										);
-										sessionImplementor.getJdbcCoordinator().afterStatementExecution();
-									}
-								}
-							}
-					);
-
-					if ( rowCount != 1 && ( !reuseEntityIdentifier || ( getRevisionType( audEntitiesCfg, data ) != RevisionType.ADD ) ) ) {
-						throw new RuntimeException(
-								"Cannot update previous revision for entity " + auditedEntityName + " and id " + id
-						);
-					}
-				}
-			} );
+		final boolean previousRevisionRequired = getRevisionType( audEntitiesCfg, data ) != RevisionType.ADD;
+		if ( reuseEntityIdentifier || previousRevisionRequired ) {
+			// The UPDATE statement is executed by a transaction completion process, to guarantee its execution
+			// after the INSERT, batched with the UPDATE statements of the other entities of the transaction.
+			getRevisionEndUpdates( (EventSource) session, audEntitiesCfg, revision ).add(
+					new RevisionEndUpdate( entityName, auditedEntityName, id, previousRevisionRequired )
+			);
 		}
 		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
@@ -449,7 +347,33 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 	}
 
-	private Date convertRevEndTimestampToDate(Object revEndTimestampObj) {
+	private RevisionEndUpdates getRevisionEndUpdates(
+			EventSource session,
+			AuditEntitiesConfiguration audEntitiesCfg,
+			Object revision) {
+		final Transaction transaction = session.accessTransaction();
+
+		RevisionEndUpdates updates = revisionEndUpdates.get( transaction );
+		if ( updates == null ) {
+			// No worries about registering a transaction twice - a transaction is single thread
+			final RevisionEndUpdates newUpdates = new RevisionEndUpdates( transaction, audEntitiesCfg, revision );
+			revisionEndUpdates.put( transaction, newUpdates );
+
+			session.getActionQueue().registerProcess( newUpdates );
+			session.getActionQueue().registerProcess(
+					new AfterTransactionCompletionProcess() {
+						@Override
+						public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+							revisionEndUpdates.remove( transaction, newUpdates );
+						}
+					}
+			);
+			updates = newUpdates;
+		}
+		return updates;
+	}
+
+	private static Date convertRevEndTimestampToDate(Object revEndTimestampObj) {
 		// convert to a java.util.Date
 		if ( revEndTimestampObj instanceof Date ) {
 			return (Date) revEndTimestampObj;
@@ -457,7 +381,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return new Date( (Long) revEndTimestampObj );
 	}
 
-	private Queryable getQueryable(String entityName, SessionImplementor sessionImplementor) {
+	private static Queryable getQueryable(String entityName, SessionImplementor sessionImplementor) {
 		return (Queryable) sessionImplementor.getFactory().getMetamodel().entityPersister( entityName );
 	}
 
@@ -495,4 +419,242 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 		return false;
 	}
+
+	/**
+	 * The update of the end revision of the previous audit row of an entity
+	 */
+	private static class RevisionEndUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Serializable id;
+		private final boolean previousRevisionRequired;
+
+		private RevisionEndUpdate(
+				String entityName,
+				String auditedEntityName,
+				Serializable id,
+				boolean previousRevisionRequired) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.id = id;
+			this.previousRevisionRequired = previousRevisionRequired;
+		}
+	}
+
+	/**
+	 * The updates of the end revision of the previous audit rows of the entities modified in a transaction,
+	 * executed once all the audit rows have been inserted, as JDBC batches grouped by audit table.
+	 */
+	private class RevisionEndUpdates implements BeforeTransactionCompletionProcess {
+		private final Transaction transaction;
+		private final AuditEntitiesConfiguration audEntitiesCfg;
+		private final Object revision;
+		private final List<RevisionEndUpdate> updates = new ArrayList<>();
+
+		private RevisionEndUpdates(Transaction transaction, AuditEntitiesConfiguration audEntitiesCfg, Object revision) {
+			this.transaction = transaction;
+			this.audEntitiesCfg = audEntitiesCfg;
+			this.revision = revision;
+		}
+
+		private void add(RevisionEndUpdate update) {
+			updates.add( update );
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor sessionImplementor) {
+			// any entity audited from now on gets its own updates
+			revisionEndUpdates.remove( transaction, this );
+
+			final Map<String, RevisionEndUpdateStatement> statementsByEntityName = new HashMap<>();
+			final Map<RevisionEndUpdateStatement, List<RevisionEndUpdate>> updatesByStatement = new LinkedHashMap<>();
+			for ( RevisionEndUpdate update : updates ) {
+				final RevisionEndUpdateStatement statement = statementsByEntityName.computeIfAbsent(
+						update.entityName,
+						entityName -> new RevisionEndUpdateStatement( entityName, update.auditedEntityName, audEntitiesCfg, sessionImplementor )
+				);
+				updatesByStatement.computeIfAbsent( statement, s -> new ArrayList<>() ).add( update );
+			}
+
+			final List<RevisionEndUpdate> updatesInExecutionOrder = new ArrayList<>( updates.size() );
+			for ( List<RevisionEndUpdate> statementUpdates : updatesByStatement.values() ) {
+				updatesInExecutionOrder.addAll( statementUpdates );
+			}
+			final Expectation expectation = new RevisionEndUpdateExpectation( updatesInExecutionOrder );
+
+			final Number revisionNumber = audEntitiesCfg.getEnversService()
+					.getRevisionInfoNumberReader()
+					.getRevisionNumber( revision );
+			final Date revisionEndTimestamp = audEntitiesCfg.isRevisionEndTimestampEnabled()
+					? convertRevEndTimestampToDate( revisionTimestampGetter.get( revision ) )
+					: null;
+
+			final JdbcCoordinator jdbcCoordinator = sessionImplementor.getJdbcCoordinator();
+			for ( Map.Entry<RevisionEndUpdateStatement, List<RevisionEndUpdate>> entry : updatesByStatement.entrySet() ) {
+				final RevisionEndUpdateStatement statement = entry.getKey();
+				final Batch batch = jdbcCoordinator.getBatch( new BasicBatchKey( statement.sql, expectation ) );
+				for ( RevisionEndUpdate update : entry.getValue() ) {
+					final PreparedStatement preparedStatement = batch.getBatchStatement( statement.sql, false );
+					try {
+						statement.bind( preparedStatement, revisionNumber, revisionEndTimestamp, update.id, sessionImplementor );
+					}
+					catch (SQLException e) {
+						throw sessionImplementor.getJdbcServices().getSqlExceptionHelper().convert(
+								e,
+								"Could not bind the update of the previous revision of entity " + update.auditedEntityName,
+								statement.sql
+						);
+					}
+					batch.addToBatch();
+				}
+			}
+			jdbcCoordinator.executeBatch();
+		}
+	}
+
+	/**
+	 * {@code update audit_ent set REVEND = ? [, REVEND_TSTMP = ?] where (prod_ent_id) = ? and REV <> ? and REVEND is null}
+	 */
+	private static class RevisionEndUpdateStatement {
+		private final String sql;
+		private final Type revisionInfoIdType;
+		private final Type revEndTsType;
+		private final Type idType;
+		private final Type revType;
+
+		private RevisionEndUpdateStatement(
+				String entityName,
+				String auditedEntityName,
+				AuditEntitiesConfiguration audEntitiesCfg,
+				SessionImplementor sessionImplementor) {
+			final Queryable productionEntityQueryable = getQueryable( entityName, sessionImplementor );
+			final Queryable rootProductionEntityQueryable = getQueryable(
+					productionEntityQueryable.getRootEntityName(), sessionImplementor
+			);
+			final Queryable auditedEntityQueryable = getQueryable( auditedEntityName, sessionImplementor );
+			final Queryable rootAuditedEntityQueryable = getQueryable(
+					auditedEntityQueryable.getRootEntityName(), sessionImplementor
+			);
+
+			final String updateTableName;
+			if ( UnionSubclassEntityPersister.class.isInstance( rootProductionEntityQueryable ) ) {
+				// this is the condition causing all the problems in terms of the generated SQL UPDATE
+				// the problem being that we currently try to update the in-line view made up of the union query
+				//
+				// this is extremely hacky means to get the root table name for the union subclass style entities.
+				// hacky because it relies on internal behavior of UnionSubclassEntityPersister
+				// !!!!!! NOTICE - using subclass persister, not root !!!!!!
+				updateTableName = auditedEntityQueryable.getSubclassTableName( 0 );
+			}
+			else {
+				updateTableName = rootAuditedEntityQueryable.getTableName();
+			}
+
+			final String revisionInfoEntityName = audEntitiesCfg.getRevisionInfoEntityName();
+			this.revisionInfoIdType = sessionImplementor.getFactory().getMetamodel().entityPersister( revisionInfoEntityName ).getIdentifierType();
+			final String revEndColumnName = rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionEndFieldName() )[0];
+
+			// update audit_ent set REVEND = ? [, REVEND_TSTMP = ?] where (prod_ent_id) = ? and REV <> ? and REVEND is null
+			final Update update = new Update( sessionImplementor.getFactory().getJdbcServices().getDialect() ).setTableName( updateTableName );
+			// set REVEND = ?
+			update.addColumn( revEndColumnName );
+			// set [, REVEND_TSTMP = ?]
+			if ( audEntitiesCfg.isRevisionEndTimestampEnabled() ) {
+				update.addColumn(
+						rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionEndTimestampFieldName() )[0]
+				);
+				this.revEndTsType = rootAuditedEntityQueryable.getPropertyType(
+						audEntitiesCfg.getRevisionEndTimestampFieldName()
+				);
+			}
+			else {
+				this.revEndTsType = null;
+			}
+
+			// where (prod_ent_id) = ?
+			update.addPrimaryKeyColumns( rootProductionEntityQueryable.getIdentifierColumnNames() );
+			this.idType = rootProductionEntityQueryable.getIdentifierType();
+			// where REV <> ?
+			update.addWhereColumn(
+					rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionNumberPath() )[0], "<> ?"
+			);
+			this.revType = rootAuditedEntityQueryable.getPropertyType( audEntitiesCfg.getRevisionNumberPath() );
+			// where REVEND is null
+			update.addWhereColumn( revEndColumnName, " is null" );
+
+			this.sql = update.toStatementString();
+		}
+
+		private void bind(
+				PreparedStatement preparedStatement,
+				Number revisionNumber,
+				Date revisionEndTimestamp,
+				Serializable id,
+				SessionImplementor sessionImplementor) throws SQLException {
+			int index = 1;
+
+			// set REVEND = ?
+			revisionInfoIdType.nullSafeSet( preparedStatement, revisionNumber, index, sessionImplementor );
+			index += revisionInfoIdType.getColumnSpan( sessionImplementor.getFactory() );
+
+			// set [, REVEND_TSTMP = ?]
+			if ( revEndTsType != null ) {
+				revEndTsType.nullSafeSet( preparedStatement, revisionEndTimestamp, index, sessionImplementor );
+				index += revEndTsType.getColumnSpan( sessionImplementor.getFactory() );
+			}
+
+			// where (prod_ent_id) = ?
+			idType.nullSafeSet( preparedStatement, id, index, sessionImplementor );
+			index += idType.getColumnSpan( sessionImplementor.getFactory() );
+
+			// where REV <> ?
+			revType.nullSafeSet( preparedStatement, revisionNumber, index, sessionImplementor );
+
+			// where REVEND is null
+			// 		nothing to bind....
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof RevisionEndUpdateStatement && sql.equals( ( (RevisionEndUpdateStatement) o ).sql );
+		}
+
+		@Override
+		public int hashCode() {
+			return sql.hashCode();
+		}
+	}
+
+	/**
+	 * Verifies the row counts of the updates, in the order they are executed whether batched or not
+	 */
+	private static class RevisionEndUpdateExpectation implements Expectation {
+		private final List<RevisionEndUpdate> updates;
+		private int verified;
+
+		private RevisionEndUpdateExpectation(List<RevisionEndUpdate> updates) {
+			this.updates = updates;
+		}
+
+		@Override
+		public void verifyOutcome(int rowCount, PreparedStatement statement, int batchPosition) {
+			final RevisionEndUpdate update = updates.get( verified++ );
+			// the row count of a batched statement may be unknown
+			if ( rowCount != 1 && rowCount != Statement.SUCCESS_NO_INFO && update.previousRevisionRequired ) {
+				throw new RuntimeException(
+						"Cannot update previous revision for entity " + update.auditedEntityName + " and id " + update.id
+				);
+			}
+		}
+
+		@Override
+		public int prepare(PreparedStatement statement) {
+			return 0;
+		}
+
+		@Override
+		public boolean canBeBatched() {
+			return true;
+		}
+	}
 }
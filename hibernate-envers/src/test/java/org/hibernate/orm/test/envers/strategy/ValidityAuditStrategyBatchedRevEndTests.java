@@ -0,0 +1,200 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.strategy;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.Audited;
+import org.hibernate.envers.configuration.EnversSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.FailureExpected;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryFunctionalTesting;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests that the end revisions of the previous audit rows of several entities modified in the same
+ * transaction are correctly set when the updates are executed as JDBC batches.
+ *
+ * @author agent
+ */
+@DomainModel(
+		annotatedClasses = {
+				ValidityAuditStrategyBatchedRevEndTests.StrEntity.class,
+				ValidityAuditStrategyBatchedRevEndTests.IntEntity.class
+		}
+)
+@ServiceRegistry(
+		settings = {
+				@ServiceRegistry.Setting(
+						name = EnversSettings.AUDIT_STRATEGY,
+						value = "org.hibernate.envers.strategy.ValidityAuditStrategy"
+				),
+				@ServiceRegistry.Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" )
+		}
+)
+@SessionFactory
+@SessionFactoryFunctionalTesting
+@FailureExpected( reason = "the dynamic-map audit entities are not yet supported by the JPA metamodel" )
+@Tags({
+	@Tag("Hibernate6Tests"),
+	@Tag("IdeTests"),
+})
+public class ValidityAuditStrategyBatchedRevEndTests {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		// Revision 1
+		scope.inTransaction(
+				session -> {
+					session.persist( new StrEntity( 1, "a" ) );
+					session.persist( new StrEntity( 2, "b" ) );
+					session.persist( new StrEntity( 3, "c" ) );
+					session.persist( new IntEntity( 1, 1 ) );
+					session.persist( new IntEntity( 2, 2 ) );
+				}
+		);
+
+		// Revision 2
+		scope.inTransaction(
+				session -> {
+					for ( StrEntity entity : session.createQuery( "select s from StrEntity s", StrEntity.class ).list() ) {
+						if ( entity.id == 3 ) {
+							session.remove( entity );
+						}
+						else {
+							entity.str = entity.str + "2";
+						}
+					}
+					for ( IntEntity entity : session.createQuery( "select i from IntEntity i", IntEntity.class ).list() ) {
+						entity.number = entity.number * 10;
+					}
+				}
+		);
+
+		// Revision 3
+		scope.inTransaction(
+				session -> {
+					for ( StrEntity entity : session.createQuery( "select s from StrEntity s", StrEntity.class ).list() ) {
+						if ( entity.id == 1 ) {
+							entity.str = "a3";
+						}
+					}
+					for ( IntEntity entity : session.createQuery( "select i from IntEntity i", IntEntity.class ).list() ) {
+						if ( entity.id == 2 ) {
+							entity.number = 30;
+						}
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testRevisionCounts(SessionFactoryScope scope) {
+		scope.inSession(
+				session -> {
+					final AuditReader auditReader = AuditReaderFactory.get( session );
+					assertEquals( Arrays.asList( 1, 2, 3 ), auditReader.getRevisions( StrEntity.class, 1 ) );
+					assertEquals( Arrays.asList( 1, 2 ), auditReader.getRevisions( StrEntity.class, 2 ) );
+					assertEquals( Arrays.asList( 1, 2 ), auditReader.getRevisions( StrEntity.class, 3 ) );
+					assertEquals( Arrays.asList( 1, 2 ), auditReader.getRevisions( IntEntity.class, 1 ) );
+					assertEquals( Arrays.asList( 1, 2, 3 ), auditReader.getRevisions( IntEntity.class, 2 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testHistory(SessionFactoryScope scope) {
+		scope.inSession(
+				session -> {
+					final AuditReader auditReader = AuditReaderFactory.get( session );
+					assertEquals( "a", auditReader.find( StrEntity.class, 1, 1 ).str );
+					assertEquals( "a2", auditReader.find( StrEntity.class, 1, 2 ).str );
+					assertEquals( "a3", auditReader.find( StrEntity.class, 1, 3 ).str );
+					assertEquals( "b2", auditReader.find( StrEntity.class, 2, 3 ).str );
+					assertEquals( "c", auditReader.find( StrEntity.class, 3, 1 ).str );
+					assertNull( auditReader.find( StrEntity.class, 3, 2 ) );
+					assertEquals( 10, auditReader.find( IntEntity.class, 1, 3 ).number );
+					assertEquals( 20, auditReader.find( IntEntity.class, 2, 2 ).number );
+					assertEquals( 30, auditReader.find( IntEntity.class, 2, 3 ).number );
+				}
+		);
+	}
+
+	@Test
+	public void testOpenAuditRows(SessionFactoryScope scope) {
+		// only the latest audit row of each entity has no end revision, including the one of the removed entity
+		assertEquals( 3, countOpenAuditRows( scope, "StrEntity_AUD" ) );
+		assertEquals( 2, countOpenAuditRows( scope, "IntEntity_AUD" ) );
+	}
+
+	private static int countOpenAuditRows(SessionFactoryScope scope, String auditTableName) {
+		return scope.fromSession(
+				session -> session.doReturningWork(
+						connection -> {
+							try ( Statement statement = connection.createStatement();
+									ResultSet resultSet = statement.executeQuery(
+											"select count(*) from " + auditTableName + " where REVEND is null"
+									) ) {
+								resultSet.next();
+								return resultSet.getInt( 1 );
+							}
+						}
+				)
+		);
+	}
+
+	@Entity(name = "StrEntity")
+	@Audited
+	public static class StrEntity {
+		@Id
+		private Integer id;
+
+		private String str;
+
+		public StrEntity() {
+		}
+
+		public StrEntity(Integer id, String str) {
+			this.id = id;
+			this.str = str;
+		}
+	}
+
+	@Entity(name = "IntEntity")
+	@Audited
+	public static class IntEntity {
+		@Id
+		private Integer id;
+
+		private int number;
+
+		public IntEntity() {
+		}
+
+		public IntEntity(Integer id, int number) {
+			this.id = id;
+			this.number = number;
+		}
+	}
+}
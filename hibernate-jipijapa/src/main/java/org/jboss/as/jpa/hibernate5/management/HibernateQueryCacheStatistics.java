@@ -32,6 +32,9 @@ public class HibernateQueryCacheStatistics extends HibernateAbstractStatistics {
 	public static final String OPERATION_QUERY_EXECUTION_AVG_TIME = "query-execution-average-time";
 	public static final String OPERATION_QUERY_EXECUTION_MAX_TIME = "query-execution-max-time";
 	public static final String OPERATION_QUERY_EXECUTION_MIN_TIME = "query-execution-min-time";
+	public static final String OPERATION_QUERY_EXECUTION_P50_TIME = "query-execution-p50-time";
+	public static final String OPERATION_QUERY_EXECUTION_P95_TIME = "query-execution-p95-time";
+	public static final String OPERATION_QUERY_EXECUTION_P99_TIME = "query-execution-p99-time";
 	public static final String OPERATION_QUERY_CACHE_HIT_COUNT = "query-cache-hit-count";
 	public static final String OPERATION_QUERY_CACHE_MISS_COUNT = "query-cache-miss-count";
 	public static final String OPERATION_QUERY_CACHE_PUT_COUNT = "query-cache-put-count";
@@ -58,6 +61,15 @@ public class HibernateQueryCacheStatistics extends HibernateAbstractStatistics {
 		getOperations().put( OPERATION_QUERY_EXECUTION_MIN_TIME, queryExecutionMinimumTime );
 		getTypes().put( OPERATION_QUERY_EXECUTION_MIN_TIME, Long.class );
 
+		getOperations().put( OPERATION_QUERY_EXECUTION_P50_TIME, queryExecutionTimePercentile( 50 ) );
+		getTypes().put( OPERATION_QUERY_EXECUTION_P50_TIME, Long.class );
+
+		getOperations().put( OPERATION_QUERY_EXECUTION_P95_TIME, queryExecutionTimePercentile( 95 ) );
+		getTypes().put( OPERATION_QUERY_EXECUTION_P95_TIME, Long.class );
+
+		getOperations().put( OPERATION_QUERY_EXECUTION_P99_TIME, queryExecutionTimePercentile( 99 ) );
+		getTypes().put( OPERATION_QUERY_EXECUTION_P99_TIME, Long.class );
+
 		getOperations().put( OPERATION_QUERY_CACHE_HIT_COUNT, queryCacheHitCount );
 		getTypes().put( OPERATION_QUERY_CACHE_HIT_COUNT, Long.class );
 
@@ -173,6 +185,19 @@ public class HibernateQueryCacheStatistics extends HibernateAbstractStatistics {
 		}
 	};
 
+	private Operation queryExecutionTimePercentile(final double percentile) {
+		return new Operation() {
+			@Override
+			public Object invoke(Object... args) {
+				org.hibernate.stat.QueryStatistics statistics = getStatistics(
+						getEntityManagerFactory( args ),
+						getQueryName( args )
+				);
+				return Long.valueOf( statistics != null ? statistics.getExecutionTimePercentile( percentile ) : 0 );
+			}
+		};
+	}
+
 	private Operation queryCacheHitCount = new Operation() {
 		@Override
 		public Object invoke(Object... args) {
@@ -50,6 +50,9 @@ public class HibernateStatistics extends HibernateAbstractStatistics {
 	public static final String OPERATION_QUERYEXECUTION_COUNT = "query-execution-count";
 	public static final String OPERATION_QUERYEXECUTION_MAX_TIME = "query-execution-max-time";
 	public static final String OPERATION_QUERYEXECUTION_MAX_TIME_STRING = "query-execution-max-time-query-string";
+	public static final String OPERATION_QUERYEXECUTION_P50_TIME = "query-execution-p50-time";
+	public static final String OPERATION_QUERYEXECUTION_P95_TIME = "query-execution-p95-time";
+	public static final String OPERATION_QUERYEXECUTION_P99_TIME = "query-execution-p99-time";
 	public static final String OPERATION_SECONDLEVELCACHE_HIT_COUNT = "second-level-cache-hit-count";
 	public static final String OPERATION_SECONDLEVELCACHE_MISS_COUNT = "second-level-cache-miss-count";
 	public static final String OPERATION_SECONDLEVELCACHE_PUT_COUNT = "second-level-cache-put-count";
@@ -131,6 +134,15 @@ public class HibernateStatistics extends HibernateAbstractStatistics {
 		getOperations().put( OPERATION_QUERYEXECUTION_MAX_TIME_STRING, queryExecutionMaxTimeString );
 		getTypes().put( OPERATION_QUERYEXECUTION_MAX_TIME_STRING, String.class );
 
+		getOperations().put( OPERATION_QUERYEXECUTION_P50_TIME, queryExecutionTimePercentile( 50 ) );
+		getTypes().put( OPERATION_QUERYEXECUTION_P50_TIME, Long.class );
+
+		getOperations().put( OPERATION_QUERYEXECUTION_P95_TIME, queryExecutionTimePercentile( 95 ) );
+		getTypes().put( OPERATION_QUERYEXECUTION_P95_TIME, Long.class );
+
+		getOperations().put( OPERATION_QUERYEXECUTION_P99_TIME, queryExecutionTimePercentile( 99 ) );
+		getTypes().put( OPERATION_QUERYEXECUTION_P99_TIME, Long.class );
+
 		getOperations().put( OPERATION_ENTITY_INSERT_COUNT, entityInsertCount );
 		getTypes().put( OPERATION_ENTITY_INSERT_COUNT, Long.class );
 
@@ -364,6 +376,16 @@ public class HibernateStatistics extends HibernateAbstractStatistics {
 		}
 	};
 
+	private Operation queryExecutionTimePercentile(final double percentile) {
+		return new Operation() {
+			@Override
+			public Object invoke(Object... args) {
+				org.hibernate.stat.Statistics statistics = getStatistics( getEntityManagerFactory( args ) );
+				return Long.valueOf( statistics != null ? statistics.getQueryExecutionTimePercentile( percentile ) : 0 );
+			}
+		};
+	}
+
 	private Operation entityFetchCount = new Operation() {
 		@Override
 		public Object invoke(Object... args) {
@@ -128,7 +128,7 @@ public class EnhancementHelper {
 		}
 	}
 
-	private static String determineClassName(File root, File javaClassFile) {
+	static String determineClassName(File root, File javaClassFile) {
 		return javaClassFile.getAbsolutePath().substring(
 				root.getAbsolutePath().length() + 1,
 				javaClassFile.getAbsolutePath().length() - ".class".length()
@@ -30,6 +30,12 @@ class HibernateExtension {
 	 */
 	protected EnhanceExtension enhance
 
+	/**
+	 * Should the lazy-loading proxy classes and instantiators of the entities be generated at
+	 * build time, rather than when the SessionFactory is built?  Default is false
+	 */
+	def boolean pregenerateProxies = false
+
 	HibernateExtension(Project project) {
 		this.project = project
 		this.sourceSet( project.getConvention().getPlugin( JavaPluginConvention ).sourceSets.main )
@@ -28,7 +28,10 @@ public class HibernatePlugin implements Plugin<Project> {
 		project.getExtensions().add( "hibernate", hibernateExtension );
 
 		project.afterEvaluate(
-				p -> applyEnhancement( p, hibernateExtension )
+				p -> {
+					applyEnhancement( p, hibernateExtension );
+					applyProxyPregeneration( p, hibernateExtension );
+				}
 		);
 	}
 
@@ -49,4 +52,21 @@ public class HibernatePlugin implements Plugin<Project> {
 		}
 	}
 
+	private void applyProxyPregeneration(final Project project, final HibernateExtension hibernateExtension) {
+		if ( !hibernateExtension.getPregenerateProxies() ) {
+			return;
+		}
+
+		for ( final SourceSet sourceSet : hibernateExtension.getSourceSets() ) {
+			project.getLogger().debug( "Applying Hibernate proxy pre-generation action to SourceSet.{}", sourceSet.getName() );
+
+			final Task compileTask = project.getTasks().findByName( sourceSet.getCompileJavaTaskName() );
+			assert compileTask != null;
+			// registered after the enhancement action (if any), so that proxies extend the enhanced classes
+			compileTask.doLast(
+					task -> ProxyPregenerationHelper.pregenerate( sourceSet, project )
+			);
+		}
+	}
+
 }
@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.tooling.gradle;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import javax.persistence.Entity;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.tasks.SourceSet;
+
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.cfg.Environment;
+
+/**
+ * Generates, next to the compiled entity classes, the classes (lazy-loading proxies,
+ * instantiators) the {@link BytecodeProvider} would otherwise generate when the
+ * SessionFactory is built.
+ *
+ * @author agent
+ */
+public class ProxyPregenerationHelper {
+	static void pregenerate(SourceSet sourceSet, Project project) {
+		final ClassLoader classLoader = EnhancementHelper.toClassLoader( sourceSet.getRuntimeClasspath() );
+		final BytecodeProvider bytecodeProvider = Environment.getBytecodeProvider();
+
+		for ( File classesDir : sourceSet.getOutput().getClassesDirs() ) {
+			final FileTree fileTree = project.fileTree( classesDir );
+			for ( File file : fileTree ) {
+				if ( !file.getName().endsWith( ".class" ) ) {
+					continue;
+				}
+
+				final Class<?> entityClass = loadEntityClass( classesDir, file, classLoader, project );
+				if ( entityClass == null ) {
+					continue;
+				}
+
+				final Map<String, byte[]> generatedClasses = bytecodeProvider.pregenerateClasses( entityClass );
+				for ( Map.Entry<String, byte[]> generatedClass : generatedClasses.entrySet() ) {
+					writeOutGeneratedClass( classesDir, generatedClass.getKey(), generatedClass.getValue() );
+					project.getLogger().info( "Successfully pre-generated class [" + generatedClass.getKey() + "]" );
+				}
+			}
+		}
+	}
+
+	private static Class<?> loadEntityClass(File root, File javaClassFile, ClassLoader classLoader, Project project) {
+		final String className = EnhancementHelper.determineClassName( root, javaClassFile );
+		try {
+			final Class<?> loadedClass = Class.forName( className, false, classLoader );
+			return loadedClass.isAnnotationPresent( Entity.class ) ? loadedClass : null;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			project.getLogger().warn( "Skipping class [" + className + "], unable to load it : " + e );
+			return null;
+		}
+	}
+
+	private static void writeOutGeneratedClass(File root, String className, byte[] bytecode) {
+		final File file = new File( root, className.replace( '.', File.separatorChar ) + ".class" );
+		try {
+			Files.write( file.toPath(), bytecode );
+		}
+		catch (IOException e) {
+			throw new GradleException( "Error writing generated class [" + className + "] to file [" + file.getAbsolutePath() + "]", e );
+		}
+	}
+
+	private ProxyPregenerationHelper() {
+	}
+}
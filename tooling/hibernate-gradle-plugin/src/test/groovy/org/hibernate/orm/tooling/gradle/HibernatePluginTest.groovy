@@ -14,7 +14,9 @@ import org.gradle.testfixtures.ProjectBuilder
 
 import org.junit.Test
 
+import static org.junit.Assert.assertFalse
 import static org.junit.Assert.assertNotNull
+import static org.junit.Assert.assertTrue
 /**
  * Test what we can.  ProjectBuilder is better than nothing, but still quited limited in what
  * you can test (e.g. you cannot test task execution).
@@ -43,6 +45,20 @@ class HibernatePluginTest {
 		}
 	}
 
+	@Test
+	public void testPregenerateProxiesConfig() {
+		Project project = ProjectBuilder.builder().build()
+		project.plugins.apply 'org.hibernate.orm'
+
+		def hibernateExtension = project.extensions.findByType( HibernateExtension.class )
+		assertFalse( hibernateExtension.pregenerateProxies )
+
+		project.hibernate {
+			pregenerateProxies = true
+		}
+		assertTrue( hibernateExtension.pregenerateProxies )
+	}
+
 	@Test
 	public void testEnhanceTask() {
 		Project project = ProjectBuilder.builder().build()